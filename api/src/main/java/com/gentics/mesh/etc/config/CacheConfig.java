@@ -11,14 +11,73 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_PERMISSION_SIZE_ENV = "MESH_CACHE_PERMISSION_SIZE";
+
+	public static final String MESH_CACHE_PERMISSION_EXPIRE_AFTER_ENV = "MESH_CACHE_PERMISSION_EXPIRE_AFTER";
+
+	public static final String MESH_CACHE_ROLE_SIZE_ENV = "MESH_CACHE_ROLE_SIZE";
+
+	public static final String MESH_CACHE_PROJECT_NAME_SIZE_ENV = "MESH_CACHE_PROJECT_NAME_SIZE";
+
+	public static final String MESH_CACHE_BRANCH_NAME_SIZE_ENV = "MESH_CACHE_BRANCH_NAME_SIZE";
+
+	public static final String MESH_CACHE_SCHEMA_SIZE_ENV = "MESH_CACHE_SCHEMA_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_PERMISSION_CACHE_SIZE = 100_000;
+
+	private static final long DEFAULT_PERMISSION_CACHE_EXPIRE_AFTER = 30 * 60;
+
+	private static final long DEFAULT_ROLE_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_PROJECT_NAME_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_BRANCH_NAME_CACHE_SIZE = 500;
+
+	private static final long DEFAULT_SCHEMA_CACHE_SIZE = 10_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the permission cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PERMISSION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_SIZE_ENV, description = "Override the permission cache size.")
+	private long permissionCacheSize = DEFAULT_PERMISSION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the time in seconds after which entries of the permission and role caches expire. Default: "
+		+ DEFAULT_PERMISSION_CACHE_EXPIRE_AFTER)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_EXPIRE_AFTER_ENV, description = "Override the permission cache expiry time in seconds.")
+	private long permissionCacheExpireAfter = DEFAULT_PERMISSION_CACHE_EXPIRE_AFTER;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the cache for the roles of users. Default: " + DEFAULT_ROLE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_ROLE_SIZE_ENV, description = "Override the user role cache size.")
+	private long roleCacheSize = DEFAULT_ROLE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the project name cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PROJECT_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PROJECT_NAME_SIZE_ENV, description = "Override the project name cache size.")
+	private long projectNameCacheSize = DEFAULT_PROJECT_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the branch name cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_BRANCH_NAME_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_BRANCH_NAME_SIZE_ENV, description = "Override the branch name cache size.")
+	private long branchNameCacheSize = DEFAULT_BRANCH_NAME_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of schema versions for which the decoded schema is kept in memory. Default: "
+		+ DEFAULT_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_SCHEMA_SIZE_ENV, description = "Override the decoded schema cache size.")
+	private long schemaCacheSize = DEFAULT_SCHEMA_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,8 +91,65 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getPermissionCacheSize() {
+		return permissionCacheSize;
+	}
+
+	public CacheConfig setPermissionCacheSize(long permissionCacheSize) {
+		this.permissionCacheSize = permissionCacheSize;
+		return this;
+	}
+
+	public long getPermissionCacheExpireAfter() {
+		return permissionCacheExpireAfter;
+	}
+
+	public CacheConfig setPermissionCacheExpireAfter(long permissionCacheExpireAfter) {
+		this.permissionCacheExpireAfter = permissionCacheExpireAfter;
+		return this;
+	}
+
+	public long getRoleCacheSize() {
+		return roleCacheSize;
+	}
+
+	public CacheConfig setRoleCacheSize(long roleCacheSize) {
+		this.roleCacheSize = roleCacheSize;
+		return this;
+	}
+
+	public long getProjectNameCacheSize() {
+		return projectNameCacheSize;
+	}
+
+	public CacheConfig setProjectNameCacheSize(long projectNameCacheSize) {
+		this.projectNameCacheSize = projectNameCacheSize;
+		return this;
+	}
+
+	public long getBranchNameCacheSize() {
+		return branchNameCacheSize;
+	}
+
+	public CacheConfig setBranchNameCacheSize(long branchNameCacheSize) {
+		this.branchNameCacheSize = branchNameCacheSize;
+		return this;
+	}
+
+	public long getSchemaCacheSize() {
+		return schemaCacheSize;
+	}
+
+	public CacheConfig setSchemaCacheSize(long schemaCacheSize) {
+		this.schemaCacheSize = schemaCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getPermissionCacheExpireAfter() < 1) {
+			throw new IllegalArgumentException("The permission cache expire time must be at least one second.");
+		}
 	}
 
 }
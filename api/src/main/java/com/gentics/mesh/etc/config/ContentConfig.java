@@ -11,14 +11,64 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_SUBTREE_CHUNK_SIZE_ENV = "MESH_CONTENT_SUBTREE_CHUNK_SIZE";
+
+	public static final String MESH_CONTENT_SUBTREE_JOB_THRESHOLD_ENV = "MESH_CONTENT_SUBTREE_JOB_THRESHOLD";
+
+	public static final String MESH_CONTENT_LAZY_BRANCHES_ENV = "MESH_CONTENT_LAZY_BRANCHES";
+
+	public static final String MESH_CONTENT_BULK_CHUNK_SIZE_ENV = "MESH_CONTENT_BULK_CHUNK_SIZE";
+
+	public static final String MESH_CONTENT_CHILD_COUNTERS_ENV = "MESH_CONTENT_CHILD_COUNTERS";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	private static final int DEFAULT_SUBTREE_CHUNK_SIZE = 250;
+
+	private static final int DEFAULT_SUBTREE_JOB_THRESHOLD = 5000;
+
+	private static final boolean DEFAULT_LAZY_BRANCHES = false;
+
+	private static final int DEFAULT_BULK_CHUNK_SIZE = 100;
+
+	private static final boolean DEFAULT_CHILD_COUNTERS = false;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of nodes which will be handled in a single transaction when recursively deleting, publishing or taking a subtree offline. Default: "
+		+ DEFAULT_SUBTREE_CHUNK_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_SUBTREE_CHUNK_SIZE_ENV, description = "Override the subtree operation chunk size")
+	private int subtreeChunkSize = DEFAULT_SUBTREE_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Subtree size from which on recursive delete, publish and take offline requests will be processed by a job instead of within the request. Set to -1 to disable. Default: "
+		+ DEFAULT_SUBTREE_JOB_THRESHOLD)
+	@EnvironmentVariable(name = MESH_CONTENT_SUBTREE_JOB_THRESHOLD_ENV, description = "Override the subtree operation job threshold")
+	private int subtreeJobThreshold = DEFAULT_SUBTREE_JOB_THRESHOLD;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables lazy branches. A new branch will read the contents and structure of its previous branch until the branch migration has been completed. Nodes will be copied into the new branch when they are modified for the first time. Default: "
+		+ DEFAULT_LAZY_BRANCHES)
+	@EnvironmentVariable(name = MESH_CONTENT_LAZY_BRANCHES_ENV, description = "Override the lazy branches flag")
+	private boolean lazyBranches = DEFAULT_LAZY_BRANCHES;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of operations of a bulk node request which will be applied in a single transaction. Default: "
+		+ DEFAULT_BULK_CHUNK_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_BULK_CHUNK_SIZE_ENV, description = "Override the bulk node request chunk size")
+	private int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables the child counters of nodes. The counters are used by the 'childrenInfo=approximate' parameter. Each created, moved or deleted node updates the counter of its parent. Default: "
+		+ DEFAULT_CHILD_COUNTERS)
+	@EnvironmentVariable(name = MESH_CONTENT_CHILD_COUNTERS_ENV, description = "Override the child counters flag")
+	private boolean childCounters = DEFAULT_CHILD_COUNTERS;
+
 	public ContentConfig() {
 
 	}
@@ -31,7 +81,58 @@ public class ContentConfig implements Option {
 		this.autoPurge = autoPurge;
 	}
 
+	public int getSubtreeChunkSize() {
+		return subtreeChunkSize;
+	}
+
+	public ContentConfig setSubtreeChunkSize(int subtreeChunkSize) {
+		this.subtreeChunkSize = subtreeChunkSize;
+		return this;
+	}
+
+	public int getSubtreeJobThreshold() {
+		return subtreeJobThreshold;
+	}
+
+	public ContentConfig setSubtreeJobThreshold(int subtreeJobThreshold) {
+		this.subtreeJobThreshold = subtreeJobThreshold;
+		return this;
+	}
+
+	public boolean isLazyBranches() {
+		return lazyBranches;
+	}
+
+	public ContentConfig setLazyBranches(boolean lazyBranches) {
+		this.lazyBranches = lazyBranches;
+		return this;
+	}
+
+	public int getBulkChunkSize() {
+		return bulkChunkSize;
+	}
+
+	public ContentConfig setBulkChunkSize(int bulkChunkSize) {
+		this.bulkChunkSize = bulkChunkSize;
+		return this;
+	}
+
+	public boolean isChildCounters() {
+		return childCounters;
+	}
+
+	public ContentConfig setChildCounters(boolean childCounters) {
+		this.childCounters = childCounters;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getSubtreeChunkSize() < 1) {
+			throw new IllegalArgumentException("The subtree chunk size must be greater than zero.");
+		}
+		if (getBulkChunkSize() < 1) {
+			throw new IllegalArgumentException("The bulk chunk size must be greater than zero.");
+		}
 	}
 }
@@ -21,12 +21,22 @@ public class GraphStorageOptions implements Option {
 	public static final String DEFAULT_EXPORT_DIRECTORY = "data" + File.separator + "export";
 	public static final boolean DEFAULT_START_SERVER = false;
 	public static final boolean DEFAULT_SYNC_WRITES = false;
+	public static final boolean DEFAULT_ROLE_SET_PERMISSIONS = false;
+	public static final boolean DEFAULT_INCREMENTAL_BACKUP = false;
+	public static final int DEFAULT_BACKUP_COMPRESSION_LEVEL = 9;
+	public static final long DEFAULT_BACKUP_MAX_BYTES_PER_SECOND = 0;
+	public static final int DEFAULT_BACKUP_MAX_CHAIN_LENGTH = 7;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
 	public static final String MESH_GRAPH_EXPORT_DIRECTORY_ENV = "MESH_GRAPH_EXPORT_DIRECTORY";
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
+	public static final String MESH_GRAPH_ROLE_SET_PERMISSIONS_ENV = "MESH_GRAPH_ROLE_SET_PERMISSIONS";
+	public static final String MESH_GRAPH_BACKUP_INCREMENTAL_ENV = "MESH_GRAPH_BACKUP_INCREMENTAL";
+	public static final String MESH_GRAPH_BACKUP_COMPRESSION_LEVEL_ENV = "MESH_GRAPH_BACKUP_COMPRESSION_LEVEL";
+	public static final String MESH_GRAPH_BACKUP_MAX_BYTES_PER_SECOND_ENV = "MESH_GRAPH_BACKUP_MAX_BYTES_PER_SECOND";
+	public static final String MESH_GRAPH_BACKUP_MAX_CHAIN_LENGTH_ENV = "MESH_GRAPH_BACKUP_MAX_CHAIN_LENGTH";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -53,6 +63,36 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_ENV, description = "Override the graph database sync writes flag.")
 	private boolean synchronizeWrites = DEFAULT_SYNC_WRITES;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether permission checks should use the role sets which are stored on the elements instead of the permission edges. Default: "
+		+ DEFAULT_ROLE_SET_PERMISSIONS)
+	@EnvironmentVariable(name = MESH_GRAPH_ROLE_SET_PERMISSIONS_ENV, description = "Override the graph database role set permissions flag.")
+	private boolean roleSetPermissions = DEFAULT_ROLE_SET_PERMISSIONS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether backups should only contain the storage pages which have been changed since the previous backup. Default: "
+		+ DEFAULT_INCREMENTAL_BACKUP)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_INCREMENTAL_ENV, description = "Override the graph database incremental backup flag.")
+	private boolean incrementalBackup = DEFAULT_INCREMENTAL_BACKUP;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Compression level of the backup files. Must be a value between inclusive 0 and inclusive 9. Default: "
+		+ DEFAULT_BACKUP_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_COMPRESSION_LEVEL_ENV, description = "Override the graph database backup compression level.")
+	private int backupCompressionLevel = DEFAULT_BACKUP_COMPRESSION_LEVEL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of bytes per second which will be read from the storage when running an incremental backup or written to a full backup. Use 0 to disable the limit. Default: "
+		+ DEFAULT_BACKUP_MAX_BYTES_PER_SECOND)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_MAX_BYTES_PER_SECOND_ENV, description = "Override the graph database backup I/O limit.")
+	private long backupMaxBytesPerSecond = DEFAULT_BACKUP_MAX_BYTES_PER_SECOND;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of incremental backups which will be based on a single full backup. A new full backup will be written once the limit has been reached. Default: "
+		+ DEFAULT_BACKUP_MAX_CHAIN_LENGTH)
+	@EnvironmentVariable(name = MESH_GRAPH_BACKUP_MAX_CHAIN_LENGTH_ENV, description = "Override the graph database incremental backup chain length.")
+	private int backupMaxChainLength = DEFAULT_BACKUP_MAX_CHAIN_LENGTH;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -170,10 +210,96 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public boolean isRoleSetPermissions() {
+		return roleSetPermissions;
+	}
+
+	/**
+	 * Set the flag which controls whether the role sets of the elements should be used to check permissions.
+	 * 
+	 * @param roleSetPermissions
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setRoleSetPermissions(boolean roleSetPermissions) {
+		this.roleSetPermissions = roleSetPermissions;
+		return this;
+	}
+
+	public boolean isIncrementalBackup() {
+		return incrementalBackup;
+	}
+
+	/**
+	 * Set the flag which controls whether incremental backups should be written.
+	 * 
+	 * @param incrementalBackup
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setIncrementalBackup(boolean incrementalBackup) {
+		this.incrementalBackup = incrementalBackup;
+		return this;
+	}
+
+	public int getBackupCompressionLevel() {
+		return backupCompressionLevel;
+	}
+
+	/**
+	 * Set the compression level of the backup files.
+	 * 
+	 * @param backupCompressionLevel
+	 *            Level between 0 (no compression) and 9 (best compression)
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setBackupCompressionLevel(int backupCompressionLevel) {
+		this.backupCompressionLevel = backupCompressionLevel;
+		return this;
+	}
+
+	public long getBackupMaxBytesPerSecond() {
+		return backupMaxBytesPerSecond;
+	}
+
+	/**
+	 * Set the I/O limit of the backup process.
+	 * 
+	 * @param backupMaxBytesPerSecond
+	 *            Limit in bytes per second or 0 for no limit
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setBackupMaxBytesPerSecond(long backupMaxBytesPerSecond) {
+		this.backupMaxBytesPerSecond = backupMaxBytesPerSecond;
+		return this;
+	}
+
+	public int getBackupMaxChainLength() {
+		return backupMaxChainLength;
+	}
+
+	/**
+	 * Set the maximum amount of incremental backups which will be written before a new full backup is created.
+	 * 
+	 * @param backupMaxChainLength
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setBackupMaxChainLength(int backupMaxChainLength) {
+		this.backupMaxChainLength = backupMaxChainLength;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (getBackupCompressionLevel() < 0 || getBackupCompressionLevel() > 9) {
+			throw new IllegalArgumentException("The backup compression level must be between 0 and 9.");
+		}
+		if (getBackupMaxBytesPerSecond() < 0) {
+			throw new IllegalArgumentException("The backup I/O limit must not be negative.");
+		}
+		if (getBackupMaxChainLength() < 0) {
+			throw new IllegalArgumentException("The backup chain length must not be negative.");
+		}
 	}
 }
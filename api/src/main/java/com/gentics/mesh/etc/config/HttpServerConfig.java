@@ -36,6 +36,30 @@ public class HttpServerConfig implements Option {
 	public static final String MESH_HTTP_SSL_KEY_PATH_ENV = "MESH_HTTP_SSL_KEY_PATH";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV = "MESH_HTTP_CORS_ALLOW_CREDENTIALS";
 
+	public static final int DEFAULT_VERTICLE_AMOUNT = Runtime.getRuntime().availableProcessors();
+	public static final boolean DEFAULT_HTTP2 = false;
+	public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+	public static final int DEFAULT_MIN_COMPRESSION_SIZE = 1024;
+	public static final boolean DEFAULT_TCP_NO_DELAY = true;
+	public static final boolean DEFAULT_TCP_FAST_OPEN = false;
+	public static final boolean DEFAULT_TCP_QUICK_ACK = false;
+	public static final boolean DEFAULT_REUSE_PORT = false;
+	public static final int DEFAULT_ACCEPT_BACKLOG = -1;
+	public static final int DEFAULT_IDLE_TIMEOUT = 0;
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 0;
+
+	public static final String MESH_HTTP_VERTICLE_AMOUNT_ENV = "MESH_HTTP_VERTICLE_AMOUNT";
+	public static final String MESH_HTTP_HTTP2_ENABLE_ENV = "MESH_HTTP_HTTP2_ENABLE";
+	public static final String MESH_HTTP_COMPRESSION_LEVEL_ENV = "MESH_HTTP_COMPRESSION_LEVEL";
+	public static final String MESH_HTTP_MIN_COMPRESSION_SIZE_ENV = "MESH_HTTP_MIN_COMPRESSION_SIZE";
+	public static final String MESH_HTTP_TCP_NO_DELAY_ENV = "MESH_HTTP_TCP_NO_DELAY";
+	public static final String MESH_HTTP_TCP_FAST_OPEN_ENV = "MESH_HTTP_TCP_FAST_OPEN";
+	public static final String MESH_HTTP_TCP_QUICK_ACK_ENV = "MESH_HTTP_TCP_QUICK_ACK";
+	public static final String MESH_HTTP_REUSE_PORT_ENV = "MESH_HTTP_REUSE_PORT";
+	public static final String MESH_HTTP_ACCEPT_BACKLOG_ENV = "MESH_HTTP_ACCEPT_BACKLOG";
+	public static final String MESH_HTTP_IDLE_TIMEOUT_ENV = "MESH_HTTP_IDLE_TIMEOUT";
+	public static final String MESH_HTTP_MAX_CONCURRENT_REQUESTS_ENV = "MESH_HTTP_MAX_CONCURRENT_REQUESTS";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the Gentics Mesh HTTP server port. Default is: " + DEFAULT_HTTP_PORT)
 	@EnvironmentVariable(name = MESH_HTTP_PORT_ENV, description = "Override the configured server http port.")
@@ -76,6 +100,68 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_SSL_KEY_PATH_ENV, description = "Override the configured SSL enable flag.")
 	private String keyPath = DEFAULT_KEY_PATH;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of HTTP server verticle instances which will be deployed. Each instance handles its connections on its own event loop. Default is the amount of CPU cores.")
+	@EnvironmentVariable(name = MESH_HTTP_VERTICLE_AMOUNT_ENV, description = "Override the amount of deployed HTTP server verticle instances.")
+	private int verticleAmount = DEFAULT_VERTICLE_AMOUNT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables HTTP/2 support. HTTP/2 will be negotiated via ALPN when SSL is enabled and via h2c otherwise. Default: "
+		+ DEFAULT_HTTP2)
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_ENABLE_ENV, description = "Override the configured HTTP/2 enable flag.")
+	private boolean http2 = DEFAULT_HTTP2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Compression level (1-9) which will be used for compressed responses. Set the level to 0 to disable the response compression. Default: "
+		+ DEFAULT_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_LEVEL_ENV, description = "Override the configured compression level.")
+	private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Minimum size in bytes of a response body which will be compressed. Smaller responses will be sent uncompressed. Default: "
+		+ DEFAULT_MIN_COMPRESSION_SIZE)
+	@EnvironmentVariable(name = MESH_HTTP_MIN_COMPRESSION_SIZE_ENV, description = "Override the configured minimum compression size.")
+	private int minCompressionSize = DEFAULT_MIN_COMPRESSION_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables TCP_NODELAY for the server connections. Default: " + DEFAULT_TCP_NO_DELAY)
+	@EnvironmentVariable(name = MESH_HTTP_TCP_NO_DELAY_ENV, description = "Override the configured TCP_NODELAY flag.")
+	private boolean tcpNoDelay = DEFAULT_TCP_NO_DELAY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables TCP_FASTOPEN. The option requires the native transport. Default: " + DEFAULT_TCP_FAST_OPEN)
+	@EnvironmentVariable(name = MESH_HTTP_TCP_FAST_OPEN_ENV, description = "Override the configured TCP_FASTOPEN flag.")
+	private boolean tcpFastOpen = DEFAULT_TCP_FAST_OPEN;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables TCP_QUICKACK. The option requires the native transport. Default: " + DEFAULT_TCP_QUICK_ACK)
+	@EnvironmentVariable(name = MESH_HTTP_TCP_QUICK_ACK_ENV, description = "Override the configured TCP_QUICKACK flag.")
+	private boolean tcpQuickAck = DEFAULT_TCP_QUICK_ACK;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables SO_REUSEPORT so that the kernel distributes the connections across the verticle instances. The option requires the native transport. Default: "
+		+ DEFAULT_REUSE_PORT)
+	@EnvironmentVariable(name = MESH_HTTP_REUSE_PORT_ENV, description = "Override the configured SO_REUSEPORT flag.")
+	private boolean reusePort = DEFAULT_REUSE_PORT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Size of the queue of pending connections. The operating system default will be used when set to -1. Default: "
+		+ DEFAULT_ACCEPT_BACKLOG)
+	@EnvironmentVariable(name = MESH_HTTP_ACCEPT_BACKLOG_ENV, description = "Override the configured accept backlog.")
+	private int acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in seconds after which idle keep-alive connections will be closed. Idle connections will not be closed when set to 0. Default: "
+		+ DEFAULT_IDLE_TIMEOUT)
+	@EnvironmentVariable(name = MESH_HTTP_IDLE_TIMEOUT_ENV, description = "Override the configured idle timeout.")
+	private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of requests which will be handled concurrently. Further requests will be rejected with status 503 until a running request has been completed. The amount is not limited when set to 0. Default: "
+		+ DEFAULT_MAX_CONCURRENT_REQUESTS)
+	@EnvironmentVariable(name = MESH_HTTP_MAX_CONCURRENT_REQUESTS_ENV, description = "Override the configured maximum amount of concurrent requests.")
+	private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
 	public HttpServerConfig() {
 	}
 
@@ -219,7 +305,131 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
+	public int getVerticleAmount() {
+		return verticleAmount;
+	}
+
+	public HttpServerConfig setVerticleAmount(int verticleAmount) {
+		this.verticleAmount = verticleAmount;
+		return this;
+	}
+
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	public HttpServerConfig setHttp2(boolean http2) {
+		this.http2 = http2;
+		return this;
+	}
+
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	public HttpServerConfig setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+		return this;
+	}
+
+	/**
+	 * Check whether the response compression is enabled.
+	 * 
+	 * @return
+	 */
+	@JsonIgnore
+	public boolean isCompressionEnabled() {
+		return compressionLevel > 0;
+	}
+
+	public int getMinCompressionSize() {
+		return minCompressionSize;
+	}
+
+	public HttpServerConfig setMinCompressionSize(int minCompressionSize) {
+		this.minCompressionSize = minCompressionSize;
+		return this;
+	}
+
+	public boolean isTcpNoDelay() {
+		return tcpNoDelay;
+	}
+
+	public HttpServerConfig setTcpNoDelay(boolean tcpNoDelay) {
+		this.tcpNoDelay = tcpNoDelay;
+		return this;
+	}
+
+	public boolean isTcpFastOpen() {
+		return tcpFastOpen;
+	}
+
+	public HttpServerConfig setTcpFastOpen(boolean tcpFastOpen) {
+		this.tcpFastOpen = tcpFastOpen;
+		return this;
+	}
+
+	public boolean isTcpQuickAck() {
+		return tcpQuickAck;
+	}
+
+	public HttpServerConfig setTcpQuickAck(boolean tcpQuickAck) {
+		this.tcpQuickAck = tcpQuickAck;
+		return this;
+	}
+
+	public boolean isReusePort() {
+		return reusePort;
+	}
+
+	public HttpServerConfig setReusePort(boolean reusePort) {
+		this.reusePort = reusePort;
+		return this;
+	}
+
+	public int getAcceptBacklog() {
+		return acceptBacklog;
+	}
+
+	public HttpServerConfig setAcceptBacklog(int acceptBacklog) {
+		this.acceptBacklog = acceptBacklog;
+		return this;
+	}
+
+	public int getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	public HttpServerConfig setIdleTimeout(int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		return this;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	public HttpServerConfig setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (getVerticleAmount() < 1) {
+			throw new IllegalArgumentException("The verticle amount must be greater than zero.");
+		}
+		if (getCompressionLevel() < 0 || getCompressionLevel() > 9) {
+			throw new IllegalArgumentException("The compression level must be between 0 and 9.");
+		}
+		if (getMinCompressionSize() < 0) {
+			throw new IllegalArgumentException("The minimum compression size must not be negative.");
+		}
+		if (getIdleTimeout() < 0) {
+			throw new IllegalArgumentException("The idle timeout must not be negative.");
+		}
+		if (getMaxConcurrentRequests() < 0) {
+			throw new IllegalArgumentException("The maximum amount of concurrent requests must not be negative.");
+		}
 	}
 
 }
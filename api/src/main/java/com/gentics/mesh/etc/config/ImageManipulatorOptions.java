@@ -1,7 +1,11 @@
 package com.gentics.mesh.etc.config;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.doc.GenerateDocumentation;
@@ -18,11 +22,15 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_SUBSAMPLING_ENV = "MESH_IMAGE_SUBSAMPLING";
+	public static final String MESH_IMAGE_PIXEL_BUDGET_ENV = "MESH_IMAGE_PIXEL_BUDGET";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final boolean DEFAULT_SUBSAMPLING = true;
+	public static final long DEFAULT_PIXEL_BUDGET = 40_000_000L;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +57,22 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If enabled, large images will be decoded with a reduced resolution when the requested image size or the dominant color calculation does not need the full resolution. Default: "
+		+ DEFAULT_SUBSAMPLING)
+	@EnvironmentVariable(name = MESH_IMAGE_SUBSAMPLING_ENV, description = "Override the image subsampling flag.")
+	private boolean subsampling = DEFAULT_SUBSAMPLING;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum amount of pixels which may be decoded at the same time by all image operations. Operations which would exceed the budget will wait until other operations are done. An image which is larger than the budget will be processed once no other image is being processed. Set this to 0 to disable the limit. Default: "
+		+ DEFAULT_PIXEL_BUDGET)
+	@EnvironmentVariable(name = MESH_IMAGE_PIXEL_BUDGET_ENV, description = "Override the pixel budget for image operations.")
+	private long pixelBudget = DEFAULT_PIXEL_BUDGET;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure named image variants. The variants will be generated in the background when an image gets uploaded or published and can be requested using the variant parameter.")
+	private Map<String, ImageVariantPreset> variants = new LinkedHashMap<>();
+
 	/**
 	 * Return the binary image cache directory.
 	 * 
@@ -110,8 +134,11 @@ public class ImageManipulatorOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
-
+		if (variants != null) {
+			for (Entry<String, ImageVariantPreset> entry : variants.entrySet()) {
+				entry.getValue().validate(entry.getKey(), this);
+			}
+		}
 	}
 
 	public float getJpegQuality() {
@@ -129,4 +156,87 @@ public class ImageManipulatorOptions implements Option {
 	public void setResampleFilter(ResampleFilter resampleFilter) {
 		this.resampleFilter = resampleFilter;
 	}
+
+	/**
+	 * Check whether images may be decoded with a reduced resolution.
+	 * 
+	 * @return
+	 */
+	public boolean isSubsampling() {
+		return subsampling;
+	}
+
+	/**
+	 * Set the flag which controls whether images may be decoded with a reduced resolution.
+	 * 
+	 * @param subsampling
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setSubsampling(boolean subsampling) {
+		this.subsampling = subsampling;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of pixels which may be decoded at the same time.
+	 * 
+	 * @return
+	 */
+	public long getPixelBudget() {
+		return pixelBudget;
+	}
+
+	/**
+	 * Set the maximum amount of pixels which may be decoded at the same time.
+	 * 
+	 * @param pixelBudget
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setPixelBudget(long pixelBudget) {
+		this.pixelBudget = pixelBudget;
+		return this;
+	}
+
+	/**
+	 * Return the configured image variants.
+	 * 
+	 * @return Variants by name
+	 */
+	public Map<String, ImageVariantPreset> getVariants() {
+		return variants;
+	}
+
+	/**
+	 * Set the image variants.
+	 * 
+	 * @param variants
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setVariants(Map<String, ImageVariantPreset> variants) {
+		this.variants = variants;
+		return this;
+	}
+
+	/**
+	 * Add an image variant.
+	 * 
+	 * @param name
+	 * @param preset
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions addVariant(String name, ImageVariantPreset preset) {
+		this.variants.put(name, preset);
+		return this;
+	}
+
+	/**
+	 * Return the image variant with the given name.
+	 * 
+	 * @param name
+	 * @return Found variant or null
+	 */
+	@JsonIgnore
+	public ImageVariantPreset getVariant(String name) {
+		return variants == null ? null : variants.get(name);
+	}
 }
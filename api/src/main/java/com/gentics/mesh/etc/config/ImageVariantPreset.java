@@ -0,0 +1,154 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+/**
+ * Configuration of an image variant which will be generated in the background for every uploaded or published image.
+ */
+public class ImageVariantPreset {
+
+	public static final String FOCALPOINT_CROP = "fp";
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Target width of the variant. The width will be calculated using the aspect ratio of the image if it was omitted.")
+	private Integer width;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Target height of the variant. The height will be calculated using the aspect ratio of the image if it was omitted.")
+	private Integer height;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Crop mode of the variant. The focal point of the binary field will be used for the 'fp' crop mode.")
+	private String crop;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("JPEG quality of the variant. Must be a value between inclusive 0 and inclusive 1. The configured JPEG quality will be used if omitted.")
+	private Float quality;
+
+	public ImageVariantPreset() {
+	}
+
+	/**
+	 * Create a new preset for the given size.
+	 *
+	 * @param width
+	 * @param height
+	 */
+	public ImageVariantPreset(Integer width, Integer height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Return the target width.
+	 *
+	 * @return
+	 */
+	public Integer getWidth() {
+		return width;
+	}
+
+	/**
+	 * Set the target width.
+	 *
+	 * @param width
+	 * @return Fluent API
+	 */
+	public ImageVariantPreset setWidth(Integer width) {
+		this.width = width;
+		return this;
+	}
+
+	/**
+	 * Return the target height.
+	 *
+	 * @return
+	 */
+	public Integer getHeight() {
+		return height;
+	}
+
+	/**
+	 * Set the target height.
+	 *
+	 * @param height
+	 * @return Fluent API
+	 */
+	public ImageVariantPreset setHeight(Integer height) {
+		this.height = height;
+		return this;
+	}
+
+	/**
+	 * Return the crop mode.
+	 *
+	 * @return
+	 */
+	public String getCrop() {
+		return crop;
+	}
+
+	/**
+	 * Set the crop mode.
+	 *
+	 * @param crop
+	 * @return Fluent API
+	 */
+	public ImageVariantPreset setCrop(String crop) {
+		this.crop = crop;
+		return this;
+	}
+
+	/**
+	 * Return the JPEG quality.
+	 *
+	 * @return Quality or null if the default quality should be used
+	 */
+	public Float getQuality() {
+		return quality;
+	}
+
+	/**
+	 * Set the JPEG quality.
+	 *
+	 * @param quality
+	 * @return Fluent API
+	 */
+	public ImageVariantPreset setQuality(Float quality) {
+		this.quality = quality;
+		return this;
+	}
+
+	/**
+	 * Validate the preset.
+	 *
+	 * @param name
+	 *            Name of the preset
+	 * @param options
+	 */
+	public void validate(String name, ImageManipulatorOptions options) {
+		if (width == null && height == null) {
+			throw new IllegalArgumentException("The image variant {" + name + "} must specify a width or height.");
+		}
+		if ((width != null && width < 1) || (height != null && height < 1)) {
+			throw new IllegalArgumentException("The size of the image variant {" + name + "} must be positive.");
+		}
+		if ((width != null && options.getMaxWidth() != null && options.getMaxWidth() > 0 && width > options.getMaxWidth())
+			|| (height != null && options.getMaxHeight() != null && options.getMaxHeight() > 0 && height > options.getMaxHeight())) {
+			throw new IllegalArgumentException("The size of the image variant {" + name + "} exceeds the maximum image size.");
+		}
+		// A rect crop area can't be shared by images of different sizes
+		if (crop != null && !FOCALPOINT_CROP.equals(crop)) {
+			throw new IllegalArgumentException("The image variant {" + name + "} uses the unsupported crop mode {" + crop + "}. Only {" + FOCALPOINT_CROP
+				+ "} is supported.");
+		}
+		if (crop != null && (width == null || height == null)) {
+			throw new IllegalArgumentException("The image variant {" + name + "} must specify a width and height in order to be cropped.");
+		}
+		if (quality != null && (quality < 0 || quality > 1)) {
+			throw new IllegalArgumentException("The quality of the image variant {" + name + "} must be between 0 and 1.");
+		}
+	}
+
+}
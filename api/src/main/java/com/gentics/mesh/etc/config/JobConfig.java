@@ -0,0 +1,42 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+@GenerateDocumentation
+public class JobConfig implements Option {
+
+	public static final String MESH_JOB_CONCURRENCY_ENV = "MESH_JOB_CONCURRENCY";
+
+	public static final int DEFAULT_CONCURRENCY = 2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of job lanes which will be processed concurrently on this instance. Jobs which affect the same project are always processed sequentially. Default: "
+		+ DEFAULT_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_JOB_CONCURRENCY_ENV, description = "Override the job concurrency limit.")
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	public JobConfig() {
+
+	}
+
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	public JobConfig setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions options) {
+		if (concurrency < 1) {
+			throw new IllegalArgumentException("The job concurrency must be at least 1 but was {" + concurrency + "}");
+		}
+	}
+
+}
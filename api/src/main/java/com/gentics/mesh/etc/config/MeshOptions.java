@@ -94,6 +94,10 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Cache options.")
 	private CacheConfig cacheConfig = new CacheConfig();
 
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Job processing options.")
+	private JobConfig jobOptions = new JobConfig();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -356,6 +360,27 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the job processing options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("job")
+	public JobConfig getJobOptions() {
+		return jobOptions;
+	}
+
+	/**
+	 * Set the job processing options.
+	 * 
+	 * @param jobOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setJobOptions(JobConfig jobOptions) {
+		this.jobOptions = jobOptions;
+		return this;
+	}
+
 	/**
 	 * Return the content options
 	 * 
@@ -506,6 +531,12 @@ public class MeshOptions implements Option {
 		if (getContentOptions() != null) {
 			getContentOptions().validate(this);
 		}
+		if (getJobOptions() != null) {
+			getJobOptions().validate(this);
+		}
+		if (getCacheConfig() != null) {
+			getCacheConfig().validate(this);
+		}
 		Objects.requireNonNull(getNodeName(), "The node name must be specified.");
 		// TODO check for other invalid characters in node name
 	}
@@ -17,12 +17,16 @@ public class MeshUploadOptions implements Option {
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
+	public static final boolean DEFAULT_UPLOAD_PARSER_BACKGROUND_FLAG = false;
+	public static final int DEFAULT_UPLOAD_PARSER_CONCURRENCY = 2;
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
 	public static final String MESH_BINARY_UPLOAD_LIMIT_ENV = "MESH_BINARY_UPLOAD_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_BACKGROUND_ENV = "MESH_BINARY_DOCUMENT_PARSER_BACKGROUND";
+	public static final String MESH_BINARY_DOCUMENT_PARSER_CONCURRENCY_ENV = "MESH_BINARY_DOCUMENT_PARSER_CONCURRENCY";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -50,6 +54,18 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ENV, description = "Override the document parser enabled flag.")
 	private boolean parser = DEFAULT_UPLOAD_PARSER_FLAG;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, the document parser will process uploads after the upload request has been completed. The extracted metadata and contents will be added to the binary field once the parser is done. Default: "
+		+ DEFAULT_UPLOAD_PARSER_BACKGROUND_FLAG)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_BACKGROUND_ENV, description = "Override the background document parser flag.")
+	private boolean parserInBackground = DEFAULT_UPLOAD_PARSER_BACKGROUND_FLAG;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of uploads which will be processed concurrently by the background document parser. Default: "
+		+ DEFAULT_UPLOAD_PARSER_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_CONCURRENCY_ENV, description = "Override the background document parser concurrency.")
+	private int parserConcurrency = DEFAULT_UPLOAD_PARSER_CONCURRENCY;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -153,4 +169,44 @@ public class MeshUploadOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Check whether the document parser will process the uploads in the background.
+	 * 
+	 * @return
+	 */
+	public boolean isParserInBackground() {
+		return parserInBackground;
+	}
+
+	/**
+	 * Set the background document parser flag.
+	 * 
+	 * @param parserInBackground
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserInBackground(boolean parserInBackground) {
+		this.parserInBackground = parserInBackground;
+		return this;
+	}
+
+	/**
+	 * Return the amount of uploads which will be processed concurrently by the background document parser.
+	 * 
+	 * @return
+	 */
+	public int getParserConcurrency() {
+		return parserConcurrency;
+	}
+
+	/**
+	 * Set the amount of uploads which will be processed concurrently by the background document parser.
+	 * 
+	 * @param parserConcurrency
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setParserConcurrency(int parserConcurrency) {
+		this.parserConcurrency = parserConcurrency;
+		return this;
+	}
+
 }
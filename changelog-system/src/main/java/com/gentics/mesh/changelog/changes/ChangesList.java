@@ -38,7 +38,9 @@ public final class ChangesList {
 			new RenameReleasesToBranches(),
 			new NodeContentLanguageMigration(),
 			new NodeContentEditorMigration(),
-			new RemoveReleaseIndices()
+			new RemoveReleaseIndices(),
+			new PermissionRoleSetMigration(),
+			new NodeChildCountMigration()
 			// ADD NEW CHANGES HERE!
 		);
 	}
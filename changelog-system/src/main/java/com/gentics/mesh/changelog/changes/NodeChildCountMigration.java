@@ -0,0 +1,70 @@
+package com.gentics.mesh.changelog.changes;
+
+import static com.tinkerpop.blueprints.Direction.IN;
+import static com.tinkerpop.blueprints.Direction.OUT;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+
+public class NodeChildCountMigration extends AbstractChange {
+
+	private static final String HAS_PARENT_NODE = "HAS_PARENT_NODE";
+
+	private static final String HAS_SCHEMA_CONTAINER = "HAS_SCHEMA_CONTAINER";
+
+	@Override
+	public String getName() {
+		return "Migrate node child counters";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the amount of children per branch and schema within the parent node";
+	}
+
+	@Override
+	public void applyInTx() {
+		long count = 0;
+		Iterable<Vertex> it = getGraph().getVertices("@class", "NodeImpl");
+		for (Vertex node : it) {
+			Map<String, Long> counts = new HashMap<>();
+			for (Edge edge : node.getEdges(IN, HAS_PARENT_NODE)) {
+				String branchUuid = edge.getProperty("branchUuid");
+				String schemaUuid = getSchemaUuid(edge.getVertex(OUT));
+				if (branchUuid == null || schemaUuid == null) {
+					continue;
+				}
+				counts.merge("childCount_" + branchUuid + "_" + schemaUuid, 1L, Long::sum);
+			}
+			for (Entry<String, Long> entry : counts.entrySet()) {
+				node.setProperty(entry.getKey(), entry.getValue());
+			}
+			node.setProperty("childCountMaintained", true);
+			count++;
+			if (count % 1000 == 0) {
+				log.info("Migrated {" + count + "} nodes");
+				getGraph().commit();
+			}
+		}
+		log.info("Migrated {" + count + "} nodes in total");
+	}
+
+	private String getSchemaUuid(Vertex node) {
+		Iterator<Vertex> it = node.getVertices(OUT, HAS_SCHEMA_CONTAINER).iterator();
+		if (it.hasNext()) {
+			return it.next().getProperty("uuid");
+		}
+		return null;
+	}
+
+	@Override
+	public String getUuid() {
+		return "2B8D5E4F7A1C4E3D9B6A2C8E5F1D7B34";
+	}
+}
@@ -0,0 +1,58 @@
+package com.gentics.mesh.changelog.changes;
+
+import static com.tinkerpop.blueprints.Direction.IN;
+import static com.tinkerpop.blueprints.Direction.OUT;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+
+public class PermissionRoleSetMigration extends AbstractChange {
+
+	@Override
+	public String getName() {
+		return "Migrate permission role sets";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the uuids of the roles which grant permissions on an element within the element";
+	}
+
+	@Override
+	public void applyInTx() {
+		long count = 0;
+		Iterable<Vertex> it = getGraph().getVertices("@class", "RoleImpl");
+		for (Vertex role : it) {
+			String roleUuid = role.getProperty("uuid");
+			for (GraphPermission perm : GraphPermission.values()) {
+				for (Edge edge : role.getEdges(OUT, perm.label())) {
+					addRole(edge.getVertex(IN), perm, roleUuid);
+					count++;
+					if (count % 1000 == 0) {
+						log.info("Migrated {" + count + "} permissions");
+						getGraph().commit();
+					}
+				}
+			}
+		}
+		log.info("Migrated {" + count + "} permissions in total");
+	}
+
+	private void addRole(Vertex element, GraphPermission perm, String roleUuid) {
+		Set<String> roleUuids = element.getProperty(perm.roleSetKey());
+		Set<String> allowedRoles = roleUuids == null ? new HashSet<>() : new HashSet<>(roleUuids);
+		if (allowedRoles.add(roleUuid)) {
+			element.setProperty(perm.roleSetKey(), allowedRoles);
+		}
+	}
+
+	@Override
+	public String getUuid() {
+		return "6E4C1F0B3A9D4B6E8C1F0B3A9D0B6E21";
+	}
+}
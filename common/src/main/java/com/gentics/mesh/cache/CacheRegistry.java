@@ -1,12 +1,14 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
+
 /**
  * The cache registry is used to manage all caches at a single location.
  */
 public interface CacheRegistry {
 
 	/**
-	 * Register the given cache.
+	 * Register the given cache. A previously registered cache with the same name will be replaced.
 	 * 
 	 * @param cache
 	 */
@@ -17,4 +19,27 @@ public interface CacheRegistry {
 	 */
 	void clear();
 
+	/**
+	 * Clear the cache with the given name.
+	 * 
+	 * @param name
+	 * @return true if the cache was found and cleared, otherwise false
+	 */
+	boolean clear(String name);
+
+	/**
+	 * Return the cache with the given name.
+	 * 
+	 * @param name
+	 * @return Found cache or null
+	 */
+	EventAwareCache<?, ?> getCache(String name);
+
+	/**
+	 * Return all registered caches.
+	 * 
+	 * @return
+	 */
+	Collection<EventAwareCache<?, ?>> getCaches();
+
 }
@@ -0,0 +1,11 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.schema.DecodedSchema;
+
+/**
+ * Cache for the decoded schemas of schema versions. The cache is keyed by the uuid of the schema version. Unlike the vertex id, the uuid is the same on
+ * all instances of a cluster and is never reused for a different version.
+ */
+public interface DecodedSchemaCache extends MeshCache<String, DecodedSchema> {
+
+}
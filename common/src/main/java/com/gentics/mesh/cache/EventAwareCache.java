@@ -5,6 +5,7 @@ import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheImpl;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
  * An event aware cache is a cache which will be invalidated when an event gets received.
@@ -79,4 +80,32 @@ public interface EventAwareCache<K, V> {
 	 */
 	long size();
 
+	/**
+	 * Return the name of the cache. The name is used to identify the cache in the registry and in the metrics.
+	 * 
+	 * @return
+	 */
+	String getName();
+
+	/**
+	 * Return the maximum size of the cache.
+	 * 
+	 * @return
+	 */
+	long getMaxSize();
+
+	/**
+	 * Check whether the cache has been disabled.
+	 * 
+	 * @return
+	 */
+	boolean isDisabled();
+
+	/**
+	 * Return a snapshot of the hit, miss, load and eviction statistics of the cache.
+	 * 
+	 * @return
+	 */
+	CacheStats stats();
+
 }
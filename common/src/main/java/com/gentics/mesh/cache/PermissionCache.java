@@ -1,5 +1,10 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Function;
+
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
 public interface PermissionCache extends MeshCache<String, Boolean> {
@@ -11,6 +16,43 @@ public interface PermissionCache extends MeshCache<String, Boolean> {
 	 */
 	void clear(boolean notify);
 
+	/**
+	 * Invalidate the cached permissions and roles of the given users. The invalidation will be distributed to the other instances of the cluster.
+	 * 
+	 * @param userIds
+	 *            Vertex ids of the users
+	 */
+	void invalidateUsers(Collection<?> userIds);
+
+	/**
+	 * Invalidate the cached permissions of the given user.
+	 * 
+	 * @see #invalidateUsers(Collection)
+	 * @param userId
+	 */
+	default void invalidateUser(Object userId) {
+		invalidateUsers(Collections.singleton(userId));
+	}
+
+	/**
+	 * Invalidate the cached permissions which have been granted on the given elements. The invalidation will be distributed to the other instances of
+	 * the cluster.
+	 * 
+	 * @param elementIds
+	 *            Vertex ids of the elements
+	 */
+	void invalidateElements(Collection<?> elementIds);
+
+	/**
+	 * Invalidate the cached permissions which have been granted on the given element.
+	 * 
+	 * @see #invalidateElements(Collection)
+	 * @param elementId
+	 */
+	default void invalidateElement(Object elementId) {
+		invalidateElements(Collections.singleton(elementId));
+	}
+
 	/**
 	 * Check whether the element with the given id has the permission.
 	 * 
@@ -32,4 +74,14 @@ public interface PermissionCache extends MeshCache<String, Boolean> {
 	 */
 	void store(Object userId, GraphPermission permission, Object elementId);
 
+	/**
+	 * Return the uuids of the roles which are assigned to the user. The set will be loaded using the given function if it could not be found in the cache.
+	 * 
+	 * @param userId
+	 *            User id
+	 * @param loader
+	 * @return
+	 */
+	Set<String> getRoleUuids(Object userId, Function<Object, Set<String>> loader);
+
 }
@@ -4,13 +4,16 @@ import java.time.Duration;
 import java.time.temporal.TemporalUnit;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import io.reactivex.Observable;
 import io.reactivex.functions.Predicate;
@@ -26,6 +29,12 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private static final Logger log = LoggerFactory.getLogger(EventAwareCacheImpl.class);
 
+	private static final AtomicInteger UNNAMED_COUNTER = new AtomicInteger();
+
+	private final String name;
+
+	private final long maxSize;
+
 	private final Cache<K, V> cache;
 
 	private final Vertx vertx;
@@ -34,17 +43,24 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext;
 
-	private boolean disabled = false;
+	private volatile boolean disabled = false;
 
-	public EventAwareCacheImpl(long maxSize, Duration expireAfter, Vertx vertx, Predicate<Message<JsonObject>> filter,
-		BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
+	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, Predicate<Message<JsonObject>> filter,
+		BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, CacheWriter<K, V> writer,
 		MeshEvent... events) {
+		this.name = name;
+		this.maxSize = maxSize;
 		this.vertx = vertx;
-		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize);
+		// The statistics are recorded via striped counters and thus add no contention to cache reads.
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize).recordStats();
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (writer != null) {
+			this.cache = cacheBuilder.writer(writer).build();
+		} else {
+			this.cache = cacheBuilder.build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -89,6 +105,26 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		return cache.estimatedSize();
 	}
 
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public boolean isDisabled() {
+		return disabled;
+	}
+
+	@Override
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
 	@Override
 	public void invalidate() {
 		if (log.isTraceEnabled()) {
@@ -136,23 +172,38 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	public static class Builder<K, V> {
 
 		private boolean disabled = false;
+		private String name;
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
 		private MeshEvent[] events = null;
 		private Vertx vertx;
 		private Duration expireAfter;
+		private CacheWriter<K, V> writer;
 
 		public EventAwareCache<K, V> build() {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(maxSize, expireAfter, vertx, filter, onNext, events);
+			String cacheName = name != null ? name : "cache-" + UNNAMED_COUNTER.incrementAndGet();
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(cacheName, maxSize, expireAfter, vertx, filter, onNext, writer,
+				events);
 			if (disabled) {
 				c.disable();
 			}
 			return c;
 		}
 
+		/**
+		 * Set the name of the cache. Caches without a name will get a generated name.
+		 * 
+		 * @param name
+		 * @return Fluent API
+		 */
+		public Builder<K, V> name(String name) {
+			this.name = name;
+			return this;
+		}
+
 		/**
 		 * Set the events to react upon.
 		 * 
@@ -186,6 +237,18 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Set the writer which will be invoked synchronously whenever an entry gets written or removed. This can be used to maintain secondary
+		 * structures for the entries of the cache.
+		 * 
+		 * @param writer
+		 * @return Fluent API
+		 */
+		public Builder<K, V> writer(CacheWriter<K, V> writer) {
+			this.writer = writer;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -56,7 +56,7 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public <T> T fromJson(Class<?> classOfT) throws GenericRestException {
-		if (bodyModel != null) {
+		if (bodyModel != null && classOfT.isInstance(bodyModel)) {
 			return (T) bodyModel;
 		}
 		return super.fromJson(classOfT);
@@ -0,0 +1,23 @@
+package com.gentics.mesh.context;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Factory for action contexts which are not bound to a HTTP request. These contexts can be used for operations which are executed in the background or
+ * on behalf of another user without affecting the request which triggered them.
+ */
+public interface LocalActionContextFactory {
+
+	/**
+	 * Create a new action context which is not bound to a request.
+	 * 
+	 * @param user
+	 *            User which will be used for the operation
+	 * @param body
+	 *            Model which will be returned as the request body
+	 * @return
+	 */
+	InternalActionContext create(MeshAuthUser user, RestModel body);
+
+}
@@ -52,6 +52,22 @@ public interface MeshVertex extends MeshElement, VertexFrame {
 	void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
 		Set<GraphPermission> permissionsToRevoke);
 
+	/**
+	 * Return the uuids of the roles which grant the given permission on this element. The set is maintained alongside the permission edges.
+	 * 
+	 * @param permission
+	 * @return Set of role uuids. The set is a copy and changes will not be stored.
+	 */
+	Set<String> getRoleUuidsForPerm(GraphPermission permission);
+
+	/**
+	 * Set the uuids of the roles which grant the given permission on this element.
+	 * 
+	 * @param permission
+	 * @param allowedRoles
+	 */
+	void setRoleUuidsForPerm(GraphPermission permission, Set<String> allowedRoles);
+
 	/**
 	 * Tests if the {@link GraphPermission}s READ_PUBLISHED_PERM and READ_PUBLISHED can be set for this element.
 	 * @return
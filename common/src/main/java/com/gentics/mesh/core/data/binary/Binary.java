@@ -7,6 +7,7 @@ import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.rest.node.field.image.Point;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.madl.traversal.TraversalResult;
+import com.gentics.mesh.util.ETag;
 
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
@@ -24,6 +25,12 @@ public interface Binary extends MeshVertex {
 
 	String BINARY_IMAGE_HEIGHT_PROPERTY_KEY = "binaryImageHeight";
 
+	String BINARY_ETAG_PROPERTY_KEY = "binaryETag";
+
+	String BINARY_LAST_MODIFIED_PROPERTY_KEY = "binaryLastModified";
+
+	String EXTRACTION_PENDING_KEY = "extractionPending";
+
 	/**
 	 * Return the binary data stream.
 	 * 
@@ -65,6 +72,49 @@ public interface Binary extends MeshVertex {
 		return this;
 	}
 
+	/**
+	 * Return the etag of the binary data. The etag is computed when the binary is created. Binaries which were created before the etag was stored will
+	 * compute the etag from the checksum.
+	 * 
+	 * @return
+	 */
+	default String getETag() {
+		String etag = property(BINARY_ETAG_PROPERTY_KEY);
+		return etag == null ? ETag.hash(getSHA512Sum()) : etag;
+	}
+
+	/**
+	 * Set the etag of the binary data.
+	 * 
+	 * @param etag
+	 * @return Fluent API
+	 */
+	default Binary setETag(String etag) {
+		property(BINARY_ETAG_PROPERTY_KEY, etag);
+		return this;
+	}
+
+	/**
+	 * Return the timestamp at which the binary data was stored.
+	 * 
+	 * @return Timestamp in milliseconds or null if the binary was created before the timestamp was stored
+	 */
+	default Long getLastModified() {
+		return property(BINARY_LAST_MODIFIED_PROPERTY_KEY);
+	}
+
+	/**
+	 * Set the timestamp at which the binary data was stored.
+	 * 
+	 * @param timestamp
+	 *            Timestamp in milliseconds
+	 * @return Fluent API
+	 */
+	default Binary setLastModified(long timestamp) {
+		property(BINARY_LAST_MODIFIED_PROPERTY_KEY, timestamp);
+		return this;
+	}
+
 	/**
 	 * Return the binary size in bytes.
 	 * 
@@ -141,6 +191,27 @@ public interface Binary extends MeshVertex {
 		}
 	}
 
+	/**
+	 * Check whether fields of this binary still await the extraction of the metadata and plain text in the background.
+	 * 
+	 * @return
+	 */
+	default boolean isExtractionPending() {
+		return Boolean.TRUE.equals(property(EXTRACTION_PENDING_KEY));
+	}
+
+	/**
+	 * Set the flag which indicates that fields of this binary still await the extraction in the background. The flag is indexed so that the pending
+	 * extractions can be resumed after a restart.
+	 * 
+	 * @param pending
+	 * @return Fluent API
+	 */
+	default Binary setExtractionPending(boolean pending) {
+		property(EXTRACTION_PENDING_KEY, pending ? true : null);
+		return this;
+	}
+
 	/**
 	 * Find all binary fields which make use of this binary.
 	 * 
@@ -2,6 +2,8 @@ package com.gentics.mesh.core.data.binary;
 
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_BINARY;
 
+import java.util.Iterator;
+
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.UUIDUtil;
@@ -46,6 +48,13 @@ public interface BinaryRoot extends MeshVertex {
 	 */
 	Binary findByHash(String hash);
 
+	/**
+	 * Find the binaries which have fields that still await the extraction in the background.
+	 * 
+	 * @return
+	 */
+	Iterator<? extends Binary> findExtractionPending();
+
 	default public String getRootLabel() {
 		return HAS_BINARY;
 	}
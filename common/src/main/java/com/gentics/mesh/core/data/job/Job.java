@@ -126,6 +126,27 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setToMicroschemaVersion(MicroschemaContainerVersion toVersion);
 
+	/**
+	 * Return the key of the job lane to which the job belongs. Jobs within the same lane conflict with each other and will be processed sequentially.
+	 * Jobs of different lanes may be processed concurrently.
+	 * 
+	 * @return
+	 */
+	String getLaneKey();
+
+	/**
+	 * Check whether the job still needs to be processed.
+	 * 
+	 * @return
+	 */
+	default boolean isPending() {
+		if (hasFailed()) {
+			return false;
+		}
+		JobStatus status = getStatus();
+		return status != JobStatus.COMPLETED && status != JobStatus.FAILED && status != JobStatus.UNKNOWN;
+	}
+
 	/**
 	 * Process the job.
 	 */
@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.data.job;
+
+/**
+ * Position and estimated completion of a pending job within the queue of its lane.
+ */
+public class JobQueueInfo {
+
+	private final int position;
+
+	private final Long estimatedCompletionTimestamp;
+
+	public JobQueueInfo(int position, Long estimatedCompletionTimestamp) {
+		this.position = position;
+		this.estimatedCompletionTimestamp = estimatedCompletionTimestamp;
+	}
+
+	/**
+	 * Return the position of the job within the queue of its lane.
+	 *
+	 * @return Position (0 for the next job of the lane)
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Return the estimated completion timestamp of the job.
+	 *
+	 * @return Estimated timestamp or null if no estimation is possible
+	 */
+	public Long getEstimatedCompletionTimestamp() {
+		return estimatedCompletionTimestamp;
+	}
+
+}
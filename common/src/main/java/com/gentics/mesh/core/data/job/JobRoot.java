@@ -1,10 +1,13 @@
 package com.gentics.mesh.core.data.job;
 
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
 
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.SubtreeOperation;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -76,11 +79,62 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueVersionPurge(User user, Project project);
 
+	/**
+	 * Enqueue a job which applies the operation to the subtree of the node in the branch.
+	 * 
+	 * @param user
+	 *            User which will be used to apply the operation
+	 * @param branch
+	 * @param nodeUuid
+	 *            Uuid of the root node of the subtree
+	 * @param operation
+	 * @return Created job
+	 */
+	Job enqueueSubtreeOperation(User user, Branch branch, String nodeUuid, SubtreeOperation operation);
+
+	/**
+	 * Enqueue a job which imports the project export file into the branch.
+	 * 
+	 * @param user
+	 *            User which will be used to import the elements
+	 * @param branch
+	 * @param filePath
+	 *            Path of the uploaded export file
+	 * @return Created job
+	 */
+	Job enqueueProjectImport(User user, Branch branch, String filePath);
+
 	/**
 	 * Process all remaining jobs.
 	 */
 	Completable process();
 
+	/**
+	 * Return the keys of all job lanes which contain pending jobs. The lanes are ordered by their oldest pending job.
+	 * 
+	 * @return
+	 */
+	Set<String> findPendingLanes();
+
+	/**
+	 * Return the oldest pending job of the given lane.
+	 * 
+	 * @param laneKey
+	 * @param excludedUuids
+	 *            Uuids of jobs which should be skipped since they have already been processed
+	 * @return Found job or null if the lane contains no further pending jobs
+	 */
+	Job findNextPending(String laneKey, Set<String> excludedUuids);
+
+	/**
+	 * Determine the queue position and the estimated completion timestamp of all pending jobs. The estimation uses the average duration of completed
+	 * jobs of the same type for the job and for all jobs which are queued before it within the same lane. The jobs are only loaded once. The result
+	 * should thus be reused when multiple jobs get transformed.
+	 * 
+	 * @return Queue information of the pending jobs by job uuid
+	 */
+	Map<String, JobQueueInfo> getQueueInfo();
+
 	/**
 	 * Purge all failed jobs from the job root.
 	 */
@@ -17,6 +17,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
+import com.gentics.mesh.core.data.GraphFieldContainerEdge;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -298,6 +299,15 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	TraversalResult<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type);
 
+	/**
+	 * Return the amount of children in the given branch grouped by the schema uuid. The stored child counters will be used if the node maintains them.
+	 * Permissions of the children will not be checked.
+	 * 
+	 * @param branchUuid
+	 * @return
+	 */
+	Map<String, Long> getChildCounts(String branchUuid);
+
 	/**
 	 * Returns the parent node of this node.
 	 * 
@@ -315,6 +325,59 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Check whether the node has its own edges in the given branch. Nodes which have not been materialized in a lazy branch will be read from the previous
+	 * branch until the branch has been migrated.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	boolean isMaterialized(String branchUuid);
+
+	/**
+	 * Copy the edges of the node from the old branch to the new branch. This will create the parent edge, the initial, draft and published edges and the tag
+	 * edges for the new branch. Nodes which have already been materialized in the new branch will not be touched.
+	 *
+	 * @param oldBranch
+	 * @param newBranch
+	 * @param batch
+	 *            Batch which will be used to update the search index
+	 * @return true if the node was migrated, otherwise false
+	 */
+	boolean migrateToBranch(Branch oldBranch, Branch newBranch, EventQueueBatch batch);
+
+	/**
+	 * Materialize the node in the given branch if the branch is a lazy branch which still reads through to its previous branch. This method must be invoked
+	 * before the node gets modified in the branch.
+	 *
+	 * @param branch
+	 * @param batch
+	 *            Batch which will be used to update the search index
+	 */
+	void materialize(Branch branch, EventQueueBatch batch);
+
+	/**
+	 * Locate the container edge which occupies the given segment info in the webroot index of the branch. Lazy branches which have not yet been migrated
+	 * also return the edges of nodes which are still read from the previous branch.
+	 *
+	 * @param segmentInfo
+	 * @param branchUuid
+	 * @param type
+	 * @return Found edge or null
+	 */
+	GraphFieldContainerEdge findWebrootEdge(String segmentInfo, String branchUuid, ContainerType type);
+
+	/**
+	 * Locate the container edge which occupies the given url field value in the webroot url field index of the branch. Lazy branches which have not yet
+	 * been migrated also return the edges of nodes which are still read from the previous branch.
+	 *
+	 * @param urlFieldValue
+	 * @param branchUuid
+	 * @param type
+	 * @return Found edge or null
+	 */
+	GraphFieldContainerEdge findUrlFieldEdge(String urlFieldValue, String branchUuid, ContainerType type);
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 * 
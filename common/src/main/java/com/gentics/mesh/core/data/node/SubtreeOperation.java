@@ -0,0 +1,37 @@
+package com.gentics.mesh.core.data.node;
+
+/**
+ * Recursive operations which can be applied to a subtree of nodes in chunks.
+ */
+public enum SubtreeOperation {
+
+	/**
+	 * Delete the nodes from the branch. Children are handled before their parent.
+	 */
+	DELETE(true),
+
+	/**
+	 * Publish the nodes. Parents are handled before their children to keep the publish consistency.
+	 */
+	PUBLISH(false),
+
+	/**
+	 * Take the nodes offline. Children are handled before their parent to keep the publish consistency.
+	 */
+	TAKE_OFFLINE(true);
+
+	private final boolean leafsFirst;
+
+	private SubtreeOperation(boolean leafsFirst) {
+		this.leafsFirst = leafsFirst;
+	}
+
+	/**
+	 * Check whether the operation needs to handle the children before their parent node.
+	 * 
+	 * @return
+	 */
+	public boolean isLeafsFirst() {
+		return leafsFirst;
+	}
+}
@@ -38,6 +38,10 @@ public interface BinaryGraphField extends BasicGraphField<BinaryField>, MeshEdge
 
 	String PLAIN_TEXT_KEY = "plainText"; 
 
+	String EXTRACTED_KEY = "extracted";
+
+	String EXTRACTION_PENDING_KEY = "extractionPending";
+
 	/**
 	 * Return the binary filename.
 	 * 
@@ -277,6 +281,64 @@ public interface BinaryGraphField extends BasicGraphField<BinaryField>, MeshEdge
 			});
 	}
 
+	/**
+	 * Replace the extracted metadata, plain text and dominant color of this field with the values of the given field.
+	 * 
+	 * @param source
+	 */
+	default void copyExtractedData(BinaryGraphField source) {
+		clearMetadata();
+		for (Map.Entry<String, String> entry : source.getMetadataProperties().entrySet()) {
+			setMetadata(entry.getKey(), entry.getValue());
+		}
+		setLocationLatitude(source.getLocationLatitude());
+		setLocationLongitude(source.getLocationLongitude());
+		setLocationAltitude(source.getLocationAltitude());
+		setPlainText(source.getPlainText());
+		setImageDominantColor(source.getImageDominantColor());
+	}
+
+	/**
+	 * Check whether the metadata, plain text and dominant color of the field were extracted from the binary data and have not been modified since. Fields
+	 * which were created before the flag was introduced are treated as extracted when they contain stored metadata or plain text.
+	 * 
+	 * @return
+	 */
+	default boolean isExtracted() {
+		Boolean extracted = property(EXTRACTED_KEY);
+		if (extracted != null) {
+			return extracted;
+		}
+		return !isExtractionPending() && (!getMetadataProperties().isEmpty() || getPlainText() != null);
+	}
+
+	/**
+	 * Set the flag which indicates that the metadata, plain text and dominant color of the field were extracted from the binary data.
+	 * 
+	 * @param extracted
+	 */
+	default void setExtracted(boolean extracted) {
+		property(EXTRACTED_KEY, extracted);
+	}
+
+	/**
+	 * Check whether the metadata and plain text of the binary are still being extracted in the background.
+	 * 
+	 * @return
+	 */
+	default boolean isExtractionPending() {
+		return Boolean.TRUE.equals(property(EXTRACTION_PENDING_KEY));
+	}
+
+	/**
+	 * Set the flag which indicates that the metadata and plain text of the binary are still being extracted in the background.
+	 * 
+	 * @param pending
+	 */
+	default void setExtractionPending(boolean pending) {
+		property(EXTRACTION_PENDING_KEY, pending ? true : null);
+	}
+
 	/**
 	 * Return the {@link BinaryMetadata} REST model of the field.
 	 * 
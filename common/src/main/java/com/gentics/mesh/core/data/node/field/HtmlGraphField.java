@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.node.field;
 
 import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
+import com.gentics.mesh.core.link.LinkTokens;
 import com.gentics.mesh.core.rest.node.field.HtmlField;
 
 /**
@@ -24,4 +25,11 @@ public interface HtmlGraphField extends ListableGraphField, BasicGraphField<Html
 	 */
 	String getHTML();
 
+	/**
+	 * Return the positions of the mesh links within the HTML value.
+	 * 
+	 * @return Tokens or null if no tokens have been stored for the value
+	 */
+	LinkTokens getLinkTokens();
+
 }
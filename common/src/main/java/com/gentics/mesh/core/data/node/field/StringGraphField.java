@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.node.field;
 
 import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
+import com.gentics.mesh.core.link.LinkTokens;
 import com.gentics.mesh.core.rest.node.field.StringField;
 
 /**
@@ -22,4 +23,11 @@ public interface StringGraphField extends ListableGraphField, BasicGraphField<St
 	 */
 	void setString(String string);
 
+	/**
+	 * Return the positions of the mesh links within the string value.
+	 * 
+	 * @return Tokens or null if no tokens have been stored for the value
+	 */
+	LinkTokens getLinkTokens();
+
 }
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.BooleanGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.BooleanFieldListImpl;
 
@@ -22,4 +24,12 @@ public interface BooleanGraphFieldList extends ListGraphField<BooleanGraphField,
 	 * @return
 	 */
 	BooleanGraphField createBoolean(Boolean flag);
+
+	/**
+	 * Replace the items of the list with the given values.
+	 * 
+	 * @param values
+	 */
+	void setValues(List<Boolean> values);
+
 }
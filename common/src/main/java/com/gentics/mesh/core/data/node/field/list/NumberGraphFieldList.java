@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.NumberGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.NumberFieldListImpl;
 
@@ -23,4 +25,11 @@ public interface NumberGraphFieldList extends ListGraphField<NumberGraphField, N
 	 */
 	NumberGraphField getNumber(int index);
 
+	/**
+	 * Replace the items of the list with the given values.
+	 * 
+	 * @param values
+	 */
+	void setValues(List<Number> values);
+
 }
@@ -130,6 +130,30 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, traversal, perm);
 	}
 
+	/**
+	 * Create a new dynamic page.
+	 *
+	 * @param requestUser
+	 *            User which is used to check permissions
+	 * @param stream
+	 *            Stream which yields the vertices of the elements
+	 * @param clazz
+	 *            Class of the element to be returned
+	 * @param pagingInfo
+	 *            Paging parameters
+	 * @param perm
+	 *            Permission to check against
+	 * @param extraFilter
+	 *            Optional extra filter to filter by
+	 * @param frameExplicitly
+	 *            Whether to frame the found value explicitily
+	 */
+	public DynamicTransformablePageImpl(User requestUser, Stream<Vertex> stream, Class<T> clazz, PagingParameters pagingInfo, GraphPermission perm,
+		Predicate<T> extraFilter, boolean frameExplicitly) {
+		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
+		applyPagingAndPermChecks(stream, clazz, perm);
+	}
+
 	private void init(Class<? extends T> clazz, VertexTraversal<?, ?, ?> traversal, GraphPermission perm) {
 		// Iterate over all vertices that are managed by this root vertex
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
@@ -92,6 +92,15 @@ public enum GraphPermission {
 		return null;
 	}
 
+	/**
+	 * Return the name of the vertex property which stores the uuids of the roles which grant this permission.
+	 * 
+	 * @return
+	 */
+	public String roleSetKey() {
+		return "roles_" + restPerm.getName();
+	}
+
 	/**
 	 * Return the rest permission representation.
 	 * 
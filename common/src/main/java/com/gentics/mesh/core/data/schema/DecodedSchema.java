@@ -0,0 +1,189 @@
+package com.gentics.mesh.core.data.schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+
+/**
+ * Decoded and pre-indexed form of a schema version. The stored schema JSON of a version never changes once the version has been created. The decoded form
+ * can thus be shared across requests and is used by hot paths (e.g. path resolving, search index document generation) to lookup fields without parsing
+ * the JSON or iterating over the field list.
+ *
+ * The indexed information must not be modified. The same applies to the returned {@link SchemaModel} which is shared as well.
+ */
+public final class DecodedSchema {
+
+	private final String versionUuid;
+
+	private final SchemaModel schema;
+
+	private final Map<String, FieldSchema> fieldsByName;
+
+	private final String[] fieldNames;
+
+	private final String[] fieldTypes;
+
+	private final FieldSchema segmentField;
+
+	private final FieldSchema displayField;
+
+	private final boolean container;
+
+	public DecodedSchema(String versionUuid, SchemaModel schema) {
+		this.versionUuid = versionUuid;
+		this.schema = schema;
+		List<FieldSchema> fields = schema.getFields();
+		Map<String, FieldSchema> map = new HashMap<>(Math.max(16, fields.size() * 2));
+		this.fieldNames = new String[fields.size()];
+		this.fieldTypes = new String[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			FieldSchema field = fields.get(i);
+			map.put(field.getName(), field);
+			fieldNames[i] = field.getName();
+			fieldTypes[i] = field.getType();
+		}
+		this.fieldsByName = Collections.unmodifiableMap(map);
+		this.segmentField = schema.getSegmentField() == null ? null : map.get(schema.getSegmentField());
+		this.displayField = schema.getDisplayField() == null ? null : map.get(schema.getDisplayField());
+		this.container = Boolean.TRUE.equals(schema.getContainer());
+	}
+
+	/**
+	 * Return the uuid of the schema version.
+	 *
+	 * @return
+	 */
+	public String getVersionUuid() {
+		return versionUuid;
+	}
+
+	/**
+	 * Return the shared schema model.
+	 *
+	 * @return
+	 */
+	public SchemaModel getSchema() {
+		return schema;
+	}
+
+	public String getName() {
+		return schema.getName();
+	}
+
+	public String getVersion() {
+		return schema.getVersion();
+	}
+
+	/**
+	 * Return the schema of the field with the given name.
+	 *
+	 * @param name
+	 * @return Found field schema or null
+	 */
+	public FieldSchema getField(String name) {
+		if (name == null) {
+			return null;
+		}
+		return fieldsByName.get(name);
+	}
+
+	/**
+	 * Return the type of the field with the given name.
+	 *
+	 * @param name
+	 * @return Type of the field or null if the field is not part of the schema
+	 */
+	public String getFieldType(String name) {
+		FieldSchema field = getField(name);
+		return field == null ? null : field.getType();
+	}
+
+	/**
+	 * Check whether the schema contains a field with the given name.
+	 *
+	 * @param name
+	 * @return
+	 */
+	public boolean hasField(String name) {
+		return name != null && fieldsByName.containsKey(name);
+	}
+
+	/**
+	 * Return the amount of fields.
+	 *
+	 * @return
+	 */
+	public int getFieldCount() {
+		return fieldNames.length;
+	}
+
+	/**
+	 * Return the name of the field at the given position.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public String getFieldName(int index) {
+		return fieldNames[index];
+	}
+
+	/**
+	 * Return the type of the field at the given position.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public String getFieldType(int index) {
+		return fieldTypes[index];
+	}
+
+	/**
+	 * Return the name of the segment field.
+	 *
+	 * @return Name of the segment field or null if no segment field has been set
+	 */
+	public String getSegmentFieldName() {
+		return schema.getSegmentField();
+	}
+
+	/**
+	 * Return the schema of the segment field.
+	 *
+	 * @return
+	 */
+	public FieldSchema getSegmentField() {
+		return segmentField;
+	}
+
+	/**
+	 * Return the name of the display field.
+	 *
+	 * @return Name of the display field or null if no display field has been set
+	 */
+	public String getDisplayFieldName() {
+		return schema.getDisplayField();
+	}
+
+	/**
+	 * Return the schema of the display field.
+	 *
+	 * @return
+	 */
+	public FieldSchema getDisplayField() {
+		return displayField;
+	}
+
+	/**
+	 * Check whether nodes of the schema are containers.
+	 *
+	 * @return
+	 */
+	public boolean isContainer() {
+		return container;
+	}
+
+}
@@ -59,6 +59,13 @@ public interface SchemaContainerVersion
 	 */
 	TraversalResult<? extends Node> getNodes(String branchUuid, User user, ContainerType type);
 
+	/**
+	 * Return the decoded and indexed schema of the version. The decoded schema is shared and must not be modified.
+	 * 
+	 * @return
+	 */
+	DecodedSchema getDecodedSchema();
+
 	/**
 	 * Check whether versioning is disabled by default or via the schema setting.
 	 * @return
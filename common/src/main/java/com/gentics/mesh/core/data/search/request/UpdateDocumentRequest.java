@@ -16,10 +16,22 @@ public class UpdateDocumentRequest implements Bulkable {
 	private final CachedJsonObjectProxy doc;
 
 	public UpdateDocumentRequest(String index, String transformedIndex, String id, JsonObject doc) {
+		this(index, transformedIndex, id, new CachedJsonObjectProxy(doc));
+	}
+
+	/**
+	 * Create a new request. The given document may be shared between multiple requests. This way the partial will only be encoded once.
+	 *
+	 * @param index
+	 * @param transformedIndex
+	 * @param id
+	 * @param doc
+	 */
+	public UpdateDocumentRequest(String index, String transformedIndex, String id, CachedJsonObjectProxy doc) {
 		this.index = index;
 		this.transformedIndex = transformedIndex;
 		this.id = id;
-		this.doc = new CachedJsonObjectProxy(doc);
+		this.doc = doc;
 		this.bulkPreamble = new JsonObject()
 			.put("update", new JsonObject()
 				.put("_index", transformedIndex)
@@ -42,8 +54,7 @@ public class UpdateDocumentRequest implements Bulkable {
 	public Single<List<String>> toBulkActions() {
 		return Single.just(Arrays.asList(
 			bulkPreamble,
-			new JsonObject()
-				.put("doc", doc.getProxyTarget()).encode()
+			"{\"doc\":" + doc.encode() + "}"
 		));
 	}
 
@@ -5,7 +5,12 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.Iterator;
+
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
@@ -24,13 +29,59 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractImageManipulator.class);
 
+	/**
+	 * Size which the decoded image must at least have in both dimensions to calculate the dominant color. Larger images will be decoded with a reduced
+	 * resolution.
+	 */
+	private static final int DOMINANT_COLOR_SAMPLE_SIZE = 512;
+
 	protected ImageManipulatorOptions options;
 
 	protected Vertx vertx;
 
+	protected PixelBudget pixelBudget;
+
 	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
 		this.vertx = vertx;
 		this.options = options;
+		this.pixelBudget = new PixelBudget(options.getPixelBudget());
+	}
+
+	/**
+	 * Calculate the source subsampling which can be used to decode an image for the given target size. The decoded image will be at least twice as large
+	 * as the target size so that the final resampling step can still produce a smooth result.
+	 * 
+	 * @param sourceWidth
+	 * @param sourceHeight
+	 * @param targetWidth
+	 *            Target width or null if only the height is known
+	 * @param targetHeight
+	 *            Target height or null if only the width is known
+	 * @return Subsampling factor which is 1 if the image needs to be decoded with the full resolution
+	 */
+	public static int calculateSubsampling(int sourceWidth, int sourceHeight, Integer targetWidth, Integer targetHeight) {
+		if (targetWidth == null && targetHeight == null) {
+			return 1;
+		}
+		int factorX = targetWidth == null ? Integer.MAX_VALUE : sourceWidth / (2 * Math.max(1, targetWidth));
+		int factorY = targetHeight == null ? Integer.MAX_VALUE : sourceHeight / (2 * Math.max(1, targetHeight));
+		return Math.max(1, Math.min(factorX, factorY));
+	}
+
+	/**
+	 * Return the amount of pixels of the decoded image.
+	 * 
+	 * @param width
+	 *            Width of the decoded source region
+	 * @param height
+	 *            Height of the decoded source region
+	 * @param subsampling
+	 * @return
+	 */
+	public static long decodedPixels(int width, int height, int subsampling) {
+		long decodedWidth = (width + subsampling - 1) / subsampling;
+		long decodedHeight = (height + subsampling - 1) / subsampling;
+		return decodedWidth * decodedHeight;
 	}
 
 	@Override
@@ -95,11 +146,35 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 					bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
 					return;
 				}
-				BufferedImage image = ImageIO.read(file);
-				if (image == null) {
-					bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
-				} else {
-					bh.complete(toImageInfo(image));
+				try (ImageInputStream ins = ImageIO.createImageInputStream(file)) {
+					Iterator<ImageReader> readers = ins == null ? null : ImageIO.getImageReaders(ins);
+					if (readers == null || !readers.hasNext()) {
+						bh.fail(error(BAD_REQUEST, "image_error_reading_failed"));
+						return;
+					}
+					ImageReader reader = readers.next();
+					try {
+						reader.setInput(ins, true, true);
+						// The dimensions are read from the header. The dominant color does not require the full resolution.
+						int width = reader.getWidth(0);
+						int height = reader.getHeight(0);
+						int subsampling = 1;
+						if (options.isSubsampling()) {
+							subsampling = calculateSubsampling(width, height, DOMINANT_COLOR_SAMPLE_SIZE, DOMINANT_COLOR_SAMPLE_SIZE);
+						}
+						ImageReadParam param = reader.getDefaultReadParam();
+						param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+						long acquired = pixelBudget.acquire(decodedPixels(width, height, subsampling));
+						try {
+							BufferedImage image = reader.read(0, param);
+							bh.complete(toImageInfo(width, height, image));
+						} finally {
+							pixelBudget.release(acquired);
+						}
+					} finally {
+						reader.dispose();
+					}
 				}
 			} catch (Exception e) {
 				log.error("Reading image information failed", e);
@@ -112,13 +187,18 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 	/**
 	 * Extract the image information from the given buffered image.
 	 * 
+	 * @param width
+	 *            Width of the source image
+	 * @param height
+	 *            Height of the source image
 	 * @param bi
+	 *            Decoded image which may have a reduced resolution
 	 * @return
 	 */
-	private ImageInfo toImageInfo(BufferedImage bi) {
+	private ImageInfo toImageInfo(int width, int height, BufferedImage bi) {
 		ImageInfo info = new ImageInfo();
-		info.setWidth(bi.getWidth());
-		info.setHeight(bi.getHeight());
+		info.setWidth(width);
+		info.setHeight(height);
 		int[] rgb = calculateDominantColor(bi);
 		// By default we assume white for the images
 		String colorHex = "#FFFFFF";
@@ -0,0 +1,79 @@
+package com.gentics.mesh.core.image.spi;
+
+/**
+ * Budget which limits the amount of pixels that may be decoded at the same time. Image operations acquire the amount of pixels they are about to decode and
+ * release it once the decoded image is no longer needed. Requests which exceed the capacity are capped to the capacity. Thus a single large image can still
+ * be processed once no other image operation is running.
+ */
+public class PixelBudget {
+
+	private final long capacity;
+
+	private long available;
+
+	/**
+	 * Create a new budget.
+	 *
+	 * @param capacity
+	 *            Maximum amount of pixels. A value of 0 or less disables the limit.
+	 */
+	public PixelBudget(long capacity) {
+		this.capacity = capacity;
+		this.available = capacity;
+	}
+
+	/**
+	 * Acquire the given amount of pixels. The call blocks until enough pixels are available.
+	 *
+	 * @param pixels
+	 * @return Acquired amount which needs to be passed to {@link #release(long)}
+	 * @throws InterruptedException
+	 */
+	public long acquire(long pixels) throws InterruptedException {
+		if (capacity <= 0 || pixels <= 0) {
+			return 0;
+		}
+		long amount = Math.min(pixels, capacity);
+		synchronized (this) {
+			while (available < amount) {
+				wait();
+			}
+			available -= amount;
+		}
+		return amount;
+	}
+
+	/**
+	 * Release the previously acquired amount of pixels.
+	 *
+	 * @param amount
+	 */
+	public void release(long amount) {
+		if (amount <= 0) {
+			return;
+		}
+		synchronized (this) {
+			available += amount;
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Return the amount of pixels which can currently be acquired without blocking.
+	 *
+	 * @return
+	 */
+	public synchronized long getAvailable() {
+		return available;
+	}
+
+	/**
+	 * Return the capacity of the budget.
+	 *
+	 * @return
+	 */
+	public long getCapacity() {
+		return capacity;
+	}
+
+}
@@ -0,0 +1,174 @@
+package com.gentics.mesh.core.link;
+
+import java.util.Arrays;
+
+/**
+ * Compact representation of the positions of the mesh link placeholders (<code>{{mesh.link(...)}}</code>) within a string or html value. The tokens are
+ * computed once when the value gets written and are stored next to the value. Rendering can thus directly resolve the marked ranges and skip values which
+ * contain no links without scanning them.
+ */
+public final class LinkTokens {
+
+	public static final String START_TAG = "{{mesh.link(";
+
+	public static final String END_TAG = ")}}";
+
+	/**
+	 * Tokens of a value which contains no links.
+	 */
+	public static final LinkTokens NONE = new LinkTokens(new int[0]);
+
+	/**
+	 * Start (inclusive) and end (exclusive) offsets of the links including the tags.
+	 */
+	private final int[] offsets;
+
+	private LinkTokens(int[] offsets) {
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Locate the links within the given content.
+	 *
+	 * @param content
+	 * @return
+	 */
+	public static LinkTokens parse(String content) {
+		if (content == null || content.indexOf(START_TAG) == -1) {
+			return NONE;
+		}
+		int[] offsets = new int[8];
+		int count = 0;
+		int lastPos = 0;
+		int length = content.length();
+		while (lastPos < length) {
+			int pos = content.indexOf(START_TAG, lastPos);
+			if (pos == -1) {
+				break;
+			}
+			int endPos = content.indexOf(END_TAG, pos);
+			if (endPos == -1) {
+				break;
+			}
+			if (count + 2 > offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			lastPos = endPos + END_TAG.length();
+			offsets[count++] = pos;
+			offsets[count++] = lastPos;
+		}
+		if (count == 0) {
+			return NONE;
+		}
+		return new LinkTokens(Arrays.copyOf(offsets, count));
+	}
+
+	/**
+	 * Decode the tokens which were encoded via {@link #encode()}.
+	 *
+	 * @param encoded
+	 * @return Decoded tokens or null if no or invalid tokens were given
+	 */
+	public static LinkTokens decode(String encoded) {
+		if (encoded == null) {
+			return null;
+		}
+		if (encoded.isEmpty()) {
+			return NONE;
+		}
+		String[] parts = encoded.split(",");
+		if (parts.length % 2 != 0) {
+			return null;
+		}
+		int[] offsets = new int[parts.length];
+		try {
+			for (int i = 0; i < parts.length; i++) {
+				offsets[i] = Integer.parseInt(parts[i]);
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return new LinkTokens(offsets);
+	}
+
+	/**
+	 * Encode the tokens into a compact string which can be stored next to the value.
+	 *
+	 * @return
+	 */
+	public String encode() {
+		StringBuilder builder = new StringBuilder(offsets.length * 6);
+		for (int i = 0; i < offsets.length; i++) {
+			if (i != 0) {
+				builder.append(',');
+			}
+			builder.append(offsets[i]);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Check whether the tokens still point to the links of the given content. This is used to detect tokens which do not belong to the content.
+	 *
+	 * @param content
+	 * @return
+	 */
+	public boolean matches(String content) {
+		int length = content == null ? 0 : content.length();
+		for (int i = 0; i < size(); i++) {
+			int start = getStart(i);
+			int end = getEnd(i);
+			if (start < 0 || end > length || end - start < START_TAG.length() + END_TAG.length()) {
+				return false;
+			}
+			if (!content.startsWith(START_TAG, start) || !content.startsWith(END_TAG, end - END_TAG.length())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check whether the value contains no links.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return offsets.length == 0;
+	}
+
+	/**
+	 * Return the amount of links.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return offsets.length / 2;
+	}
+
+	/**
+	 * Return the offset at which the link with the given index starts.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public int getStart(int index) {
+		return offsets[index * 2];
+	}
+
+	/**
+	 * Return the offset after the end of the link with the given index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	public int getEnd(int index) {
+		return offsets[index * 2 + 1];
+	}
+
+	@Override
+	public String toString() {
+		return "LinkTokens[" + encode() + "]";
+	}
+
+}
@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -34,8 +36,8 @@ import io.vertx.core.logging.LoggerFactory;
 @Singleton
 public class WebRootLinkReplacer {
 
-	private static final String START_TAG = "{{mesh.link(";
-	private static final String END_TAG = ")}}";
+	private static final String START_TAG = LinkTokens.START_TAG;
+	private static final String END_TAG = LinkTokens.END_TAG;
 
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacer.class);
 
@@ -69,64 +71,108 @@ public class WebRootLinkReplacer {
 	 */
 	public String replace(InternalActionContext ac, String branchUuid, ContainerType edgeType, String content, LinkType type, String projectName,
 		List<String> languageTags) {
+		return replace(ac, branchUuid, edgeType, content, null, type, projectName, languageTags);
+	}
+
+	/**
+	 * Replace the links in the content. The given tokens will be used to locate the links. Content without links will be returned as-is.
+	 * 
+	 * @param ac
+	 * @param branchUuid
+	 *            branch Uuid
+	 * @param edgeType
+	 *            edge type
+	 * @param content
+	 *            content containing links to replace
+	 * @param tokens
+	 *            positions of the links within the content. The content will be tokenized if no or outdated tokens are given.
+	 * @param type
+	 *            replacing type
+	 * @param projectName
+	 *            project name (used for 404 links)
+	 * @param languageTags
+	 *            optional language tags
+	 * @return content with links (probably) replaced
+	 */
+	public String replace(InternalActionContext ac, String branchUuid, ContainerType edgeType, String content, LinkTokens tokens, LinkType type,
+		String projectName, List<String> languageTags) {
 		if (isEmpty(content) || type == LinkType.OFF || type == null) {
 			return content;
 		}
+		if (tokens == null || !tokens.matches(content)) {
+			tokens = LinkTokens.parse(content);
+		}
+		if (tokens.isEmpty()) {
+			return content;
+		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
+		// Links which occur multiple times will only be resolved once
+		Map<String, String> renderedLinks = new HashMap<>();
+		StringBuilder renderedContent = new StringBuilder(content.length());
 		int lastPos = 0;
-		int length = content.length();
-
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
-			int endPos = content.indexOf(END_TAG, pos);
-			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
+		for (int i = 0; i < tokens.size(); i++) {
+			int start = tokens.getStart(i);
+			int end = tokens.getEnd(i);
+			renderedContent.append(content, lastPos, start);
+			String link = content.substring(start + START_TAG.length(), end - END_TAG.length());
+			String rendered = renderedLinks.get(link);
+			if (rendered == null) {
+				rendered = resolveLink(ac, branchUuid, edgeType, link, type, projectName, languageTags);
+				renderedLinks.put(link, rendered);
 			}
+			renderedContent.append(rendered);
+			lastPos = end;
+		}
+		renderedContent.append(content, lastPos, content.length());
+		return renderedContent.toString();
+	}
 
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
+	/**
+	 * Parse the arguments of the link placeholder and resolve it.
+	 * 
+	 * @param ac
+	 * @param branchUuid
+	 * @param edgeType
+	 * @param link
+	 *            Content between the start and end tag of the link
+	 * @param type
+	 * @param projectName
+	 * @param languageTags
+	 * @return
+	 */
+	private String resolveLink(InternalActionContext ac, String branchUuid, ContainerType edgeType, String link, LinkType type, String projectName,
+		List<String> languageTags) {
+		String[] linkArguments = stripQuotes(link).split(",");
+		if (linkArguments.length == 2) {
+			return resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim());
+		} else if (languageTags != null) {
+			return resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, languageTags.toArray(new String[languageTags.size()]));
+		} else {
+			return resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName);
+		}
+	}
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 2) {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName));
+	/**
+	 * Strip away the quotes of the link arguments. We only care about the argument values. Double quotes may be escaped.
+	 * 
+	 * @param link
+	 * @return
+	 */
+	static String stripQuotes(String link) {
+		StringBuilder builder = new StringBuilder(link.length());
+		int length = link.length();
+		for (int i = 0; i < length; i++) {
+			char c = link.charAt(i);
+			if (c == '\\' && i + 1 < length && link.charAt(i + 1) == '"') {
+				i++;
+				continue;
 			}
-
-			lastPos = endPos + END_TAG.length();
+			if (c == '\'' || c == '"') {
+				continue;
+			}
+			builder.append(c);
 		}
-
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
-		return renderedContent.toString();
+		return builder.toString();
 	}
 
 	/**
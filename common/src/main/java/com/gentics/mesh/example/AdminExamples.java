@@ -4,6 +4,8 @@ import static com.gentics.mesh.example.AbstractExamples.DATE_OLD;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 
 import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.core.rest.admin.cache.CacheInfo;
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
@@ -25,6 +27,15 @@ public class AdminExamples {
 		return new ClusterStatusResponse();
 	}
 
+	public CacheListResponse createCacheListResponse() {
+		CacheListResponse response = new CacheListResponse();
+		response.getCaches().add(new CacheInfo().setName("permission").setEnabled(true).setSize(4200).setMaxSize(100_000).setHitCount(81_234)
+			.setMissCount(4_321).setHitRate(0.9495).setLoadCount(4_321).setEvictionCount(0));
+		response.getCaches().add(new CacheInfo().setName("webrootPath").setEnabled(true).setSize(20_000).setMaxSize(20_000).setHitCount(12_003)
+			.setMissCount(30_122).setHitRate(0.2849).setLoadCount(0).setEvictionCount(10_122));
+		return response;
+	}
+
 	public PluginResponse createHelloWorldPluginResponse() {
 		return createPluginResponse("hello-world", "Hello World 1", "hello");
 	}
@@ -41,11 +41,17 @@ import com.gentics.mesh.core.rest.navigation.NavigationElement;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation.Action;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkResult;
 import com.gentics.mesh.core.rest.node.NodeChildrenInfo;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
 import com.gentics.mesh.core.rest.node.PublishStatusModel;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
@@ -341,4 +347,32 @@ public class NodeExamples extends AbstractExamples {
 		return response;
 	}
 
+	public NodeBulkRequest getNodeBulkRequest() {
+		NodeUpsertRequest create = new NodeUpsertRequest();
+		create.setLanguage("en");
+		create.setParentNodeUuid(NODE_AUTOMOBILES_CATEGEORY_UUID);
+		create.setSchemaName("vehicle");
+		create.getFields().put("name", new StringFieldImpl().setString("DeLorean DMC-12"));
+
+		NodeUpsertRequest update = new NodeUpsertRequest();
+		update.setLanguage("en");
+		update.getFields().put("weight", new NumberFieldImpl().setNumber(1230));
+
+		NodeBulkRequest request = new NodeBulkRequest();
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setUuid(UUID_1).setNode(create).setPublish(true));
+		request.add(new NodeBulkOperation().setAction(Action.UPDATE).setUuid(NODE_DELOREAN_UUID).setNode(update));
+		request.add(new NodeBulkOperation().setAction(Action.PUBLISH).setUuid(NODE_DELOREAN_UUID).setLanguage("en"));
+		return request;
+	}
+
+	public NodeBulkResponse getNodeBulkResponse() {
+		List<NodeBulkResult> results = new ArrayList<>();
+		results.add(new NodeBulkResult().setIndex(0).setAction(Action.CREATE).setStatus(201).setUuid(UUID_1).setLanguage("en").setVersion("1.0"));
+		results.add(new NodeBulkResult().setIndex(1).setAction(Action.UPDATE).setStatus(200).setUuid(NODE_DELOREAN_UUID).setLanguage("en")
+			.setVersion("1.1"));
+		results.add(new NodeBulkResult().setIndex(2).setAction(Action.PUBLISH).setStatus(200).setUuid(NODE_DELOREAN_UUID).setLanguage("en")
+			.setVersion("2.0"));
+		return new NodeBulkResponse().setResults(results).setSucceeded(3).setFailed(0);
+	}
+
 }
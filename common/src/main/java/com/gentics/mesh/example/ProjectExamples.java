@@ -3,10 +3,20 @@ package com.gentics.mesh.example;
 import static com.gentics.mesh.core.rest.common.Permission.CREATE;
 import static com.gentics.mesh.core.rest.common.Permission.DELETE;
 import static com.gentics.mesh.core.rest.common.Permission.READ;
+import static com.gentics.mesh.example.ExampleUuids.JOB_UUID;
 import static com.gentics.mesh.example.ExampleUuids.PROJECT_DEMO2_UUID;
 import static com.gentics.mesh.example.ExampleUuids.PROJECT_DEMO_UUID;
 import static com.gentics.mesh.example.ExampleUuids.SCHEMA_FOLDER_UUID;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.FormParameter;
+
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.project.ProjectCreateRequest;
 import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.project.ProjectResponse;
@@ -64,4 +74,22 @@ public class ProjectExamples extends AbstractExamples {
 		return projectCreate;
 	}
 
+	public Map<String, List<FormParameter>> getProjectImportFormParameters() {
+		Map<String, List<FormParameter>> parameters = new HashMap<>();
+		FormParameter fileParameter = new FormParameter();
+		fileParameter.setDescription("NDJSON file which was created by the project export.");
+		fileParameter.setRequired(true);
+		fileParameter.setType(ParamType.FILE);
+		parameters.put("file", Arrays.asList(fileParameter));
+		return parameters;
+	}
+
+	public GenericMessageResponse getProjectImportResponse() {
+		GenericMessageResponse response = new GenericMessageResponse("The import of project \"demo\" has been enqueued.");
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("jobUuid", JOB_UUID);
+		response.setProperties(properties);
+		return response;
+	}
+
 }
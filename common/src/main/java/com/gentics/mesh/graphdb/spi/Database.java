@@ -255,6 +255,7 @@ public interface Database extends TxFactory {
 	 * Restore a previously created database backup.
 	 * 
 	 * @param backupFile
+	 *            Backup file or directory of an incremental backup
 	 * @throws IOException
 	 */
 	void restoreGraph(String backupFile) throws IOException;
@@ -303,6 +304,11 @@ public interface Database extends TxFactory {
 	 */
 	void enableMassInsert();
 
+	/**
+	 * Reset the intent of the current transaction which was set via {@link #enableMassInsert()}. The transaction may otherwise be reused with the intent.
+	 */
+	void disableMassInsert();
+
 	/**
 	 * Reset a previously set intent.
 	 */
@@ -57,6 +57,11 @@ public class ImageManipulationParametersImpl extends AbstractParameters implemen
 			throw error(BAD_REQUEST, "image_error_parameter_focal_point_zoom", String.valueOf(fpz));
 		}
 
+		Float quality = getQuality();
+		if (quality != null && (quality < 0 || quality > 1)) {
+			throw error(BAD_REQUEST, "image_error_parameter_quality", String.valueOf(quality));
+		}
+
 		validateFocalPointParameter();
 
 	}
@@ -127,6 +132,23 @@ public class ImageManipulationParametersImpl extends AbstractParameters implemen
 		cropParameter.setType(ParamType.STRING);
 		parameters.put(CROP_MODE_QUERY_PARAM_KEY, cropParameter);
 
+		// quality
+		QueryParameter qualityParameter = new QueryParameter();
+		qualityParameter.setDescription("Set the quality of JPEG images. The value must be between 0 and 1. The configured JPEG quality is used by default.");
+		qualityParameter.setExample("0.8");
+		qualityParameter.setRequired(false);
+		qualityParameter.setType(ParamType.NUMBER);
+		parameters.put(QUALITY_QUERY_PARAM_KEY, qualityParameter);
+
+		// variant
+		QueryParameter variantParameter = new QueryParameter();
+		variantParameter.setDescription(
+			"Request a configured image variant by name. The size, crop mode and quality of the variant will be used instead of the other parameters.");
+		variantParameter.setExample("thumbnail");
+		variantParameter.setRequired(false);
+		variantParameter.setType(ParamType.STRING);
+		parameters.put(VARIANT_QUERY_PARAM_KEY, variantParameter);
+
 		return parameters;
 	}
 
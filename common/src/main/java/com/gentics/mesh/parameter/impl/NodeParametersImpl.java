@@ -66,6 +66,15 @@ public class NodeParametersImpl extends AbstractParameters implements NodeParame
 		resolveLinksParameter.setType(ParamType.STRING);
 		parameters.put(RESOLVE_LINKS_QUERY_PARAM_KEY, resolveLinksParameter);
 
+		// childrenInfo
+		QueryParameter childrenInfoParameter = new QueryParameter();
+		childrenInfoParameter.setDescription(
+			"The children info parameter can be set to either _exact_ or _approximate_. The _exact_ mode counts all children which are readable by the requesting user. The _approximate_ mode uses the stored child counters of the node and does not check the permissions of the children.");
+		childrenInfoParameter.setExample("approximate");
+		childrenInfoParameter.setRequired(false);
+		childrenInfoParameter.setType(ParamType.STRING);
+		parameters.put(CHILDREN_INFO_QUERY_PARAM_KEY, childrenInfoParameter);
+
 		return parameters;
 	}
 
@@ -2,9 +2,11 @@ package com.gentics.mesh.router;
 
 import static com.gentics.mesh.handler.VersionHandler.API_MOUNTPOINT;
 
+import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.router.route.DefaultNotFoundHandler;
 import com.gentics.mesh.router.route.FailureHandler;
+import com.gentics.mesh.router.route.MinCompressionSizeHandler;
 import com.gentics.mesh.router.route.PoweredByHandler;
 
 import io.vertx.core.Vertx;
@@ -33,6 +35,10 @@ public class RootRouter {
 		this.router = Router.router(vertx);
 		// Root handlersA
 		router.route().handler(LoggerHandler.create(LoggerFormat.SHORT));
+		HttpServerConfig httpServerOptions = options.getHttpServerOptions();
+		if (httpServerOptions.isCompressionEnabled() && httpServerOptions.getMinCompressionSize() > 0) {
+			router.route().handler(MinCompressionSizeHandler.create(httpServerOptions.getMinCompressionSize()));
+		}
 		// TODO add a dedicated error for api router that informs about
 		// APPLICATION_JSON requirements. This may not be true for other
 		// routes (eg. custom
@@ -0,0 +1,46 @@
+package com.gentics.mesh.router.route;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which excludes small responses from the response compression. Compressing a small body costs more CPU time than the few saved bytes are worth.
+ * The compression will be skipped by setting the identity content encoding before the headers are written. Responses without a known content length will
+ * still be compressed.
+ */
+public class MinCompressionSizeHandler implements Handler<RoutingContext> {
+
+	private static final String IDENTITY = "identity";
+
+	private final long minSize;
+
+	public MinCompressionSizeHandler(long minSize) {
+		this.minSize = minSize;
+	}
+
+	public static MinCompressionSizeHandler create(long minSize) {
+		return new MinCompressionSizeHandler(minSize);
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		rc.addHeadersEndHandler(v -> {
+			MultiMap headers = rc.response().headers();
+			String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+			if (contentLength == null || headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+				return;
+			}
+			try {
+				if (Long.parseLong(contentLength) < minSize) {
+					headers.set(HttpHeaders.CONTENT_ENCODING, IDENTITY);
+				}
+			} catch (NumberFormatException e) {
+				// Invalid lengths are left to the compressor
+			}
+		});
+		rc.next();
+	}
+
+}
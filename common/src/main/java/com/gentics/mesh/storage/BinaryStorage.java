@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.reactivex.Completable;
@@ -74,6 +75,21 @@ public interface BinaryStorage {
 	 */
 	Flowable<Buffer> read(String uuid);
 
+	/**
+	 * Read the given byte range of the binary data which is identified by the given binary uuid. Implementations should override this method when the
+	 * storage is able to load only the requested range.
+	 * 
+	 * @param uuid
+	 * @param start
+	 *            Position of the first byte
+	 * @param end
+	 *            Position of the last byte (inclusive)
+	 * @return
+	 */
+	default Flowable<Buffer> read(String uuid, long start, long end) {
+		return RxUtil.slice(read(uuid), start, end);
+	}
+
 	/**
 	 * Opens a blocking {@link InputStream} to the binary file. This should only be used for some other blocking APIs (i.e. ImageIO)
 	 *
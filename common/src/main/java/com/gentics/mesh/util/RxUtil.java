@@ -59,6 +59,31 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Return the bytes of the given range of the stream. The upstream will be cancelled once the end of the range has been reached.
+	 * 
+	 * @param stream
+	 * @param start
+	 *            Position of the first byte
+	 * @param end
+	 *            Position of the last byte (inclusive)
+	 * @return
+	 */
+	public static Flowable<Buffer> slice(Flowable<Buffer> stream, long start, long end) {
+		return Flowable.defer(() -> {
+			long[] position = { 0 };
+			return stream.map(buffer -> {
+				long bufferStart = position[0];
+				position[0] += buffer.length();
+				int from = (int) Math.max(0, start - bufferStart);
+				int to = (int) Math.min(buffer.length(), end + 1 - bufferStart);
+				return from < to ? buffer.getBuffer(from, to) : Buffer.buffer();
+			})
+				.takeUntil(buffer -> position[0] > end)
+				.filter(buffer -> buffer.length() > 0);
+		});
+	}
+
 	/**
 	 * Flips a completable. Emits an error when the source has completed, and completes when the source emits an error.
 	 * 
@@ -118,4 +118,31 @@ public abstract class AbstractJobVerticle extends AbstractVerticle {
 		}
 	}
 
+	/**
+	 * Return a completable which executes the given action while holding the cluster wide lock with the given name. The action will be skipped if the
+	 * lock could not be acquired within one second. This is the case when another instance or worker is already executing the action.
+	 * 
+	 * @param lockName
+	 *            Name of the lock
+	 * @param action
+	 *            Action which will be invoked when the lock has been obtained
+	 * @return
+	 */
+	protected Completable executeLocked(String lockName, Completable action) {
+		return Completable.create(sub -> {
+			vertx.sharedData().getLockWithTimeout(lockName, 1000, rh -> {
+				if (rh.failed()) {
+					log.debug("Lock {" + lockName + "} is held by another worker. Skipping action.");
+					sub.onComplete();
+				} else {
+					Lock lock = rh.result();
+					action.doFinally(() -> {
+						log.debug("Releasing lock {" + lockName + "}");
+						lock.release();
+					}).subscribe(sub::onComplete, sub::onError);
+				}
+			});
+		});
+	}
+
 }
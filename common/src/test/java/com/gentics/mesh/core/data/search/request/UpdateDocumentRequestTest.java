@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.data.search.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class UpdateDocumentRequestTest {
+
+	@Test
+	public void testSharedPartial() {
+		JsonObject partial = new JsonObject().put("_roleUuids", new JsonArray(Arrays.asList("role1", "role2")));
+		CachedJsonObjectProxy proxy = new CachedJsonObjectProxy(partial);
+		UpdateDocumentRequest first = new UpdateDocumentRequest("index", "prefix-index", "doc1", proxy);
+		UpdateDocumentRequest second = new UpdateDocumentRequest("index", "prefix-index", "doc2", proxy);
+
+		List<String> firstActions = first.toBulkActions().blockingGet();
+		List<String> secondActions = second.toBulkActions().blockingGet();
+		assertEquals(new JsonObject().put("doc", partial), new JsonObject(firstActions.get(1)));
+		assertEquals(firstActions.get(1), secondActions.get(1));
+		assertEquals("doc2", new JsonObject(secondActions.get(0)).getJsonObject("update").getString("_id"));
+		assertSame(partial, second.getDoc());
+
+		// The request which is created using the plain json object must produce the same payload
+		UpdateDocumentRequest plain = new UpdateDocumentRequest("index", "prefix-index", "doc1", partial);
+		assertEquals(firstActions, plain.toBulkActions().blockingGet());
+		assertEquals(first.bulkLength(), plain.bulkLength());
+	}
+}
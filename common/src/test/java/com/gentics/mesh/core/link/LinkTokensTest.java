@@ -0,0 +1,58 @@
+package com.gentics.mesh.core.link;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LinkTokensTest {
+
+	@Test
+	public void testParse() {
+		String content = "<p>{{mesh.link('uuid1')}} text {{mesh.link(\"uuid2\", \"de\")}}</p>";
+		LinkTokens tokens = LinkTokens.parse(content);
+		assertEquals(2, tokens.size());
+		assertEquals("{{mesh.link('uuid1')}}", content.substring(tokens.getStart(0), tokens.getEnd(0)));
+		assertEquals("{{mesh.link(\"uuid2\", \"de\")}}", content.substring(tokens.getStart(1), tokens.getEnd(1)));
+		assertTrue(tokens.matches(content));
+	}
+
+	@Test
+	public void testParseWithoutLinks() {
+		assertSame(LinkTokens.NONE, LinkTokens.parse("<p>No links</p>"));
+		assertSame(LinkTokens.NONE, LinkTokens.parse("{{mesh.link('uuid1'"));
+		assertSame(LinkTokens.NONE, LinkTokens.parse(null));
+	}
+
+	@Test
+	public void testEncoding() {
+		String content = "{{mesh.link('uuid1')}}-{{mesh.link('uuid2')}}";
+		LinkTokens tokens = LinkTokens.parse(content);
+		assertEquals("0,22,23,45", tokens.encode());
+		LinkTokens decoded = LinkTokens.decode(tokens.encode());
+		assertEquals(2, decoded.size());
+		assertTrue(decoded.matches(content));
+
+		assertSame(LinkTokens.NONE, LinkTokens.decode(""));
+		assertNull(LinkTokens.decode(null));
+		assertNull(LinkTokens.decode("1,2,3"));
+		assertNull(LinkTokens.decode("a,b"));
+	}
+
+	@Test
+	public void testMatches() {
+		LinkTokens tokens = LinkTokens.parse("{{mesh.link('uuid1')}}");
+		assertFalse(tokens.matches("prefix {{mesh.link('uuid1')}}"));
+		assertFalse(tokens.matches("{{mesh.link('uuid1')"));
+		assertTrue(LinkTokens.NONE.matches("anything"));
+	}
+
+	@Test
+	public void testStripQuotes() {
+		assertEquals("uuid, de", WebRootLinkReplacer.stripQuotes("'uuid', \"de\""));
+		assertEquals("uuid", WebRootLinkReplacer.stripQuotes("\\\"uuid\\\""));
+	}
+}
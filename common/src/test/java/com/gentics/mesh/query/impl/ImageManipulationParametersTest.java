@@ -15,6 +15,7 @@ import org.mockito.Mockito;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.test.Assert;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -157,4 +158,34 @@ public class ImageManipulationParametersTest {
 		assertEquals("rect10,22,21,20rw100rh200fp0.5-0.5", cacheKey);
 	}
 
+	@Test
+	public void testQuality() {
+		ImageManipulationParametersImpl request = new ImageManipulationParametersImpl();
+		request.setWidth(100).setQuality(0.5f);
+		request.validate();
+		assertEquals("rw100fp0.5-0.5q0.5", request.getCacheKey());
+
+		try {
+			new ImageManipulationParametersImpl().setQuality(1.5f).validate();
+			fail("The validation should fail but it did not.");
+		} catch (GenericRestException e) {
+			Assert.assertException(e, BAD_REQUEST, "image_error_parameter_quality", "1.5");
+		}
+	}
+
+	@Test
+	public void testApplyVariant() {
+		ImageManipulationParametersImpl request = new ImageManipulationParametersImpl();
+		request.setWidth(10).setHeight(20).setRect(1, 2, 3, 4).setFocalPointZoom(2f);
+		request.setVariant("thumbnail");
+		request.applyVariant(new ImageVariantPreset(100, null).setCrop("fp").setQuality(0.8f));
+		assertEquals(100, request.getWidth().intValue());
+		assertNull(request.getHeight());
+		assertNull(request.getRect());
+		assertNull(request.getFocalPointZoom());
+		assertEquals(CropMode.FOCALPOINT, request.getCropMode());
+		assertEquals(0.8f, request.getQuality(), 0);
+		assertEquals("thumbnail", request.getVariant());
+	}
+
 }
@@ -1,28 +1,103 @@
 package com.gentics.mesh.cache;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Thread-safe registry of all caches. The registry also exports the statistics of the registered caches as gauges (e.g.
+ * <code>mesh.cache.permission.hits</code>).
+ */
 @Singleton
 public class CacheRegistryImpl implements CacheRegistry {
 
-	private Set<EventAwareCache<?, ?>> caches = new HashSet<>();
+	private static final Logger log = LoggerFactory.getLogger(CacheRegistryImpl.class);
+
+	private static final String METRICS_PREFIX = "mesh.cache.";
+
+	private final Map<String, EventAwareCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+	private final MetricsService metrics;
 
 	@Inject
-	public CacheRegistryImpl() {
+	public CacheRegistryImpl(MetricsService metrics) {
+		this.metrics = metrics;
 	}
 
 	@Override
 	public void register(EventAwareCache<?, ?> cache) {
-		caches.add(cache);
+		EventAwareCache<?, ?> previous = caches.put(cache.getName(), cache);
+		if (previous != null && previous != cache && log.isDebugEnabled()) {
+			log.debug("Replacing previously registered cache {" + cache.getName() + "}");
+		}
+		if (metrics != null && metrics.isEnabled()) {
+			registerGauges(cache);
+		}
+	}
+
+	/**
+	 * Register the gauges for the statistics of the cache. The metric registry is shared. Existing gauges will thus be replaced.
+	 * 
+	 * @param cache
+	 */
+	private void registerGauges(EventAwareCache<?, ?> cache) {
+		MetricRegistry registry = metrics.getMetricRegistry();
+		String prefix = METRICS_PREFIX + cache.getName() + ".";
+		registerGauge(registry, prefix + "size", cache, c -> c.size());
+		registerGauge(registry, prefix + "hits", cache, c -> c.stats().hitCount());
+		registerGauge(registry, prefix + "misses", cache, c -> c.stats().missCount());
+		registerGauge(registry, prefix + "loads", cache, c -> {
+			CacheStats stats = c.stats();
+			return stats.loadSuccessCount() + stats.loadFailureCount();
+		});
+		registerGauge(registry, prefix + "evictions", cache, c -> c.stats().evictionCount());
+	}
+
+	private void registerGauge(MetricRegistry registry, String name, EventAwareCache<?, ?> cache, Function<EventAwareCache<?, ?>, Long> value) {
+		registry.remove(name);
+		registry.register(name, (Gauge<Long>) () -> value.apply(cache));
 	}
 
 	@Override
 	public void clear() {
-		caches.forEach(EventAwareCache::invalidate);
+		caches.values().forEach(EventAwareCache::invalidate);
+	}
+
+	@Override
+	public boolean clear(String name) {
+		EventAwareCache<?, ?> cache = getCache(name);
+		if (cache == null) {
+			return false;
+		}
+		cache.invalidate();
+		return true;
+	}
+
+	@Override
+	public EventAwareCache<?, ?> getCache(String name) {
+		if (name == null) {
+			return null;
+		}
+		return caches.get(name);
+	}
+
+	@Override
+	public Collection<EventAwareCache<?, ?>> getCaches() {
+		return Collections.unmodifiableCollection(new ArrayList<>(caches.values()));
 	}
 
 }
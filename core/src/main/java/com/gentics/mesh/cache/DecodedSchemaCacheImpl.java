@@ -0,0 +1,39 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.schema.DecodedSchema;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.Vertx;
+
+/**
+ * @see DecodedSchemaCache
+ */
+@Singleton
+public class DecodedSchemaCacheImpl extends AbstractMeshCache<String, DecodedSchema> implements DecodedSchemaCache {
+
+	@Inject
+	public DecodedSchemaCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options) {
+		super(createCache(vertx, options.getCacheConfig().getSchemaCacheSize()), registry, options.getCacheConfig().getSchemaCacheSize());
+	}
+
+	private static EventAwareCache<String, DecodedSchema> createCache(Vertx vertx, long maxSize) {
+		// The schema of a version is not meant to change. The cache is still cleared on updates to never serve an outdated schema.
+		return EventAwareCache.<String, DecodedSchema>builder()
+			.name("decodedSchema")
+			.events(SCHEMA_UPDATED, SCHEMA_DELETED, MICROSCHEMA_UPDATED)
+			.action((event, cache) -> {
+				cache.invalidate();
+			})
+			.maxSize(maxSize)
+			.vertx(vertx)
+			.build();
+	}
+
+}
@@ -1,55 +1,180 @@
 package com.gentics.mesh.cache;
 
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.INVALIDATE_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * 
+ * Permission changes can invalidate the entries of specific users and elements instead of clearing the whole cache. The keys of the cached entries are
+ * indexed by user and by element so that the affected entries can be removed directly. Targeted invalidations are published to the other instances of
+ * the cluster via a {@link com.gentics.mesh.core.rest.MeshEvent#INVALIDATE_PERMISSION_STORE} event which is applied right away by the receivers. The
+ * local entries are invalidated immediately while the ids for the event are collected for a short time so that bulk permission changes only cause a
+ * few events.
  */
 @Singleton
 public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String NODE_KEY = "node";
+
+	private static final String USERS_KEY = "users";
+
+	private static final String ELEMENTS_KEY = "elements";
+
+	/**
+	 * Time in milliseconds during which the invalidated ids are collected before they are published to the cluster.
+	 */
+	private static final long PUBLISH_DELAY = 50;
+
+	/**
+	 * Amount of collected ids which causes the invalidation to be published right away.
+	 */
+	private static final int MAX_PENDING_IDS = 1000;
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
-	private static final long CACHE_SIZE = 100_000;
+	/**
+	 * Index of the keys of the cached permissions.
+	 */
+	private final KeyIndex index;
+
+	/**
+	 * Cache for the role uuids of users which is used to check permissions via the role sets of the elements. The cache is keyed by the string
+	 * representation of the user id.
+	 */
+	private final EventAwareCache<String, Set<String>> roleCache;
+
+	private final Set<String> pendingUserIds = new HashSet<>();
+
+	private final Set<String> pendingElementIds = new HashSet<>();
+
+	private boolean publishScheduled = false;
 
 	@Inject
 	public PermissionCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(vertx), registry, CACHE_SIZE);
+		this(vertx, registry, options, new KeyIndex());
+	}
+
+	private PermissionCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options, KeyIndex index) {
+		super(createCache(vertx, options, "permission", options.getCacheConfig().getPermissionCacheSize(), index,
+			(cache, userIds, elementIds) -> invalidate(cache, index, userIds, elementIds)), registry,
+			options.getCacheConfig().getPermissionCacheSize());
 		this.vertx = vertx;
 		this.options = options;
+		this.index = index;
+		this.roleCache = createCache(vertx, options, "userRole", options.getCacheConfig().getRoleCacheSize(), null,
+			(cache, userIds, elementIds) -> userIds.forEach(cache::invalidate));
+		registry.register(roleCache);
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(Vertx vertx) {
-		return EventAwareCache.<String, Boolean>builder()
-			.events(CLEAR_PERMISSION_STORE)
+	/**
+	 * Functional interface for the invalidation of the cache entries which reference the given users and elements.
+	 */
+	@FunctionalInterface
+	private interface Invalidation<K, V> {
+		void invalidate(EventAwareCache<K, V> cache, Set<String> userIds, Set<String> elementIds);
+	}
+
+	private static <K, V> EventAwareCache<K, V> createCache(Vertx vertx, MeshOptions options, String name, long maxSize, CacheWriter<K, V> writer,
+		Invalidation<K, V> invalidation) {
+		return EventAwareCache.<K, V>builder()
+			.name(name)
+			.events(CLEAR_PERMISSION_STORE, INVALIDATE_PERMISSION_STORE)
 			.action((event, cache) -> {
+				if (INVALIDATE_PERMISSION_STORE.address.equals(event.address())) {
+					JsonObject body = event.body();
+					// The sending instance already invalidated its caches
+					if (body == null || options.getNodeName().equals(body.getString(NODE_KEY))) {
+						return;
+					}
+					Set<String> userIds = toSet(body.getJsonArray(USERS_KEY));
+					Set<String> elementIds = toSet(body.getJsonArray(ELEMENTS_KEY));
+					if (log.isDebugEnabled()) {
+						log.debug("Invalidating permissions of {" + userIds.size() + "} users and {" + elementIds.size() + "} elements in cache {" + name
+							+ "}");
+					}
+					invalidation.invalidate(cache, userIds, elementIds);
+					return;
+				}
 				if (log.isDebugEnabled()) {
 					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
 				}
 				cache.invalidate();
 			})
-			.expireAfter(30, ChronoUnit.MINUTES)
-			.maxSize(CACHE_SIZE)
+			.expireAfter(options.getCacheConfig().getPermissionCacheExpireAfter(), ChronoUnit.SECONDS)
+			.maxSize(maxSize)
+			.writer(writer)
 			.vertx(vertx)
 			.build();
 	}
 
+	/**
+	 * Remove the cached permissions of the given users and elements. The keys are looked up in the index so that no scan of the cache is needed.
+	 * 
+	 * @param cache
+	 * @param index
+	 * @param userIds
+	 * @param elementIds
+	 */
+	private static void invalidate(EventAwareCache<String, Boolean> cache, KeyIndex index, Set<String> userIds, Set<String> elementIds) {
+		for (String userId : userIds) {
+			for (String key : index.removeUser(userId)) {
+				cache.invalidate(key);
+			}
+		}
+		for (String elementId : elementIds) {
+			for (String key : index.removeElement(elementId)) {
+				cache.invalidate(key);
+			}
+		}
+	}
+
+	private static Set<String> toSet(JsonArray array) {
+		Set<String> set = new HashSet<>();
+		if (array != null) {
+			for (int i = 0; i < array.size(); i++) {
+				set.add(array.getString(i));
+			}
+		}
+		return set;
+	}
+
+	private static Set<String> toSet(Collection<?> ids) {
+		Set<String> set = new HashSet<>();
+		for (Object id : ids) {
+			set.add(String.valueOf(id));
+		}
+		return set;
+	}
+
 	/**
 	 * Check whether the granting user permission was stored in the cache.
 	 * 
@@ -88,6 +213,7 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	public void clear(boolean notify) {
 		// Invalidate locally
 		cache.invalidate();
+		roleCache.invalidate();
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
@@ -103,6 +229,73 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	@Override
+	public void invalidateUsers(Collection<?> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		Set<String> ids = toSet(userIds);
+		ids.forEach(roleCache::invalidate);
+		invalidate(cache, index, ids, Collections.emptySet());
+		publishInvalidation(ids, Collections.emptySet());
+	}
+
+	@Override
+	public void invalidateElements(Collection<?> elementIds) {
+		if (elementIds.isEmpty()) {
+			return;
+		}
+		Set<String> ids = toSet(elementIds);
+		invalidate(cache, index, Collections.emptySet(), ids);
+		publishInvalidation(Collections.emptySet(), ids);
+	}
+
+	/**
+	 * Inform the other instances of the cluster about the invalidated users and elements. The ids are collected for {@link #PUBLISH_DELAY} milliseconds
+	 * or until {@link #MAX_PENDING_IDS} ids have been collected and are then published via a single event.
+	 * 
+	 * @param userIds
+	 * @param elementIds
+	 */
+	private void publishInvalidation(Set<String> userIds, Set<String> elementIds) {
+		if (!options.getClusterOptions().isEnabled()) {
+			return;
+		}
+		boolean flush;
+		synchronized (this) {
+			pendingUserIds.addAll(userIds);
+			pendingElementIds.addAll(elementIds);
+			flush = pendingUserIds.size() + pendingElementIds.size() >= MAX_PENDING_IDS;
+			if (!flush && !publishScheduled) {
+				publishScheduled = true;
+				vertx.setTimer(PUBLISH_DELAY, id -> flushInvalidation());
+			}
+		}
+		if (flush) {
+			flushInvalidation();
+		}
+	}
+
+	/**
+	 * Publish the collected ids to the other instances of the cluster.
+	 */
+	private void flushInvalidation() {
+		JsonObject body;
+		synchronized (this) {
+			publishScheduled = false;
+			if (pendingUserIds.isEmpty() && pendingElementIds.isEmpty()) {
+				return;
+			}
+			body = new JsonObject()
+				.put(NODE_KEY, options.getNodeName())
+				.put(USERS_KEY, new JsonArray(new ArrayList<>(pendingUserIds)))
+				.put(ELEMENTS_KEY, new JsonArray(new ArrayList<>(pendingElementIds)));
+			pendingUserIds.clear();
+			pendingElementIds.clear();
+		}
+		vertx.eventBus().publish(INVALIDATE_PERMISSION_STORE.address, body);
+	}
+
 	/**
 	 * Store a granting permission in the cache.
 	 * 
@@ -116,4 +309,83 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	public void store(Object userId, GraphPermission permission, Object elementId) {
 		cache.put(createCacheKey(userId, permission, elementId), true);
 	}
+
+	@Override
+	public Set<String> getRoleUuids(Object userId, Function<Object, Set<String>> loader) {
+		if (isDisabled()) {
+			return loader.apply(userId);
+		}
+		return roleCache.get(String.valueOf(userId), key -> loader.apply(userId));
+	}
+
+	/**
+	 * Index of the permission cache keys by user and by element. The index is maintained by the cache writer which is invoked synchronously whenever an
+	 * entry is written or removed. This also covers entries which get evicted or expire.
+	 */
+	private static class KeyIndex implements CacheWriter<String, Boolean> {
+
+		private final Map<String, Set<String>> keysByUser = new ConcurrentHashMap<>();
+
+		private final Map<String, Set<String>> keysByElement = new ConcurrentHashMap<>();
+
+		@Override
+		public void write(String key, Boolean value) {
+			add(keysByUser, userId(key), key);
+			add(keysByElement, elementId(key), key);
+		}
+
+		@Override
+		public void delete(String key, Boolean value, RemovalCause cause) {
+			remove(keysByUser, userId(key), key);
+			remove(keysByElement, elementId(key), key);
+		}
+
+		/**
+		 * Remove and return the keys of the given user.
+		 * 
+		 * @param userId
+		 * @return
+		 */
+		public Set<String> removeUser(String userId) {
+			Set<String> keys = keysByUser.remove(userId);
+			return keys == null ? Collections.emptySet() : keys;
+		}
+
+		/**
+		 * Remove and return the keys of the given element.
+		 * 
+		 * @param elementId
+		 * @return
+		 */
+		public Set<String> removeElement(String elementId) {
+			Set<String> keys = keysByElement.remove(elementId);
+			return keys == null ? Collections.emptySet() : keys;
+		}
+
+		private static void add(Map<String, Set<String>> keys, String id, String key) {
+			// The set is only modified within compute so that concurrent removals of the id never drop a key
+			keys.compute(id, (k, set) -> {
+				if (set == null) {
+					set = new HashSet<>();
+				}
+				set.add(key);
+				return set;
+			});
+		}
+
+		private static void remove(Map<String, Set<String>> keys, String id, String key) {
+			keys.computeIfPresent(id, (k, set) -> {
+				set.remove(key);
+				return set.isEmpty() ? null : set;
+			});
+		}
+
+		private static String userId(String key) {
+			return key.substring(0, key.indexOf('-'));
+		}
+
+		private static String elementId(String key) {
+			return key.substring(key.lastIndexOf('-') + 1);
+		}
+	}
 }
@@ -8,26 +8,26 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 import io.vertx.core.Vertx;
 
 @Singleton
 public class ProjectBranchNameCacheImpl extends AbstractMeshCache<String, Branch> implements ProjectBranchNameCache {
 
-	private static final long CACHE_SIZE = 500;
-
 	@Inject
-	public ProjectBranchNameCacheImpl(Vertx vertx, CacheRegistry registry) {
-		super(createCache(vertx), registry, CACHE_SIZE);
+	public ProjectBranchNameCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options) {
+		super(createCache(vertx, options.getCacheConfig().getBranchNameCacheSize()), registry, options.getCacheConfig().getBranchNameCacheSize());
 	}
 
-	private static EventAwareCache<String, Branch> createCache(Vertx vertx) {
+	private static EventAwareCache<String, Branch> createCache(Vertx vertx, long maxSize) {
 		return EventAwareCache.<String, Branch>builder()
+			.name("branchName")
 			.events(BRANCH_UPDATED, BRANCH_CREATED, BRANCH_DELETED)
 			.action((event, cache) -> {
 				cache.invalidate();
 			})
-			.maxSize(CACHE_SIZE)
+			.maxSize(maxSize)
 			.vertx(vertx)
 			.build();
 	}
@@ -7,21 +7,21 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.etc.config.MeshOptions;
 
 import io.vertx.core.Vertx;
 
 @Singleton
 public class ProjectNameCacheImpl extends AbstractMeshCache<String, Project> implements ProjectNameCache {
 
-	public static final long CACHE_SIZE = 100;
-
 	@Inject
-	public ProjectNameCacheImpl(Vertx vertx, CacheRegistry registry) {
-		super(createCache(vertx), registry, CACHE_SIZE);
+	public ProjectNameCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options) {
+		super(createCache(vertx, options.getCacheConfig().getProjectNameCacheSize()), registry, options.getCacheConfig().getProjectNameCacheSize());
 	}
 
-	private static EventAwareCache<String, Project> createCache(Vertx vertx) {
+	private static EventAwareCache<String, Project> createCache(Vertx vertx, long maxSize) {
 		return EventAwareCache.<String, Project>builder()
+			.name("projectName")
 			.events(PROJECT_DELETED, PROJECT_UPDATED)
 			.action((event, cache) -> {
 				String name = event.body().getString("name");
@@ -31,7 +31,7 @@ public class ProjectNameCacheImpl extends AbstractMeshCache<String, Project> imp
 					cache.invalidate();
 				}
 			})
-			.maxSize(CACHE_SIZE)
+			.maxSize(maxSize)
 			.vertx(vertx)
 			.build();
 	}
@@ -51,6 +51,7 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 
 	private static EventAwareCache<String, Path> createCache(Vertx vertx, CacheConfig config) {
 		return EventAwareCache.<String, Path>builder()
+			.name("webrootPath")
 			.events(EVENTS)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
@@ -7,6 +7,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
+import com.gentics.mesh.changelog.highlevel.change.MigrateBasicListValues;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
 
@@ -22,6 +23,9 @@ public class HighLevelChangesList {
 	@Inject
 	public ExtractPlainText plainText;
 
+	@Inject
+	public MigrateBasicListValues basicListValues;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -29,7 +33,8 @@ public class HighLevelChangesList {
 	public List<HighLevelChange> getList() {
 		return Arrays.asList(
 			restructureWebroot,
-			plainText
+			plainText,
+			basicListValues
 		// ADD NEW CHANGES HERE!
 		);
 	}
@@ -0,0 +1,72 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.DateGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.HtmlGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which converts the item properties of the basic list fields into the native values list.
+ */
+@Singleton
+public class MigrateBasicListValues extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(MigrateBasicListValues.class);
+
+	private static final List<Class<? extends AbstractBasicGraphFieldList<?, ?, ?>>> LIST_CLASSES = Arrays.asList(StringGraphFieldListImpl.class,
+		HtmlGraphFieldListImpl.class, NumberGraphFieldListImpl.class, DateGraphFieldListImpl.class, BooleanGraphFieldListImpl.class);
+
+	@Inject
+	public MigrateBasicListValues() {
+	}
+
+	@Override
+	public String getUuid() {
+		return "8C3E1F0A5B7D4E29BE1F0A5B7DAE2946";
+	}
+
+	@Override
+	public String getName() {
+		return "Migrate basic list values";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the values of string, html, number, date and boolean lists in a single list property";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		long total = 0;
+		for (Class<? extends AbstractBasicGraphFieldList<?, ?, ?>> clazz : LIST_CLASSES) {
+			Iterable<? extends AbstractBasicGraphFieldList<?, ?, ?>> lists = graph.getFramedVertices("@class", clazz.getSimpleName(), clazz);
+			for (AbstractBasicGraphFieldList<?, ?, ?> list : lists) {
+				if (list.convertItemProperties()) {
+					total++;
+					if (total % 1000 == 0) {
+						log.info("Migrated {" + total + "} lists");
+						graph.commit();
+					}
+				}
+			}
+		}
+		log.info("Done migrating {" + total + "} lists");
+	}
+
+}
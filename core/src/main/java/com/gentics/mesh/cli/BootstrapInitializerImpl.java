@@ -40,6 +40,8 @@ import com.gentics.mesh.cache.CacheRegistryImpl;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
 import com.gentics.mesh.changelog.highlevel.HighLevelChangelogSystem;
+import com.gentics.mesh.core.binary.BinaryExtractionQueue;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -64,6 +66,7 @@ import com.gentics.mesh.core.data.root.TagRoot;
 import com.gentics.mesh.core.data.root.UserRoot;
 import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
@@ -150,6 +153,12 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public RouterStorageRegistry routerStorageRegistry;
 
+	@Inject
+	public ImageVariantGenerator imageVariantGenerator;
+
+	@Inject
+	public Lazy<BinaryExtractionQueue> binaryExtractionQueue;
+
 	private MeshRoot meshRoot;
 
 	// TODO: Changing the role name or deleting the role would cause code that utilizes this field to break.
@@ -477,13 +486,38 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			}
 		}
 
+		warmSchemaCache();
+
+		// Resume the background extractions which were not finished before the shutdown
+		binaryExtractionQueue.get().enqueuePending();
+
 		registerEventHandlers();
 
 	}
 
+	/**
+	 * Decode all schema versions so that the first requests do not need to parse the schema JSON.
+	 */
+	private void warmSchemaCache() {
+		long count = db.tx(() -> {
+			long decoded = 0;
+			for (SchemaContainer container : schemaContainerRoot().findAll()) {
+				for (SchemaContainerVersion version : container.findAll()) {
+					version.getDecodedSchema();
+					decoded++;
+				}
+			}
+			return decoded;
+		});
+		if (log.isDebugEnabled()) {
+			log.debug("Decoded {" + count + "} schema versions");
+		}
+	}
+
 	@Override
 	public void registerEventHandlers() {
 		routerStorageRegistry.registerEventbus();
+		imageVariantGenerator.registerEventHandlers();
 	}
 
 	@Override
@@ -32,11 +32,6 @@ import io.vertx.reactivex.core.Vertx;
 @Singleton
 public class CoreVerticleLoader {
 
-	/**
-	 * Default amount of verticle instances which should be deployed.
-	 */
-	private static final int DEFAULT_VERTICLE_DEPLOYMENTS = 5;
-
 	private static Logger log = LoggerFactory.getLogger(CoreVerticleLoader.class);
 
 	@Inject
@@ -81,11 +76,12 @@ public class CoreVerticleLoader {
 		defaultConfig.put("host", meshOptions.getHttpServerOptions().getHost());
 		defaultConfig.put("initialProjects", initialProjects);
 
+		int verticleAmount = meshOptions.getHttpServerOptions().getVerticleAmount();
 		for (Provider<? extends AbstractVerticle> verticle : getMandatoryVerticleClasses()) {
 			try {
-				for (int i = 0; i < DEFAULT_VERTICLE_DEPLOYMENTS; i++) {
+				for (int i = 0; i < verticleAmount; i++) {
 					if (log.isInfoEnabled()) {
-						log.info("Deploying mandatory verticle {" + verticle.getClass().getName() + "} " + i + " of " + DEFAULT_VERTICLE_DEPLOYMENTS
+						log.info("Deploying mandatory verticle {" + verticle.getClass().getName() + "} " + i + " of " + verticleAmount
 							+ " instances");
 					}
 					deploymentIds.add(deployAndWait(rxVertx.getDelegate(), defaultConfig, verticle.get(), false));
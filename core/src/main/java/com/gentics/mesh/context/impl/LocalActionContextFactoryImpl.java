@@ -0,0 +1,31 @@
+package com.gentics.mesh.context.impl;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.LocalActionContextFactory;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * @see LocalActionContextFactory
+ */
+@Singleton
+public class LocalActionContextFactoryImpl implements LocalActionContextFactory {
+
+	@Inject
+	public LocalActionContextFactoryImpl() {
+	}
+
+	@Override
+	public InternalActionContext create(MeshAuthUser user, RestModel body) {
+		LocalActionContextImpl<GenericMessageResponse> ac = new LocalActionContextImpl<>(user, GenericMessageResponse.class);
+		if (body != null) {
+			ac.setPayloadObject(body);
+		}
+		return ac;
+	}
+
+}
@@ -38,12 +38,14 @@ import io.vertx.ext.web.FileUpload;
 public class LocalActionContextImpl<T> extends AbstractInternalActionContext implements InternalActionContext {
 
 	private RestModel payloadObject;
+	private String payload;
 	private MeshAuthUser user;
 	private Map<String, Object> data = new HashMap<>();
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 	private String query;
 	private Project project;
 	private String responseBody;
+	private RestModel responseModel;
 	private HttpResponseStatus responseStatus;
 	private Promise<T> promise = Promise.promise();
 	private Class<? extends T> classOfResponse;
@@ -95,7 +97,10 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 
 	@Override
 	public String getBodyAsString() {
-		return payloadObject.toJson();
+		if (payload != null) {
+			return payload;
+		}
+		return payloadObject == null ? null : payloadObject.toJson();
 	}
 
 	@Override
@@ -115,6 +120,17 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 	 */
 	public void setPayloadObject(RestModel model) {
 		this.payloadObject = model;
+		// The handlers will directly use the model instead of parsing the body
+		setBody(model);
+	}
+
+	/**
+	 * Set the raw request payload. This is used for handlers which do not operate on a model (e.g. search queries).
+	 * 
+	 * @param payload
+	 */
+	public void setPayload(String payload) {
+		this.payload = payload;
 	}
 
 	@Override
@@ -132,12 +148,31 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 		this.parameters.add(name, value);
 	}
 
+	@Override
+	public void send(RestModel restModel, HttpResponseStatus status) {
+		// Pass the model through if possible to avoid serializing and parsing the response
+		if (classOfResponse != null && classOfResponse.isInstance(restModel)) {
+			this.responseModel = restModel;
+			this.responseStatus = status;
+			promise.complete(classOfResponse.cast(restModel));
+		} else {
+			super.send(restModel, status);
+		}
+	}
+
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
 		this.responseBody = body;
 		this.responseStatus = status;
-		T model = JsonUtil.readValue(responseBody, classOfResponse);
-		promise.complete(model);
+		if (classOfResponse == null) {
+			// The caller is not interested in the response body
+			promise.complete();
+		} else if (classOfResponse == String.class) {
+			promise.complete(classOfResponse.cast(body));
+		} else {
+			T model = JsonUtil.readValue(responseBody, classOfResponse);
+			promise.complete(model);
+		}
 	}
 
 	@Override
@@ -151,6 +186,9 @@ public class LocalActionContextImpl<T> extends AbstractInternalActionContext imp
 	 * @return
 	 */
 	public String getResponseBody() {
+		if (responseBody == null && responseModel != null) {
+			responseBody = responseModel.toJson();
+		}
 		return responseBody;
 	}
 
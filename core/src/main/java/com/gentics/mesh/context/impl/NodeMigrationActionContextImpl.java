@@ -227,6 +227,16 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 			}
 
+			@Override
+			public Set<String> getRoleUuidsForPerm(GraphPermission permission) {
+				return new HashSet<>();
+			}
+
+			@Override
+			public void setRoleUuidsForPerm(GraphPermission permission, Set<String> allowedRoles) {
+
+			}
+
 			@Override
 			public boolean update(InternalActionContext ac, EventQueueBatch batch) {
 				return true;
@@ -0,0 +1,227 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.binary.impl.TikaBinaryProcessor;
+import com.gentics.mesh.core.binary.impl.TikaResult;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.storage.BinaryStorage;
+import com.syncleus.ferma.VertexFrame;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Queue which runs the document parser for uploads in the background. The amount of concurrently parsed binaries is limited by the configured parser
+ * concurrency. Once the parser is done the result will be set in all binary fields which reference the binary and which are still awaiting the
+ * extraction. Update events will be sent for the affected contents so that the search index gets updated.
+ * 
+ * The queue only holds a limited amount of binaries. The pending extractions are flagged in the graph. Binaries which did not fit into the queue or which
+ * were not processed before a shutdown will be picked up by {@link #enqueuePending()}.
+ */
+@Singleton
+public class BinaryExtractionQueue {
+
+	private static final Logger log = LoggerFactory.getLogger(BinaryExtractionQueue.class);
+
+	/**
+	 * Maximum amount of binaries which wait for a free parser thread.
+	 */
+	private static final int MAX_QUEUE_SIZE = 1000;
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final TikaBinaryProcessor tikaProcessor;
+
+	private final BinaryStorage binaryStorage;
+
+	private final Provider<EventQueueBatch> batchProvider;
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Binaries which are queued but not yet being processed.
+	 */
+	private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Flag which is set when an extraction was rejected because the queue was full.
+	 */
+	private final AtomicBoolean rescanRequired = new AtomicBoolean();
+
+	@Inject
+	public BinaryExtractionQueue(MeshOptions options, Database db, Lazy<BootstrapInitializer> boot, TikaBinaryProcessor tikaProcessor,
+		BinaryStorage binaryStorage, Provider<EventQueueBatch> batchProvider) {
+		this.db = db;
+		this.boot = boot;
+		this.tikaProcessor = tikaProcessor;
+		this.binaryStorage = binaryStorage;
+		this.batchProvider = batchProvider;
+		int concurrency = Math.max(1, options.getUploadOptions().getParserConcurrency());
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUE_SIZE), r -> {
+			Thread thread = new Thread(r, "mesh-binary-extraction-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Queue the extraction of all binaries which still have fields that await the extraction. This is used to resume the extractions after a restart.
+	 */
+	public void enqueuePending() {
+		Map<String, Set<String>> pending = db.tx(() -> {
+			Map<String, Set<String>> contentTypes = new HashMap<>();
+			Iterator<? extends Binary> it = boot.get().meshRoot().getBinaryRoot().findExtractionPending();
+			while (it.hasNext()) {
+				Binary binary = it.next();
+				Set<String> types = new HashSet<>();
+				for (BinaryGraphField field : binary.findFields()) {
+					if (field.isExtractionPending() && field.getMimeType() != null) {
+						types.add(field.getMimeType());
+					}
+				}
+				if (types.isEmpty()) {
+					binary.setExtractionPending(false);
+				} else {
+					contentTypes.put(binary.getSHA512Sum(), types);
+				}
+			}
+			return contentTypes;
+		});
+		if (!pending.isEmpty()) {
+			log.info("Queueing the extraction of {" + pending.size() + "} binaries");
+		}
+		for (Entry<String, Set<String>> entry : pending.entrySet()) {
+			for (String contentType : entry.getValue()) {
+				enqueue(entry.getKey(), contentType);
+			}
+		}
+	}
+
+	/**
+	 * Queue the extraction of the binary data with the given hash. Requests for a binary which is already queued for the same content type will be ignored
+	 * since the queued extraction will handle all fields which await it.
+	 *
+	 * @param hash
+	 *            SHA512 sum of the binary data
+	 * @param contentType
+	 *            Content type of the upload which determines the parser limit
+	 */
+	public void enqueue(String hash, String contentType) {
+		String key = hash + ":" + contentType;
+		if (!queued.add(key)) {
+			if (log.isDebugEnabled()) {
+				log.debug("Extraction for binary {" + hash + "} with content type {" + contentType + "} is already queued");
+			}
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				queued.remove(key);
+				try {
+					extract(hash, contentType);
+				} catch (Throwable e) {
+					log.error("Background extraction of binary {" + hash + "} failed", e);
+				}
+				// Pick up the rejected binaries once the queue has been drained
+				if (executor.getQueue().isEmpty() && rescanRequired.compareAndSet(true, false)) {
+					enqueuePending();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queued.remove(key);
+			rescanRequired.set(true);
+			if (log.isDebugEnabled()) {
+				log.debug("Extraction queue is full. The binary {" + hash + "} will be queued once the queue has been drained.");
+			}
+		}
+	}
+
+	private void extract(String hash, String contentType) {
+		String binaryUuid = db.tx(() -> {
+			Binary binary = boot.get().meshRoot().getBinaryRoot().findByHash(hash);
+			return binary == null ? null : binary.getUuid();
+		});
+		if (binaryUuid == null) {
+			log.debug("Binary {" + hash + "} was deleted before the extraction was started");
+			return;
+		}
+
+		TikaResult result = null;
+		try (InputStream ins = binaryStorage.openBlockingStream(binaryUuid)) {
+			result = tikaProcessor.parseFile(ins, tikaProcessor.getParserLimit(contentType));
+		} catch (Exception e) {
+			// The fields will not be retried. Otherwise a broken document would be parsed over and over again.
+			log.warn("Tika processing of binary {" + binaryUuid + "} failed", e);
+		}
+		TikaResult parsed = result;
+
+		EventQueueBatch batch = batchProvider.get();
+		db.tx(() -> {
+			Binary binary = boot.get().meshRoot().getBinaryRoot().findByHash(hash);
+			if (binary == null) {
+				return;
+			}
+			boolean otherPending = false;
+			for (BinaryGraphField field : binary.findFields()) {
+				if (!field.isExtractionPending()) {
+					continue;
+				}
+				if (!contentType.equals(field.getMimeType())) {
+					otherPending = true;
+					continue;
+				}
+				if (parsed != null) {
+					tikaProcessor.applyResult(parsed, field);
+					field.setExtracted(true);
+				}
+				field.setExtractionPending(false);
+
+				VertexFrame container = field.outV().next();
+				if (parsed != null && container instanceof NodeGraphFieldContainer) {
+					NodeGraphFieldContainer nodeContainer = (NodeGraphFieldContainer) container;
+					for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+						for (String branchUuid : nodeContainer.getBranches(type)) {
+							batch.add(nodeContainer.onUpdated(branchUuid, type));
+						}
+					}
+				}
+			}
+			binary.setExtractionPending(otherPending);
+		});
+		batch.dispatch();
+	}
+
+}
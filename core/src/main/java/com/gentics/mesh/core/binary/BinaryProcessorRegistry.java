@@ -20,10 +20,15 @@ public class BinaryProcessorRegistry {
 
 	private List<BinaryDataProcessor> processors = new ArrayList<>();
 
+	private final TikaBinaryProcessor tikaProcessor;
+
+	private final MeshUploadOptions uploadOptions;
+
 	@Inject
 	public BinaryProcessorRegistry(MeshOptions options, BasicImageDataProcessor imageProcessor,
 		TikaBinaryProcessor tikaProcessor) {
-		MeshUploadOptions uploadOptions = options.getUploadOptions();
+		this.tikaProcessor = tikaProcessor;
+		this.uploadOptions = options.getUploadOptions();
 
 		// Add built-in processors
 		addProcessor(imageProcessor);
@@ -52,4 +57,29 @@ public class BinaryProcessorRegistry {
 			.filter(p -> p.accepts(contentType))
 			.collect(Collectors.toList());
 	}
+
+	/**
+	 * Return the list of processors which need to process the upload before the upload request is completed. The document parser will be omitted if the
+	 * extraction of the given content type is deferred to the background.
+	 * 
+	 * @param contentType
+	 * @return
+	 */
+	public List<BinaryDataProcessor> getInlineProcessors(String contentType) {
+		boolean deferred = isExtractionDeferred(contentType);
+		return processors.stream()
+			.filter(p -> !(deferred && p == tikaProcessor))
+			.filter(p -> p.accepts(contentType))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Check whether the document parser will process uploads of the given content type in the background.
+	 * 
+	 * @param contentType
+	 * @return
+	 */
+	public boolean isExtractionDeferred(String contentType) {
+		return uploadOptions.isParser() && uploadOptions.isParserInBackground() && tikaProcessor.accepts(contentType);
+	}
 }
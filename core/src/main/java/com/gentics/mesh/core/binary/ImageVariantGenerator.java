@@ -0,0 +1,224 @@
+package com.gentics.mesh.core.binary;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.core.rest.common.FieldTypes.BINARY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.data.schema.DecodedSchema;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
+import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+import dagger.Lazy;
+import io.reactivex.Completable;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Generator for the configured image variants. The variants are written into the image cache when an image gets uploaded or published. Requests for a
+ * variant can thus be answered directly from the cache.
+ * 
+ * The variants of published contents are generated one content after another by a dedicated worker. The worker only queues a limited amount of contents.
+ * Contents which don't fit into the queue will be skipped and their variants will be generated on the first request.
+ */
+@Singleton
+public class ImageVariantGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+	/**
+	 * Maximum amount of published contents which wait for the generation of their variants.
+	 */
+	private static final int MAX_QUEUE_SIZE = 1000;
+
+	private final MeshOptions options;
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	private final ImageManipulator imageManipulator;
+
+	private final Vertx vertx;
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Published contents which are queued but not yet being processed.
+	 */
+	private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+	private MessageConsumer<JsonObject> consumer;
+
+	@Inject
+	public ImageVariantGenerator(MeshOptions options, Database db, Lazy<BootstrapInitializer> boot, ImageManipulator imageManipulator, Vertx vertx) {
+		this.options = options;
+		this.db = db;
+		this.boot = boot;
+		this.imageManipulator = imageManipulator;
+		this.vertx = vertx;
+		this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUE_SIZE), r -> {
+			Thread thread = new Thread(r, "mesh-image-variants");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Check whether any image variants have been configured.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		Map<String, ImageVariantPreset> variants = options.getImageOptions().getVariants();
+		return variants != null && !variants.isEmpty();
+	}
+
+	/**
+	 * Register the event handler which generates the variants for the images of published contents. The handler will only be registered once.
+	 */
+	public synchronized void registerEventHandlers() {
+		if (!isEnabled() || consumer != null) {
+			return;
+		}
+		consumer = vertx.eventBus().consumer(NODE_PUBLISHED.address, (Message<JsonObject> msg) -> {
+			JsonObject event = msg.body();
+			JsonObject project = event.getJsonObject("project");
+			String nodeUuid = event.getString("uuid");
+			String branchUuid = event.getString("branchUuid");
+			String languageTag = event.getString("languageTag");
+			if (project == null || nodeUuid == null || branchUuid == null || languageTag == null) {
+				return;
+			}
+			enqueue(project.getString("uuid"), nodeUuid, branchUuid, languageTag);
+		});
+	}
+
+	/**
+	 * Queue the generation of the variants for the published content. Requests for a content which is already queued will be ignored.
+	 */
+	private void enqueue(String projectUuid, String nodeUuid, String branchUuid, String languageTag) {
+		String key = nodeUuid + ":" + branchUuid + ":" + languageTag;
+		if (!queued.add(key)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				queued.remove(key);
+				try {
+					db.tx(() -> prepare(projectUuid, nodeUuid, branchUuid, languageTag)).blockingAwait();
+				} catch (Throwable e) {
+					log.error("Could not prepare the image variants of node {" + nodeUuid + "}", e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queued.remove(key);
+			if (log.isDebugEnabled()) {
+				log.debug("Image variant queue is full. The variants of node {" + nodeUuid + "} will be generated on request.");
+			}
+		}
+	}
+
+	private Completable prepare(String projectUuid, String nodeUuid, String branchUuid, String languageTag) {
+		Project project = boot.get().projectRoot().findByUuid(projectUuid);
+		if (project == null) {
+			return Completable.complete();
+		}
+		Node node = project.getNodeRoot().findByUuid(nodeUuid);
+		if (node == null) {
+			return Completable.complete();
+		}
+		NodeGraphFieldContainer container = node.getGraphFieldContainer(languageTag, branchUuid, PUBLISHED);
+		if (container == null) {
+			return Completable.complete();
+		}
+		List<Completable> operations = new ArrayList<>();
+		DecodedSchema schema = container.getSchemaContainerVersion().getDecodedSchema();
+		for (int i = 0; i < schema.getFieldCount(); i++) {
+			if (BINARY.toString().equals(schema.getFieldType(i))) {
+				BinaryGraphField field = container.getBinary(schema.getFieldName(i));
+				if (field != null) {
+					operations.add(prepare(field));
+				}
+			}
+		}
+		return Completable.concat(operations);
+	}
+
+	/**
+	 * Prepare the generation of all configured variants for the image of the given field. This method needs to be invoked within a transaction. The returned
+	 * completable does not access the graph and can be subscribed once the binary data has been stored. Errors will be logged and not be passed along.
+	 *
+	 * @param field
+	 * @return
+	 */
+	public Completable prepare(BinaryGraphField field) {
+		if (!isEnabled() || !field.hasProcessableImage()) {
+			return Completable.complete();
+		}
+		Binary binary = field.getBinary();
+		String hash = binary.getSHA512Sum();
+		List<Completable> operations = new ArrayList<>();
+		for (Entry<String, ImageVariantPreset> entry : options.getImageOptions().getVariants().entrySet()) {
+			String name = entry.getKey();
+			ImageManipulationParameters parameters = createParameters(field, entry.getValue());
+			operations.add(imageManipulator.handleResize(binary, parameters)
+				.doOnSuccess(path -> {
+					if (log.isDebugEnabled()) {
+						log.debug("Generated image variant {" + name + "} of binary {" + hash + "} in {" + path + "}");
+					}
+				})
+				.ignoreElement()
+				.doOnError(e -> log.warn("Could not generate image variant {" + name + "} of binary {" + hash + "}", e))
+				.onErrorComplete());
+		}
+		// The variants are generated one after another so that a single upload does not occupy all image workers
+		return Completable.concat(operations);
+	}
+
+	/**
+	 * Create the image parameters of the variant for the given field. The result matches the parameters of a variant request so that the request will hit
+	 * the cached image.
+	 *
+	 * @param field
+	 * @param preset
+	 * @return
+	 */
+	public static ImageManipulationParameters createParameters(BinaryGraphField field, ImageVariantPreset preset) {
+		ImageManipulationParameters parameters = new ImageManipulationParametersImpl().applyVariant(preset);
+		FocalPoint focalPoint = field.getImageFocalPoint();
+		if (focalPoint != null) {
+			parameters.setFocalPoint(focalPoint);
+		}
+		return parameters;
+	}
+
+}
@@ -124,15 +124,7 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				TikaResult pr = parseFile(ins, len);
 
 				Consumer<BinaryGraphField> consumer = field -> {
-					pr.getMetadata().forEach((e, k) -> {
-						field.setMetadata(e, k);
-					});
-					if (pr.getPlainText().isPresent()) {
-						field.setPlainText(pr.getPlainText().get());
-					}
-					if (pr.getLoc().isPresent()) {
-						field.setLocation(pr.getLoc());
-					}
+					applyResult(pr, field);
 				};
 				sub.onSuccess(consumer);
 			} catch (Exception e) {
@@ -196,6 +188,24 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 
 	}
 
+	/**
+	 * Set the metadata, plain text and location of the parser result in the given field.
+	 * 
+	 * @param pr
+	 * @param field
+	 */
+	public void applyResult(TikaResult pr, BinaryGraphField field) {
+		pr.getMetadata().forEach((e, k) -> {
+			field.setMetadata(e, k);
+		});
+		if (pr.getPlainText().isPresent()) {
+			field.setPlainText(pr.getPlainText().get());
+		}
+		if (pr.getLoc().isPresent()) {
+			field.setLocation(pr.getLoc());
+		}
+	}
+
 	public int getParserLimit(String contentType) {
 		boolean isDocument = acceptedDocumentTypes.stream().anyMatch(type -> {
 			return contentType.startsWith(type);
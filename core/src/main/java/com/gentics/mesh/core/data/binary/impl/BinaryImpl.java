@@ -33,6 +33,9 @@ public class BinaryImpl extends MeshVertexImpl implements Binary {
 		index.createIndex(vertexIndex(BinaryImpl.class)
 			.withField(Binary.SHA512SUM_KEY, FieldType.STRING)
 			.unique());
+		index.createIndex(vertexIndex(BinaryImpl.class)
+			.withName("binary.extractionPending")
+			.withField(Binary.EXTRACTION_PENDING_KEY, FieldType.BOOLEAN));
 	}
 
 	@Override
@@ -12,6 +12,7 @@ import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.binary.BinaryRoot;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.util.ETag;
 import com.syncleus.ferma.FramedGraph;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
@@ -40,6 +41,8 @@ public class BinaryRootImpl extends MeshVertexImpl implements BinaryRoot {
 	public Binary create(String uuid, String sha512sum, Long size) {
 		Binary binary = getGraph().addFramedVertex(BinaryImpl.class);
 		binary.setSHA512Sum(sha512sum);
+		binary.setETag(ETag.hash(sha512sum));
+		binary.setLastModified(System.currentTimeMillis());
 		binary.setSize(size);
 		binary.setUuid(uuid);
 		addItem(binary);
@@ -63,4 +66,11 @@ public class BinaryRootImpl extends MeshVertexImpl implements BinaryRoot {
 		return null;
 	}
 
+	@Override
+	public Iterator<? extends Binary> findExtractionPending() {
+		FramedGraph graph = Tx.get().getGraph();
+		Iterator<Vertex> it = database().getVertices(getPersistanceClass(), new String[] { Binary.EXTRACTION_PENDING_KEY }, new Object[] { true });
+		return graph.frameExplicit(it, getPersistanceClass());
+	}
+
 }
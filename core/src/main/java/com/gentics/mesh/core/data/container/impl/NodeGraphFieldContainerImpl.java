@@ -66,6 +66,7 @@ import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.node.impl.MicronodeImpl;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.root.UserRoot;
+import com.gentics.mesh.core.data.schema.DecodedSchema;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -80,7 +81,6 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.node.version.VersionInfo;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
-import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
@@ -140,10 +140,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateDisplayFieldValue() {
-		// TODO use schema storage instead
-		Schema schema = getSchemaContainerVersion().getSchema();
-		String displayFieldName = schema.getDisplayField();
-		FieldSchema fieldSchema = schema.getField(displayFieldName);
+		FieldSchema fieldSchema = getSchemaContainerVersion().getDecodedSchema().getDisplayField();
 		// Only update the display field value if the field can be located
 		if (fieldSchema != null) {
 			GraphField field = getField(fieldSchema);
@@ -225,11 +222,12 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public Set<String> getUrlFieldValues() {
-		SchemaModel schema = getSchemaContainerVersion().getSchema();
+		DecodedSchema schema = getSchemaContainerVersion().getDecodedSchema();
 
 		Set<String> urlFieldValues = new HashSet<>();
-		if (schema.getUrlFields() != null) {
-			for (String urlField : schema.getUrlFields()) {
+		List<String> urlFields = schema.getSchema().getUrlFields();
+		if (urlFields != null) {
+			for (String urlField : urlFields) {
 				FieldSchema fieldSchema = schema.getField(urlField);
 				GraphField field = getField(fieldSchema);
 				if (field instanceof StringGraphFieldImpl) {
@@ -265,10 +263,14 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	 */
 	private void updateWebrootUrlFieldsInfo(GraphFieldContainerEdge edge, String branchUuid, Set<String> urlFieldValues, ContainerType type) {
 		if (urlFieldValues != null && !urlFieldValues.isEmpty()) {
+			Node node = getParentNode();
 			// Individually check each url
 			for (String urlFieldValue : urlFieldValues) {
 				Object key = GraphFieldContainerEdgeImpl.composeWebrootUrlFieldIndexKey(db(), urlFieldValue, branchUuid, type);
 				GraphFieldContainerEdge conflictingEdge = mesh().database().index().checkIndexUniqueness(WEBROOT_URLFIELD_INDEX_NAME, edge, key);
+				if (conflictingEdge == null && options().getContentOptions().isLazyBranches()) {
+					conflictingEdge = otherNodeEdge(node, node.findUrlFieldEdge(urlFieldValue, branchUuid, type));
+				}
 				if (conflictingEdge != null) {
 					NodeGraphFieldContainer conflictingContainer = conflictingEdge.getNodeContainer();
 					Node conflictingNode = conflictingEdge.getNode();
@@ -296,6 +298,23 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	}
 
+	/**
+	 * Return the given edge if it belongs to another node. The index of a lazy branch does not contain the nodes which are still read from the previous
+	 * branch. Their edges are located via {@link Node#findWebrootEdge(String, String, ContainerType)} or
+	 * {@link Node#findUrlFieldEdge(String, String, ContainerType)} to prevent that a value gets taken which would later on fail the materialization of the
+	 * other node.
+	 * 
+	 * @param node
+	 * @param edge
+	 * @return Edge of the other node or null
+	 */
+	private static GraphFieldContainerEdge otherNodeEdge(Node node, GraphFieldContainerEdge edge) {
+		if (edge == null || edge.getNode().getUuid().equals(node.getUuid())) {
+			return null;
+		}
+		return edge;
+	}
+
 	@Override
 	public void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n) {
 		Set<String> urlFieldValues = getUrlFieldValues();
@@ -329,7 +348,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		ContainerType type) {
 		final int MAX_NUMBER = 255;
 		Node node = getParentNode();
-		String segmentFieldName = getSchemaContainerVersion().getSchema().getSegmentField();
+		String segmentFieldName = getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName();
 		String languageTag = getLanguageTag();
 
 		// Handle node migration conflicts automagically
@@ -381,6 +400,9 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 			Object webRootIndexKey = GraphFieldContainerEdgeImpl.composeWebrootIndexKey(db(), segmentInfo, branchUuid, type);
 			// check for uniqueness of webroot path
 			GraphFieldContainerEdge conflictingEdge = db().index().checkIndexUniqueness(WEBROOT_INDEX_NAME, edge, webRootIndexKey);
+			if (conflictingEdge == null && options().getContentOptions().isLazyBranches()) {
+				conflictingEdge = otherNodeEdge(node, node.findWebrootEdge(segmentInfo, branchUuid, type));
+			}
 			if (conflictingEdge != null) {
 				Node conflictingNode = conflictingEdge.getNode();
 				NodeGraphFieldContainer conflictingContainer = conflictingEdge.getNodeContainer();
@@ -675,7 +697,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public String getSegmentFieldValue() {
-		String segmentFieldKey = getSchemaContainerVersion().getSchema().getSegmentField();
+		String segmentFieldKey = getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName();
 		// 1. The container may reference a schema which has no segment field set thus no path segment can be determined
 		if (segmentFieldKey == null) {
 			return null;
@@ -699,7 +721,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void postfixSegmentFieldValue() {
-		String segmentFieldKey = getSchemaContainerVersion().getSchema().getSegmentField();
+		String segmentFieldKey = getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName();
 		// 1. The container may reference a schema which has no segment field set thus no path segment can be determined
 		if (segmentFieldKey == null) {
 			return;
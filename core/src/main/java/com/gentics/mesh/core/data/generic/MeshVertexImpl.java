@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.generic;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -119,6 +120,24 @@ public class MeshVertexImpl extends AbstractVertexFrame implements MeshVertex {
 		// TODO Also handle RootVertex - We need to add a dedicated event in those cases.
 	}
 
+	@Override
+	public Set<String> getRoleUuidsForPerm(GraphPermission permission) {
+		Set<String> roleUuids = property(permission.roleSetKey());
+		if (roleUuids == null) {
+			return new HashSet<>();
+		}
+		return new HashSet<>(roleUuids);
+	}
+
+	@Override
+	public void setRoleUuidsForPerm(GraphPermission permission, Set<String> allowedRoles) {
+		if (allowedRoles == null || allowedRoles.isEmpty()) {
+			removeProperty(permission.roleSetKey());
+		} else {
+			property(permission.roleSetKey(), allowedRoles);
+		}
+	}
+
 	@Override
 	public String getElementVersion() {
 		Vertex vertex = getElement();
@@ -17,6 +17,8 @@ import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.ProjectImportJobImpl;
+import com.gentics.mesh.core.data.job.impl.SubtreeOperationJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
@@ -142,6 +144,8 @@ public final class DatabaseHelper {
 		NodeMigrationJobImpl.init(type, index);
 		MicronodeMigrationJobImpl.init(type, index);
 		BranchMigrationJobImpl.init(type, index);
+		SubtreeOperationJobImpl.init(type, index);
+		ProjectImportJobImpl.init(type, index);
 
 		// Field changes
 		FieldTypeChangeImpl.init(type, index);
@@ -16,6 +16,7 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -91,6 +92,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The cached role sets of the users are no longer valid
+		mesh().permissionCache().invalidateUser(user.id());
 	}
 
 	@Override
@@ -99,7 +102,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(user.id());
 	}
 
 	@Override
@@ -112,10 +115,13 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			affectedUserIds.add(user.id());
 		}
-
+		// The cached role sets of the users are no longer valid
+		mesh().permissionCache().invalidateUsers(affectedUserIds);
 	}
 
 	@Override
@@ -123,10 +129,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			affectedUserIds.add(user.id());
 		}
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(affectedUserIds);
 	}
 
 	@Override
@@ -197,7 +205,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 			bac.inc();
 		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(affectedUsers.stream().map(User::id).collect(Collectors.toSet()));
 	}
 
 	@Override
@@ -113,6 +113,11 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
 			}
+			// Keep the role set of the element in sync with the permission edges
+			Set<String> allowedRoles = vertex.getRoleUuidsForPerm(permission);
+			if (allowedRoles.add(getUuid())) {
+				vertex.setRoleUuidsForPerm(permission, allowedRoles);
+			}
 		}
 	}
 
@@ -153,8 +158,15 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			.peek(Edge::remove)
 			.count();
 
+		for (GraphPermission permission : permissions) {
+			Set<String> allowedRoles = vertex.getRoleUuidsForPerm(permission);
+			if (allowedRoles.remove(getUuid())) {
+				vertex.setRoleUuidsForPerm(permission, allowedRoles);
+			}
+		}
+
 		if (edgesRemoved > 0) {
-			mesh().permissionCache().clear();
+			mesh().permissionCache().invalidateElement(vertex.id());
 		}
 	}
 
@@ -171,6 +183,23 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 	@Override
 	public void delete(BulkActionContext bac) {
 		// TODO don't allow deletion of admin role
+		// Only the users which are assigned to the role are affected by the deletion
+		Set<Object> affectedUserIds = new HashSet<>();
+		for (Group group : getGroups()) {
+			for (User user : group.getUsers()) {
+				affectedUserIds.add(user.id());
+			}
+		}
+		// Remove the role from the role sets of all elements to which the role grants permissions
+		String uuid = getUuid();
+		for (GraphPermission perm : GraphPermission.values()) {
+			for (MeshVertex element : getElementsWithPermission(perm)) {
+				Set<String> allowedRoles = element.getRoleUuidsForPerm(perm);
+				if (allowedRoles.remove(uuid)) {
+					element.setRoleUuidsForPerm(perm, allowedRoles);
+				}
+			}
+		}
 		// Update all document in the index which reference the uuid of the role
 		for (GraphPermission perm : Arrays.asList(READ_PERM, READ_PUBLISHED_PERM)) {
 			for (MeshVertex element : getElementsWithPermission(perm)) {
@@ -183,7 +212,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		bac.add(onDeleted());
 		getVertex().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUsers(affectedUserIds);
 	}
 
 	@Override
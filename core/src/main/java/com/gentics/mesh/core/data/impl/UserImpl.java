@@ -20,6 +20,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -332,6 +333,17 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		PermissionCache permissionCache = mesh().permissionCache();
 		if (permissionCache.hasPermission(id(), permission, elementId)) {
 			return true;
+		} else if (options().getStorageOptions().isRoleSetPermissions()) {
+			if (hasPermissionViaRoleSet(elementId, permission)) {
+				permissionCache.store(id(), permission, elementId);
+				return true;
+			}
+			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+			if (permission == READ_PUBLISHED_PERM) {
+				return hasPermissionForId(elementId, READ_PERM);
+			} else {
+				return false;
+			}
 		} else {
 			FramedGraph graph = getGraph();
 			// Find all roles that are assigned to the user by checking the
@@ -365,6 +377,36 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	}
 
+	/**
+	 * Check the permission by intersecting the role set of the element with the cached set of role uuids of the user.
+	 * 
+	 * @param elementId
+	 * @param permission
+	 * @return
+	 */
+	private boolean hasPermissionViaRoleSet(Object elementId, GraphPermission permission) {
+		Vertex element = getGraph().getVertex(elementId);
+		if (element == null) {
+			return false;
+		}
+		Set<String> allowedRoles = element.getProperty(permission.roleSetKey());
+		if (allowedRoles == null || allowedRoles.isEmpty()) {
+			return false;
+		}
+		Set<String> userRoles = mesh().permissionCache().getRoleUuids(id(), userId -> {
+			Set<String> roleUuids = new HashSet<>();
+			for (Role role : getRolesViaShortcut()) {
+				roleUuids.add(role.getUuid());
+			}
+			return roleUuids;
+		});
+		// Iterate over the smaller set
+		if (allowedRoles.size() < userRoles.size()) {
+			return allowedRoles.stream().anyMatch(userRoles::contains);
+		}
+		return userRoles.stream().anyMatch(allowedRoles::contains);
+	}
+
 	@Override
 	public boolean hasPermission(MeshVertex vertex, GraphPermission permission) {
 		if (log.isTraceEnabled()) {
@@ -542,10 +584,11 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object userId = id();
 		bac.add(onDeleted());
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateUser(userId);
 	}
 
 	/**
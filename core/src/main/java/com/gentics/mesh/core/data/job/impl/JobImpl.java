@@ -22,6 +22,8 @@ import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.impl.BranchImpl;
 import com.gentics.mesh.core.data.impl.UserImpl;
 import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.JobQueueInfo;
+import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
@@ -33,6 +35,7 @@ import com.gentics.mesh.core.rest.job.JobWarningList;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 
 import io.reactivex.Completable;
@@ -46,6 +49,8 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 
 	private static final Logger log = LoggerFactory.getLogger(JobImpl.class);
 
+	private static final String QUEUE_INFO_CONTEXT_KEY = "jobQueueInfo";
+
 	private static final String ERROR_DETAIL_MAX_LENGTH_MSG = "..." + System.lineSeparator() +
 		"For further details concerning this error please refer to the logs.";
 
@@ -87,6 +92,17 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setCompletionCount(getCompletionCount());
 		response.setNodeName(getNodeName());
 
+		if (isPending()) {
+			JobQueueInfo queueInfo = getQueueInfo(ac).get(getUuid());
+			if (queueInfo != null) {
+				response.setQueuePosition(queueInfo.getPosition());
+				Long estimation = queueInfo.getEstimatedCompletionTimestamp();
+				if (estimation != null) {
+					response.setEstimatedCompletionDate(DateUtils.toISO8601(estimation));
+				}
+			}
+		}
+
 		JobWarningList warnings = getWarnings();
 		if (warnings != null) {
 			response.setWarnings(warnings.getData());
@@ -188,6 +204,33 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	/**
+	 * Return the queue information of the pending jobs. The information is stored in the action context so that it only needs to be determined once when
+	 * a list of jobs gets transformed.
+	 *
+	 * @param ac
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, JobQueueInfo> getQueueInfo(InternalActionContext ac) {
+		JobRoot jobRoot = mesh().boot().jobRoot();
+		if (ac == null) {
+			return jobRoot.getQueueInfo();
+		}
+		return (Map<String, JobQueueInfo>) ac.data().computeIfAbsent(QUEUE_INFO_CONTEXT_KEY, key -> jobRoot.getQueueInfo());
+	}
+
+	@Override
+	public String getLaneKey() {
+		// Jobs of different branches of a project may conflict. A branch migration reads the nodes of the source branch and a version purge affects all
+		// branches. Thus all jobs of a project share one lane.
+		Branch branch = getBranch();
+		if (branch != null) {
+			return "project." + branch.getProject().getUuid();
+		}
+		return "global";
+	}
+
 	@Override
 	public Branch getBranch() {
 		return out(HAS_BRANCH, BranchImpl.class).nextOrNull();
@@ -4,16 +4,19 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_JOB;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
-import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
-import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -29,13 +32,14 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.JobQueueInfo;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.data.node.SubtreeOperation;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.root.impl.AbstractRootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
-import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.madl.traversal.TraversalResult;
@@ -177,6 +181,37 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return enqueueVersionPurge(user, project, null);
 	}
 
+	@Override
+	public Job enqueueSubtreeOperation(User user, Branch branch, String nodeUuid, SubtreeOperation operation) {
+		SubtreeOperationJobImpl job = getGraph().addFramedVertex(SubtreeOperationJobImpl.class);
+		job.setType(JobType.subtree);
+		job.setStatus(QUEUED);
+		job.setBranch(branch);
+		job.setNodeUuid(nodeUuid);
+		job.setOperation(operation);
+		job.setUserUuid(user.getUuid());
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued subtree " + operation + " job {" + job.getUuid() + "} for node {" + nodeUuid + "}");
+		}
+		return job;
+	}
+
+	@Override
+	public Job enqueueProjectImport(User user, Branch branch, String filePath) {
+		ProjectImportJobImpl job = getGraph().addFramedVertex(ProjectImportJobImpl.class);
+		job.setType(JobType.projectimport);
+		job.setStatus(QUEUED);
+		job.setBranch(branch);
+		job.setFilePath(filePath);
+		job.setUserUuid(user.getUuid());
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued project import job {" + job.getUuid() + "} for file {" + filePath + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
@@ -222,8 +257,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		for (Job job : it) {
 			try {
 				// Don't execute failed or completed jobs again
-				JobStatus jobStatus = job.getStatus();
-				if (job.hasFailed() || (jobStatus == COMPLETED || jobStatus == FAILED || jobStatus == UNKNOWN)) {
+				if (!job.isPending()) {
 					continue;
 				}
 				actions.add(job.process());
@@ -235,6 +269,73 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return Completable.concat(actions);
 	}
 
+	@Override
+	public Set<String> findPendingLanes() {
+		Set<String> lanes = new LinkedHashSet<>();
+		for (Job job : findAll()) {
+			if (job.isPending()) {
+				lanes.add(job.getLaneKey());
+			}
+		}
+		return lanes;
+	}
+
+	@Override
+	public Job findNextPending(String laneKey, Set<String> excludedUuids) {
+		for (Job job : findAll()) {
+			if (job.isPending() && laneKey.equals(job.getLaneKey()) && !excludedUuids.contains(job.getUuid())) {
+				return job;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Map<String, JobQueueInfo> getQueueInfo() {
+		// Load the jobs once and collect the pending jobs per lane in queue order
+		Map<JobType, long[]> totals = new EnumMap<>(JobType.class);
+		Map<String, List<Job>> lanes = new HashMap<>();
+		for (Job job : findAll()) {
+			if (job.isPending()) {
+				lanes.computeIfAbsent(job.getLaneKey(), k -> new ArrayList<>()).add(job);
+				continue;
+			}
+			Long start = job.getStartTimestamp();
+			Long stop = job.getStopTimestamp();
+			if (job.getStatus() != COMPLETED || start == null || stop == null || job.getType() == null) {
+				continue;
+			}
+			long[] total = totals.computeIfAbsent(job.getType(), t -> new long[2]);
+			total[0] += stop - start;
+			total[1]++;
+		}
+
+		long now = System.currentTimeMillis();
+		Map<String, JobQueueInfo> info = new HashMap<>();
+		for (List<Job> lane : lanes.values()) {
+			Long estimation = now;
+			for (int position = 0; position < lane.size(); position++) {
+				Job job = lane.get(position);
+				long[] total = totals.get(job.getType());
+				if (estimation != null && total != null) {
+					long duration = total[0] / total[1];
+					Long start = job.getStartTimestamp();
+					if (start != null) {
+						// The job is already running
+						estimation = Math.max(estimation, start + duration);
+					} else {
+						estimation += duration;
+					}
+				} else {
+					// No estimation is possible for this job and all jobs which are queued behind it
+					estimation = null;
+				}
+				info.put(job.getUuid(), new JobQueueInfo(position, estimation));
+			}
+		}
+		return info;
+	}
+
 	@Override
 	public void purgeFailed() {
 		log.info("Purging failed jobs..");
@@ -0,0 +1,154 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.io.File;
+import java.util.Map;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.endpoint.project.ProjectImporter;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.warning.JobWarning;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which imports a project export file into a branch. The imported, failed and skipped entries are stored in the job once the import has been finished.
+ * The file will be kept for a retry when the job fails and deleted together with the job.
+ */
+public class ProjectImportJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectImportJobImpl.class);
+
+	private static final String FILE_PATH_PROPERTY = "filePath";
+
+	private static final String USER_UUID_PROPERTY = "userUuid";
+
+	private static final String FAILED_PROPERTY = "failedCount";
+
+	private static final String MISSING_BINARIES_PROPERTY = "missingBinaries";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(ProjectImportJobImpl.class, MeshVertexImpl.class);
+	}
+
+	/**
+	 * Return the path of the uploaded export file.
+	 *
+	 * @return
+	 */
+	public String getFilePath() {
+		return property(FILE_PATH_PROPERTY);
+	}
+
+	public void setFilePath(String path) {
+		property(FILE_PATH_PROPERTY, path);
+	}
+
+	/**
+	 * Return the uuid of the user which will be used to import the entries. Only the uuid is stored to avoid contention on the user vertex.
+	 *
+	 * @return
+	 */
+	public String getUserUuid() {
+		return property(USER_UUID_PROPERTY);
+	}
+
+	public void setUserUuid(String uuid) {
+		property(USER_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	public JobResponse transformToRestSync(InternalActionContext ac, int level, String... languageTags) {
+		JobResponse response = super.transformToRestSync(ac, level, languageTags);
+		Map<String, String> props = response.getProperties();
+		Long failed = property(FAILED_PROPERTY);
+		if (failed != null) {
+			props.put("failed", String.valueOf(failed));
+		}
+		Long missingBinaries = property(MISSING_BINARIES_PROPERTY);
+		if (missingBinaries != null) {
+			props.put("missingBinaries", String.valueOf(missingBinaries));
+		}
+		return response;
+	}
+
+	@Override
+	public void delete(BulkActionContext bac) {
+		String path = getFilePath();
+		if (path != null) {
+			new File(path).delete();
+		}
+		super.delete(bac);
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			ProjectImporter importer = new ProjectImporter(db(), mesh().boot(), mesh().handlerUtilities(), createActionContext(),
+				new File(mesh().options().getUploadOptions().getTempDirectory()));
+			File file = new File(db().tx(() -> getFilePath()));
+			db().tx(() -> {
+				setStatus(RUNNING);
+				setCompletionCount(0);
+			});
+			importer.importFile(file);
+			db().tx(() -> {
+				setCompletionCount(importer.getImported());
+				property(FAILED_PROPERTY, importer.getFailed());
+				property(MISSING_BINARIES_PROPERTY, importer.getMissingBinaries());
+				JobWarningList warnings = new JobWarningList();
+				for (String error : importer.getErrors()) {
+					JobWarning warning = new JobWarning();
+					warning.setType("import-error");
+					warning.setMessage(error);
+					warnings.add(warning);
+				}
+				setWarnings(warnings);
+			});
+			file.delete();
+		}).doOnComplete(() -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(COMPLETED);
+				log.info("Project import job {" + getUuid() + "} completed.");
+			});
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+				log.error("Project import job {" + getUuid() + "} failed.", error);
+			});
+		});
+	}
+
+	private LocalActionContextImpl<GenericMessageResponse> createActionContext() {
+		String userUuid = db().tx(() -> getUserUuid());
+		MeshAuthUser user = db().tx(() -> mesh().boot().userRoot().findMeshAuthUserByUuid(userUuid));
+		if (user == null) {
+			throw new RuntimeException("The user {" + userUuid + "} of the project import job could not be found");
+		}
+		Branch branch = db().tx(() -> getBranch());
+		String branchUuid = db().tx(() -> branch.getUuid());
+		LocalActionContextImpl<GenericMessageResponse> ac = new LocalActionContextImpl<>(user, GenericMessageResponse.class,
+			new VersioningParametersImpl().setBranch(branchUuid));
+		ac.setProject(db().tx(() -> branch.getProject().getName()));
+		return ac;
+	}
+
+}
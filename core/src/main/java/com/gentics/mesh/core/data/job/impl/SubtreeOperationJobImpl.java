@@ -0,0 +1,132 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.SubtreeOperation;
+import com.gentics.mesh.core.node.maintenance.SubtreeOperationHandler;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which applies a recursive delete, publish or take offline operation to a subtree of nodes. The job can be resumed after a failure since the
+ * subtree will be collected again and already handled nodes will be skipped.
+ */
+public class SubtreeOperationJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(SubtreeOperationJobImpl.class);
+
+	private static final String NODE_UUID_PROPERTY = "nodeUuid";
+
+	private static final String OPERATION_PROPERTY = "operation";
+
+	private static final String USER_UUID_PROPERTY = "userUuid";
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(SubtreeOperationJobImpl.class, MeshVertexImpl.class);
+	}
+
+	public String getNodeUuid() {
+		return property(NODE_UUID_PROPERTY);
+	}
+
+	public void setNodeUuid(String uuid) {
+		property(NODE_UUID_PROPERTY, uuid);
+	}
+
+	public SubtreeOperation getOperation() {
+		String operation = property(OPERATION_PROPERTY);
+		return operation == null ? null : SubtreeOperation.valueOf(operation);
+	}
+
+	public void setOperation(SubtreeOperation operation) {
+		property(OPERATION_PROPERTY, operation.name());
+	}
+
+	/**
+	 * Return the uuid of the user which will be used to apply the operation. Only the uuid is stored to avoid contention on the user vertex.
+	 *
+	 * @return
+	 */
+	public String getUserUuid() {
+		return property(USER_UUID_PROPERTY);
+	}
+
+	public void setUserUuid(String uuid) {
+		property(USER_UUID_PROPERTY, uuid);
+	}
+
+	@Override
+	protected Completable processTask() {
+		return Completable.fromAction(() -> {
+			SubtreeOperationHandler handler = mesh().subtreeOperationHandler();
+			SubtreeOperation operation = db().tx(() -> getOperation());
+			Branch branch = db().tx(() -> getBranch());
+			Project project = db().tx(() -> branch.getProject());
+			InternalActionContext ac = createActionContext(project, branch, operation);
+
+			// Collect the remaining subtree. Nodes which were handled by a previous run will be skipped.
+			List<String> uuids = db().tx(() -> {
+				Node node = project.getNodeRoot().findByUuid(getNodeUuid());
+				if (node == null) {
+					return Collections.<String>emptyList();
+				}
+				return handler.collect(node, branch.getUuid(), operation);
+			});
+			db().tx(() -> {
+				setStatus(RUNNING);
+				setCompletionCount(0);
+			});
+			// Each chunk is applied under the write lock so that the job does not conflict with concurrent write requests
+			handler.process(ac, project, branch, operation, uuids, count -> {
+				db().tx(() -> setCompletionCount(count));
+			});
+		}).doOnComplete(() -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(COMPLETED);
+				log.info("Subtree job {" + getUuid() + "} for node {" + getNodeUuid() + "} completed.");
+			});
+		}).doOnError(error -> {
+			db().tx(() -> {
+				setStopTimestamp();
+				setStatus(FAILED);
+				setError(error);
+				log.error("Subtree job {" + getUuid() + "} for node {" + getNodeUuid() + "} failed.", error);
+			});
+		});
+	}
+
+	private InternalActionContext createActionContext(Project project, Branch branch, SubtreeOperation operation) {
+		String userUuid = db().tx(() -> getUserUuid());
+		MeshAuthUser user = db().tx(() -> mesh().boot().userRoot().findMeshAuthUserByUuid(userUuid));
+		if (user == null) {
+			throw new RuntimeException("The user {" + userUuid + "} of the subtree job could not be found");
+		}
+		String branchUuid = db().tx(() -> branch.getUuid());
+		LocalActionContextImpl<GenericMessageResponse> ac = new LocalActionContextImpl<>(user, GenericMessageResponse.class,
+			new VersioningParametersImpl().setBranch(branchUuid),
+			new DeleteParametersImpl().setRecursive(operation == SubtreeOperation.DELETE));
+		ac.setProject(db().tx(() -> project.getName()));
+		return ac;
+	}
+
+}
@@ -41,6 +41,15 @@ public class VersionPurgeJobImpl extends JobImpl {
 		setSingleLinkOutTo(project, HAS_PROJECT);
 	}
 
+	@Override
+	public String getLaneKey() {
+		Project project = getProject();
+		if (project != null) {
+			return "project." + project.getUuid();
+		}
+		return super.getLaneKey();
+	}
+
 	public Optional<ZonedDateTime> getMaxAge() {
 		Long maxAge = getProperty(MAX_AGE_PROPERTY);
 		return Optional.ofNullable(maxAge).map(DateUtils::toZonedDateTime);
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.node.field;
 
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.field.list.ListGraphField;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.handler.ActionContext;
 import com.syncleus.ferma.AbstractVertexFrame;
@@ -40,6 +41,15 @@ public abstract class AbstractBasicField<T extends Field> implements BasicGraphF
 		return parentContainer;
 	}
 
+	/**
+	 * Check whether the field is an item of a list field. The values of list items are stored within the list vertex.
+	 * 
+	 * @return
+	 */
+	protected boolean isListItem() {
+		return parentContainer instanceof ListGraphField;
+	}
+
 	/**
 	 * Set the parent container for the field.
 	 * 
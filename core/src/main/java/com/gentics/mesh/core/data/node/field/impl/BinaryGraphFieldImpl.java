@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,9 +32,11 @@ import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariant;
 import com.gentics.mesh.core.rest.node.field.image.Point;
 import com.gentics.mesh.core.rest.node.field.impl.BinaryFieldImpl;
 import com.gentics.mesh.dagger.MeshComponent;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.util.NodeUtil;
 
@@ -103,6 +106,9 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 
 		// Handle Update - Dominant Color
 		if (binaryField.getDominantColor() != null) {
+			if (!binaryField.getDominantColor().equals(graphBinaryField.getImageDominantColor())) {
+				graphBinaryField.setExtracted(false);
+			}
 			graphBinaryField.setImageDominantColor(binaryField.getDominantColor());
 		}
 
@@ -140,6 +146,9 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		// Handle Update - Metadata
 		BinaryMetadata metaData = binaryField.getMetadata();
 		if (metaData != null) {
+			if (!isSameMetadata(graphBinaryField, metaData)) {
+				graphBinaryField.setExtracted(false);
+			}
 			graphBinaryField.clearMetadata();
 			for (Entry<String, String> entry : metaData.getMap().entrySet()) {
 				graphBinaryField.setMetadata(entry.getKey(), entry.getValue());
@@ -153,6 +162,9 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		// Handle Update - Plain text
 		String text = binaryField.getPlainText();
 		if (text != null) {
+			if (!text.equals(graphBinaryField.getPlainText())) {
+				graphBinaryField.setExtracted(false);
+			}
 			graphBinaryField.setPlainText(text);
 		}
 
@@ -163,6 +175,25 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		return container.getBinary(fieldSchema.getName());
 	};
 
+	/**
+	 * Check whether the given metadata matches the metadata which is stored in the field.
+	 *
+	 * @param field
+	 * @param metaData
+	 * @return
+	 */
+	private static boolean isSameMetadata(BinaryGraphField field, BinaryMetadata metaData) {
+		if (!metaData.getMap().equals(field.getMetadataProperties())) {
+			return false;
+		}
+		Location loc = metaData.getLocation();
+		if (loc == null) {
+			return true;
+		}
+		return Objects.equals(loc.getLon(), field.getLocationLongitude()) && Objects.equals(loc.getLat(), field.getLocationLatitude())
+			&& Objects.equals(loc.getAlt(), field.getLocationAltitude());
+	}
+
 	@Override
 	public BinaryField transformToRest(ActionContext ac) {
 		BinaryField restModel = new BinaryFieldImpl();
@@ -185,6 +216,19 @@ public class BinaryGraphFieldImpl extends MeshEdgeImpl implements BinaryGraphFie
 		restModel.setMetadata(metaData);
 
 		restModel.setPlainText(getPlainText());
+
+		if (hasProcessableImage()) {
+			Map<String, ImageVariantPreset> presets = options().getImageOptions().getVariants();
+			if (presets != null && !presets.isEmpty()) {
+				List<ImageVariant> variants = new ArrayList<>();
+				for (Entry<String, ImageVariantPreset> entry : presets.entrySet()) {
+					ImageVariantPreset preset = entry.getValue();
+					variants.add(new ImageVariant().setName(entry.getKey()).setWidth(preset.getWidth()).setHeight(preset.getHeight()).setCrop(preset
+						.getCrop()));
+				}
+				restModel.setVariants(variants);
+			}
+		}
 		return restModel;
 	}
 
@@ -12,6 +12,7 @@ import com.gentics.mesh.core.data.node.field.FieldUpdater;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.HtmlGraphField;
 import com.gentics.mesh.core.graph.GraphAttribute;
+import com.gentics.mesh.core.link.LinkTokens;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.HtmlField;
 import com.gentics.mesh.core.rest.node.field.impl.HtmlFieldImpl;
@@ -22,6 +23,8 @@ import com.syncleus.ferma.AbstractVertexFrame;
 
 public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements HtmlGraphField {
 
+	private static final String LINKS_PROPERTY = "links";
+
 	public static FieldTransformer<HtmlField> HTML_TRANSFORMER = (container, ac, fieldKey, fieldSchema, languageTags, level, parentNode) -> {
 		MeshComponent mesh = container.getGraphAttribute(GraphAttribute.MESH_COMPONENT);
 		HtmlGraphField graphHtmlField = container.getHtml(fieldKey);
@@ -36,7 +39,7 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 					project = parentNode.get().getProject();
 				}
 				field.setHTML(mesh.webRootLinkReplacer().replace(ac, ac.getBranch().getUuid(),
-						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getHTML(),
+						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getHTML(), graphHtmlField.getLinkTokens(),
 						ac.getNodeParameters().getResolveLinks(), project.getName(), languageTags));
 			}
 			return field;
@@ -85,6 +88,18 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 	@Override
 	public void setHtml(String html) {
 		setFieldProperty("html", html);
+		// List items are not tokenized since the list only stores the values. Their tokens are created on read.
+		if (!isListItem()) {
+			setFieldProperty(LINKS_PROPERTY, html == null ? null : LinkTokens.parse(html).encode());
+		}
+	}
+
+	@Override
+	public LinkTokens getLinkTokens() {
+		if (isListItem()) {
+			return null;
+		}
+		return LinkTokens.decode(getFieldProperty(LINKS_PROPERTY));
 	}
 
 	@Override
@@ -105,6 +120,9 @@ public class HtmlGraphFieldImpl extends AbstractBasicField<HtmlField> implements
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		//TODO remove the vertex from the graph if it is no longer be used by other containers 
 		setFieldProperty("html", null);
+		if (!isListItem()) {
+			setFieldProperty(LINKS_PROPERTY, null);
+		}
 		setFieldKey(null);
 	}
 
@@ -16,6 +16,7 @@ import com.gentics.mesh.core.data.node.field.FieldUpdater;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.graph.GraphAttribute;
+import com.gentics.mesh.core.link.LinkTokens;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
@@ -27,6 +28,8 @@ import com.syncleus.ferma.AbstractVertexFrame;
 
 public class StringGraphFieldImpl extends AbstractBasicField<StringField> implements StringGraphField {
 
+	private static final String LINKS_PROPERTY = "links";
+
 	public static FieldTransformer<StringField> STRING_TRANSFORMER = (container, ac, fieldKey, fieldSchema, languageTags, level, parentNode) -> {
 		MeshComponent mesh = container.getGraphAttribute(GraphAttribute.MESH_COMPONENT);
 		// TODO validate found fields has same type as schema
@@ -43,7 +46,7 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 					project = parentNode.get().getProject();
 				}
 				field.setString(mesh.webRootLinkReplacer().replace(ac, ac.getBranch().getUuid(),
-						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getString(),
+						ContainerType.forVersion(ac.getVersioningParameters().getVersion()), field.getString(), graphStringField.getLinkTokens(),
 						ac.getNodeParameters().getResolveLinks(), project.getName(), languageTags));
 			}
 			return field;
@@ -102,6 +105,18 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 	@Override
 	public void setString(String string) {
 		setFieldProperty("string", string);
+		// List items are not tokenized since the list only stores the values. Their tokens are created on read.
+		if (!isListItem()) {
+			setFieldProperty(LINKS_PROPERTY, string == null ? null : LinkTokens.parse(string).encode());
+		}
+	}
+
+	@Override
+	public LinkTokens getLinkTokens() {
+		if (isListItem()) {
+			return null;
+		}
+		return LinkTokens.decode(getFieldProperty(LINKS_PROPERTY));
 	}
 
 	@Override
@@ -125,6 +140,9 @@ public class StringGraphFieldImpl extends AbstractBasicField<StringField> implem
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		setFieldProperty("string", null);
+		if (!isListItem()) {
+			setFieldProperty(LINKS_PROPERTY, null);
+		}
 		setFieldKey(null);
 	}
 
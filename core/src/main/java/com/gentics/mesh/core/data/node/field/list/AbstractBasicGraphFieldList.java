@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIS
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -12,10 +13,16 @@ import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
+import com.tinkerpop.blueprints.Vertex;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as a single
+ * native list property ({@link #VALUES_PROPERTY_KEY}) within the vertex that represents the list.
+ *
+ * Lists which were written by older versions store each item in a dedicated <code>item-[index]-[suffix]</code> property. Those lists can still be read and
+ * will be converted to the new layout once they get modified.
+ *
+ * The item fields which are returned by {@link #getList()} access the values via the item property keys. Those keys are mapped onto the values list.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -26,60 +33,224 @@ import com.gentics.mesh.util.CompareUtils;
  */
 public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
 
+	/**
+	 * Property which stores the values of the list.
+	 */
+	public static final String VALUES_PROPERTY_KEY = "values";
+
+	private static final String ITEM_PREFIX = "item-";
+
 	/**
 	 * Create a new field wrapper which is used to handle the field value.
-	 * 
+	 *
 	 * @param key
 	 * @return
 	 */
 	protected abstract T createField(String key);
 
-	protected T convertBasicValue(String itemKey) {
-		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
-		return createField(key);
+	/**
+	 * Return the suffix of the item property keys which hold the item values (e.g. <code>string</code> for <code>item-1-string</code>).
+	 *
+	 * @return
+	 */
+	protected abstract String getItemSuffix();
+
+	/**
+	 * Convert the value of an item property into the value which is stored in the values list.
+	 *
+	 * @param itemValue
+	 * @return
+	 */
+	protected Object toStoredValue(Object itemValue) {
+		return itemValue;
+	}
+
+	/**
+	 * Convert the value which is stored in the values list into the value of the item property.
+	 *
+	 * @param storedValue
+	 * @return
+	 */
+	protected Object toItemValue(Object storedValue) {
+		return storedValue;
 	}
 
 	/**
 	 * Load the field for the given index.
-	 * 
+	 *
 	 * @param index
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		return createField(ITEM_PREFIX + index);
 	}
 
 	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+		return createField(ITEM_PREFIX + (getSize() + 1));
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		List<Object> values = getElement().getProperty(VALUES_PROPERTY_KEY);
+		if (values != null) {
+			return values.size();
+		}
+		return getLegacyItemKeys().size();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
-			setProperty(key, null);
-		}
+		storeValues(new ArrayList<>());
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
 		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
-		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
-			return index1 - index2;
-		}).forEachOrdered(itemKey -> {
-			list.add(convertBasicValue(itemKey));
-		});
+		List<Object> values = getElement().getProperty(VALUES_PROPERTY_KEY);
+		if (values != null) {
+			for (int i = 1; i <= values.size(); i++) {
+				list.add(getField(i));
+			}
+		} else {
+			for (String key : getLegacyItemKeys().values()) {
+				list.add(createField(key.substring(0, key.lastIndexOf("-"))));
+			}
+		}
 		return list;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<U> getValues() {
+		return (List<U>) loadValues();
+	}
+
+	/**
+	 * Replace the values of the list with the given values.
+	 *
+	 * @param values
+	 */
+	public void setValues(List<U> values) {
+		storeValues(new ArrayList<>(values));
+	}
+
+	/**
+	 * Convert the item properties of a list which was written by an older version into the values list.
+	 *
+	 * @return true if the list was converted. Otherwise the list was already using the values list.
+	 */
+	public boolean convertItemProperties() {
+		if (getElement().getProperty(VALUES_PROPERTY_KEY) != null) {
+			return false;
+		}
+		storeValues(loadValues());
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E> E getProperty(String name) {
+		if (name.startsWith(ITEM_PREFIX)) {
+			List<Object> values = getElement().getProperty(VALUES_PROPERTY_KEY);
+			if (values != null) {
+				int index = getItemIndex(name);
+				if (index < 1 || index > values.size() || !isValueKey(name)) {
+					// The values list does not store per item information (e.g. link tokens)
+					return null;
+				}
+				return (E) toItemValue(values.get(index - 1));
+			}
+		}
+		return super.getProperty(name);
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		if (!name.startsWith(ITEM_PREFIX)) {
+			super.setProperty(name, value);
+			return;
+		}
+		if (!isValueKey(name)) {
+			return;
+		}
+		List<Object> values = loadValues();
+		int index = getItemIndex(name) - 1;
+		if (value == null) {
+			if (index < values.size()) {
+				values.remove(index);
+			}
+		} else if (index < values.size()) {
+			values.set(index, toStoredValue(value));
+		} else {
+			values.add(toStoredValue(value));
+		}
+		storeValues(values);
+	}
+
+	/**
+	 * Load a modifiable copy of the stored values.
+	 *
+	 * @return
+	 */
+	private List<Object> loadValues() {
+		Vertex element = getElement();
+		List<Object> values = element.getProperty(VALUES_PROPERTY_KEY);
+		if (values != null) {
+			return new ArrayList<>(values);
+		}
+		List<Object> legacyValues = new ArrayList<>();
+		for (String key : getLegacyItemKeys().values()) {
+			legacyValues.add(toStoredValue(element.getProperty(key)));
+		}
+		return legacyValues;
+	}
+
+	/**
+	 * Store the values and remove the item properties of the old layout.
+	 *
+	 * @param values
+	 */
+	private void storeValues(List<Object> values) {
+		Vertex element = getElement();
+		if (element.getProperty(VALUES_PROPERTY_KEY) == null) {
+			for (String key : new ArrayList<>(element.getPropertyKeys())) {
+				if (key.startsWith(ITEM_PREFIX)) {
+					element.removeProperty(key);
+				}
+			}
+		}
+		element.setProperty(VALUES_PROPERTY_KEY, values);
+	}
+
+	/**
+	 * Return the keys of the item properties of the old layout which hold the values sorted by their index.
+	 *
+	 * @return
+	 */
+	private Map<Integer, String> getLegacyItemKeys() {
+		Map<Integer, String> keys = new TreeMap<>();
+		for (String key : getElement().getPropertyKeys()) {
+			if (key.startsWith(ITEM_PREFIX) && isValueKey(key)) {
+				keys.put(getItemIndex(key), key);
+			}
+		}
+		return keys;
+	}
+
+	private boolean isValueKey(String key) {
+		String suffix = getItemSuffix();
+		return key.endsWith(suffix) && key.charAt(key.length() - suffix.length() - 1) == '-';
+	}
+
+	private int getItemIndex(String key) {
+		int end = key.indexOf('-', ITEM_PREFIX.length());
+		try {
+			return Integer.parseInt(end == -1 ? key.substring(ITEM_PREFIX.length()) : key.substring(ITEM_PREFIX.length(), end));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
 	@Override
 	public void removeField(BulkActionContext bac, GraphFieldContainer container) {
 		container.unlinkOut(this, HAS_LIST);
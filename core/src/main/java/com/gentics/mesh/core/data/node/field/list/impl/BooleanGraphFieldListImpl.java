@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -67,14 +66,13 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		graphBooleanFieldList = container.createBooleanList(fieldKey);
 
 		// Handle Update
-		// Remove all and add the listed items
-		graphBooleanFieldList.removeAll();
+		// Replace the items with the listed items
 		for (Boolean item : booleanList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphBooleanFieldList.createBoolean(item);
 		}
+		graphBooleanFieldList.setValues(booleanList.getItems());
 
 	};
 
@@ -103,6 +101,25 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return new BooleanGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemSuffix() {
+		return "boolean";
+	}
+
+	@Override
+	protected Object toStoredValue(Object itemValue) {
+		// The boolean fields store the flag as string
+		if (itemValue instanceof String) {
+			return "null".equals(itemValue) ? null : Boolean.valueOf((String) itemValue);
+		}
+		return itemValue;
+	}
+
+	@Override
+	protected Object toItemValue(Object storedValue) {
+		return storedValue == null ? null : String.valueOf(storedValue);
+	}
+
 	@Override
 	public Class<? extends BooleanGraphField> getListType() {
 		return BooleanGraphFieldImpl.class;
@@ -116,25 +133,18 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 	@Override
 	public BooleanFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		BooleanFieldListImpl restModel = new BooleanFieldListImpl();
-		for (BooleanGraphField item : getList()) {
-			restModel.add(item.getBoolean());
+		for (Boolean item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Boolean> getValues() {
-		return getList().stream().map(BooleanGraphField::getBoolean).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof BooleanFieldListImpl) {
 			BooleanFieldListImpl restField = (BooleanFieldListImpl) obj;
 			List<Boolean> restList = restField.getItems();
-			List<? extends BooleanGraphField> graphList = getList();
-			List<Boolean> graphStringList = graphList.stream().map(e -> e.getBoolean()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -5,6 +5,7 @@ import static com.gentics.mesh.util.DateUtils.fromISO8601;
 import static com.gentics.mesh.util.DateUtils.toISO8601;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -68,13 +69,14 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		graphDateFieldList = container.createDateList(fieldKey);
 
 		// Handle Update
-		graphDateFieldList.removeAll();
+		List<Long> dates = new ArrayList<>(dateList.getItems().size());
 		for (String item : dateList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphDateFieldList.createDate(fromISO8601(item));
+			dates.add(fromISO8601(item));
 		}
+		graphDateFieldList.setValues(dates);
 
 	};
 
@@ -103,6 +105,25 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return getField(index);
 	}
 
+	@Override
+	protected String getItemSuffix() {
+		return "date";
+	}
+
+	@Override
+	protected Object toStoredValue(Object itemValue) {
+		// The date fields store the timestamp as string
+		if (itemValue instanceof String) {
+			return Long.valueOf((String) itemValue);
+		}
+		return itemValue;
+	}
+
+	@Override
+	protected Object toItemValue(Object storedValue) {
+		return storedValue == null ? null : String.valueOf(storedValue);
+	}
+
 	@Override
 	public Class<? extends DateGraphField> getListType() {
 		return DateGraphFieldImpl.class;
@@ -116,24 +137,18 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 	@Override
 	public DateFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		DateFieldListImpl restModel = new DateFieldListImpl();
-		for (DateGraphField item : getList()) {
-			restModel.add(toISO8601(item.getDate()));
+		for (Long item : getValues()) {
+			restModel.add(toISO8601(item));
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Long> getValues() {
-		return getList().stream().map(DateGraphField::getDate).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof DateFieldListImpl) {
 			DateFieldListImpl restField = (DateFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends DateGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> toISO8601(e.getDate())).collect(Collectors.toList());
+			List<String> graphStringList = getValues().stream().map(e -> toISO8601(e)).collect(Collectors.toList());
 			return CompareUtils.equals(restList, graphStringList);
 		}
 		return super.equals(obj);
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -70,8 +69,8 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphHtmlFieldList.createHTML(item);
 		}
+		graphHtmlFieldList.setValues(htmlList.getItems());
 	};
 
 	public static FieldGetter HTML_LIST_GETTER = (container, fieldSchema) -> {
@@ -99,6 +98,11 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		return getField(index);
 	}
 
+	@Override
+	protected String getItemSuffix() {
+		return "html";
+	}
+
 	@Override
 	public Class<? extends HtmlGraphField> getListType() {
 		return HtmlGraphFieldImpl.class;
@@ -112,25 +116,18 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 	@Override
 	public HtmlFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		HtmlFieldListImpl restModel = new HtmlFieldListImpl();
-		for (HtmlGraphField item : getList()) {
-			restModel.add(item.getHTML());
+		for (String item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<String> getValues() {
-		return getList().stream().map(HtmlGraphField::getHTML).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof HtmlFieldListImpl) {
 			HtmlFieldListImpl restField = (HtmlFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends HtmlGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getHTML()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
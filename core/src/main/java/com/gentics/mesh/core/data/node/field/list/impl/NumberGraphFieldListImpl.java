@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -68,13 +67,12 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		graphNumberFieldList = container.createNumberList(fieldKey);
 
 		// Handle Update
-		graphNumberFieldList.removeAll();
 		for (Number item : numberList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphNumberFieldList.createNumber(item);
 		}
+		graphNumberFieldList.setValues(numberList.getItems());
 
 	};
 
@@ -103,6 +101,11 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		return new NumberGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemSuffix() {
+		return "number";
+	}
+
 	@Override
 	public Class<? extends NumberGraphField> getListType() {
 		return NumberGraphFieldImpl.class;
@@ -116,25 +119,18 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 	@Override
 	public NumberFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		NumberFieldListImpl restModel = new NumberFieldListImpl();
-		for (NumberGraphField item : getList()) {
-			restModel.add(item.getNumber());
+		for (Number item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Number> getValues() {
-		return getList().stream().map(NumberGraphField::getNumber).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof NumberFieldListImpl) {
 			NumberFieldListImpl restField = (NumberFieldListImpl) obj;
 			List<Number> restList = restField.getItems();
-			List<? extends NumberGraphField> graphList = getList();
-			List<Number> graphStringList = graphList.stream().map(e -> e.getNumber()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -67,13 +66,12 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		graphStringList = container.createStringList(fieldKey);
 
 		// Handle Update
-		graphStringList.removeAll();
 		for (String item : stringList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphStringList.createString(item);
 		}
+		graphStringList.setValues(stringList.getItems());
 	};
 
 	public static FieldGetter STRING_LIST_GETTER = (container, fieldSchema) -> {
@@ -101,6 +99,11 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		return new StringGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected String getItemSuffix() {
+		return "string";
+	}
+
 	@Override
 	public Class<? extends StringGraphField> getListType() {
 		return StringGraphFieldImpl.class;
@@ -114,25 +117,18 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 	@Override
 	public StringFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		StringFieldListImpl restModel = new StringFieldListImpl();
-		for (StringGraphField item : getList()) {
-			restModel.add(item.getString());
+		for (String item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<String> getValues() {
-		return getList().stream().map(StringGraphField::getString).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof StringFieldListImpl) {
 			StringFieldListImpl restField = (StringFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends StringGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getString()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.node.impl;
 
 import static com.gentics.mesh.core.data.GraphFieldContainerEdge.WEBROOT_INDEX_NAME;
+import static com.gentics.mesh.core.data.GraphFieldContainerEdge.WEBROOT_URLFIELD_INDEX_NAME;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
@@ -49,8 +50,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -62,6 +66,7 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.BasicFieldContainer;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
@@ -129,6 +134,7 @@ import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.handler.VersionHandler;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.madl.traversal.TraversalResult;
+import com.gentics.mesh.parameter.ChildrenInfoMode;
 import com.gentics.mesh.parameter.DeleteParameters;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.LinkType;
@@ -167,6 +173,27 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Prefix of the properties which store the amount of children per branch and schema.
+	 */
+	public static final String CHILD_COUNT_PROPERTY_PREFIX = "childCount_";
+
+	/**
+	 * Marker property which indicates that the child counters of the node are maintained. The marker is removed when a child is changed while the child
+	 * counters are disabled since the counters of the node will be outdated afterwards.
+	 */
+	public static final String CHILD_COUNT_MAINTAINED_KEY = "childCountMaintained";
+
+	/**
+	 * Prefix of the properties which mark the node as materialized in a branch.
+	 */
+	public static final String MATERIALIZED_PROPERTY_PREFIX = "materialized_";
+
+	/**
+	 * Uuids of the branches which are known to not read through to their previous branch. A branch never reads through again once it has been migrated.
+	 */
+	private static final Set<String> MIGRATED_BRANCH_UUIDS = ConcurrentHashMap.newKeySet();
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class));
 		index.createIndex(edgeIndex(HAS_PARENT_NODE));
@@ -183,6 +210,90 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	}
 
+	@Override
+	protected void init() {
+		super.init();
+		if (options().getContentOptions().isChildCounters()) {
+			property(CHILD_COUNT_MAINTAINED_KEY, true);
+		}
+	}
+
+	/**
+	 * Return the name of the property which stores the child count for the given branch and schema.
+	 * 
+	 * @param branchUuid
+	 * @param schemaUuid
+	 * @return
+	 */
+	public static String childCountKey(String branchUuid, String schemaUuid) {
+		return CHILD_COUNT_PROPERTY_PREFIX + branchUuid + "_" + schemaUuid;
+	}
+
+	/**
+	 * Update the child counter of the given parent vertex. Counters will only be updated if the child counters are enabled and the parent has been marked
+	 * as maintained. The parent vertex is otherwise only written once in order to remove the marker.
+	 * 
+	 * @param parent
+	 * @param branchUuid
+	 * @param schemaUuid
+	 * @param delta
+	 */
+	private void updateChildCount(Vertex parent, String branchUuid, String schemaUuid, long delta) {
+		if (parent == null || branchUuid == null || schemaUuid == null) {
+			return;
+		}
+		if (!Boolean.TRUE.equals(parent.getProperty(CHILD_COUNT_MAINTAINED_KEY))) {
+			return;
+		}
+		if (!options().getContentOptions().isChildCounters()) {
+			parent.removeProperty(CHILD_COUNT_MAINTAINED_KEY);
+			return;
+		}
+		String key = childCountKey(branchUuid, schemaUuid);
+		Number current = parent.getProperty(key);
+		long count = (current == null ? 0 : current.longValue()) + delta;
+		if (count <= 0) {
+			parent.removeProperty(key);
+		} else {
+			parent.setProperty(key, count);
+		}
+	}
+
+	/**
+	 * Decrement the child counters of all parents of this node.
+	 */
+	private void decrementParentChildCounts() {
+		SchemaContainer schema = getSchemaContainer();
+		if (schema == null) {
+			return;
+		}
+		String schemaUuid = schema.getUuid();
+		for (Edge edge : getElement().getEdges(OUT, HAS_PARENT_NODE)) {
+			updateChildCount(edge.getVertex(IN), edge.getProperty(BRANCH_UUID_KEY), schemaUuid, -1);
+		}
+	}
+
+	@Override
+	public Map<String, Long> getChildCounts(String branchUuid) {
+		Map<String, Long> counts = new HashMap<>();
+		// The counters of a lazy branch don't include the children which are still read from the previous branch
+		if (options().getContentOptions().isChildCounters() && Boolean.TRUE.equals(property(CHILD_COUNT_MAINTAINED_KEY))
+			&& findReadThroughBranch(branchUuid) == null) {
+			String prefix = CHILD_COUNT_PROPERTY_PREFIX + branchUuid + "_";
+			for (String key : getPropertyKeys()) {
+				if (key.startsWith(prefix)) {
+					Number count = property(key);
+					counts.put(key.substring(prefix.length()), count.longValue());
+				}
+			}
+		} else {
+			for (Node child : getChildren(branchUuid)) {
+				counts.merge(child.getSchemaContainer().getUuid(), 1L, Long::sum);
+			}
+		}
+		return counts;
+	}
+
 	@Override
 	public String getPathSegment(String branchUuid, ContainerType type, String... languageTag) {
 
@@ -328,22 +439,23 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public TraversalResult<? extends Tag> getTags(Branch branch) {
-		return new TraversalResult<>(TagEdgeImpl.getTagTraversal(this, branch).frameExplicit(TagImpl.class));
+		return new TraversalResult<>(TagEdgeImpl.getTagTraversal(this, readBranch(branch)).frameExplicit(TagImpl.class));
 	}
 
 	@Override
 	public boolean hasTag(Tag tag, Branch branch) {
-		return TagEdgeImpl.hasTag(this, tag, branch);
+		return TagEdgeImpl.hasTag(this, tag, readBranch(branch));
 	}
 
 	@Override
 	public boolean hasPublishedContent(String branchUuid) {
-		return GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), branchUuid, PUBLISHED);
+		return GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), readBranchUuid(branchUuid), PUBLISHED);
 	}
 
 	@Override
 	public TraversalResult<? extends NodeGraphFieldContainer> getGraphFieldContainers(String branchUuid, ContainerType type) {
-		TraversalResult<? extends GraphFieldContainerEdgeImpl> it = GraphFieldContainerEdgeImpl.findEdges(this.getId(), branchUuid, type);
+		TraversalResult<? extends GraphFieldContainerEdgeImpl> it = GraphFieldContainerEdgeImpl.findEdges(this.getId(), readBranchUuid(branchUuid),
+			type);
 		Iterator<NodeGraphFieldContainer> it2 = it.stream().map(e -> e.getNodeContainer()).iterator();
 		return new TraversalResult<>(it2);
 	}
@@ -382,6 +494,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		return getGraphFieldContainer(languageTag, branchUuid, type, NodeGraphFieldContainerImpl.class);
 	}
 
+	@Override
+	protected <U extends BasicFieldContainer> U getGraphFieldContainer(String languageTag, String branchUuid, ContainerType type, Class<U> classOfU) {
+		return super.getGraphFieldContainer(languageTag, readBranchUuid(branchUuid), type, classOfU);
+	}
+
 	@Override
 	public NodeGraphFieldContainer createGraphFieldContainer(String languageTag, Branch branch, User editor) {
 		return createGraphFieldContainer(languageTag, branch, editor, null, true);
@@ -510,17 +627,34 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public TraversalResult<Node> getChildren(String branchUuid) {
+		FramedGraph graph = Tx.get().getGraph();
+		Stream<Node> nstream = getChildVertices(branchUuid).map(vertex -> {
+			return graph.frameElementExplicit(vertex, NodeImpl.class);
+		});
+		return new TraversalResult<>(() -> nstream.iterator());
+	}
+
+	/**
+	 * Return the vertices of the children in the given branch. A lazy branch additionally contains the children of the previous branch which have not yet
+	 * been materialized in the branch.
+	 * 
+	 * @param branchUuid
+	 * @return
+	 */
+	private Stream<Vertex> getChildVertices(String branchUuid) {
 		FramedGraph graph = Tx.get().getGraph();
 		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_branch", db().createComposedIndexKey(id(), branchUuid));
 		Iterator<Edge> it = edges.iterator();
 		Iterable<Edge> iterable = () -> it;
-		Stream<Edge> stream = StreamSupport.stream(iterable.spliterator(), false);
+		Stream<Vertex> stream = StreamSupport.stream(iterable.spliterator(), false).map(edge -> edge.getVertex(OUT));
 
-		Stream<Node> nstream = stream.map(edge -> {
-			Vertex vertex = edge.getVertex(OUT);
-			return graph.frameElementExplicit(vertex, NodeImpl.class);
-		});
-		return new TraversalResult<>(() -> nstream.iterator());
+		Branch branch = findReadThroughBranch(branchUuid);
+		if (branch == null) {
+			return stream;
+		}
+		Stream<Vertex> inherited = getChildVertices(branch.getPreviousBranch().getUuid())
+			.filter(vertex -> !graph.frameElementExplicit(vertex, NodeImpl.class).isMaterialized(branchUuid));
+		return Stream.concat(stream, inherited);
 	}
 
 	@Override
@@ -528,13 +662,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		FramedGraph graph = Tx.get().getGraph();
 		MeshAuthUser user = ac.getUser();
 
-		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_branch",
-			db().createComposedIndexKey(id(), ac.getBranch().getUuid()));
-		Iterator<Edge> it = edges.iterator();
-		Iterable<Edge> iterable = () -> it;
-		Stream<Edge> stream = StreamSupport.stream(iterable.spliterator(), false);
-		return stream
-			.map(edge -> edge.getVertex(OUT))
+		return getChildVertices(ac.getBranch().getUuid())
 			.filter(vertex -> {
 				Object id = vertex.getId();
 				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
@@ -544,21 +672,191 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Node getParentNode(String branchUuid) {
-		FramedGraph graph = Tx.get().getGraph();
-		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_branch_out", db().createComposedIndexKey(id(), branchUuid));
-		Iterator<Edge> it = edges.iterator();
-		if (it.hasNext()) {
-			Vertex in = it.next().getVertex(IN);
-			return graph.frameElementExplicit(in, NodeImpl.class);
+		Edge edge = getParentEdge(readBranchUuid(branchUuid));
+		if (edge != null) {
+			FramedGraph graph = Tx.get().getGraph();
+			return graph.frameElementExplicit(edge.getVertex(IN), NodeImpl.class);
 		} else {
 			return null;
 		}
 	}
 
+	/**
+	 * Return the parent edge of the node in the given branch.
+	 * 
+	 * @param branchUuid
+	 * @return Edge or null if the node has no parent in the branch
+	 */
+	private Edge getParentEdge(String branchUuid) {
+		FramedGraph graph = Tx.get().getGraph();
+		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_branch_out", db().createComposedIndexKey(id(), branchUuid));
+		Iterator<Edge> it = edges.iterator();
+		return it.hasNext() ? it.next() : null;
+	}
+
 	@Override
 	public void setParentNode(String branchUuid, Node parent) {
+		SchemaContainer schema = getSchemaContainer();
+		String schemaUuid = schema == null ? null : schema.getUuid();
+		for (Edge edge : getElement().getEdges(OUT, HAS_PARENT_NODE)) {
+			if (branchUuid.equals(edge.getProperty(BRANCH_UUID_KEY))) {
+				updateChildCount(edge.getVertex(IN), branchUuid, schemaUuid, -1);
+			}
+		}
 		outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(BRANCH_UUID_KEY, branchUuid);
+		updateChildCount(parent.getElement(), branchUuid, schemaUuid, 1);
+	}
+
+	/**
+	 * Return the name of the property which marks the node as materialized in the given branch.
+	 * 
+	 * @param branchUuid
+	 * @return
+	 */
+	public static String materializedKey(String branchUuid) {
+		return MATERIALIZED_PROPERTY_PREFIX + branchUuid;
+	}
+
+	@Override
+	public boolean isMaterialized(String branchUuid) {
+		// The marker is needed to distinguish nodes which have been deleted in the branch from nodes which have not yet been copied into the branch
+		return Boolean.TRUE.equals(property(materializedKey(branchUuid)))
+			|| GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), branchUuid, INITIAL)
+			|| getParentEdge(branchUuid) != null;
+	}
+
+	/**
+	 * Return the given branch if it is a lazy branch which has not yet been migrated and thus reads through to its previous branch.
+	 * 
+	 * @param branchUuid
+	 * @return Branch or null if the branch does not read through
+	 */
+	private Branch findReadThroughBranch(String branchUuid) {
+		if (branchUuid == null || !options().getContentOptions().isLazyBranches() || MIGRATED_BRANCH_UUIDS.contains(branchUuid)) {
+			return null;
+		}
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		return readsThrough(branch) ? branch : null;
+	}
+
+	private static boolean readsThrough(Branch branch) {
+		if (branch == null) {
+			return false;
+		}
+		String uuid = branch.getUuid();
+		if (MIGRATED_BRANCH_UUIDS.contains(uuid)) {
+			return false;
+		}
+		if (branch.isMigrated() || branch.getPreviousBranch() == null) {
+			MIGRATED_BRANCH_UUIDS.add(uuid);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Return the branch from which the contents, structure and tags of the node must be read. Lazy branches read through to their previous branch until the
+	 * node has been materialized in the branch or the branch has been migrated.
+	 * 
+	 * @param branch
+	 * @return
+	 */
+	private Branch readBranch(Branch branch) {
+		if (branch == null || !options().getContentOptions().isLazyBranches()) {
+			return branch;
+		}
+		while (readsThrough(branch) && !isMaterialized(branch.getUuid())) {
+			branch = branch.getPreviousBranch();
+		}
+		return branch;
+	}
+
+	/**
+	 * Return the uuid of the branch from which the node must be read.
+	 * 
+	 * @see #readBranch(Branch)
+	 * @param branchUuid
+	 * @return
+	 */
+	private String readBranchUuid(String branchUuid) {
+		if (branchUuid == null || !options().getContentOptions().isLazyBranches() || MIGRATED_BRANCH_UUIDS.contains(branchUuid)) {
+			return branchUuid;
+		}
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		return branch == null ? branchUuid : readBranch(branch).getUuid();
+	}
+
+	@Override
+	public boolean migrateToBranch(Branch oldBranch, Branch newBranch, EventQueueBatch batch) {
+		String newBranchUuid = newBranch.getUuid();
+		if (isMaterialized(newBranchUuid)) {
+			return false;
+		}
+		property(materializedKey(newBranchUuid), true);
+
+		Node parent = getParentNode(oldBranch.getUuid());
+		if (parent != null) {
+			setParentNode(newBranchUuid, parent);
+		}
+
+		List<? extends NodeGraphFieldContainer> drafts = getGraphFieldContainers(oldBranch, DRAFT).list();
+		List<? extends NodeGraphFieldContainer> published = getGraphFieldContainers(oldBranch, PUBLISHED).list();
+
+		// 1. Migrate draft containers first
+		for (NodeGraphFieldContainer container : drafts) {
+			// We only need to set the initial edge if there are no published containers.
+			// Otherwise the initial edge will be set using the published container.
+			if (published.isEmpty()) {
+				addBranchEdge(container, newBranchUuid, INITIAL, null);
+			}
+			addBranchEdge(container, newBranchUuid, DRAFT, parent);
+			batch.add(container.onUpdated(newBranchUuid, DRAFT));
+		}
+
+		// 2. Migrate published containers
+		for (NodeGraphFieldContainer container : published) {
+			// Set the initial edge for published containers since the published container may be an older version and created before the draft container
+			// was created. The initial edge should always point to the oldest container of either draft or published.
+			addBranchEdge(container, newBranchUuid, INITIAL, null);
+			addBranchEdge(container, newBranchUuid, PUBLISHED, parent);
+			batch.add(container.onUpdated(newBranchUuid, PUBLISHED));
+		}
+
+		// 3. Migrate tags
+		for (Tag tag : getTags(oldBranch).list()) {
+			addTag(tag, newBranch);
+		}
+		return true;
+	}
+
+	/**
+	 * Create a new edge between the node and the container for the given branch. The webroot information will be set for draft and published edges.
+	 */
+	private void addBranchEdge(NodeGraphFieldContainer container, String branchUuid, ContainerType type, Node parent) {
+		GraphFieldContainerEdgeImpl edge = addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
+		edge.setLanguageTag(container.getLanguageTag());
+		edge.setBranchUuid(branchUuid);
+		edge.setType(type);
+		if (type != INITIAL) {
+			String value = container.getSegmentFieldValue();
+			if (value != null) {
+				edge.setSegmentInfo(parent, value);
+			} else {
+				edge.setSegmentInfo(null);
+			}
+			edge.setUrlFieldInfo(container.getUrlFieldValues());
+		}
+	}
+
+	@Override
+	public void materialize(Branch branch, EventQueueBatch batch) {
+		if (!options().getContentOptions().isLazyBranches() || !readsThrough(branch)) {
+			return;
+		}
+		if (migrateToBranch(branch.getPreviousBranch(), branch, batch) && log.isDebugEnabled()) {
+			log.debug("Materialized node {" + getUuid() + "} in branch {" + branch.getUuid() + "}");
+		}
 	}
 
 	@Override
@@ -590,8 +888,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// We need to use the (meshRoot)--(nodeRoot) node instead of the
 		// (project)--(nodeRoot) node.
 		Node node = mesh().boot().nodeRoot().create(creator, schemaVersion, project, uuid);
-		node.setParentNode(branch.getUuid(), this);
+		// The schema container must be set first so that the child counter of the parent can be updated
 		node.setSchemaContainer(schemaVersion.getSchemaContainer());
+		node.setParentNode(branch.getUuid(), this);
 		// setCreated(creator);
 		return node;
 	}
@@ -840,6 +1139,20 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	private void setChildrenInfo(InternalActionContext ac, Branch branch, NodeResponse restNode) {
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
+		if (ac.getNodeParameters().getChildrenInfoMode() == ChildrenInfoMode.APPROXIMATE) {
+			for (Entry<String, Long> entry : getChildCounts(branch.getUuid()).entrySet()) {
+				SchemaContainer schema = mesh().boot().schemaContainerRoot().findByUuid(entry.getKey());
+				if (schema == null) {
+					continue;
+				}
+				NodeChildrenInfo info = new NodeChildrenInfo();
+				info.setSchemaUuid(entry.getKey());
+				info.setCount(entry.getValue());
+				childrenInfo.put(schema.getName(), info);
+			}
+			restNode.setChildrenInfo(childrenInfo);
+			return;
+		}
 		for (Node child : getChildren(branch.getUuid())) {
 			if (ac.getUser().hasPermission(child, READ_PERM)) {
 				String schemaName = child.getSchemaContainer().getName();
@@ -958,7 +1271,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		return db().asyncTx(() -> {
 			// TODO assure that the schema version is correct
-			if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+			if (!getSchemaContainer().getLatestVersion().getDecodedSchema().isContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
 			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getBranch(getProject()).getUuid(), forVersion(ac
@@ -1017,7 +1330,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return builder.toString();
 		}
 		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+			if (child.getSchemaContainer().getLatestVersion().getDecodedSchema().isContainer()) {
 				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type));
 			} else if (parameters.isIncludeAll()) {
 				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type));
@@ -1070,7 +1383,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		for (Node child : nodes) {
 			// TODO assure that the schema version is correct?
 			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+			if (child.getSchemaContainer().getLatestVersion().getDecodedSchema().isContainer()) {
 				NavigationElement childElement = new NavigationElement();
 				// We found at least one child so lets create the array
 				if (currentElement.getChildren() == null) {
@@ -1186,6 +1499,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		Branch branch = ac.getBranch(getProject());
 		String branchUuid = branch.getUuid();
+		materialize(branch, bac.batch());
 
 		List<? extends NodeGraphFieldContainer> unpublishedContainers = getGraphFieldContainers(branch, ContainerType.DRAFT).stream().filter(c -> !c
 			.isPublished(branchUuid)).collect(Collectors.toList());
@@ -1221,6 +1535,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		String branchUuid = branch.getUuid();
+		materialize(branch, bac.batch());
 
 		TraversalResult<? extends GraphFieldContainerEdgeImpl> publishEdges = getGraphFieldContainerEdges(branchUuid, PUBLISHED);
 
@@ -1275,6 +1590,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	public void publish(InternalActionContext ac, BulkActionContext bac, String languageTag) {
 		Branch branch = ac.getBranch(getProject());
 		String branchUuid = branch.getUuid();
+		materialize(branch, bac.batch());
 
 		// get the draft version of the given language
 		NodeGraphFieldContainer draftVersion = getGraphFieldContainer(languageTag, branchUuid, DRAFT);
@@ -1298,6 +1614,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void takeOffline(InternalActionContext ac, BulkActionContext bac, Branch branch, String languageTag) {
 		String branchUuid = branch.getUuid();
+		materialize(branch, bac.batch());
 
 		// Locate the published container
 		NodeGraphFieldContainer published = getGraphFieldContainer(languageTag, branchUuid, PUBLISHED);
@@ -1436,6 +1753,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		addReferenceUpdates(bac);
 
 		bac.add(onDeleted(getUuid(), getSchemaContainer(), null, null, null));
+		decrementParentChildCounts();
 		getElement().remove();
 		bac.process();
 	}
@@ -1488,6 +1806,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// 1. Remove subfolders from branch
 		String branchUuid = branch.getUuid();
+		materialize(branch, bac.batch());
 
 		for (Node child : getChildren(branchUuid)) {
 			if (!parameters.isRecursive()) {
@@ -1508,6 +1827,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// Otherwise we need to remove the "parent" edge for the branch
 			// first remove the "parent" edge (because the node itself will
 			// probably not be deleted, but just removed from the branch)
+			SchemaContainer schema = getSchemaContainer();
+			for (Edge edge : getElement().getEdges(OUT, HAS_PARENT_NODE)) {
+				if (branchUuid.equals(edge.getProperty(BRANCH_UUID_KEY)) && schema != null) {
+					updateChildCount(edge.getVertex(IN), branchUuid, schema.getUuid(), -1);
+				}
+			}
 			outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		}
 	}
@@ -1559,6 +1884,12 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public TraversalResult<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+		if (findReadThroughBranch(branchUuid) != null) {
+			GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+			return new TraversalResult<>(getChildren(branchUuid).stream()
+				.filter(child -> requestUser.hasPermission(child, perm))
+				.filter(child -> hasContent(child, languageTags, branchUuid, type)));
+		}
 		return new TraversalResult<>(getChildrenTraversal(requestUser, branchUuid, languageTags, type).frameExplicit(NodeImpl.class));
 	}
 
@@ -1569,6 +1900,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Object indexKey = db().createComposedIndexKey(id(), branchUuid);
 
 		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+		if (findReadThroughBranch(branchUuid) != null) {
+			Predicate<NodeImpl> filter = languageTags == null ? null : item -> hasContent(item, languageTags, branchUuid, type);
+			return new DynamicTransformablePageImpl<>(ac.getUser(), getChildVertices(branchUuid), NodeImpl.class, pagingInfo, perm, filter, true);
+		}
 		if (languageTags == null) {
 			return new DynamicTransformablePageImpl<>(ac.getUser(), indexName, indexKey, Direction.OUT, NodeImpl.class, pagingInfo, perm, null, true);
 		} else {
@@ -1584,9 +1919,29 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 	}
 
+	/**
+	 * Check whether the node has a container of the given type in one of the given languages.
+	 * 
+	 * @param node
+	 * @param languageTags
+	 *            Languages to check or null to check for containers in any language
+	 * @param branchUuid
+	 * @param type
+	 *            Type to check or null to check for containers of any type
+	 * @return
+	 */
+	private static boolean hasContent(Node node, List<String> languageTags, String branchUuid, ContainerType type) {
+		// Every node with contents in a branch has initial containers
+		ContainerType containerType = type == null ? INITIAL : type;
+		if (languageTags == null) {
+			return node.getGraphFieldContainers(branchUuid, containerType).hasNext();
+		}
+		return languageTags.stream().anyMatch(languageTag -> node.getGraphFieldContainer(languageTag, branchUuid, containerType) != null);
+	}
+
 	@Override
 	public TransformablePage<? extends Tag> getTags(User user, PagingParameters params, Branch branch) {
-		VertexTraversal<?, ?, ?> traversal = TagEdgeImpl.getTagTraversal(this, branch);
+		VertexTraversal<?, ?, ?> traversal = TagEdgeImpl.getTagTraversal(this, readBranch(branch));
 		return new DynamicTransformablePageImpl<Tag>(user, traversal, params, READ_PERM, TagImpl.class);
 	}
 
@@ -1657,6 +2012,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (isEmpty(requestModel.getLanguage())) {
 			throw error(BAD_REQUEST, "error_language_not_set");
 		}
+		Branch branch = ac.getBranch(getProject());
+		materialize(branch, batch);
 
 		// Check whether the tags need to be updated
 		List<TagReference> tags = requestModel.getTags();
@@ -1673,7 +2030,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (language == null) {
 			throw error(BAD_REQUEST, "error_language_not_found", requestModel.getLanguage());
 		}
-		Branch branch = ac.getBranch(getProject());
 		NodeGraphFieldContainer latestDraftVersion = getGraphFieldContainer(languageTag, branch, DRAFT);
 
 		// Check whether this is the first time that an update for the given language and branch occurs. In this case a new container must be created.
@@ -1801,6 +2157,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	private void applyTags(Branch branch, List<? extends Tag> tags, EventQueueBatch batch) {
+		materialize(branch, batch);
 		List<? extends Tag> currentTags = getTags(branch).list();
 
 		List<Tag> toBeAdded = tags.stream()
@@ -1839,7 +2196,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			parent = parent.getParentNode(branchUuid);
 		}
 
-		if (!targetNode.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
+		if (!targetNode.getSchemaContainer().getLatestVersion().getDecodedSchema().isContainer()) {
 			throw error(BAD_REQUEST, "node_move_error_targetnode_is_no_folder");
 		}
 
@@ -1847,6 +2204,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(BAD_REQUEST, "node_move_error_same_nodes");
 		}
 
+		materialize(branch, batch);
 		setParentNode(branchUuid, targetNode);
 
 		// Update published graph field containers
@@ -1865,6 +2223,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public void deleteLanguageContainer(InternalActionContext ac, Branch branch, String languageTag, BulkActionContext bac,
 		boolean failForLastContainer) {
+		materialize(branch, bac.batch());
 
 		// 1. Check whether the container has also a published variant. We need to take it offline in those cases
 		NodeGraphFieldContainer container = getGraphFieldContainer(languageTag, branch, PUBLISHED);
@@ -1930,8 +2289,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Check the different language versions
 		for (NodeGraphFieldContainer container : getGraphFieldContainers(branchUuid, type)) {
-			Schema schema = container.getSchemaContainerVersion().getSchema();
-			String segmentFieldName = schema.getSegmentField();
+			String segmentFieldName = container.getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName();
 			// First check whether a string field exists for the given name
 			StringGraphField field = container.getString(segmentFieldName);
 			if (field != null) {
@@ -1970,13 +2328,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			log.debug("Resolving for path segment {" + segment + "}");
 		}
 
-		FramedGraph graph = Tx.get().getGraph();
 		String segmentInfo = GraphFieldContainerEdgeImpl.composeSegmentInfo(this, segment);
-		Object key = GraphFieldContainerEdgeImpl.composeWebrootIndexKey(db(), segmentInfo, branchUuid, type);
-		Iterator<? extends GraphFieldContainerEdge> edges = graph.getFramedEdges(WEBROOT_INDEX_NAME, key, GraphFieldContainerEdgeImpl.class)
-			.iterator();
-		if (edges.hasNext()) {
-			GraphFieldContainerEdge edge = edges.next();
+		GraphFieldContainerEdge edge = findWebrootEdge(segmentInfo, branchUuid, type);
+		if (edge != null) {
 			Node childNode = edge.getNode();
 			PathSegment pathSegment = childNode.getSegment(branchUuid, type, segment);
 			if (pathSegment != null) {
@@ -1988,6 +2342,44 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	}
 
+	@Override
+	public GraphFieldContainerEdge findWebrootEdge(String segmentInfo, String branchUuid, ContainerType type) {
+		FramedGraph graph = Tx.get().getGraph();
+		Object key = GraphFieldContainerEdgeImpl.composeWebrootIndexKey(db(), segmentInfo, branchUuid, type);
+		Iterator<? extends GraphFieldContainerEdge> edges = graph.getFramedEdges(WEBROOT_INDEX_NAME, key, GraphFieldContainerEdgeImpl.class)
+			.iterator();
+		if (edges.hasNext()) {
+			return edges.next();
+		}
+		Branch branch = findReadThroughBranch(branchUuid);
+		if (branch != null) {
+			GraphFieldContainerEdge edge = findWebrootEdge(segmentInfo, branch.getPreviousBranch().getUuid(), type);
+			if (edge != null && !edge.getNode().isMaterialized(branchUuid)) {
+				return edge;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public GraphFieldContainerEdge findUrlFieldEdge(String urlFieldValue, String branchUuid, ContainerType type) {
+		FramedGraph graph = Tx.get().getGraph();
+		Object key = GraphFieldContainerEdgeImpl.composeWebrootUrlFieldIndexKey(db(), urlFieldValue, branchUuid, type);
+		Iterator<? extends GraphFieldContainerEdge> edges = graph.getFramedEdges(WEBROOT_URLFIELD_INDEX_NAME, key, GraphFieldContainerEdgeImpl.class)
+			.iterator();
+		if (edges.hasNext()) {
+			return edges.next();
+		}
+		Branch branch = findReadThroughBranch(branchUuid);
+		if (branch != null) {
+			GraphFieldContainerEdge edge = findUrlFieldEdge(urlFieldValue, branch.getPreviousBranch().getUuid(), type);
+			if (edge != null && !edge.getNode().isMaterialized(branchUuid)) {
+				return edge;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Generate the etag for nodes. The etag consists of:
 	 * <ul>
@@ -2252,7 +2644,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public boolean isVisibleInBranch(String branchUuid) {
-		return GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), branchUuid, ContainerType.DRAFT);
+		return GraphFieldContainerEdgeImpl.matchesBranchAndType(getId(), readBranchUuid(branchUuid), ContainerType.DRAFT);
 	}
 
 	@Override
@@ -110,8 +110,9 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		Branch branch = ac.getBranch();
 		String branchUuid = branch.getUuid();
 
+		// Lazy branches read the nodes which have not yet been materialized from the previous branch
 		return new DynamicTransformablePageImpl<>(ac.getUser(), this, pagingInfo, perm, (item) -> {
-			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.id(), branchUuid, type);
+			return type == PUBLISHED ? item.hasPublishedContent(branchUuid) : item.isVisibleInBranch(branchUuid);
 		}, true);
 	}
 
@@ -126,10 +127,10 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		String idx = "e." + getRootLabel().toLowerCase() + "_out";
 		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
 		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
+			.map(edge -> graph.frameElementExplicit(edge.getVertex(Direction.IN), getPersistanceClass()))
 			.filter(item -> {
 				// Check whether the node has at least a draft in the selected branch - Otherwise the node should be skipped
-				return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, DRAFT);
+				return item.isVisibleInBranch(branchUuid);
 			})
 			.filter(item -> {
 				boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
@@ -137,14 +138,13 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 					return true;
 				} else {
 					// Check whether the node is published. In this case we need to check the read publish perm.
-					boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
+					boolean isPublishedForBranch = item.hasPublishedContent(branchUuid);
 					if (isPublishedForBranch) {
 						return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
 					}
 				}
 				return false;
-			})
-			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
+			});
 	}
 
 	@Override
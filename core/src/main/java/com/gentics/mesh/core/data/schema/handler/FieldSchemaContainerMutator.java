@@ -2,11 +2,10 @@ package com.gentics.mesh.core.data.schema.handler;
 
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaChange;
-import com.gentics.mesh.core.graph.GraphAttribute;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.Microschema;
 import com.gentics.mesh.core.rest.schema.Schema;
-import com.gentics.mesh.dagger.MeshComponent;
+import com.gentics.mesh.json.JsonUtil;
 
 /**
  * The field container mutator utilizes {@link SchemaChange} objects in order to modify/mutate a given field container implementation (e.g. {@link Schema} or
@@ -23,9 +22,9 @@ public class FieldSchemaContainerMutator {
 	 * @return
 	 */
 	public <RM extends FieldSchemaContainer> RM apply(GraphFieldSchemaContainerVersion<?, RM, ?, ?, ?> containerVersion) {
-		MeshComponent mesh = containerVersion.getGraphAttribute(GraphAttribute.MESH_COMPONENT);
-		RM oldSchema = containerVersion.getSchema();
-		mesh.serverSchemaStorage().remove(oldSchema);
+		// The loaded schema is shared with the schema storage and the decoded schema cache. The changes are thus applied to a separate copy.
+		@SuppressWarnings("unchecked")
+		RM oldSchema = (RM) JsonUtil.readValue(containerVersion.getJson(), containerVersion.getSchema().getClass());
 		SchemaChange<?> change = containerVersion.getNextChange();
 		while (change != null) {
 			oldSchema = change.apply(oldSchema);
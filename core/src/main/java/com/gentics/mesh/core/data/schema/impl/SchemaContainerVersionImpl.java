@@ -30,6 +30,7 @@ import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.schema.DecodedSchema;
 import com.gentics.mesh.core.data.schema.SchemaChange;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -104,6 +105,15 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public SchemaModel getSchema() {
+		return getDecodedSchema().getSchema();
+	}
+
+	@Override
+	public DecodedSchema getDecodedSchema() {
+		return mesh().decodedSchemaCache().get(getUuid(), uuid -> new DecodedSchema(uuid, loadSchema()));
+	}
+
+	private SchemaModel loadSchema() {
 		SchemaModel schema = mesh().serverSchemaStorage().getSchema(getName(), getVersion());
 		if (schema == null) {
 			schema = JsonUtil.readValue(getJson(), SchemaModelImpl.class);
@@ -80,6 +80,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		// addServiceHandler();
 		addJobHandler();
 		addPluginHandler();
+		addCacheHandler();
 	}
 
 	private void addPluginHandler() {
@@ -150,6 +151,30 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		});
 	}
 
+	private void addCacheHandler() {
+		InternalEndpointRoute listEndpoint = createRoute();
+		listEndpoint.path("/caches");
+		listEndpoint.method(GET);
+		listEndpoint.description("Lists the caches of the instance together with their size and hit, miss, load and eviction statistics.");
+		listEndpoint.produces(APPLICATION_JSON);
+		listEndpoint.exampleResponse(OK, adminExamples.createCacheListResponse(), "List of caches.");
+		listEndpoint.handler(rc -> {
+			adminHandler.handleCacheList(wrap(rc));
+		});
+
+		InternalEndpointRoute clearEndpoint = createRoute();
+		clearEndpoint.path("/caches/:name");
+		clearEndpoint.method(DELETE);
+		clearEndpoint.description("Clears the cache with the given name on the instance.");
+		clearEndpoint.produces(APPLICATION_JSON);
+		clearEndpoint.addUriParameter("name", "Name of the cache.", "permission");
+		clearEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Cache was cleared.");
+		clearEndpoint.handler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			adminHandler.handleCacheClear(ac, ac.getParameter("name"));
+		});
+	}
+
 	private void addConsistencyCheckHandler() {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/consistency/check");
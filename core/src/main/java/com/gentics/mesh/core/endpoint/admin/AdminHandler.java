@@ -13,6 +13,7 @@ import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static java.util.Comparator.comparing;
@@ -28,12 +29,16 @@ import javax.naming.InvalidNameException;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshStatus;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
+import com.gentics.mesh.core.rest.admin.cache.CacheInfo;
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
@@ -42,6 +47,7 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.RouterStorageRegistry;
 import com.gentics.mesh.search.SearchProvider;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import io.reactivex.Completable;
 import io.reactivex.Single;
@@ -58,6 +64,8 @@ public class AdminHandler extends AbstractHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(AdminHandler.class);
 
+	private static final String INCREMENTAL_BACKUP_MANIFEST = "manifest.json";
+
 	private final Database db;
 
 	private final RouterStorage routerStorage;
@@ -74,9 +82,11 @@ public class AdminHandler extends AbstractHandler {
 
 	private final RouterStorageRegistry routerStorageRegistry;
 
+	private final CacheRegistry cacheRegistry;
+
 	@Inject
 	public AdminHandler(Vertx vertx, Database db, RouterStorage routerStorage, BootstrapInitializer boot, SearchProvider searchProvider, HandlerUtilities utils,
-		MeshOptions options, RouterStorageRegistry routerStorageRegistry) {
+		MeshOptions options, RouterStorageRegistry routerStorageRegistry, CacheRegistry cacheRegistry) {
 		this.vertx = vertx;
 		this.db = db;
 		this.routerStorage = routerStorage;
@@ -85,6 +95,7 @@ public class AdminHandler extends AbstractHandler {
 		this.utils = utils;
 		this.options = options;
 		this.routerStorageRegistry = routerStorageRegistry;
+		this.cacheRegistry = cacheRegistry;
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
@@ -156,9 +167,9 @@ public class AdminHandler extends AbstractHandler {
 			}
 		});
 
-		// Find the file which was last modified
-		File latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip"))
-			.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
+		// Find the backup which was last modified. Incremental backups are stored in directories which contain the backup manifest.
+		File latestFile = Arrays.asList(backupDir.listFiles()).stream().filter(file -> file.getName().endsWith(".zip") || isIncrementalBackup(file))
+			.sorted(comparing(AdminHandler::backupTimestamp)).reduce((first, second) -> second).orElseGet(() -> null);
 		if (latestFile == null) {
 			throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
 		}
@@ -182,6 +193,14 @@ public class AdminHandler extends AbstractHandler {
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
+	private static boolean isIncrementalBackup(File file) {
+		return file.isDirectory() && new File(file, INCREMENTAL_BACKUP_MANIFEST).isFile();
+	}
+
+	private static long backupTimestamp(File file) {
+		return isIncrementalBackup(file) ? new File(file, INCREMENTAL_BACKUP_MANIFEST).lastModified() : file.lastModified();
+	}
+
 	/**
 	 * The projects share various subrouters. This method will add the subrouters for all registered projects.
 	 *
@@ -258,6 +277,57 @@ public class AdminHandler extends AbstractHandler {
 		}, model -> ac.send(model, OK));
 	}
 
+	/**
+	 * List the caches of this instance together with their statistics.
+	 * 
+	 * @param ac
+	 */
+	public void handleCacheList(InternalActionContext ac) {
+		utils.syncTx(ac, tx -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			CacheListResponse response = new CacheListResponse();
+			cacheRegistry.getCaches().stream()
+				.sorted(comparing((EventAwareCache<?, ?> cache) -> cache.getName()))
+				.map(this::toCacheInfo)
+				.forEach(response.getCaches()::add);
+			return response;
+		}, model -> ac.send(model, OK));
+	}
+
+	/**
+	 * Clear the cache with the given name on this instance.
+	 * 
+	 * @param ac
+	 * @param name
+	 */
+	public void handleCacheClear(InternalActionContext ac, String name) {
+		utils.syncTx(ac, tx -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			if (!cacheRegistry.clear(name)) {
+				throw error(NOT_FOUND, "admin_cache_not_found", name);
+			}
+			return message(ac, "admin_cache_cleared", name);
+		}, model -> ac.send(model, OK));
+	}
+
+	private CacheInfo toCacheInfo(EventAwareCache<?, ?> cache) {
+		CacheStats stats = cache.stats();
+		return new CacheInfo()
+			.setName(cache.getName())
+			.setEnabled(!cache.isDisabled() && cache.getMaxSize() > 0)
+			.setSize(cache.size())
+			.setMaxSize(cache.getMaxSize())
+			.setHitCount(stats.hitCount())
+			.setMissCount(stats.missCount())
+			.setHitRate(stats.hitRate())
+			.setLoadCount(stats.loadCount())
+			.setEvictionCount(stats.evictionCount());
+	}
+
 	public void handleVersions(InternalActionContext ac) {
 		MeshServerInfoModel info = new MeshServerInfoModel();
 		info.setDatabaseVendor(db.getVendorName());
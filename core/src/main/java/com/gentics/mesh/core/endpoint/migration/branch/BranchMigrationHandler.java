@@ -1,9 +1,5 @@
 package com.gentics.mesh.core.endpoint.migration.branch;
 
-import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
-import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
-import static com.gentics.mesh.core.rest.common.ContainerType.INITIAL;
-import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
 import java.util.ArrayList;
@@ -15,9 +11,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.context.BranchMigrationContext;
 import com.gentics.mesh.core.data.Branch;
-import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
@@ -25,7 +19,6 @@ import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.BranchMigrationCause;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.metric.MetricsService;
 
 import io.reactivex.Completable;
@@ -96,7 +89,7 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 
 	/**
 	 * Migrate the node from the old branch to the new branch. This will effectively create the edges between the new branch and the node. Additionally also the
-	 * tags will be update to correspond with the new branch structure.
+	 * tags will be update to correspond with the new branch structure. Nodes which have already been materialized in the new branch will be skipped.
 	 * 
 	 * @param node
 	 * @param batch
@@ -107,79 +100,11 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 	private void migrateNode(Node node, EventQueueBatch batch, Branch oldBranch, Branch newBranch, List<Exception> errorsDetected) {
 		try {
 			db.tx((tx) -> {
-
-				// Check whether the node already has an initial container and thus was already migrated
-				if (node.getGraphFieldContainers(newBranch, INITIAL).hasNext()) {
-					return;
-				}
-
-				Node parent = node.getParentNode(oldBranch.getUuid());
-				if (parent != null) {
-					node.setParentNode(newBranch.getUuid(), parent);
-				}
-
-				TraversalResult<? extends NodeGraphFieldContainer> drafts = node.getGraphFieldContainers(oldBranch, DRAFT);
-				TraversalResult<? extends NodeGraphFieldContainer> published = node.getGraphFieldContainers(oldBranch, PUBLISHED);
-
-				// 1. Migrate draft containers first
-				drafts.forEach(container -> {
-					// We only need to set the initial edge if there are no published containers.
-					// Otherwise the initial edge will be set using the published container.
-					if (!published.hasNext()) {
-						setInitial(node, container, newBranch);
-					}
-
-					GraphFieldContainerEdgeImpl draftEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					draftEdge.setLanguageTag(container.getLanguageTag());
-					draftEdge.setType(DRAFT);
-					draftEdge.setBranchUuid(newBranch.getUuid());
-					String value = container.getSegmentFieldValue();
-					if (value != null) {
-						draftEdge.setSegmentInfo(parent, value);
-					} else {
-						draftEdge.setSegmentInfo(null);
-					}
-					draftEdge.setUrlFieldInfo(container.getUrlFieldValues());
-					batch.add(container.onUpdated(newBranch.getUuid(), DRAFT));
-				});
-
-				// 2. Migrate published containers
-				published.forEach(container -> {
-					// Set the initial edge for published containers since the published container may be an older version and created before the draft container was created.
-					// The initial edge should always point to the oldest container of either draft or published.
-					setInitial(node, container, newBranch);
-
-					GraphFieldContainerEdgeImpl publishEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
-					publishEdge.setLanguageTag(container.getLanguageTag());
-					publishEdge.setType(PUBLISHED);
-					publishEdge.setBranchUuid(newBranch.getUuid());
-					String value = container.getSegmentFieldValue();
-					if (value != null) {
-						publishEdge.setSegmentInfo(parent, value);
-					} else {
-						publishEdge.setSegmentInfo(null);
-					}
-					publishEdge.setUrlFieldInfo(container.getUrlFieldValues());
-					batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
-				});
-
-				// Migrate tags
-				node.getTags(oldBranch).forEach(tag -> node.addTag(tag, newBranch));
+				node.migrateToBranch(oldBranch, newBranch, batch);
 			});
 		} catch (Exception e1) {
 			log.error("Error while handling node {" + node.getUuid() + "} during schema migration.", e1);
 			errorsDetected.add(e1);
 		}
 	}
-
-	/**
-	 * Create a new initial edge between node and container for the given branch.
-	 */
-	private void setInitial(Node node, NodeGraphFieldContainer container, Branch branch) {
-		GraphFieldContainerEdgeImpl initialEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container,
-			GraphFieldContainerEdgeImpl.class);
-		initialEdge.setLanguageTag(container.getLanguageTag());
-		initialEdge.setBranchUuid(branch.getUuid());
-		initialEdge.setType(INITIAL);
-	}
 }
@@ -1,8 +1,11 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.http.HttpConstants.ETAG;
 import static com.gentics.mesh.util.MimeTypeUtils.DEFAULT_BINARY_MIME_TYPE;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -13,6 +16,8 @@ import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.RangeRequestHandler;
 import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
@@ -25,7 +30,7 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.RoutingContext;
-import io.vertx.reactivex.core.Vertx;
+import io.vertx.ext.web.impl.Utils;
 
 /**
  * Handler which will accept {@link BinaryGraphField} elements and return the binary data using the given context.
@@ -37,16 +42,17 @@ public class BinaryFieldResponseHandler {
 
 	private final BinaryStorage storage;
 
-	private final Vertx rxVertx;
-
 	private final RangeRequestHandler rangeRequestHandler;
 
+	private final MeshOptions options;
+
 	@Inject
-	public BinaryFieldResponseHandler(ImageManipulator imageManipulator, BinaryStorage storage, Vertx rxVertx, RangeRequestHandler rangeRequestHandler) {
+	public BinaryFieldResponseHandler(ImageManipulator imageManipulator, BinaryStorage storage, RangeRequestHandler rangeRequestHandler,
+		MeshOptions options) {
 		this.imageManipulator = imageManipulator;
 		this.storage = storage;
-		this.rxVertx = rxVertx;
 		this.rangeRequestHandler = rangeRequestHandler;
+		this.options = options;
 	}
 
 	/**
@@ -57,11 +63,14 @@ public class BinaryFieldResponseHandler {
 	 */
 	public void handle(RoutingContext rc, BinaryGraphField binaryField) {
 		rc.response().putHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
-		if (checkETag(rc, binaryField)) {
-			return;
-		}
 		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 		ImageManipulationParameters imageParams = ac.getImageParameters();
+		if (binaryField.hasProcessableImage()) {
+			applyVariant(imageParams);
+		}
+		if (checkETag(rc, binaryField, imageParams)) {
+			return;
+		}
 		if (binaryField.hasProcessableImage() && imageParams.hasResizeParams()) {
 			resizeAndRespond(rc, binaryField, imageParams);
 		} else {
@@ -69,15 +78,44 @@ public class BinaryFieldResponseHandler {
 		}
 	}
 
-	private boolean checkETag(RoutingContext rc, BinaryGraphField binaryField) {
-		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
-		String sha512sum = binaryField.getBinary().getSHA512Sum();
-		String etagKey = sha512sum;
+	/**
+	 * Replace the image parameters with the parameters of the requested variant.
+	 * 
+	 * @param imageParams
+	 */
+	private void applyVariant(ImageManipulationParameters imageParams) {
+		String name = imageParams.getVariant();
+		if (name == null) {
+			return;
+		}
+		ImageVariantPreset preset = options.getImageOptions().getVariant(name);
+		if (preset == null) {
+			throw error(NOT_FOUND, "image_error_variant_not_found", name);
+		}
+		imageParams.applyVariant(preset);
+	}
+
+	/**
+	 * Return the strong etag of the requested binary data. The etag of the original binary data is stored with the binary. The etag of a resized image
+	 * is derived from the etag of the binary and the image parameters.
+	 * 
+	 * @param binaryField
+	 * @param imageParams
+	 * @return
+	 */
+	private String getETag(BinaryGraphField binaryField, ImageManipulationParameters imageParams) {
+		String etag = binaryField.getBinary().getETag();
 		if (binaryField.hasProcessableImage()) {
-			etagKey += ac.getImageParameters().getQueryParameters();
+			String query = imageParams.getQueryParameters();
+			if (!isEmpty(query)) {
+				return ETag.hash(etag + query);
+			}
 		}
+		return etag;
+	}
 
-		String etagHeaderValue = ETag.prepareHeader(ETag.hash(etagKey), false);
+	private boolean checkETag(RoutingContext rc, BinaryGraphField binaryField, ImageManipulationParameters imageParams) {
+		String etagHeaderValue = ETag.prepareHeader(getETag(binaryField, imageParams), false);
 		HttpServerResponse response = rc.response();
 		response.putHeader(ETAG, etagHeaderValue);
 		String requestETag = rc.request().getHeader(HttpHeaders.IF_NONE_MATCH);
@@ -106,17 +144,17 @@ public class BinaryFieldResponseHandler {
 		// Set to IDENTITY to avoid gzip compression
 		response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
 
+		Long lastModified = binary.getLastModified();
+		if (lastModified != null) {
+			response.putHeader(HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(lastModified));
+		}
+
 		String localPath = storage.getLocalPath(binary.getUuid());
 		if (localPath != null) {
 			rangeRequestHandler.handle(rc, localPath, contentType);
 		} else {
-			String contentLength = String.valueOf(binary.getSize());
-			if (contentType != null) {
-				response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-			}
 			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binary.getStream().subscribe(response::write, rc::fail, response::end);
+			rangeRequestHandler.handleStream(rc, binary.getUuid(), binary.getSize(), contentType);
 		}
 
 	}
@@ -132,10 +170,7 @@ public class BinaryFieldResponseHandler {
 		}
 		String fileName = binaryField.getFileName();
 		imageManipulator.handleResize(binaryField.getBinary(), imageParams)
-			.flatMap(cachedFilePath -> rxVertx.fileSystem().rxProps(cachedFilePath)
-			.doOnSuccess(props -> {
-				response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(props.size()));
-				response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
+			.subscribe(cachedFilePath -> {
 				response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
 				response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
 				// Set to IDENTITY to avoid gzip compression
@@ -143,9 +178,10 @@ public class BinaryFieldResponseHandler {
 
 				addContentDispositionHeader(response, fileName, "inline");
 
-				response.sendFile(cachedFilePath);
-			}))
-			.subscribe(ignore -> {}, rc::fail);
+				// The modification time of the cached file will be used as Last-Modified header
+				String contentType = MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE);
+				rangeRequestHandler.handle(rc, cachedFilePath, contentType);
+			}, rc::fail);
 	}
 
 	private void addContentDispositionHeader(HttpServerResponse response, String fileName, String type) {
@@ -202,11 +202,11 @@ public class BinaryTransformHandler extends AbstractHandler {
 	private NodeResponse updateNodeInGraph(InternalActionContext ac, UploadContext context, TransformationResult result, Node node,
 		String languageTag, String fieldName, ImageManipulationParameters parameters) {
 		return utils.eventAction(batch -> {
+			Branch branch = ac.getBranch();
+			node.materialize(branch, batch);
 
 			NodeGraphFieldContainer latestDraftVersion = loadTargetedContent(node, languageTag, fieldName);
 
-			Branch branch = ac.getBranch();
-
 			// Create a new node version field container to store the upload
 			NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(languageTag, branch, ac.getUser(),
 				latestDraftVersion,
@@ -246,7 +246,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 				field.setImageFocalPoint(parameters.getFocalPoint());
 			}
 			// If the binary field is the segment field, we need to update the webroot info in the node
-			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
+			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName())) {
 				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
 			}
 			String branchUuid = node.getProject().getBranchRoot().getLatestBranch().getUuid();
@@ -267,7 +267,7 @@ public class BinaryTransformHandler extends AbstractHandler {
 			throw error(NOT_FOUND, "error_language_not_found", languageTag);
 		}
 
-		FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
+		FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getDecodedSchema().getField(fieldName);
 		if (fieldSchema == null) {
 			throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
 		}
@@ -19,7 +19,9 @@ import javax.inject.Inject;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.binary.BinaryDataProcessor;
+import com.gentics.mesh.core.binary.BinaryExtractionQueue;
 import com.gentics.mesh.core.binary.BinaryProcessorRegistry;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -45,7 +47,6 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
 import com.gentics.mesh.util.RxUtil;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
@@ -75,6 +76,10 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	private final BinaryProcessorRegistry binaryProcessorRegistry;
 
+	private final BinaryExtractionQueue binaryExtractionQueue;
+
+	private final ImageVariantGenerator imageVariantGenerator;
+
 	private final HandlerUtilities utils;
 
 	private FileSystem fs;
@@ -88,6 +93,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 		BinaryFieldResponseHandler binaryFieldResponseHandler,
 		BinaryStorage binaryStorage,
 		BinaryProcessorRegistry binaryProcessorRegistry,
+		BinaryExtractionQueue binaryExtractionQueue,
+		ImageVariantGenerator imageVariantGenerator,
 		HandlerUtilities utils, Vertx rxVertx, MeshOptions options) {
 
 		this.db = db;
@@ -95,6 +102,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 		this.binaryStorage = binaryStorage;
 		this.binaryProcessorRegistry = binaryProcessorRegistry;
+		this.binaryExtractionQueue = binaryExtractionQueue;
+		this.imageVariantGenerator = imageVariantGenerator;
 		this.utils = utils;
 		this.fs = rxVertx.fileSystem();
 		this.options = options;
@@ -162,19 +171,13 @@ public class BinaryUploadHandler extends AbstractHandler {
 		UploadContext ctx = new UploadContext();
 		ctx.setUpload(ul);
 
-		// First process the upload data
+		// First hash the upload data
 		hashUpload(ul).flatMap(hash -> {
-			Single<List<Consumer<BinaryGraphField>>> modifierOp = postProcessUpload(ul, hash).toList();
-			return modifierOp.map(list -> {
-				return Tuple.tuple(hash, list);
-			});
-		}).flatMap(modifierListAndHash -> {
-			String hash = modifierListAndHash.v1();
-			List<Consumer<BinaryGraphField>> modifierList = modifierListAndHash.v2();
 			ctx.setHash(hash);
+			String contentType = ul.contentType();
 
-			// Check whether the binary with the given hashsum was already stored
-			db.tx(() -> {
+			// Check whether the binary with the given hashsum was already stored and processed
+			boolean reuseExtractedData = db.tx(() -> {
 				BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
 				Binary binary = binaryRoot.findByHash(hash);
 
@@ -182,13 +185,35 @@ public class BinaryUploadHandler extends AbstractHandler {
 				if (binary == null) {
 					ctx.setBinaryUuid(UUIDUtil.randomUUID());
 					ctx.setInvokeStore();
+					return false;
 				}
+				return findExtractionSource(binary, contentType, null) != null;
 			});
 
-			return storeUploadInTemp(ctx, ul, hash).andThen(Single.defer(() -> {
-				NodeResponse response = storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName);
-				return Single.just(response);
-			}));
+			Single<List<Consumer<BinaryGraphField>>> modifierOp;
+			if (reuseExtractedData) {
+				// The same data has already been processed. No need to process it again.
+				if (log.isDebugEnabled()) {
+					log.debug("Reusing the extracted data of binary {" + hash + "} for upload {" + ul.fileName() + "}");
+				}
+				Consumer<BinaryGraphField> modifier = field -> {
+					BinaryGraphField source = findExtractionSource(field.getBinary(), contentType, field);
+					if (source != null) {
+						field.copyExtractedData(source);
+					}
+				};
+				modifierOp = Single.just(Arrays.asList(modifier));
+			} else {
+				ctx.setDeferredExtraction(binaryProcessorRegistry.isExtractionDeferred(contentType));
+				modifierOp = postProcessUpload(ul, hash).toList();
+			}
+
+			return modifierOp.flatMap(modifierList -> {
+				return storeUploadInTemp(ctx, ul, hash).andThen(Single.defer(() -> {
+					NodeResponse response = storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName);
+					return Single.just(response);
+				}));
+			});
 
 		}).onErrorResumeNext(e -> {
 			if (ctx.isInvokeStore()) {
@@ -213,6 +238,12 @@ public class BinaryUploadHandler extends AbstractHandler {
 			} else {
 				return Single.just(n);
 			}
+		}).doOnSuccess(n -> {
+			if (ctx.isDeferredExtraction()) {
+				binaryExtractionQueue.enqueue(ctx.getHash(), ul.contentType());
+			}
+			// The binary data is in place. Now the image variants can be generated.
+			ctx.getVariantGeneration().subscribe();
 		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
 
 	}
@@ -271,6 +302,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 				}
 
 				// Load the current latest draft
+				node.materialize(branch, batch);
 				NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(languageTag, branch, ContainerType.DRAFT);
 
 				if (latestDraftVersion == null) {
@@ -310,7 +342,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 					}
 				}
 
-				FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
+				FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getDecodedSchema().getField(fieldName);
 				if (fieldSchema == null) {
 					throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
 				}
@@ -347,13 +379,19 @@ public class BinaryUploadHandler extends AbstractHandler {
 				for (Consumer<BinaryGraphField> modifier : fieldModifier) {
 					modifier.accept(field);
 				}
+				field.setExtracted(!context.isDeferredExtraction());
+				field.setExtractionPending(context.isDeferredExtraction());
+				if (context.isDeferredExtraction()) {
+					field.getBinary().setExtractionPending(true);
+				}
+				context.setVariantGeneration(imageVariantGenerator.prepare(field));
 
 				// Now get rid of the old field
 				if (oldField != null) {
 					oldField.removeField(newDraftVersion);
 				}
 				// If the binary field is the segment field, we need to update the webroot info in the node
-				if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
+				if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getDecodedSchema().getSegmentFieldName())) {
 					newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
 				}
 
@@ -367,6 +405,30 @@ public class BinaryUploadHandler extends AbstractHandler {
 		});
 	}
 
+	/**
+	 * Find a field of the binary from which the extracted data (e.g. metadata, plain text) can be reused for an upload of the given content type. Fields
+	 * which were modified by the user or which still await the extraction can't be used. Fields which were created before the extraction flag was
+	 * introduced are used when they contain stored metadata or plain text. The parser limit depends on the content type. Thus only fields
+	 * with the same content type are suitable.
+	 * 
+	 * @param binary
+	 * @param contentType
+	 * @param exclude
+	 *            Field which should not be used as source or null
+	 * @return Found field or null
+	 */
+	private BinaryGraphField findExtractionSource(Binary binary, String contentType, BinaryGraphField exclude) {
+		for (BinaryGraphField field : binary.findFields()) {
+			if (exclude != null && field.getId().equals(exclude.getId())) {
+				continue;
+			}
+			if (field.isExtracted() && contentType.equals(field.getMimeType())) {
+				return field;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
 	 * {@link BinaryStorage} if desired.
@@ -379,7 +441,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 	 */
 	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
 		String contentType = upload.contentType();
-		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getInlineProcessors(contentType);
 
 		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
 			.doOnSuccess(s -> {
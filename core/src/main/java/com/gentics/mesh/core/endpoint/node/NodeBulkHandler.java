@@ -0,0 +1,251 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.PUBLISH_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.i18n.I18NUtil;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation.Action;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkResult;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.google.common.collect.Lists;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Handler for bulk node requests. The operations of a request are applied in chunks of {@link #getChunkSize()} operations. Each chunk is committed in a
+ * single transaction and the events of the chunk are dispatched as one batch. A chunk which fails is applied again operation by operation so that the
+ * failing operations can be reported while the other operations of the chunk are still applied.
+ */
+@Singleton
+public class NodeBulkHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeBulkHandler.class);
+
+	private final Database db;
+
+	private final HandlerUtilities utils;
+
+	private final MeshOptions options;
+
+	@Inject
+	public NodeBulkHandler(Database db, HandlerUtilities utils, MeshOptions options) {
+		this.db = db;
+		this.utils = utils;
+		this.options = options;
+	}
+
+	/**
+	 * Return the amount of operations which will be applied within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return Math.max(1, options.getContentOptions().getBulkChunkSize());
+	}
+
+	/**
+	 * Handle the bulk request. The request body may either be a {@link NodeBulkRequest}, a JSON array of operations or NDJSON with one operation per line.
+	 *
+	 * @param ac
+	 * @param ndjson
+	 *            Whether the body has been posted as NDJSON
+	 */
+	public void handleBulk(InternalActionContext ac, boolean ndjson) {
+		List<NodeBulkOperation> operations = parseOperations(ac.getBodyAsString(), ndjson);
+		String projectName = db.tx(() -> ac.getProject().getName());
+
+		VersioningParametersImpl versioning = new VersioningParametersImpl();
+		versioning.setVersion("draft");
+		String branch = ac.getVersioningParameters().getBranch();
+		if (branch != null) {
+			versioning.setBranch(branch);
+		}
+		LocalActionContextImpl<NodeResponse> bulkAc = new LocalActionContextImpl<>(ac.getUser(), NodeResponse.class, versioning);
+		bulkAc.setProject(projectName);
+
+		List<NodeBulkResult> results = new ArrayList<>(operations.size());
+		int index = 0;
+		for (List<NodeBulkOperation> chunk : Lists.partition(operations, getChunkSize())) {
+			results.addAll(applyChunk(ac, bulkAc, chunk, index));
+			index += chunk.size();
+		}
+
+		NodeBulkResponse response = new NodeBulkResponse();
+		response.setResults(results);
+		long failed = results.stream().filter(result -> result.getMessage() != null).count();
+		response.setFailed(failed);
+		response.setSucceeded(results.size() - failed);
+		ac.send(response, OK);
+	}
+
+	/**
+	 * Parse the operations of the request body.
+	 *
+	 * @param body
+	 * @param ndjson
+	 * @return
+	 */
+	protected List<NodeBulkOperation> parseOperations(String body, boolean ndjson) {
+		if (isEmpty(body)) {
+			throw error(BAD_REQUEST, "error_parse_request_json_error");
+		}
+		if (ndjson) {
+			List<NodeBulkOperation> operations = new ArrayList<>();
+			for (String line : body.split("\n")) {
+				if (!line.trim().isEmpty()) {
+					operations.add(JsonUtil.readValue(line, NodeBulkOperation.class));
+				}
+			}
+			return operations;
+		}
+		if (body.trim().startsWith("[")) {
+			try {
+				return JsonUtil.getMapper().readValue(body, new TypeReference<List<NodeBulkOperation>>() {
+				});
+			} catch (IOException e) {
+				throw error(BAD_REQUEST, "error_parse_request_json_error", e);
+			}
+		}
+		return JsonUtil.readValue(body, NodeBulkRequest.class).getOperations();
+	}
+
+	private List<NodeBulkResult> applyChunk(InternalActionContext ac, LocalActionContextImpl<NodeResponse> bulkAc, List<NodeBulkOperation> chunk,
+		int offset) {
+		try {
+			return apply(bulkAc, chunk, offset);
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				return Collections.singletonList(failure(ac, chunk.get(0), offset, e));
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Chunk of bulk operations starting at {" + offset + "} failed. Applying the operations individually.", e);
+			}
+			// The transaction of the chunk has been rolled back. Apply the operations one by one to locate the failing operations.
+			List<NodeBulkResult> results = new ArrayList<>(chunk.size());
+			for (int i = 0; i < chunk.size(); i++) {
+				results.addAll(applyChunk(ac, bulkAc, chunk.subList(i, i + 1), offset + i));
+			}
+			return results;
+		}
+	}
+
+	private List<NodeBulkResult> apply(LocalActionContextImpl<NodeResponse> ac, List<NodeBulkOperation> chunk, int offset) {
+		utils.lock();
+		try {
+			return utils.bulkableAction(bac -> {
+				List<NodeBulkResult> results = new ArrayList<>(chunk.size());
+				for (int i = 0; i < chunk.size(); i++) {
+					results.add(apply(ac, bac, chunk.get(i), offset + i));
+				}
+				return results;
+			});
+		} finally {
+			utils.unlock();
+		}
+	}
+
+	private NodeBulkResult apply(LocalActionContextImpl<NodeResponse> ac, BulkActionContext bac, NodeBulkOperation operation, int index) {
+		Action action = operation.getAction();
+		if (action == null) {
+			throw error(BAD_REQUEST, "error_json_field_missing", "action");
+		}
+		NodeBulkResult result = new NodeBulkResult().setIndex(index).setAction(action);
+		Project project = ac.getProject();
+		Branch branch = ac.getBranch(project);
+		String uuid = operation.getUuid();
+
+		if (action == Action.PUBLISH) {
+			if (isEmpty(uuid)) {
+				throw error(BAD_REQUEST, "error_json_field_missing", "uuid");
+			}
+			Node node = project.getNodeRoot().loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+			String language = operation.getLanguage();
+			if (language == null) {
+				node.publish(ac, bac);
+			} else {
+				node.publish(ac, bac, language);
+				result.setVersion(version(node, language, branch, PUBLISHED));
+			}
+			return result.setStatus(OK.code()).setUuid(node.getUuid()).setLanguage(language);
+		}
+
+		NodeUpsertRequest request = operation.getNode();
+		if (request == null) {
+			throw error(BAD_REQUEST, "error_json_field_missing", "node");
+		}
+		if (action != Action.CREATE && isEmpty(uuid)) {
+			throw error(BAD_REQUEST, "error_json_field_missing", "uuid");
+		}
+		ac.setPayloadObject(request);
+
+		Node node = null;
+		if (action != Action.CREATE) {
+			node = action == Action.UPDATE || project.getNodeRoot().findByUuid(uuid) != null
+				? project.getNodeRoot().loadObjectByUuid(ac, uuid, UPDATE_PERM)
+				: null;
+		}
+		if (node == null) {
+			node = project.getNodeRoot().create(ac, bac.batch(), uuid);
+			result.setStatus(CREATED.code());
+		} else {
+			node.update(ac, bac.batch());
+			result.setStatus(OK.code());
+		}
+		if (operation.isPublish()) {
+			node.publish(ac, bac, request.getLanguage());
+		}
+		return result.setUuid(node.getUuid()).setLanguage(request.getLanguage()).setVersion(version(node, request.getLanguage(), branch, DRAFT));
+	}
+
+	private String version(Node node, String language, Branch branch, ContainerType type) {
+		NodeGraphFieldContainer container = node.getGraphFieldContainer(language, branch.getUuid(), type);
+		return container == null ? null : container.getVersion().toString();
+	}
+
+	private NodeBulkResult failure(InternalActionContext ac, NodeBulkOperation operation, int index, Exception e) {
+		NodeBulkResult result = new NodeBulkResult().setIndex(index).setAction(operation.getAction()).setUuid(operation.getUuid());
+		if (e instanceof AbstractRestException) {
+			AbstractRestException re = (AbstractRestException) e;
+			return result.setStatus(re.getStatus().code()).setMessage(I18NUtil.get(ac, re.getI18nKey(), re.getI18nParameters()));
+		}
+		log.error("Bulk operation {" + index + "} failed", e);
+		return result.setStatus(INTERNAL_SERVER_ERROR.code()).setMessage(String.valueOf(e.getMessage()));
+	}
+
+}
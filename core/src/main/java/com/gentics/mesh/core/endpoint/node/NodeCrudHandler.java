@@ -8,12 +8,16 @@ import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PER
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 import org.apache.commons.lang3.math.NumberUtils;
@@ -26,11 +30,14 @@ import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.SubtreeOperation;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
+import com.gentics.mesh.core.node.maintenance.SubtreeOperationHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
@@ -56,13 +63,17 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 	private final MeshOptions options;
 
+	private final SubtreeOperationHandler subtreeHandler;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
-	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot) {
+	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot,
+		SubtreeOperationHandler subtreeHandler) {
 		super(db, utils);
 		this.options = options;
 		this.boot = boot;
+		this.subtreeHandler = subtreeHandler;
 	}
 
 	@Override
@@ -74,6 +85,11 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
+		if (ac.getDeleteParameters().isRecursive()) {
+			handleSubtreeOperation(ac, uuid, DELETE_PERM, SubtreeOperation.DELETE, () -> ac.send(NO_CONTENT));
+			return;
+		}
+
 		utils.lock();
 		utils.syncTx(ac, () -> {
 			try {
@@ -274,6 +290,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 					}
 				} else {
 					utils.eventAction(batch -> {
+						node.materialize(branch, batch);
 						node.addTag(tag, branch);
 
 						batch.add(node.onTagged(tag, branch, ASSIGNED));
@@ -312,6 +329,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 
 				if (node.hasTag(tag, branch)) {
 					utils.eventAction(batch -> {
+						node.materialize(branch, batch);
 						node.removeTag(tag, branch);
 						batch.add(node.onTagged(tag, branch, UNASSIGNED));
 					});
@@ -354,6 +372,16 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handlePublish(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
+		if (ac.getPublishParameters().isRecursive()) {
+			handleSubtreeOperation(ac, uuid, PUBLISH_PERM, SubtreeOperation.PUBLISH, () -> {
+				utils.syncTx(ac, tx -> {
+					Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
+					return node.transformToPublishStatus(ac);
+				}, model -> ac.send(model, OK));
+			});
+			return;
+		}
+
 		utils.lock();
 		utils.syncTx(ac, tx -> {
 			try {
@@ -379,6 +407,11 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 	public void handleTakeOffline(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
+		if (ac.getPublishParameters().isRecursive()) {
+			handleSubtreeOperation(ac, uuid, PUBLISH_PERM, SubtreeOperation.TAKE_OFFLINE, () -> ac.send(NO_CONTENT));
+			return;
+		}
+
 		utils.lock();
 		utils.syncTx(ac, () -> {
 			try {
@@ -392,6 +425,57 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		}, () -> ac.send(NO_CONTENT));
 	}
 
+	/**
+	 * Apply the recursive operation to the subtree of the node. The subtree will be processed in chunks which are committed separately. Large subtrees
+	 * will be handed over to a job when the job threshold has been configured.
+	 * 
+	 * @param ac
+	 *            Action context
+	 * @param uuid
+	 *            Uuid of the root node of the subtree
+	 * @param perm
+	 *            Permission which is required on the root node
+	 * @param operation
+	 *            Operation to be applied
+	 * @param onSuccess
+	 *            Action which will be invoked once the subtree has been processed
+	 */
+	private void handleSubtreeOperation(InternalActionContext ac, String uuid, GraphPermission perm, SubtreeOperation operation,
+		Runnable onSuccess) {
+		try {
+			Project project = db.tx(() -> ac.getProject());
+			Branch branch = db.tx(() -> ac.getBranch());
+			List<String> uuids = db.tx(() -> {
+				Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, perm);
+				if (operation == SubtreeOperation.DELETE && project.getBaseNode().getUuid().equals(node.getUuid())) {
+					throw error(METHOD_NOT_ALLOWED, "node_basenode_not_deletable");
+				}
+				return subtreeHandler.collect(node, branch.getUuid(), operation);
+			});
+
+			if (subtreeHandler.requiresJob(uuids.size())) {
+				utils.lock();
+				try {
+					db.tx(() -> {
+						boot.jobRoot().enqueueSubtreeOperation(ac.getUser(), branch, uuid, operation);
+					});
+				} finally {
+					utils.unlock();
+				}
+				MeshEvent.triggerJobWorker(boot.mesh());
+				ac.send(message(ac, "node_subtree_operation_enqueued", String.valueOf(uuids.size())), ACCEPTED);
+				return;
+			}
+
+			// The write lock will be acquired for each chunk
+			subtreeHandler.process(ac, project, branch, operation, uuids);
+		} catch (Throwable t) {
+			ac.fail(t);
+			return;
+		}
+		onSuccess.run();
+	}
+
 	/**
 	 * Handle getting the publish status for the requested language of the node.
 	 * 
@@ -16,6 +16,7 @@ import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractProjectEndpoint;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import org.apache.commons.lang3.StringUtils;
 import org.raml.model.Resource;
 
@@ -35,6 +36,7 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -59,18 +61,21 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 
 	private BinaryDownloadHandler binaryDownloadHandler;
 
+	private NodeBulkHandler bulkHandler;
+
 	public NodeEndpoint() {
 		super("nodes", null, null);
 	}
 
 	@Inject
 	public NodeEndpoint(MeshAuthChain chain, BootstrapInitializer boot, NodeCrudHandler crudHandler, BinaryUploadHandler binaryUploadHandler,
-		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler) {
+		BinaryTransformHandler binaryTransformHandler, BinaryDownloadHandler binaryDownloadHandler, NodeBulkHandler bulkHandler) {
 		super("nodes", chain, boot);
 		this.crudHandler = crudHandler;
 		this.binaryUploadHandler = binaryUploadHandler;
 		this.binaryTransformHandler = binaryTransformHandler;
 		this.binaryDownloadHandler = binaryDownloadHandler;
+		this.bulkHandler = bulkHandler;
 	}
 
 	@Override
@@ -81,6 +86,8 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 	@Override
 	public void registerEndPoints() {
 		secureAll();
+		// The bulk route must be added before the uuid handler since "bulk" would otherwise be handled as a node uuid
+		addBulkHandler();
 		if (getCrudHandler() != null) {
 			route("/:nodeUuid").handler(getCrudHandler().getUuidHandler("node_not_found_for_uuid"));
 		}
@@ -347,6 +354,26 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		});
 	}
 
+	private void addBulkHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/bulk");
+		endpoint.method(POST);
+		endpoint.description(
+			"Apply a list of create, update and publish operations. The operations can either be posted as JSON or as NDJSON with one operation per line. "
+				+ "The operations are applied in chunks and each chunk is committed in a single transaction. "
+				+ "The response contains the result of each operation. Failing operations will not prevent the other operations from being applied.");
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.exampleRequest(nodeExamples.getNodeBulkRequest());
+		endpoint.exampleResponse(OK, nodeExamples.getNodeBulkResponse(), "Results of the operations.");
+		endpoint.events(NODE_CREATED, NODE_CONTENT_CREATED, NODE_UPDATED, NODE_PUBLISHED);
+		endpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			String contentType = rc.request().getHeader(HttpHeaders.CONTENT_TYPE);
+			bulkHandler.handleBulk(ac, contentType != null && contentType.startsWith(APPLICATION_NDJSON));
+		}, false);
+	}
+
 	private void addReadHandler() {
 		InternalEndpointRoute readOne = createRoute();
 		readOne.path("/:nodeUuid");
@@ -399,11 +426,11 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 		endpoint.exampleResponse(NO_CONTENT, "Deletion was successful.");
 		endpoint.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node could not be found.");
 		endpoint.events(NODE_DELETED);
-		endpoint.handler(rc -> {
+		endpoint.blockingHandler(rc -> {
 			InternalActionContext ac = wrap(rc);
 			String uuid = ac.getParameter("nodeUuid");
 			crudHandler.handleDelete(ac, uuid);
-		});
+		}, false);
 	}
 
 	// TODO filter by project name
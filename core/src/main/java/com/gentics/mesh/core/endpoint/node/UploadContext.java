@@ -2,6 +2,7 @@ package com.gentics.mesh.core.endpoint.node;
 
 import com.gentics.mesh.util.UUIDUtil;
 
+import io.reactivex.Completable;
 import io.vertx.ext.web.FileUpload;
 
 public class UploadContext {
@@ -16,6 +17,10 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean deferredExtraction = false;
+
+	private Completable variantGeneration = Completable.complete();
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -56,4 +61,20 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	public void setDeferredExtraction(boolean deferredExtraction) {
+		this.deferredExtraction = deferredExtraction;
+	}
+
+	public boolean isDeferredExtraction() {
+		return deferredExtraction;
+	}
+
+	public void setVariantGeneration(Completable variantGeneration) {
+		this.variantGeneration = variantGeneration;
+	}
+
+	public Completable getVariantGeneration() {
+		return variantGeneration;
+	}
+
 }
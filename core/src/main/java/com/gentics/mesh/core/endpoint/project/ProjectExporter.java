@@ -0,0 +1,165 @@
+package com.gentics.mesh.core.endpoint.project;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.TagFamily;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry.Type;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Exporter which writes the contents of a project as NDJSON. The export is split into chunks. Each chunk is created within its own short read transaction
+ * so that large projects can be exported without holding a transaction open for the whole export.
+ *
+ * The nodes are exported in a depth-first walk starting with the base node. Parent nodes are thus always exported before their children which allows the
+ * import to create the nodes in the order of the stream.
+ */
+public class ProjectExporter {
+
+	/**
+	 * Amount of nodes which will be exported within a single transaction.
+	 */
+	public static final int NODE_CHUNK_SIZE = 100;
+
+	private final BootstrapInitializer boot;
+
+	private final InternalActionContext ac;
+
+	private final String projectUuid;
+
+	private final String branchUuid;
+
+	private final Deque<String> tagFamilies = new ArrayDeque<>();
+
+	private final Deque<String> nodes = new ArrayDeque<>();
+
+	private boolean headerWritten = false;
+
+	/**
+	 * Create a new exporter. This method needs to be invoked within a transaction.
+	 *
+	 * @param boot
+	 * @param ac
+	 *            Action context which is used to transform the elements
+	 */
+	public ProjectExporter(BootstrapInitializer boot, InternalActionContext ac) {
+		this.boot = boot;
+		this.ac = ac;
+		Project project = ac.getProject();
+		this.projectUuid = project.getUuid();
+		this.branchUuid = ac.getBranch(project).getUuid();
+	}
+
+	/**
+	 * Create the next chunk of the export. This method needs to be invoked within a transaction.
+	 *
+	 * @return Chunk of NDJSON lines or null if the export has been completed
+	 */
+	public Buffer nextChunk() {
+		Project project = boot.projectRoot().findByUuid(projectUuid);
+		Branch branch = project.getBranchRoot().findByUuid(branchUuid);
+		Buffer chunk = Buffer.buffer();
+		if (!headerWritten) {
+			writeHeader(chunk, project, branch);
+			headerWritten = true;
+			return chunk;
+		}
+		if (!tagFamilies.isEmpty()) {
+			TagFamily tagFamily = project.getTagFamilyRoot().findByUuid(tagFamilies.pop());
+			if (tagFamily != null) {
+				write(chunk, new ProjectTransferEntry(Type.TAG_FAMILY, tagFamily.transformToRestSync(ac, 0)));
+				for (Tag tag : tagFamily.findAll()) {
+					write(chunk, new ProjectTransferEntry(Type.TAG, tag.transformToRestSync(ac, 0)));
+				}
+			}
+			return chunk;
+		}
+		if (nodes.isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < NODE_CHUNK_SIZE && !nodes.isEmpty(); i++) {
+			Node node = project.getNodeRoot().findByUuid(nodes.pop());
+			if (node != null) {
+				writeNode(chunk, node, branch);
+			}
+		}
+		return chunk;
+	}
+
+	private void writeHeader(Buffer chunk, Project project, Branch branch) {
+		write(chunk, new ProjectTransferEntry(Type.PROJECT, project.transformToRestSync(ac, 0)));
+		// Microschemas are written first since schemas may reference them
+		for (MicroschemaContainer microschema : project.getMicroschemaContainerRoot().findAll()) {
+			write(chunk, new ProjectTransferEntry(Type.MICROSCHEMA, branch.findLatestMicroschemaVersion(microschema).transformToRestSync(ac, 0)));
+		}
+		for (SchemaContainer schema : project.getSchemaContainerRoot().findAll()) {
+			write(chunk, new ProjectTransferEntry(Type.SCHEMA, branch.findLatestSchemaVersion(schema).transformToRestSync(ac, 0)));
+		}
+		for (TagFamily tagFamily : project.getTagFamilyRoot().findAll()) {
+			tagFamilies.add(tagFamily.getUuid());
+		}
+		nodes.push(project.getBaseNode().getUuid());
+	}
+
+	/**
+	 * Write the contents of the node and queue the children. The published content will be written before the draft so that the import can publish it
+	 * before the draft is updated.
+	 */
+	private void writeNode(Buffer chunk, Node node, Branch branch) {
+		String previousVersion = ac.getVersioningParameters().getVersion();
+		try {
+			for (NodeGraphFieldContainer draft : node.getGraphFieldContainers(branch, DRAFT)) {
+				String languageTag = draft.getLanguageTag();
+				NodeGraphFieldContainer published = node.getGraphFieldContainer(languageTag, branch.getUuid(), PUBLISHED);
+				if (published != null) {
+					ac.getVersioningParameters().setVersion("published");
+					write(chunk, new ProjectTransferEntry(Type.NODE, node.transformToRestSync(ac, 0, languageTag)).setPublished(true));
+				}
+				if (published == null || !published.equals(draft)) {
+					ac.getVersioningParameters().setVersion("draft");
+					write(chunk, new ProjectTransferEntry(Type.NODE, node.transformToRestSync(ac, 0, languageTag)));
+				}
+			}
+		} finally {
+			ac.getVersioningParameters().setVersion(previousVersion);
+		}
+
+		// Push the children in reverse order so that they will be exported ordered by uuid
+		List<String> children = new ArrayList<>();
+		for (Node child : node.getChildren(branch.getUuid())) {
+			children.add(child.getUuid());
+		}
+		Collections.sort(children, Collections.reverseOrder());
+		for (String child : children) {
+			nodes.push(child);
+		}
+	}
+
+	private void write(Buffer chunk, ProjectTransferEntry entry) {
+		try {
+			chunk.appendString(JsonUtil.getMapper().writeValueAsString(entry)).appendString("\n");
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not serialize export entry of type {" + entry.getType() + "}", e);
+		}
+	}
+
+}
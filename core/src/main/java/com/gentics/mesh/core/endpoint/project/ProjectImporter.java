@@ -0,0 +1,458 @@
+package com.gentics.mesh.core.endpoint.project;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.impl.LocalActionContextImpl;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.TagFamily;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.error.AbstractRestException;
+import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.node.field.NodeField;
+import com.gentics.mesh.core.rest.node.field.impl.NodeFieldImpl;
+import com.gentics.mesh.core.rest.node.field.list.NodeFieldList;
+import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListItemImpl;
+import com.gentics.mesh.core.rest.project.ProjectResponse;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry.Type;
+import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
+import com.gentics.mesh.core.rest.schema.NodeFieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.tag.TagCreateRequest;
+import com.gentics.mesh.core.rest.tag.TagFamilyCreateRequest;
+import com.gentics.mesh.core.rest.tag.TagFamilyResponse;
+import com.gentics.mesh.core.rest.tag.TagReference;
+import com.gentics.mesh.core.rest.tag.TagResponse;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Importer for project exports which have been created by the {@link ProjectExporter}. The entries of the export are applied in chunks. Each chunk is
+ * applied within a single transaction. A chunk which fails will be retried entry by entry so that a single invalid entry does not prevent the import of the
+ * remaining chunk.
+ *
+ * Schemas, microschemas, tag families and tags are identified by their name. Nodes keep their uuid unless the uuid is already used by a node of a different
+ * project. References to nodes which have not yet been imported are stored in a temporary file and applied once all nodes have been imported.
+ */
+public class ProjectImporter {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectImporter.class);
+
+	/**
+	 * Amount of entries which will be imported within a single transaction.
+	 */
+	public static final int CHUNK_SIZE = 100;
+
+	/**
+	 * Maximum amount of error messages which will be collected.
+	 */
+	public static final int MAX_ERRORS = 10;
+
+	private final Database db;
+
+	private final BootstrapInitializer boot;
+
+	private final HandlerUtilities utils;
+
+	private final LocalActionContextImpl<?> ac;
+
+	private final File tempDir;
+
+	private final Map<String, String> uuidMapping = new HashMap<>();
+
+	private final List<String> errors = new ArrayList<>();
+
+	private long imported = 0;
+
+	private long failed = 0;
+
+	private long missingBinaries = 0;
+
+	/**
+	 * Create a new importer.
+	 *
+	 * @param db
+	 * @param boot
+	 * @param utils
+	 * @param ac
+	 *            Action context which references the user and the target project
+	 * @param tempDir
+	 *            Directory which will be used to store the deferred node references
+	 */
+	public ProjectImporter(Database db, BootstrapInitializer boot, HandlerUtilities utils, LocalActionContextImpl<?> ac, File tempDir) {
+		this.db = db;
+		this.boot = boot;
+		this.utils = utils;
+		this.ac = ac;
+		this.tempDir = tempDir;
+	}
+
+	/**
+	 * Import the given export file.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void importFile(File file) throws IOException {
+		tempDir.mkdirs();
+		File deferredFile = File.createTempFile("project-import", ".ndjson", tempDir);
+		try {
+			try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+				BufferedWriter deferred = Files.newBufferedWriter(deferredFile.toPath(), StandardCharsets.UTF_8)) {
+				importEntries(reader, deferred);
+			}
+			// Apply the node references which could not be set during the first pass
+			try (BufferedReader reader = Files.newBufferedReader(deferredFile.toPath(), StandardCharsets.UTF_8)) {
+				importEntries(reader, null);
+			}
+		} finally {
+			deferredFile.delete();
+		}
+	}
+
+	private void importEntries(BufferedReader reader, Writer deferred) throws IOException {
+		List<ProjectTransferEntry> chunk = new ArrayList<>(CHUNK_SIZE);
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			chunk.add(JsonUtil.readValue(line, ProjectTransferEntry.class));
+			if (chunk.size() == CHUNK_SIZE) {
+				importChunk(chunk, deferred);
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, deferred);
+		}
+	}
+
+	private void importChunk(List<ProjectTransferEntry> chunk, Writer deferred) throws IOException {
+		try {
+			applyChunk(chunk, deferred);
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				failed++;
+				addError(chunk.get(0), e);
+				return;
+			}
+			// Retry the entries one by one to locate the failing entries
+			for (ProjectTransferEntry entry : chunk) {
+				importChunk(Collections.singletonList(entry), deferred);
+			}
+		}
+	}
+
+	private void applyChunk(List<ProjectTransferEntry> chunk, Writer deferred) throws IOException {
+		ChunkResult result;
+		utils.lock();
+		try {
+			result = utils.bulkableAction(bac -> {
+				// The intent only applies to the transaction of this chunk and does not affect concurrent requests
+				db.enableMassInsert();
+				try {
+					ChunkResult r = new ChunkResult();
+					for (ProjectTransferEntry entry : chunk) {
+						importEntry(entry, bac, r, deferred != null);
+					}
+					return r;
+				} finally {
+					db.disableMassInsert();
+				}
+			});
+		} finally {
+			utils.unlock();
+		}
+		uuidMapping.putAll(result.uuidMapping);
+		missingBinaries += result.missingBinaries;
+		if (deferred != null) {
+			imported += chunk.size();
+			for (ProjectTransferEntry entry : result.deferred) {
+				deferred.write(JsonUtil.getMapper().writeValueAsString(entry));
+				deferred.write("\n");
+			}
+		}
+	}
+
+	private void importEntry(ProjectTransferEntry entry, BulkActionContext bac, ChunkResult result, boolean deferReferences) {
+		Project project = ac.getProject();
+		switch (entry.getType()) {
+		case PROJECT:
+			ProjectResponse projectResponse = entry.getData(ProjectResponse.class);
+			if (projectResponse.getRootNode() != null) {
+				result.uuidMapping.put(projectResponse.getRootNode().getUuid(), project.getBaseNode().getUuid());
+			}
+			break;
+		case MICROSCHEMA:
+			MicroschemaResponse microschemaResponse = entry.getData(MicroschemaResponse.class);
+			MicroschemaContainer microschema = boot.microschemaContainerRoot().findByName(microschemaResponse.getName());
+			if (microschema == null) {
+				ac.setPayloadObject(microschemaResponse);
+				microschema = boot.microschemaContainerRoot().create(ac, bac.batch(), null);
+			}
+			if (!project.getMicroschemaContainerRoot().contains(microschema)) {
+				project.getMicroschemaContainerRoot().addMicroschema(ac.getUser(), microschema, bac.batch());
+			}
+			break;
+		case SCHEMA:
+			SchemaResponse schemaResponse = entry.getData(SchemaResponse.class);
+			SchemaContainer schema = boot.schemaContainerRoot().findByName(schemaResponse.getName());
+			if (schema == null) {
+				ac.setPayloadObject(schemaResponse);
+				schema = boot.schemaContainerRoot().create(ac, bac.batch(), null);
+			}
+			if (!project.getSchemaContainerRoot().contains(schema)) {
+				project.getSchemaContainerRoot().addSchemaContainer(ac.getUser(), schema, bac.batch());
+			}
+			break;
+		case TAG_FAMILY:
+			TagFamilyResponse tagFamilyResponse = entry.getData(TagFamilyResponse.class);
+			if (project.getTagFamilyRoot().findByName(tagFamilyResponse.getName()) == null) {
+				ac.setPayloadObject(new TagFamilyCreateRequest().setName(tagFamilyResponse.getName()));
+				project.getTagFamilyRoot().create(ac, bac.batch(), null);
+			}
+			break;
+		case TAG:
+			TagResponse tagResponse = entry.getData(TagResponse.class);
+			TagFamily tagFamily = project.getTagFamilyRoot().findByName(tagResponse.getTagFamily().getName());
+			if (tagFamily == null) {
+				throw error(NOT_FOUND, "tagfamily_not_found", tagResponse.getTagFamily().getName());
+			}
+			if (tagFamily.findByName(tagResponse.getName()) == null) {
+				ac.setPayloadObject(new TagCreateRequest().setName(tagResponse.getName()));
+				tagFamily.create(ac, bac.batch(), null);
+			}
+			break;
+		case NODE:
+			importNode(entry, bac, result, deferReferences);
+			break;
+		}
+	}
+
+	private void importNode(ProjectTransferEntry entry, BulkActionContext bac, ChunkResult result, boolean deferReferences) {
+		Project project = ac.getProject();
+		Branch branch = ac.getBranch();
+		NodeResponse response = entry.getData(NodeResponse.class);
+		String language = response.getLanguage();
+
+		// Nodes keep their uuid unless it is already used by a node of another project
+		String uuid = targetUuid(result, response.getUuid());
+		Node node = project.getNodeRoot().findByUuid(uuid);
+		if (node == null && boot.nodeRoot().findByUuid(uuid) != null) {
+			uuid = UUIDUtil.randomUUID();
+			result.uuidMapping.put(response.getUuid(), uuid);
+		}
+
+		FieldMap fields = response.getFields() == null ? new FieldMapImpl() : response.getFields();
+		FieldMap deferredFields = new FieldMapImpl();
+		SchemaContainer schemaContainer = project.getSchemaContainerRoot().findByName(response.getSchema().getName());
+		if (schemaContainer != null && branch.findLatestSchemaVersion(schemaContainer) != null) {
+			SchemaModel schema = branch.findLatestSchemaVersion(schemaContainer).getSchema();
+			for (FieldSchema fieldSchema : schema.getFields()) {
+				String key = fieldSchema.getName();
+				if (!fields.hasField(key)) {
+					continue;
+				}
+				if (fieldSchema instanceof BinaryFieldSchema) {
+					// Binaries are only exported by reference. The binary data must already exist in the target instance.
+					BinaryField binaryField = fields.getBinaryField(key);
+					if (binaryField != null && (binaryField.getSha512sum() == null || boot.binaryRoot().findByHash(binaryField
+						.getSha512sum()) == null)) {
+						fields.remove(key);
+						result.missingBinaries++;
+					}
+				} else if (fieldSchema instanceof NodeFieldSchema) {
+					NodeField nodeField = fields.getNodeField(key);
+					if (nodeField != null) {
+						mapReference(fields, deferredFields, key, new NodeFieldImpl().setUuid(targetUuid(result, nodeField.getUuid())), deferReferences);
+					}
+				} else if (fieldSchema instanceof ListFieldSchema && "node".equals(((ListFieldSchema) fieldSchema).getListType())) {
+					NodeFieldList nodeList = fields.getNodeFieldList(key);
+					if (nodeList != null) {
+						NodeFieldListImpl mappedList = new NodeFieldListImpl();
+						nodeList.getItems().forEach(item -> mappedList.add(new NodeFieldListItemImpl(targetUuid(result, item.getUuid()))));
+						mapReference(fields, deferredFields, key, mappedList, deferReferences);
+					}
+				}
+			}
+		}
+
+		NodeUpsertRequest request = new NodeUpsertRequest();
+		request.setLanguage(language);
+		request.setSchemaName(response.getSchema().getName());
+		if (response.getParentNode() != null) {
+			request.setParentNodeUuid(targetUuid(result, response.getParentNode().getUuid()));
+		}
+		request.setFields(fields);
+		if (response.getTags() != null) {
+			// Tags are identified by their name
+			List<TagReference> tags = new ArrayList<>();
+			for (TagReference tag : response.getTags()) {
+				tags.add(new TagReference().setName(tag.getName()).setTagFamily(tag.getTagFamily()));
+			}
+			request.setTags(tags);
+		}
+		ac.setPayloadObject(request);
+
+		// Deferred references are only applied to the draft. The draft is published again if it was published before.
+		boolean republish = false;
+		if (node == null) {
+			node = project.getNodeRoot().create(ac, bac.batch(), uuid);
+		} else {
+			NodeGraphFieldContainer draft = node.getGraphFieldContainer(language, branch, ContainerType.DRAFT);
+			republish = !deferReferences && draft != null && draft.isPublished(branch.getUuid());
+			node.update(ac, bac.batch());
+		}
+		if (entry.isPublished() || republish) {
+			node.publish(ac, bac, language);
+		}
+
+		if (!deferredFields.isEmpty()) {
+			NodeResponse deferredResponse = new NodeResponse();
+			deferredResponse.setUuid(response.getUuid());
+			deferredResponse.setLanguage(language);
+			deferredResponse.setSchema(response.getSchema());
+			deferredResponse.setParentNode(response.getParentNode());
+			deferredResponse.setFields(deferredFields);
+			result.deferred.add(new ProjectTransferEntry(Type.NODE, deferredResponse));
+		}
+	}
+
+	/**
+	 * Set the mapped node reference field. References to nodes which do not yet exist will be deferred during the first pass and omitted during the second
+	 * pass.
+	 */
+	private void mapReference(FieldMap fields, FieldMap deferredFields, String key, Field mappedField, boolean deferReferences) {
+		List<String> uuids = new ArrayList<>();
+		if (mappedField instanceof NodeField) {
+			uuids.add(((NodeField) mappedField).getUuid());
+		} else {
+			((NodeFieldList) mappedField).getItems().forEach(item -> uuids.add(item.getUuid()));
+		}
+		Project project = ac.getProject();
+		boolean resolvable = uuids.stream().allMatch(uuid -> project.getNodeRoot().findByUuid(uuid) != null);
+		if (resolvable) {
+			fields.put(key, mappedField);
+		} else if (deferReferences) {
+			fields.remove(key);
+			deferredFields.put(key, mappedField);
+		} else {
+			log.warn("Omitting reference field {" + key + "} since the referenced nodes could not be found");
+			fields.remove(key);
+		}
+	}
+
+	/**
+	 * Return the uuid of the imported node for the uuid of the exported node. The mappings of the current chunk are only added to the importer once the
+	 * chunk has been committed.
+	 */
+	private String targetUuid(ChunkResult result, String uuid) {
+		String mapped = result.uuidMapping.get(uuid);
+		return mapped != null ? mapped : uuidMapping.getOrDefault(uuid, uuid);
+	}
+
+	private void addError(ProjectTransferEntry entry, Exception e) {
+		String message;
+		if (e instanceof AbstractRestException) {
+			message = ((AbstractRestException) e).getTranslatedMessage();
+			if (message == null) {
+				message = e.getMessage();
+			}
+		} else {
+			log.error("Error while importing entry of type {" + entry.getType() + "}", e);
+			message = e.getMessage();
+		}
+		if (errors.size() < MAX_ERRORS) {
+			errors.add(entry.getType() + ": " + message);
+		}
+	}
+
+	/**
+	 * Return the amount of entries which have been imported.
+	 *
+	 * @return
+	 */
+	public long getImported() {
+		return imported;
+	}
+
+	/**
+	 * Return the amount of entries which could not be imported.
+	 *
+	 * @return
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * Return the amount of binary fields which could not be imported since the binary data was not found.
+	 *
+	 * @return
+	 */
+	public long getMissingBinaries() {
+		return missingBinaries;
+	}
+
+	/**
+	 * Return the first error messages of the failed entries.
+	 *
+	 * @return
+	 */
+	public List<String> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Result of a single applied chunk which will only be taken into account once the chunk transaction has been committed.
+	 */
+	private static class ChunkResult {
+
+		private final List<ProjectTransferEntry> deferred = new ArrayList<>();
+
+		private final Map<String, String> uuidMapping = new HashMap<>();
+
+		private long missingBinaries = 0;
+
+	}
+
+}
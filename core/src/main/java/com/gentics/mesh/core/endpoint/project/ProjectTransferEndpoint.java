@@ -0,0 +1,75 @@
+package com.gentics.mesh.core.endpoint.project;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.POST;
+
+import javax.inject.Inject;
+
+import com.gentics.mesh.auth.MeshAuthChain;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.InternalEndpointRoute;
+import com.gentics.mesh.router.route.AbstractProjectEndpoint;
+
+/**
+ * Endpoint which provides the streaming export and the import of the project contents.
+ */
+public class ProjectTransferEndpoint extends AbstractProjectEndpoint {
+
+	private ProjectTransferHandler handler;
+
+	public ProjectTransferEndpoint() {
+		super("transfer", null, null);
+	}
+
+	@Inject
+	public ProjectTransferEndpoint(MeshAuthChain chain, BootstrapInitializer boot, ProjectTransferHandler handler) {
+		super("transfer", chain, boot);
+		this.handler = handler;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Provides endpoints which can be used to export and import the contents of a project.";
+	}
+
+	@Override
+	public void registerEndPoints() {
+		secureAll();
+		addExportHandler();
+		addImportHandler();
+	}
+
+	private void addExportHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/export");
+		endpoint.method(GET);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.description(
+			"Export the schemas, microschemas, tag families, tags and nodes of the project. The export is streamed as NDJSON with one element per line. Binary data is not included. Binary fields only reference the binary data by its hashsum.");
+		endpoint.exampleResponse(OK, "Stream of the exported project elements.");
+		endpoint.blockingHandler(rc -> handler.handleExport(rc));
+	}
+
+	private void addImportHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/import");
+		endpoint.method(POST);
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(VersioningParametersImpl.class);
+		endpoint.description(
+			"Enqueue a job which imports a project export into the project. Existing nodes will be updated. Schemas, microschemas, tag families and tags will be created when they can't be found by name. The amount of imported, failed and skipped elements will be listed in the job once it has been completed.");
+		endpoint.exampleRequest(projectExamples.getProjectImportFormParameters());
+		endpoint.exampleResponse(ACCEPTED, projectExamples.getProjectImportResponse(), "The import job has been enqueued.");
+		endpoint.blockingHandler(rc -> {
+			InternalActionContext ac = wrap(rc);
+			handler.handleImport(ac);
+		}, false);
+	}
+}
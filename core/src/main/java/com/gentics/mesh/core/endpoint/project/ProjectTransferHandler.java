@@ -0,0 +1,173 @@
+package com.gentics.mesh.core.endpoint.project;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON_UTF8;
+import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.FileUpload;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler for the project export and import requests.
+ */
+@Singleton
+public class ProjectTransferHandler extends AbstractHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectTransferHandler.class);
+
+	private final Vertx vertx;
+
+	private final Database db;
+
+	private final BootstrapInitializer boot;
+
+	private final HandlerUtilities utils;
+
+	private final MeshOptions options;
+
+	@Inject
+	public ProjectTransferHandler(Vertx vertx, Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshOptions options) {
+		this.vertx = vertx;
+		this.db = db;
+		this.boot = boot;
+		this.utils = utils;
+		this.options = options;
+	}
+
+	/**
+	 * Stream the export of the project. Each chunk of the export is loaded in a worker thread and the next chunk will only be loaded once the previous chunk
+	 * has been accepted by the response.
+	 *
+	 * @param rc
+	 */
+	public void handleExport(RoutingContext rc) {
+		InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
+		ProjectExporter exporter = db.tx(() -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			return new ProjectExporter(boot, ac);
+		});
+		String projectName = db.tx(() -> ac.getProject().getName());
+		HttpServerResponse response = rc.response();
+		response.setChunked(true);
+		response.putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON_UTF8);
+		response.putHeader("content-disposition", "attachment; filename=\"" + projectName + ".ndjson\"");
+		writeNextChunk(rc, exporter);
+	}
+
+	private void writeNextChunk(RoutingContext rc, ProjectExporter exporter) {
+		HttpServerResponse response = rc.response();
+		vertx.<Buffer>executeBlocking(bh -> {
+			bh.complete(db.tx(() -> exporter.nextChunk()));
+		}, false, rh -> {
+			if (response.closed()) {
+				return;
+			}
+			if (rh.failed()) {
+				log.error("Error while exporting project", rh.cause());
+				// The status has already been sent. The only way to signal the error is to abort the response.
+				if (response.headWritten()) {
+					response.reset();
+				} else {
+					rc.fail(rh.cause());
+				}
+				return;
+			}
+			Buffer chunk = rh.result();
+			if (chunk == null) {
+				response.end();
+				return;
+			}
+			response.write(chunk);
+			if (response.writeQueueFull()) {
+				response.drainHandler(v -> {
+					response.drainHandler(null);
+					writeNextChunk(rc, exporter);
+				});
+			} else {
+				writeNextChunk(rc, exporter);
+			}
+		});
+	}
+
+	/**
+	 * Enqueue a job which imports the uploaded project export into the project. The upload is moved to the temporary upload directory since it will
+	 * be deleted once the request has been handled.
+	 *
+	 * @param ac
+	 */
+	public void handleImport(InternalActionContext ac) {
+		String projectName = db.tx(() -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			return ac.getProject().getName();
+		});
+
+		Set<FileUpload> fileUploads = ac.getFileUploads();
+		if (fileUploads.size() != 1) {
+			throw error(BAD_REQUEST, "project_import_error_no_file");
+		}
+		FileUpload upload = fileUploads.iterator().next();
+
+		File tempDir = new File(options.getUploadOptions().getTempDirectory());
+		File importFile = new File(tempDir, "project-import-" + UUIDUtil.randomUUID() + ".ndjson");
+		try {
+			tempDir.mkdirs();
+			Files.move(Paths.get(upload.uploadedFileName()), importFile.toPath());
+		} catch (IOException e) {
+			log.error("Could not store the upload for the import of project {" + projectName + "}", e);
+			throw error(INTERNAL_SERVER_ERROR, "project_import_failed", e);
+		}
+
+		Job job;
+		utils.lock();
+		try {
+			job = db.tx(() -> boot.jobRoot().enqueueProjectImport(ac.getUser(), ac.getBranch(), importFile.getAbsolutePath()));
+		} finally {
+			utils.unlock();
+		}
+		MeshEvent.triggerJobWorker(boot.mesh());
+
+		GenericMessageResponse response = message(ac, "project_import_enqueued", projectName);
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("jobUuid", db.tx(() -> job.getUuid()));
+		response.setProperties(properties);
+		ac.send(response, ACCEPTED);
+	}
+
+}
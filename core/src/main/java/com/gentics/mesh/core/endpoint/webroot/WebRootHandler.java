@@ -41,7 +41,6 @@ import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
-import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Single;
@@ -122,22 +121,9 @@ public class WebRootHandler {
 
 			GraphField field = lastSegment.getPathField();
 			if (field instanceof BinaryGraphField) {
-				BinaryGraphField binaryField = (BinaryGraphField) field;
-				String sha512sum = binaryField.getBinary().getSHA512Sum();
-
-				// Check the etag
-				String etagKey = sha512sum;
-				if (binaryField.hasProcessableImage()) {
-					etagKey += ac.getImageParameters().getQueryParameters();
-				}
-				String etag = ETag.hash(etagKey);
-				ac.setEtag(etag, false);
-				if (ac.matches(etag, false)) {
-					return Single.error(new NotModifiedException());
-				} else {
-					binaryFieldResponseHandler.handle(rc, binaryField);
-					return Single.just(Optional.empty());
-				}
+				// The handler will check the stored etag of the binary and answer conditional requests
+				binaryFieldResponseHandler.handle(rc, (BinaryGraphField) field);
+				return Single.just(Optional.empty());
 			} else {
 				String etag = node.getETag(ac);
 				ac.setEtag(etag, true);
@@ -0,0 +1,193 @@
+package com.gentics.mesh.core.node.maintenance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.SubtreeOperation;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.PublishParameters;
+import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.google.common.collect.Lists;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Handler which applies recursive operations (delete, publish, take offline) to a subtree of nodes. The uuids of the subtree are collected first and the
+ * operation is afterwards applied in chunks of {@link #getChunkSize()} nodes. Each chunk is committed in its own transaction so that a conflict only
+ * requires the current chunk to be retried.
+ *
+ * The global write lock is only held while a chunk is applied. Other write requests can thus proceed between the chunks of a large subtree.
+ *
+ * Every step is idempotent. Nodes which have already been deleted will be skipped and publishing or taking a node offline which was already handled has no
+ * effect. An interrupted operation can thus be resumed by collecting and processing the subtree again.
+ */
+@Singleton
+public class SubtreeOperationHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(SubtreeOperationHandler.class);
+
+	private final Database db;
+
+	private final Provider<BulkActionContext> bulkProvider;
+
+	private final MeshOptions options;
+
+	private final HandlerUtilities utils;
+
+	@Inject
+	public SubtreeOperationHandler(Database db, Provider<BulkActionContext> bulkProvider, MeshOptions options, HandlerUtilities utils) {
+		this.db = db;
+		this.bulkProvider = bulkProvider;
+		this.options = options;
+		this.utils = utils;
+	}
+
+	/**
+	 * Return the amount of nodes which will be handled within a single transaction.
+	 *
+	 * @return
+	 */
+	public int getChunkSize() {
+		return Math.max(1, options.getContentOptions().getSubtreeChunkSize());
+	}
+
+	/**
+	 * Check whether an operation on a subtree of the given size should be processed by a job.
+	 *
+	 * @param subtreeSize
+	 * @return
+	 */
+	public boolean requiresJob(int subtreeSize) {
+		int threshold = options.getContentOptions().getSubtreeJobThreshold();
+		return threshold >= 0 && subtreeSize > threshold;
+	}
+
+	/**
+	 * Collect the uuids of the subtree of the given node in the branch. The root node itself is included. The order of the uuids matches the order in
+	 * which the operation needs to process the nodes.
+	 *
+	 * @param root
+	 * @param branchUuid
+	 * @param operation
+	 * @return
+	 */
+	public List<String> collect(Node root, String branchUuid, SubtreeOperation operation) {
+		List<String> uuids = new ArrayList<>();
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(root);
+		// Pre-order traversal. Each node is listed before all of its descendants.
+		while (!stack.isEmpty()) {
+			Node node = stack.pop();
+			uuids.add(node.getUuid());
+			for (Node child : node.getChildren(branchUuid)) {
+				stack.push(child);
+			}
+		}
+		if (operation.isLeafsFirst()) {
+			Collections.reverse(uuids);
+		}
+		return uuids;
+	}
+
+	/**
+	 * Apply the operation to the given nodes.
+	 *
+	 * @see #process(InternalActionContext, Project, Branch, SubtreeOperation, List, LongConsumer)
+	 * @param ac
+	 * @param project
+	 * @param branch
+	 * @param operation
+	 * @param uuids
+	 * @return Amount of processed nodes
+	 */
+	public long process(InternalActionContext ac, Project project, Branch branch, SubtreeOperation operation, List<String> uuids) {
+		return process(ac, project, branch, operation, uuids, count -> {
+		});
+	}
+
+	/**
+	 * Apply the operation to the given nodes. The nodes will be handled in chunks and each chunk will be committed in a separate transaction. The write
+	 * lock must not be held by the caller since it will be acquired for each chunk.
+	 *
+	 * @param ac
+	 *            Action context which provides the user for the operation
+	 * @param project
+	 * @param branch
+	 * @param operation
+	 * @param uuids
+	 *            Uuids of the nodes in processing order
+	 * @param progress
+	 *            Consumer which will be invoked with the amount of processed nodes after each chunk
+	 * @return Amount of processed nodes
+	 */
+	public long process(InternalActionContext ac, Project project, Branch branch, SubtreeOperation operation, List<String> uuids,
+		LongConsumer progress) {
+		// The recursion is handled by the chunks
+		PublishParameters parameters = new PublishParametersImpl().setRecursive(false);
+		if (operation == SubtreeOperation.PUBLISH) {
+			ac.getPublishParameters().setRecursive(false);
+		}
+
+		long processed = 0;
+		for (List<String> chunk : Lists.partition(uuids, getChunkSize())) {
+			utils.lock();
+			try {
+				BulkActionContext bac = db.tx(tx -> {
+					BulkActionContext chunkBac = bulkProvider.get();
+					for (String uuid : chunk) {
+						Node node = project.getNodeRoot().findByUuid(uuid);
+						// The node may have been deleted by a previous run
+						if (node == null) {
+							continue;
+						}
+						apply(ac, operation, node, branch, parameters, chunkBac);
+					}
+					return chunkBac;
+				});
+				bac.process(true);
+			} finally {
+				utils.unlock();
+			}
+			processed += chunk.size();
+			if (log.isDebugEnabled()) {
+				log.debug("Processed {" + processed + "} of {" + uuids.size() + "} nodes for subtree " + operation);
+			}
+			progress.accept(processed);
+		}
+		return processed;
+	}
+
+	private void apply(InternalActionContext ac, SubtreeOperation operation, Node node, Branch branch, PublishParameters parameters,
+		BulkActionContext bac) {
+		switch (operation) {
+		case DELETE:
+			node.deleteFromBranch(ac, branch, bac, false);
+			break;
+		case PUBLISH:
+			node.publish(ac, bac);
+			break;
+		case TAKE_OFFLINE:
+			node.takeOffline(ac, bac, branch, parameters);
+			break;
+		default:
+			throw new RuntimeException("Unsupported subtree operation {" + operation + "}");
+		}
+	}
+
+}
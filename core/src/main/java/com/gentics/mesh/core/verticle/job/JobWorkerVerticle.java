@@ -2,26 +2,38 @@ package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.core.rest.MeshEvent.JOB_WORKER_ADDRESS;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.job.Job;
 import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 
 /**
  * Dedicated verticle which will process jobs.
+ * 
+ * Jobs are grouped in lanes (see {@link Job#getLaneKey()}). The jobs of a single lane are processed sequentially while holding a cluster wide lock for
+ * the lane. Different lanes are processed concurrently up to the configured job concurrency limit.
  */
 @Singleton
 public class JobWorkerVerticle extends AbstractJobVerticle {
 
 	private static final String GLOBAL_JOB_LOCK_NAME = "mesh.internal.joblock";
 
+	private static final String LANE_LOCK_PREFIX = GLOBAL_JOB_LOCK_NAME + ".";
+
 	public final static String PROJECT_UUID_HEADER = "projectUuid";
 
 	public final static String BRANCH_UUID_HEADER = "branchUuid";
@@ -36,10 +48,13 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 
 	private Database db;
 
+	private MeshOptions options;
+
 	@Inject
-	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot) {
+	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot, MeshOptions options) {
 		this.db = db;
 		this.boot = boot;
+		this.options = options;
 	}
 
 	@Override
@@ -52,12 +67,67 @@ public class JobWorkerVerticle extends AbstractJobVerticle {
 		return GLOBAL_JOB_LOCK_NAME;
 	}
 
+	@Override
+	public void invokeJobAction(Message<Object> message) {
+		if (stopped) {
+			message.reply(new JsonObject().put("status", STATUS_REJECTED));
+			return;
+		}
+		// The lanes are locked individually. No global lock is needed.
+		message.reply(new JsonObject().put("status", STATUS_ACCEPTED));
+		executeJob(message).subscribe(() -> {
+			log.debug("Job processing completed");
+		}, error -> {
+			log.error("Error while processing jobs", error);
+		});
+	}
+
 	@Override
 	public Completable executeJob(Message<Object> message) {
-		return Completable.defer(() -> db.tx(() -> {
-			JobRoot jobRoot = boot.get().jobRoot();
-			return jobRoot.process();
-		}));
+		return Completable.defer(() -> {
+			Set<String> lanes = db.tx(() -> boot.get().jobRoot().findPendingLanes());
+			if (log.isDebugEnabled()) {
+				log.debug("Found {" + lanes.size() + "} job lanes with pending jobs");
+			}
+			int concurrency = options.getJobOptions() == null ? 1 : options.getJobOptions().getConcurrency();
+			return Flowable.fromIterable(lanes)
+				.flatMapCompletable(lane -> executeLocked(LANE_LOCK_PREFIX + lane, processLane(lane, new HashSet<>())), false, concurrency);
+		});
+	}
+
+	/**
+	 * Process the pending jobs of the lane one after another until no further pending job can be found. Jobs which get enqueued while the lane is being
+	 * processed will thus also be handled.
+	 * 
+	 * @param laneKey
+	 * @param processed
+	 *            Uuids of the jobs which have already been processed by this lane worker
+	 * @return
+	 */
+	private Completable processLane(String laneKey, Set<String> processed) {
+		return Completable.defer(() -> {
+			Completable next = db.tx(() -> {
+				JobRoot jobRoot = boot.get().jobRoot();
+				Job job = jobRoot.findNextPending(laneKey, processed);
+				if (job == null) {
+					return null;
+				}
+				processed.add(job.getUuid());
+				try {
+					return job.process();
+				} catch (Exception e) {
+					job.markAsFailed(e);
+					log.error("Error while processing job {" + job.getUuid() + "}", e);
+					return Completable.complete();
+				}
+			});
+			if (next == null) {
+				return Completable.complete();
+			}
+			return next.doOnError(error -> {
+				log.error("Error while processing job of lane {" + laneKey + "}", error);
+			}).onErrorComplete().andThen(processLane(laneKey, processed));
+		});
 	}
 
 }
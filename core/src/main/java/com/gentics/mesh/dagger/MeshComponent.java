@@ -8,11 +8,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.DecodedSchemaCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.core.binary.BinaryExtractionQueue;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
@@ -21,7 +23,9 @@ import com.gentics.mesh.core.endpoint.migration.node.NodeMigrationHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.node.maintenance.SubtreeOperationHandler;
 import com.gentics.mesh.core.project.maintenance.ProjectVersionPurgeHandler;
+import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.job.JobWorkerVerticle;
 import com.gentics.mesh.dagger.module.BindModule;
 import com.gentics.mesh.dagger.module.MeshModule;
@@ -97,6 +101,12 @@ public interface MeshComponent {
 
 	ProjectVersionPurgeHandler projectVersionPurgeHandler();
 
+	SubtreeOperationHandler subtreeOperationHandler();
+
+	HandlerUtilities handlerUtilities();
+
+	BinaryExtractionQueue binaryExtractionQueue();
+
 	MeshLocalClientImpl meshLocalClientImpl();
 
 	WebRootLinkReplacer webRootLinkReplacer();
@@ -139,6 +149,8 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	DecodedSchemaCache decodedSchemaCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
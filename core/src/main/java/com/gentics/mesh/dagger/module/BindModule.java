@@ -4,6 +4,8 @@ import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.DecodedSchemaCache;
+import com.gentics.mesh.cache.DecodedSchemaCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
@@ -15,7 +17,9 @@ import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.cli.BootstrapInitializerImpl;
 import com.gentics.mesh.context.BulkActionContext;
+import com.gentics.mesh.context.LocalActionContextFactory;
 import com.gentics.mesh.context.impl.BulkActionContextImpl;
+import com.gentics.mesh.context.impl.LocalActionContextFactoryImpl;
 import com.gentics.mesh.core.data.service.WebRootService;
 import com.gentics.mesh.core.data.service.WebRootServiceImpl;
 import com.gentics.mesh.event.EventQueueBatch;
@@ -77,6 +81,9 @@ public abstract class BindModule {
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract DecodedSchemaCache bindDecodedSchemaCache(DecodedSchemaCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
@@ -91,4 +98,7 @@ public abstract class BindModule {
 
 	@Binds
 	abstract CacheRegistry bindCacheRegistry(CacheRegistryImpl e);
+
+	@Binds
+	abstract LocalActionContextFactory bindLocalActionContextFactory(LocalActionContextFactoryImpl e);
 }
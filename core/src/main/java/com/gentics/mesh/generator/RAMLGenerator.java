@@ -13,6 +13,7 @@ import com.gentics.mesh.core.endpoint.navroot.NavRootEndpoint;
 import com.gentics.mesh.core.endpoint.node.NodeEndpoint;
 import com.gentics.mesh.core.endpoint.project.ProjectEndpoint;
 import com.gentics.mesh.core.endpoint.project.ProjectInfoEndpoint;
+import com.gentics.mesh.core.endpoint.project.ProjectTransferEndpoint;
 import com.gentics.mesh.core.endpoint.role.RoleEndpoint;
 import com.gentics.mesh.core.endpoint.schema.ProjectSchemaEndpoint;
 import com.gentics.mesh.core.endpoint.schema.SchemaEndpoint;
@@ -296,6 +297,10 @@ public class RAMLGenerator extends AbstractGenerator {
 		initEndpoint(navEndpoint);
 		addEndpoints(projectBasePath, resources, navEndpoint);
 
+		ProjectTransferEndpoint transferEndpoint = Mockito.spy(new ProjectTransferEndpoint());
+		initEndpoint(transferEndpoint);
+		addEndpoints(projectBasePath, resources, transferEndpoint);
+
 		WebRootEndpoint webEndpoint = Mockito.spy(new WebRootEndpoint());
 		initEndpoint(webEndpoint);
 		addEndpoints(projectBasePath, resources, webEndpoint);
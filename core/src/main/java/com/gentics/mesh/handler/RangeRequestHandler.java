@@ -4,7 +4,10 @@ import io.vertx.ext.web.RoutingContext;
 
 /**
  * Handler which will take care of a byte range request and return the 
- * requested chunked data of the given binary field data. 
+ * requested chunked data of the given binary field data. The range will
+ * only be applied when the <code>If-Range</code> header of the request
+ * matches the <code>ETag</code> or <code>Last-Modified</code> header of
+ * the response.
  */
 public interface RangeRequestHandler {
 
@@ -29,7 +32,8 @@ public interface RangeRequestHandler {
 	boolean DEFAULT_FILES_READ_ONLY = true;
 
 	/**
-	 * Process the request for the requested binary file.
+	 * Process the request for the requested binary file. The file will be sent via sendfile. The modification time of the file will be used for the
+	 * <code>Last-Modified</code> header unless the header has already been set.
 	 * 
 	 * @param rc
 	 * @param localPath
@@ -37,4 +41,17 @@ public interface RangeRequestHandler {
 	 */
 	void handle(RoutingContext rc, String localPath, String contentType);
 
+	/**
+	 * Process the request for the binary data which can't be accessed via a local path. The data will be loaded from the binary storage and written with
+	 * backpressure to the response. Only the requested range will be loaded.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 *            Uuid of the binary
+	 * @param size
+	 *            Size of the binary data in bytes
+	 * @param contentType
+	 */
+	void handleStream(RoutingContext rc, String binaryUuid, long size, String contentType);
+
 }
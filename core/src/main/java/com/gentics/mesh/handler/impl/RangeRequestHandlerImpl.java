@@ -8,22 +8,34 @@ import static io.netty.handler.codec.http.HttpResponseStatus.REQUESTED_RANGE_NOT
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.reactivestreams.Subscription;
+
 import com.gentics.mesh.handler.RangeRequestHandler;
+import com.gentics.mesh.storage.BinaryStorage;
 
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.impl.LRUCache;
+import io.vertx.ext.web.impl.Utils;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.file.FileProps;
 
@@ -42,10 +54,12 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 
 	private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
 	private final Vertx rxVertx;
+	private final BinaryStorage storage;
 
 	@Inject
-	public RangeRequestHandlerImpl(Vertx rxVertx) {
+	public RangeRequestHandlerImpl(Vertx rxVertx, BinaryStorage storage) {
 		this.rxVertx = rxVertx;
+		this.storage = storage;
 	}
 
 	@Override
@@ -59,24 +73,45 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 				context.fail(error(NOT_FOUND, "node_error_binary_data_not_found"));
 			} else {
 				propsCache().put(file, fprops);
-				sendFile(context, file, contentType, fprops);
+				MultiMap headers = context.response().headers();
+				if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+					headers.set(HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(fprops.lastModifiedTime()));
+				}
+				send(context, contentType, fprops.size(), (offset, length) -> {
+					// sendfile allows the kernel to copy the data directly from the file to the socket
+					context.response().sendFile(file, offset, length, rh -> {
+						if (rh.failed()) {
+							context.fail(rh.cause());
+						}
+					});
+				});
 			}
 		}, context::fail);
 	}
 
-	private void sendFile(RoutingContext context, String file, String contentType, FileProps fileProps) {
+	@Override
+	public void handleStream(RoutingContext context, String binaryUuid, long size, String contentType) {
+		send(context, contentType, size, (offset, length) -> {
+			if (offset == 0 && length == size) {
+				pipe(context, storage.read(binaryUuid));
+			} else {
+				pipe(context, storage.read(binaryUuid, offset, offset + length - 1));
+			}
+		});
+	}
+
+	private void send(RoutingContext context, String contentType, long size, RangeSender sender) {
 		HttpServerRequest request = context.request();
+		HttpServerResponse response = context.response();
 
-		Long offset = null;
-		Long end = null;
-		MultiMap headers = null;
+		long offset = 0;
+		// end byte is length - 1
+		long end = size - 1;
+		boolean partial = false;
 
 		// check if the client is making a range request
 		String range = request.getHeader("Range");
-		// end byte is length - 1
-		end = fileProps.size() - 1;
-
-		if (range != null) {
+		if (range != null && matchesIfRange(request, response)) {
 			Matcher m = RANGE.matcher(range);
 			if (m.matches()) {
 				try {
@@ -84,7 +119,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 					// offset cannot be empty
 					offset = Long.parseLong(part);
 					// offset must fall inside the limits of the file
-					if (offset < 0 || offset >= fileProps.size()) {
+					if (offset < 0 || offset >= size) {
 						throw new IndexOutOfBoundsException();
 					}
 					// length can be empty
@@ -97,51 +132,148 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 							throw new IndexOutOfBoundsException();
 						}
 					}
+					partial = true;
 				} catch (NumberFormatException | IndexOutOfBoundsException e) {
-					context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
+					response.putHeader("Content-Range", "bytes */" + size);
 					context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
 					return;
 				}
 			}
-
-			// notify client we support range requests
-			headers = request.response().headers();
-			headers.set("Accept-Ranges", "bytes");
-			// send the content length even for HEAD requests
-			headers.set("Content-Length", Long.toString(end + 1 - (offset == null ? 0 : offset)));
 		}
 
-		if (request.method() == HttpMethod.HEAD) {
-			request.response().end();
-			return;
-		}
+		// notify client we support range requests
+		MultiMap headers = response.headers();
+		headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+		// send the content length even for HEAD requests
+		headers.set(HttpHeaders.CONTENT_LENGTH, Long.toString(end + 1 - offset));
 
 		if (contentType != null) {
 			if (contentType.startsWith("text")) {
-				request.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
+				headers.set(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultContentEncoding);
 			} else {
-				request.response().putHeader("Content-Type", contentType);
+				headers.set(HttpHeaders.CONTENT_TYPE, contentType);
 			}
 		}
-		if (offset != null) {
+
+		if (partial) {
 			// must return content range
-			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + fileProps.size());
+			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + size);
 			// return a partial response
-			request.response().setStatusCode(PARTIAL_CONTENT.code());
+			response.setStatusCode(PARTIAL_CONTENT.code());
+		}
 
-			final Long finalOffset = offset;
-			final Long finalLength = end + 1 - offset;
+		if (request.method() == HttpMethod.HEAD) {
+			response.end();
+			return;
+		}
 
-			request.response().sendFile(file, finalOffset, finalLength);
-		} else {
-			// Return the full file
-			request.response().sendFile(file, res2 -> {
-				if (res2.failed()) {
-					context.fail(res2.cause());
-				}
-			});
+		sender.send(offset, end + 1 - offset);
+	}
+
+	/**
+	 * Check whether the range of the request should be applied. A range must be ignored when the <code>If-Range</code> validator does not match the
+	 * current representation. Weak etags never match.
+	 *
+	 * @param request
+	 * @param response
+	 * @return
+	 */
+	private boolean matchesIfRange(HttpServerRequest request, HttpServerResponse response) {
+		String ifRange = request.getHeader("If-Range");
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("W/")) {
+			return false;
+		}
+		if (ifRange.startsWith("\"")) {
+			return ifRange.equals(response.headers().get(HttpHeaders.ETAG));
+		}
+		String lastModified = response.headers().get(HttpHeaders.LAST_MODIFIED);
+		if (lastModified == null) {
+			return false;
 		}
+		long date = Utils.parseRFC1123DateTime(ifRange);
+		return date != -1 && date == Utils.parseRFC1123DateTime(lastModified);
+	}
+
+	/**
+	 * Write the stream to the response. The next buffer will only be requested once the response is able to accept more data.
+	 *
+	 * @param context
+	 * @param stream
+	 */
+	private void pipe(RoutingContext context, Flowable<Buffer> stream) {
+		HttpServerResponse response = context.response();
+		// HTTP/2 connections are shared by multiple streams. A reset stream is reported via the exception handler of the response instead.
+		HttpConnection connection = context.request().version() == HttpVersion.HTTP_2 ? null : context.request().connection();
+		stream.subscribe(new FlowableSubscriber<Buffer>() {
 
+			private Subscription subscription;
+
+			@Override
+			public void onSubscribe(Subscription s) {
+				subscription = s;
+				// Stop loading the data once the client has closed the connection. The close handler of the response is not used since it may be set by
+				// other handlers.
+				if (connection != null) {
+					connection.closeHandler(v -> s.cancel());
+				}
+				response.exceptionHandler(e -> s.cancel());
+				s.request(1);
+			}
+
+			@Override
+			public void onNext(Buffer buffer) {
+				if (response.closed()) {
+					subscription.cancel();
+					return;
+				}
+				response.write(buffer);
+				if (!response.writeQueueFull()) {
+					subscription.request(1);
+					return;
+				}
+				AtomicBoolean resumed = new AtomicBoolean();
+				Runnable resume = () -> {
+					if (resumed.compareAndSet(false, true)) {
+						response.drainHandler(null);
+						subscription.request(1);
+					}
+				};
+				response.drainHandler(v -> resume.run());
+				// The queue may have been drained before the handler was registered
+				if (!response.writeQueueFull()) {
+					resume.run();
+				}
+			}
+
+			@Override
+			public void onError(Throwable e) {
+				releaseConnection();
+				log.error("Error while streaming binary data", e);
+				// The status has already been sent. The only way to signal the error is to abort the response.
+				if (response.headWritten()) {
+					response.reset();
+				} else {
+					context.fail(e);
+				}
+			}
+
+			@Override
+			public void onComplete() {
+				releaseConnection();
+				if (!response.closed()) {
+					response.end();
+				}
+			}
+
+			private void releaseConnection() {
+				if (connection != null) {
+					connection.closeHandler(null);
+				}
+			}
+		});
 	}
 
 	private Single<FileProps> getFileProps(String file) {
@@ -161,4 +293,13 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		return propsCache;
 	}
 
+	/**
+	 * Sends the selected range of the data.
+	 */
+	@FunctionalInterface
+	private interface RangeSender {
+
+		void send(long offset, long length);
+	}
+
 }
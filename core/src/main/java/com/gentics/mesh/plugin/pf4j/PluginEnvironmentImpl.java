@@ -4,10 +4,12 @@ import javax.inject.Inject;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.env.PluginEnvironment;
+import com.gentics.mesh.rest.MeshLocalClientImpl;
 import com.gentics.mesh.rest.client.MeshRestClient;
 
 import dagger.Lazy;
@@ -25,13 +27,17 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 
 	private Lazy<BootstrapInitializer> boot;
 
+	private Lazy<MeshLocalClientImpl> localClient;
+
 	private static final String WILDCARD_IP = "0.0.0.0";
 
 	private static final String LOOPBACK_IP = "127.0.0.1";
 
 	@Inject
-	public PluginEnvironmentImpl(Lazy<BootstrapInitializer> boot, Database db, Lazy<MeshJWTAuthProvider> authProvider, Lazy<Vertx> vertx, MeshOptions options) {
+	public PluginEnvironmentImpl(Lazy<BootstrapInitializer> boot, Database db, Lazy<MeshJWTAuthProvider> authProvider, Lazy<Vertx> vertx, MeshOptions options,
+		Lazy<MeshLocalClientImpl> localClient) {
 		this.boot = boot;
+		this.localClient = localClient;
 		this.db = db;
 		this.authProvider = authProvider;
 		this.vertx = vertx;
@@ -61,6 +67,15 @@ public class PluginEnvironmentImpl implements PluginEnvironment {
 		return client;
 	}
 
+	@Override
+	public MeshRestClient createLocalClient(io.vertx.ext.auth.User user) {
+		if (!(user instanceof MeshAuthUser)) {
+			throw new IllegalArgumentException("The local client can only be created for authenticated mesh users.");
+		}
+		// The handlers of the shared local client are reused and only the user is bound to the new instance
+		return localClient.get().withUser((MeshAuthUser) user);
+	}
+
 	@Override
 	public MeshOptions options() {
 		return options;
@@ -1,10 +1,13 @@
 package com.gentics.mesh.rest;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_IMPLEMENTED;
+
 import java.io.File;
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -12,16 +15,20 @@ import javax.inject.Singleton;
 import org.apache.commons.io.IOUtils;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.impl.LocalActionContextImpl;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.endpoint.admin.AdminHandler;
+import com.gentics.mesh.core.endpoint.admin.JobHandler;
+import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
 import com.gentics.mesh.core.endpoint.auth.AuthenticationRestHandler;
 import com.gentics.mesh.core.endpoint.branch.BranchCrudHandler;
 import com.gentics.mesh.core.endpoint.group.GroupCrudHandler;
 import com.gentics.mesh.core.endpoint.microschema.MicroschemaCrudHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
+import com.gentics.mesh.core.endpoint.node.NodeBulkHandler;
 import com.gentics.mesh.core.endpoint.node.NodeCrudHandler;
 import com.gentics.mesh.core.endpoint.project.ProjectCrudHandler;
 import com.gentics.mesh.core.endpoint.role.RoleCrudHandler;
@@ -32,6 +39,7 @@ import com.gentics.mesh.core.endpoint.user.UserCrudHandler;
 import com.gentics.mesh.core.endpoint.utility.UtilityHandler;
 import com.gentics.mesh.core.endpoint.webroot.WebRootHandler;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
@@ -54,6 +62,8 @@ import com.gentics.mesh.core.rest.microschema.impl.MicroschemaCreateRequest;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -113,9 +123,20 @@ import com.gentics.mesh.rest.client.MeshWebrootResponse;
 import com.gentics.mesh.rest.client.MeshWebsocket;
 import com.gentics.mesh.rest.client.impl.EmptyResponse;
 import com.gentics.mesh.search.index.AdminIndexHandler;
+import com.gentics.mesh.search.index.group.GroupSearchHandler;
+import com.gentics.mesh.search.index.microschema.MicroschemaSearchHandler;
+import com.gentics.mesh.search.index.node.NodeSearchHandler;
+import com.gentics.mesh.search.index.project.ProjectSearchHandler;
+import com.gentics.mesh.search.index.role.RoleSearchHandler;
+import com.gentics.mesh.search.index.schema.SchemaSearchHandler;
+import com.gentics.mesh.search.index.tag.TagSearchHandler;
+import com.gentics.mesh.search.index.tagfamily.TagFamilySearchHandler;
+import com.gentics.mesh.search.index.user.UserSearchHandler;
 import com.gentics.mesh.util.UUIDUtil;
 
+import dagger.Lazy;
 import io.reactivex.Single;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -123,8 +144,9 @@ import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.ext.web.FileUpload;
 
 /**
- * Local client implementation. This client will invoke endpoint handlers instead of sending http rest requests. Please note that is implementation is not very
- * well tested and may lack a lot of endpoint implementations.
+ * Local client implementation. This client will invoke endpoint handlers instead of sending http rest requests. The handlers are invoked on a worker thread
+ * since they execute blocking transactions, just like the blocking route handlers of the http endpoints. Operations which can only be handled by routing
+ * context based handlers (e.g. webroot, binary downloads, graphql) fail with a {@link io.netty.handler.codec.http.HttpResponseStatus#NOT_IMPLEMENTED} error.
  */
 @Singleton
 public class MeshLocalClientImpl implements MeshRestClient {
@@ -158,6 +180,9 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Inject
 	public NodeCrudHandler nodeCrudHandler;
 
+	@Inject
+	public NodeBulkHandler nodeBulkHandler;
+
 	@Inject
 	public BinaryUploadHandler fieldAPIHandler;
 
@@ -182,19 +207,108 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Inject
 	public PluginHandler pluginHandler;
 
+	@Inject
+	public JobHandler jobHandler;
+
+	@Inject
+	public ConsistencyCheckHandler consistencyCheckHandler;
+
+	@Inject
+	public UserSearchHandler userSearchHandler;
+
+	@Inject
+	public GroupSearchHandler groupSearchHandler;
+
+	@Inject
+	public RoleSearchHandler roleSearchHandler;
+
+	@Inject
+	public NodeSearchHandler nodeSearchHandler;
+
+	@Inject
+	public TagSearchHandler tagSearchHandler;
+
+	@Inject
+	public TagFamilySearchHandler tagFamilySearchHandler;
+
+	@Inject
+	public ProjectSearchHandler projectSearchHandler;
+
+	@Inject
+	public SchemaSearchHandler schemaSearchHandler;
+
+	@Inject
+	public MicroschemaSearchHandler microschemaSearchHandler;
+
+	@Inject
+	public Lazy<BootstrapInitializer> boot;
+
 	@Inject
 	public Vertx vertx;
-	
+
 	@Inject
 	public MeshLocalClientImpl() {
 
 	}
 
+	/**
+	 * Create a new local client which shares the handlers with the given client.
+	 *
+	 * @param client
+	 * @param user
+	 *            User which is used for authentication
+	 */
+	private MeshLocalClientImpl(MeshLocalClientImpl client, MeshAuthUser user) {
+		this.user = user;
+		this.userCrudHandler = client.userCrudHandler;
+		this.roleCrudHandler = client.roleCrudHandler;
+		this.groupCrudHandler = client.groupCrudHandler;
+		this.schemaCrudHandler = client.schemaCrudHandler;
+		this.microschemaCrudHandler = client.microschemaCrudHandler;
+		this.tagCrudHandler = client.tagCrudHandler;
+		this.tagFamilyCrudHandler = client.tagFamilyCrudHandler;
+		this.projectCrudHandler = client.projectCrudHandler;
+		this.nodeCrudHandler = client.nodeCrudHandler;
+		this.nodeBulkHandler = client.nodeBulkHandler;
+		this.fieldAPIHandler = client.fieldAPIHandler;
+		this.webrootHandler = client.webrootHandler;
+		this.adminHandler = client.adminHandler;
+		this.adminIndexHandler = client.adminIndexHandler;
+		this.authRestHandler = client.authRestHandler;
+		this.utilityHandler = client.utilityHandler;
+		this.branchCrudHandler = client.branchCrudHandler;
+		this.pluginHandler = client.pluginHandler;
+		this.jobHandler = client.jobHandler;
+		this.consistencyCheckHandler = client.consistencyCheckHandler;
+		this.userSearchHandler = client.userSearchHandler;
+		this.groupSearchHandler = client.groupSearchHandler;
+		this.roleSearchHandler = client.roleSearchHandler;
+		this.nodeSearchHandler = client.nodeSearchHandler;
+		this.tagSearchHandler = client.tagSearchHandler;
+		this.tagFamilySearchHandler = client.tagFamilySearchHandler;
+		this.projectSearchHandler = client.projectSearchHandler;
+		this.schemaSearchHandler = client.schemaSearchHandler;
+		this.microschemaSearchHandler = client.microschemaSearchHandler;
+		this.boot = client.boot;
+		this.vertx = client.vertx;
+	}
+
 	private Map<String, Project> projects = new HashMap<>();
 
+	/**
+	 * Return a new local client which shares the handlers of this client but uses the given user for authentication. Creating the client is cheap since no
+	 * connection or serialization setup is needed.
+	 *
+	 * @param user
+	 * @return
+	 */
+	public MeshLocalClientImpl withUser(MeshAuthUser user) {
+		return new MeshLocalClientImpl(this, user);
+	}
+
 	/**
 	 * Set the user which is used for authentication.
-	 * 
+	 *
 	 * @param user
 	 */
 	public void setUser(MeshAuthUser user) {
@@ -204,41 +318,45 @@ public class MeshLocalClientImpl implements MeshRestClient {
 	@Override
 	public MeshRequest<NodeResponse> findNodeByUuid(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleRead(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> upsertNode(String projectName, String uuid, NodeUpsertRequest nodeUpsetRequest,
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
 		ac.setPayloadObject(nodeUpsetRequest);
 		ac.getVersioningParameters().setVersion("draft");
-		nodeCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleUpdate(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> createNode(String projectName, NodeCreateRequest nodeCreateRequest, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
 		ac.setPayloadObject(nodeCreateRequest);
 		ac.getVersioningParameters().setVersion("draft");
-		nodeCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleCreate(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> createNode(String uuid, String projectName, NodeCreateRequest nodeCreateRequest,
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
 		ac.setPayloadObject(nodeCreateRequest);
 		ac.getVersioningParameters().setVersion("draft");
-		nodeCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleUpdate(ac, uuid);
+		});
 	}
 
 	@Override
@@ -246,863 +364,870 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
 		ac.setPayloadObject(nodeUpdateRequest);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleUpdate(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteNode(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleDelete(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteNode(String projectName, String uuid, String languageTag, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		ac.setQuery("?lang=" + languageTag);
-		// TODO set project
-		nodeCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleDeleteLanguage(ac, uuid, languageTag);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> findNodes(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleReadList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> findNodeChildren(String projectName, String parentNodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleReadChildren(ac, parentNodeUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleReadChildren(ac, parentNodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> findNodesForTag(String projectName, String tagFamilyUuid, String tagUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleTaggedNodesList(ac, tagFamilyUuid, tagUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> addTagToNode(String projectName, String nodeUuid, String tagUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
 		ac.getVersioningParameters().setVersion("draft");
-		nodeCrudHandler.handleAddTag(ac, nodeUuid, tagUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleAddTag(ac, nodeUuid, tagUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> removeTagFromNode(String projectName, String nodeUuid, String tagUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleRemoveTag(ac, nodeUuid, tagUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
-
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleRemoveTag(ac, nodeUuid, tagUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> moveNode(String projectName, String nodeUuid, String targetFolderUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleMove(ac, nodeUuid, targetFolderUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleMove(ac, nodeUuid, targetFolderUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeVersionsResponse> listNodeVersions(String projectName, String nodeUuid, ParameterProvider... parameters) {
-		return null;
+		LocalActionContextImpl<NodeVersionsResponse> ac = createContext(NodeVersionsResponse.class, parameters);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleListVersions(ac, nodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> findTagsForNode(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.readTags(ac, nodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> updateTagsForNode(String projectName, String nodeUuid, TagListUpdateRequest request,
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleBulkTagUpdate(ac, nodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagResponse> createTag(String projectName, String tagFamilyUuid, TagCreateRequest request) {
 		LocalActionContextImpl<TagResponse> ac = createContext(TagResponse.class);
-		ac.setProject(projectName);
 		ac.setPayloadObject(request);
-		tagCrudHandler.handleCreate(ac, tagFamilyUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleCreate(ac, tagFamilyUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagResponse> findTagByUuid(String projectName, String tagFamilyUuid, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagResponse> ac = createContext(TagResponse.class, parameters);
-		ac.setProject(projectName);
-		tagCrudHandler.handleRead(ac, tagFamilyUuid, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleRead(ac, tagFamilyUuid, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagResponse> updateTag(String projectName, String tagFamilyUuid, String uuid, TagUpdateRequest request) {
 		LocalActionContextImpl<TagResponse> ac = createContext(TagResponse.class);
-		ac.setProject(projectName);
 		ac.setPayloadObject(request);
-		tagCrudHandler.handleUpdate(ac, tagFamilyUuid, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleUpdate(ac, tagFamilyUuid, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagResponse> createTag(String projectName, String tagFamilyUuid, String uuid, TagCreateRequest request) {
 		LocalActionContextImpl<TagResponse> ac = createContext(TagResponse.class);
-		ac.setProject(projectName);
 		ac.setPayloadObject(request);
-		tagCrudHandler.handleUpdate(ac, tagFamilyUuid, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleUpdate(ac, tagFamilyUuid, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteTag(String projectName, String tagFamilyUuid, String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		ac.setProject(projectName);
-		tagCrudHandler.handleDelete(ac, tagFamilyUuid, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleDelete(ac, tagFamilyUuid, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> findTags(String projectName, String tagFamilyUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		ac.setProject(projectName);
-		tagCrudHandler.handleReadTagList(ac, tagFamilyUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagCrudHandler.handleReadTagList(ac, tagFamilyUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> findProjectByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class, parameters);
-		projectCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> findProjectByName(String name, ParameterProvider... parameters) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class, parameters);
-		projectCrudHandler.handleReadByName(ac, name);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleReadByName(ac, name));
 	}
 
 	@Override
 	public MeshRequest<ProjectListResponse> findProjects(ParameterProvider... parameters) {
 		LocalActionContextImpl<ProjectListResponse> ac = createContext(ProjectListResponse.class, parameters);
-		projectCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> assignLanguageToProject(String projectUuid, String languageUuid) {
-		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
-		// TODO add implementation
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		// The language endpoints are not implemented by the server either
+		return notImplemented("assignLanguageToProject");
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> unassignLanguageFromProject(String projectUuid, String languageUuid) {
-		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
-		// TODO add implementation
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("unassignLanguageFromProject");
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> createProject(ProjectCreateRequest request) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
 		ac.setPayloadObject(request);
-		projectCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> createProject(String uuid, ProjectCreateRequest request) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
 		ac.setPayloadObject(request);
-		projectCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<ProjectResponse> updateProject(String uuid, ProjectUpdateRequest request) {
 		LocalActionContextImpl<ProjectResponse> ac = createContext(ProjectResponse.class);
-		projectCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> projectCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteProject(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		projectCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> projectCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> purgeProject(String uuid, ParameterProvider... parameters) {
-		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		projectCrudHandler.handlePurge(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class, parameters);
+		return invoke(ac, () -> projectCrudHandler.handlePurge(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<SchemaResponse> assignSchemaToProject(String projectName, String schemaUuid) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class);
-		ac.setProject(projectName);
-		schemaCrudHandler.handleAddSchemaToProject(ac, schemaUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			schemaCrudHandler.handleAddSchemaToProject(ac, schemaUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> unassignSchemaFromProject(String projectName, String schemaUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		schemaCrudHandler.handleRemoveSchemaFromProject(ac, schemaUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			schemaCrudHandler.handleRemoveSchemaFromProject(ac, schemaUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<SchemaListResponse> findSchemas(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<SchemaListResponse> ac = createContext(SchemaListResponse.class, parameters);
-		schemaCrudHandler.handleReadProjectList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			schemaCrudHandler.handleReadProjectList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<MicroschemaResponse> assignMicroschemaToProject(String projectName, String microschemaUuid) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class);
-		microschemaCrudHandler.handleAddMicroschemaToProject(ac, microschemaUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			microschemaCrudHandler.handleAddMicroschemaToProject(ac, microschemaUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> unassignMicroschemaFromProject(String projectName, String microschemaUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		microschemaCrudHandler.handleRemoveMicroschemaFromProject(ac, microschemaUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			microschemaCrudHandler.handleRemoveMicroschemaFromProject(ac, microschemaUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<MicroschemaListResponse> findMicroschemas(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<MicroschemaListResponse> ac = createContext(MicroschemaListResponse.class, parameters);
-		microschemaCrudHandler.handleReadMicroschemaList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			microschemaCrudHandler.handleReadMicroschemaList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyResponse> findTagFamilyByUuid(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagFamilyResponse> ac = createContext(TagFamilyResponse.class, parameters);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleRead(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> findTagFamilies(String projectName, PagingParameters pagingInfo) {
 		LocalActionContextImpl<TagFamilyListResponse> ac = createContext(TagFamilyListResponse.class, pagingInfo);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleReadList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyResponse> createTagFamily(String projectName, TagFamilyCreateRequest request) {
 		LocalActionContextImpl<TagFamilyResponse> ac = createContext(TagFamilyResponse.class);
 		ac.setPayloadObject(request);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleCreate(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteTagFamily(String projectName, String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleDelete(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyResponse> updateTagFamily(String projectName, String tagFamilyUuid, TagFamilyUpdateRequest request) {
 		LocalActionContextImpl<TagFamilyResponse> ac = createContext(TagFamilyResponse.class);
 		ac.setPayloadObject(request);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleUpdate(ac, tagFamilyUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleUpdate(ac, tagFamilyUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyResponse> createTagFamily(String projectName, String tagFamilyUuid, TagFamilyCreateRequest request) {
 		LocalActionContextImpl<TagFamilyResponse> ac = createContext(TagFamilyResponse.class);
 		ac.setPayloadObject(request);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleUpdate(ac, tagFamilyUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleUpdate(ac, tagFamilyUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> findTagFamilies(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagFamilyListResponse> ac = createContext(TagFamilyListResponse.class, parameters);
-		ac.setProject(projectName);
-		tagFamilyCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilyCrudHandler.handleReadList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<MeshWebrootResponse> webroot(String projectName, String path, ParameterProvider... parameters) {
-		LocalActionContextImpl<MeshWebrootResponse> ac = createContext(MeshWebrootResponse.class, parameters);
-		ac.setProject(projectName);
-		// webrootHandler.handleGetPath(rc);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		// The webroot handler operates on the routing context
+		return notImplemented("webroot");
 	}
 
 	@Override
 	public MeshRequest<MeshWebrootResponse> webroot(String projectName, String[] pathSegments, ParameterProvider... parameters) {
-		LocalActionContextImpl<MeshWebrootResponse> ac = createContext(MeshWebrootResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("webroot");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootUpdate(String projectName, String path, NodeUpdateRequest nodeUpdateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("webrootUpdate");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootUpdate(String projectName, String[] pathSegments, NodeUpdateRequest nodeUpdateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("webrootUpdate");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootCreate(String projectName, String path, NodeCreateRequest nodeCreateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("webrootCreate");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> webrootCreate(String projectName, String[] pathSegments, NodeCreateRequest nodeCreateRequest,
 		ParameterProvider... parameters) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("webrootCreate");
 	}
 
 	@Override
 	public MeshRequest<SchemaResponse> createSchema(SchemaCreateRequest request) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class);
 		ac.setPayloadObject(request);
-		schemaCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<SchemaResponse> createSchema(String uuid, SchemaCreateRequest request) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class);
 		ac.setPayloadObject(request);
-		schemaCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<SchemaResponse> findSchemaByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<SchemaResponse> ac = createContext(SchemaResponse.class, parameters);
-		schemaCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> updateSchema(String uuid, SchemaUpdateRequest request, ParameterProvider... parameters) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class, parameters);
 		ac.setPayloadObject(request);
-		schemaCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<SchemaChangesListModel> diffSchema(String uuid, Schema request) {
 		LocalActionContextImpl<SchemaChangesListModel> ac = createContext(SchemaChangesListModel.class);
 		ac.setPayloadObject(request);
-		schemaCrudHandler.handleDiff(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleDiff(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteSchema(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		schemaCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<SchemaListResponse> findSchemas(ParameterProvider... parameters) {
 		LocalActionContextImpl<SchemaListResponse> ac = createContext(SchemaListResponse.class, parameters);
-		schemaCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<MicroschemaListResponse> findMicroschemas(ParameterProvider... parameters) {
 		LocalActionContextImpl<MicroschemaListResponse> ac = createContext(MicroschemaListResponse.class, parameters);
-		microschemaCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> applyChangesToSchema(String uuid, SchemaChangesListModel changes) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
 		ac.setPayloadObject(changes);
-		microschemaCrudHandler.handleApplySchemaChanges(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> schemaCrudHandler.handleApplySchemaChanges(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> findGroupByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class, parameters);
-		groupCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GroupListResponse> findGroups(ParameterProvider... parameters) {
 		LocalActionContextImpl<GroupListResponse> ac = createContext(GroupListResponse.class, parameters);
-		groupCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> createGroup(GroupCreateRequest createRequest) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class);
 		ac.setPayloadObject(createRequest);
-		groupCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> createGroup(String uuid, GroupCreateRequest createRequest) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class);
 		ac.setPayloadObject(createRequest);
-		groupCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> updateGroup(String uuid, GroupUpdateRequest request) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class);
 		ac.setPayloadObject(request);
-		groupCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteGroup(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		groupCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> addUserToGroup(String groupUuid, String userUuid) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class);
-		groupCrudHandler.handleAddUserToGroup(ac, groupUuid, userUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleAddUserToGroup(ac, groupUuid, userUuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> removeUserFromGroup(String groupUuid, String userUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		groupCrudHandler.handleRemoveUserFromGroup(ac, groupUuid, userUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleRemoveUserFromGroup(ac, groupUuid, userUuid));
 	}
 
 	@Override
 	public MeshRequest<GroupResponse> addRoleToGroup(String groupUuid, String roleUuid) {
 		LocalActionContextImpl<GroupResponse> ac = createContext(GroupResponse.class);
-		groupCrudHandler.handleAddRoleToGroup(ac, groupUuid, roleUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleAddRoleToGroup(ac, groupUuid, roleUuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> removeRoleFromGroup(String groupUuid, String roleUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		groupCrudHandler.handleRemoveRoleFromGroup(ac, groupUuid, roleUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleRemoveRoleFromGroup(ac, groupUuid, roleUuid));
 	}
 
 	@Override
 	public MeshRequest<UserResponse> findUserByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserResponse> ac = createContext(UserResponse.class, parameters);
-		userCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<UserListResponse> findUsers(ParameterProvider... parameters) {
 		LocalActionContextImpl<UserListResponse> ac = createContext(UserListResponse.class, parameters);
-		userCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<UserResponse> createUser(UserCreateRequest request, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserResponse> ac = createContext(UserResponse.class, parameters);
 		ac.setPayloadObject(request);
-		userCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<UserResponse> createUser(String uuid, UserCreateRequest request, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserResponse> ac = createContext(UserResponse.class, parameters);
 		ac.setPayloadObject(request);
-		userCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<UserResponse> updateUser(String uuid, UserUpdateRequest request, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserResponse> ac = createContext(UserResponse.class, parameters);
 		ac.setPayloadObject(request);
-		userCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteUser(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		userCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<UserListResponse> findUsersOfGroup(String groupUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserListResponse> ac = createContext(UserListResponse.class, parameters);
-		groupCrudHandler.handleGroupUserList(ac, groupUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleGroupUserList(ac, groupUuid));
 	}
 
 	@Override
 	public MeshRequest<UserPermissionResponse> readUserPermissions(String uuid, String pathToElement) {
 		LocalActionContextImpl<UserPermissionResponse> ac = createContext(UserPermissionResponse.class);
-		roleCrudHandler.handlePermissionRead(ac, uuid, pathToElement);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> userCrudHandler.handlePermissionRead(ac, uuid, pathToElement));
 	}
 
 	@Override
 	public MeshRequest<RoleResponse> findRoleByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<RoleResponse> ac = createContext(RoleResponse.class, parameters);
-		roleCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<RoleListResponse> findRoles(ParameterProvider... parameter) {
 		LocalActionContextImpl<RoleListResponse> ac = createContext(RoleListResponse.class, parameter);
-		roleCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<RoleResponse> createRole(RoleCreateRequest request) {
 		LocalActionContextImpl<RoleResponse> ac = createContext(RoleResponse.class);
 		ac.setPayloadObject(request);
-		roleCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<RoleResponse> createRole(String uuid, RoleCreateRequest request) {
 		LocalActionContextImpl<RoleResponse> ac = createContext(RoleResponse.class);
 		ac.setPayloadObject(request);
-		roleCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteRole(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		roleCrudHandler.handleDelete(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<RoleListResponse> findRolesForGroup(String groupUuid, ParameterProvider... parameter) {
 		LocalActionContextImpl<RoleListResponse> ac = createContext(RoleListResponse.class, parameter);
-
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> groupCrudHandler.handleGroupRolesList(ac, groupUuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> updateRolePermissions(String roleUuid, String pathToElement, RolePermissionRequest request) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
 		ac.setPayloadObject(request);
-		roleCrudHandler.handlePermissionUpdate(ac, roleUuid, pathToElement);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handlePermissionUpdate(ac, roleUuid, pathToElement));
 	}
 
 	@Override
 	public MeshRequest<RolePermissionResponse> readRolePermissions(String roleUuid, String pathToElement) {
 		LocalActionContextImpl<RolePermissionResponse> ac = createContext(RolePermissionResponse.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handlePermissionRead(ac, roleUuid, pathToElement));
 	}
 
 	@Override
 	public MeshRequest<RoleResponse> updateRole(String uuid, RoleUpdateRequest restRole) {
 		LocalActionContextImpl<RoleResponse> ac = createContext(RoleResponse.class);
 		ac.setPayloadObject(restRole);
-		roleCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> roleCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public Single<GenericMessageResponse> login() {
-		return Single.error(new Exception("Not implemented"));
+		// The local client is always bound to the user which was passed to it
+		return Single.error(error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "login"));
 	}
 
 	@Override
 	public Single<GenericMessageResponse> logout() {
-		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		ac.logout();
-		return null;
+		return Single.error(error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "logout"));
 	}
 
 	@Override
 	public MeshRequest<UserResponse> me(ParameterProvider... parameters) {
 		LocalActionContextImpl<UserResponse> ac = createContext(UserResponse.class, parameters);
-		authRestHandler.handleMe(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> authRestHandler.handleMe(ac));
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> searchNodes(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> nodeSearchHandler.query(ac, () -> boot.get().meshRoot().getNodeRoot(), NodeListResponse.class, true));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchNodesRaw(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> nodeSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<UserListResponse> searchUsers(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<UserListResponse> ac = createContext(UserListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> userSearchHandler.query(ac, () -> boot.get().meshRoot().getUserRoot(), UserListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchUsersRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> userSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<GroupListResponse> searchGroups(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<GroupListResponse> ac = createContext(GroupListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> groupSearchHandler.query(ac, () -> boot.get().meshRoot().getGroupRoot(), GroupListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchGroupsRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> groupSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<RoleListResponse> searchRoles(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<RoleListResponse> ac = createContext(RoleListResponse.class, parameters);
-		// TODO add handler
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> roleSearchHandler.query(ac, () -> boot.get().meshRoot().getRoleRoot(), RoleListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchRolesRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> roleSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<ProjectListResponse> searchProjects(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<ProjectListResponse> ac = createContext(ProjectListResponse.class, parameters);
-		// TODO add handler
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> projectSearchHandler.query(ac, () -> boot.get().meshRoot().getProjectRoot(), ProjectListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchProjectsRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> projectSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> searchTags(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> tagSearchHandler.query(ac, () -> boot.get().meshRoot().getTagRoot(), TagListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagsRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> tagSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> searchTagFamilies(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagFamilyListResponse> ac = createContext(TagFamilyListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> tagFamilySearchHandler.query(ac, () -> boot.get().meshRoot().getTagFamilyRoot(), TagFamilyListResponse.class,
+			false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagFamiliesRaw(String projectName, String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilySearchHandler.rawQuery(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<SchemaListResponse> searchSchemas(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<SchemaListResponse> ac = createContext(SchemaListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> schemaSearchHandler.query(ac, () -> boot.get().meshRoot().getSchemaContainerRoot(), SchemaListResponse.class,
+			false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchSchemasRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> schemaSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<MicroschemaListResponse> searchMicroschemas(String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<MicroschemaListResponse> ac = createContext(MicroschemaListResponse.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> microschemaSearchHandler.query(ac, () -> boot.get().meshRoot().getMicroschemaContainerRoot(),
+			MicroschemaListResponse.class, false));
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchMicroschemasRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> microschemaSearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeIndexClear() {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		adminIndexHandler.handleClear(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> adminIndexHandler.handleClear(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeIndexSync() {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		adminIndexHandler.handleSync(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> adminIndexHandler.handleSync(ac));
 	}
 
 	@Override
 	public MeshRequest<SearchStatusResponse> searchStatus() {
 		LocalActionContextImpl<SearchStatusResponse> ac = createContext(SearchStatusResponse.class);
-		adminIndexHandler.handleStatus(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> adminIndexHandler.handleStatus(ac));
 	}
 
 	@Override
 	public MeshRequest<MeshStatusResponse> meshStatus() {
 		LocalActionContextImpl<MeshStatusResponse> ac = createContext(MeshStatusResponse.class);
-		adminHandler.handleMeshStatus(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> adminHandler.handleMeshStatus(ac));
 	}
 
 	@Override
 	public MeshRequest<ClusterStatusResponse> clusterStatus() {
 		LocalActionContextImpl<ClusterStatusResponse> ac = createContext(ClusterStatusResponse.class);
-		adminHandler.handleClusterStatus(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> adminHandler.handleClusterStatus(ac));
 	}
 
 	@Override
 	public MeshRequest<MicroschemaResponse> createMicroschema(MicroschemaCreateRequest request) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class);
 		ac.setPayloadObject(request);
-		microschemaCrudHandler.handleCreate(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleCreate(ac));
 	}
 
 	@Override
 	public MeshRequest<MicroschemaResponse> createMicroschema(String uuid, MicroschemaCreateRequest request) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class);
 		ac.setPayloadObject(request);
-		microschemaCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<MicroschemaResponse> findMicroschemaByUuid(String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class, parameters);
-		microschemaCrudHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> updateMicroschema(String uuid, MicroschemaUpdateRequest request, ParameterProvider... parameters) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class, parameters);
 		ac.setPayloadObject(request);
-		microschemaCrudHandler.handleUpdate(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleUpdate(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteMicroschema(String uuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> applyChangesToMicroschema(String uuid, SchemaChangesListModel changes) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayloadObject(changes);
+		return invoke(ac, () -> microschemaCrudHandler.handleApplySchemaChanges(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<SchemaChangesListModel> diffMicroschema(String uuid, Microschema request) {
 		LocalActionContextImpl<SchemaChangesListModel> ac = createContext(SchemaChangesListModel.class);
 		ac.setPayloadObject(request);
-		microschemaCrudHandler.handleDiff(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> microschemaCrudHandler.handleDiff(ac, uuid));
 	}
 
 	public MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version, String fieldKey,
 		byte[] fileData, String fileName, String contentType, ParameterProvider... parameters) {
+		return updateNodeBinaryField(projectName, nodeUuid, languageTag, version, fieldKey, () -> fileData, fileName, contentType, parameters);
+	}
 
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class);
-		ac.setProject(projectName);
+	@Override
+	public MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String nodeVersion,
+		String fieldKey, InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters) {
+		// The stream is consumed on the worker thread since reading it may block
+		return updateNodeBinaryField(projectName, nodeUuid, languageTag, nodeVersion, fieldKey, () -> IOUtils.toByteArray(fileData), fileName,
+			contentType, parameters);
+	}
+
+	private MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version, String fieldKey,
+		Callable<byte[]> fileDataSupplier, String fileName, String contentType, ParameterProvider... parameters) {
+
+		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class, parameters);
 
 		MultiMap attributes = new CaseInsensitiveHeaders();
 		attributes.add("language", languageTag);
 		attributes.add("version", version);
 
-		Runnable task = () -> {
-
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			byte[] fileData = fileDataSupplier.call();
 			File tmpFile = new File(System.getProperty("java.io.tmpdir"), UUIDUtil.randomUUID() + ".upload");
 			vertx.fileSystem().writeFileBlocking(tmpFile.getAbsolutePath(), Buffer.buffer(fileData));
 			ac.getFileUploads().add(new FileUpload() {
@@ -1134,112 +1259,92 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 				@Override
 				public String contentTransferEncoding() {
-					// TODO Auto-generated method stub
 					return null;
 				}
 
 				@Override
 				public String charSet() {
-					// TODO Auto-generated method stub
 					return null;
 				}
 			});
 
 			fieldAPIHandler.handleUpdateField(ac, nodeUuid, fieldKey, attributes);
-		};
-		new Thread(task).start();
-		return new MeshLocalRequestImpl<>(ac.getFuture());
-	}
-
-	@Override
-	public MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String nodeVersion,
-		String fieldKey, InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters) {
-		try {
-			return updateNodeBinaryField(projectName, nodeUuid, languageTag, nodeVersion, fieldKey, IOUtils.toByteArray(fileData), fileName,
-				contentType, parameters);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		});
 	}
 
 	@Override
 	public MeshRequest<MeshBinaryResponse> downloadBinaryField(String projectName, String nodeUuid, String languageTag, String fieldKey,
 		ParameterProvider... parameters) {
-		// LocalActionContextImpl<NodeResponse> ac = createContext();
-		// return new MeshLocalRequestImpl<>( ac.getFuture());
-		return null;
+		// The download handler streams the binary directly to the http response
+		return notImplemented("downloadBinaryField");
 	}
 
 	@Override
 	public MeshRequest<MeshBinaryResponse> downloadBinaryField(String projectName, String nodeUuid, String languageTag, String fieldKey, long from,
 		long to, ParameterProvider... parameters) {
-		return null;
+		return notImplemented("downloadBinaryField");
 	}
 
 	@Override
 	public MeshRequest<NodeResponse> transformNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version,
 		String fieldKey, ImageManipulationParameters imageManipulationParameter) {
-		LocalActionContextImpl<NodeResponse> ac = createContext(NodeResponse.class);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return notImplemented("transformNodeBinaryField");
 	}
 
 	@Override
 	public MeshRequest<String> resolveLinks(String body, ParameterProvider... parameters) {
 		LocalActionContextImpl<String> ac = createContext(String.class, parameters);
-		// utilityHandler.handleResolveLinks(rc);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(body);
+		return invoke(ac, () -> utilityHandler.handleResolveLinks(ac));
 	}
 
 	@Override
 	public MeshRequest<NavigationResponse> loadNavigation(String projectName, String uuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<NavigationResponse> ac = createContext(NavigationResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleNavigation(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NavigationResponse> navroot(String projectName, String path, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		return notImplemented("navroot");
 	}
 
 	@Override
 	public MeshWebsocket eventbus() {
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "eventbus");
 	}
 
 	@Override
 	public MeshRestClient setLogin(String username, String password) {
-		// TODO Auto-generated method stub
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "setLogin");
 	}
 
 	@Override
 	public MeshRestClient setLogin(String username, String password, String newPassword) {
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "setLogin");
 	}
 
 	@Override
 	public MeshRestClient setAPIKey(String apiKey) {
-		// TODO Auto-generated method stub
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "setAPIKey");
 	}
 
 	@Override
 	public String getAPIKey() {
-		// TODO Auto-generated method stub
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "getAPIKey");
 	}
 
 	@Override
 	public void close() {
-		// TODO Auto-generated method stub
+		// Nothing to close since no connection is used
 	}
 
 	/**
 	 * Create a new local action context using the provides parameters.
-	 * 
+	 *
 	 * @param responseType
 	 * @param parameters
 	 *            Parameters which will be transformed to query parameters
@@ -1250,281 +1355,400 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return ac;
 	}
 
+	/**
+	 * Invoke the handler on a worker thread. The handlers execute blocking transactions and must thus not be invoked on the event loop of the caller.
+	 *
+	 * @param ac
+	 *            Context which will be completed by the handler
+	 * @param handler
+	 * @return
+	 */
+	private <T> MeshRequest<T> invoke(LocalActionContextImpl<T> ac, LocalHandler handler) {
+		vertx.<Void>executeBlocking(bc -> {
+			try {
+				handler.handle();
+				bc.complete();
+			} catch (Exception e) {
+				bc.fail(e);
+			}
+		}, false, rh -> {
+			if (rh.failed()) {
+				ac.fail(rh.cause());
+			}
+		});
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	/**
+	 * Return a request which fails with a {@link io.netty.handler.codec.http.HttpResponseStatus#NOT_IMPLEMENTED} error for operations which can't be
+	 * handled by the local client.
+	 *
+	 * @param operation
+	 * @return
+	 */
+	private <T> MeshRequest<T> notImplemented(String operation) {
+		return new MeshLocalRequestImpl<>(Future.failedFuture(error(NOT_IMPLEMENTED, "local_client_error_not_implemented", operation)));
+	}
+
 	public void addProject(String name, Project project) {
 		this.projects.put(name, project);
 	}
 
 	@Override
 	public MeshRequest<PublishStatusResponse> getNodePublishStatus(String projectName, String nodeUuid, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<PublishStatusResponse> ac = createContext(PublishStatusResponse.class, parameters);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleGetPublishStatus(ac, nodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<PublishStatusModel> getNodeLanguagePublishStatus(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<PublishStatusModel> ac = createContext(PublishStatusModel.class, parameters);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleGetPublishStatus(ac, nodeUuid, languageTag);
+		});
 	}
 
 	@Override
 	public MeshRequest<PublishStatusResponse> publishNode(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<PublishStatusResponse> ac = createContext(PublishStatusResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handlePublish(ac, nodeUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handlePublish(ac, nodeUuid);
+		});
+	}
+
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters) {
+		LocalActionContextImpl<NodeBulkResponse> ac = createContext(NodeBulkResponse.class, parameters);
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeBulkHandler.handleBulk(ac, false);
+		});
 	}
 
 	@Override
 	public MeshRequest<PublishStatusModel> publishNodeLanguage(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<PublishStatusModel> ac = createContext(PublishStatusModel.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handlePublish(ac, nodeUuid, languageTag);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handlePublish(ac, nodeUuid, languageTag);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> takeNodeOffline(String projectName, String nodeUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleTakeOffline(ac, nodeUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleTakeOffline(ac, nodeUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> takeNodeLanguageOffline(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class, parameters);
-		ac.setProject(projectName);
-		nodeCrudHandler.handleTakeOffline(ac, nodeUuid, languageTag);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeCrudHandler.handleTakeOffline(ac, nodeUuid, languageTag);
+		});
 	}
 
 	@Override
 	public MeshRequest<MeshServerInfoModel> getApiInfo() {
-		// TODO Auto-generated method stub
-		return null;
+		return notImplemented("getApiInfo");
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> createBranch(String projectName, BranchCreateRequest branchCreateRequest,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		ac.setPayloadObject(branchCreateRequest);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleCreate(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> createBranch(String projectName, String uuid, BranchCreateRequest branchCreateRequest,
 		ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		ac.setPayloadObject(branchCreateRequest);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleUpdate(ac, uuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> findBranchByUuid(String projectName, String branchUuid, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class, parameters);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleRead(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchListResponse> findBranches(String projectName, ParameterProvider... parameters) {
 		LocalActionContextImpl<BranchListResponse> ac = createContext(BranchListResponse.class, parameters);
-		ac.setProject(projectName);
-		branchCrudHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleReadList(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> updateBranch(String projectName, String branchUuid, BranchUpdateRequest request) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class);
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleUpdate(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchInfoSchemaList> getBranchSchemaVersions(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoSchemaList> ac = createContext(BranchInfoSchemaList.class);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleGetSchemaVersions(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchInfoSchemaList> assignBranchSchemaVersions(String projectName, String branchUuid,
 		BranchInfoSchemaList schemaVersionReferences) {
 		LocalActionContextImpl<BranchInfoSchemaList> ac = createContext(BranchInfoSchemaList.class);
-		ac.setProject(projectName);
 		ac.setPayloadObject(schemaVersionReferences);
-		branchCrudHandler.handleAssignSchemaVersion(ac, branchUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleAssignSchemaVersion(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchInfoSchemaList> assignBranchSchemaVersions(String projectName, String branchUuid,
 		SchemaReference... schemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		BranchInfoSchemaList info = new BranchInfoSchemaList();
+		info.add(schemaVersionReferences);
+		return assignBranchSchemaVersions(projectName, branchUuid, info);
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> getBranchMicroschemaVersions(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoMicroschemaList> ac = createContext(BranchInfoMicroschemaList.class);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleGetMicroschemaVersions(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> assignBranchMicroschemaVersions(String projectName, String branchUuid,
 		BranchInfoMicroschemaList microschemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchInfoMicroschemaList> ac = createContext(BranchInfoMicroschemaList.class);
+		ac.setPayloadObject(microschemaVersionReferences);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleAssignMicroschemaVersion(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchInfoMicroschemaList> assignBranchMicroschemaVersions(String projectName, String branchUuid,
 		MicroschemaReference... microschemaVersionReferences) {
-		// TODO Auto-generated method stub
-		return null;
+		BranchInfoMicroschemaList info = new BranchInfoMicroschemaList();
+		info.add(microschemaVersionReferences);
+		return assignBranchMicroschemaVersions(projectName, branchUuid, info);
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> migrateBranchSchemas(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleMigrateRemainingNodes(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> migrateBranchMicroschemas(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleMigrateRemainingMicronodes(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> setLatestBranch(String projectName, String branchUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleSetLatest(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<BranchResponse> addTagToBranch(String projectName, String branchUuid, String tagUuid) {
 		LocalActionContextImpl<BranchResponse> ac = createContext(BranchResponse.class);
-		ac.setProject(projectName);
-		branchCrudHandler.handleAddTag(ac, branchUuid, tagUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleAddTag(ac, branchUuid, tagUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> removeTagFromBranch(String projectName, String branchUuid, String tagUuid) {
 		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
-		ac.setProject(projectName);
-		branchCrudHandler.handleRemoveTag(ac, branchUuid, tagUuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleRemoveTag(ac, branchUuid, tagUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> findTagsForBranch(String projectName, String branchUuid, ParameterProvider... parameters) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.readTags(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> updateTagsForBranch(String projectName, String branchUuid, TagListUpdateRequest request) {
 		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class);
-		ac.setProject(projectName);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			branchCrudHandler.handleBulkTagUpdate(ac, branchUuid);
+		});
 	}
 
 	@Override
 	public MeshRequest<NodeListResponse> searchNodes(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<NodeListResponse> ac = createContext(NodeListResponse.class, parameters);
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeSearchHandler.query(ac, () -> boot.get().meshRoot().getNodeRoot(), NodeListResponse.class, true);
+		});
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchNodesRaw(String projectName, String json, ParameterProvider... parameters) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class, parameters);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			nodeSearchHandler.rawQuery(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagListResponse> searchTags(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<TagListResponse> ac = createContext(TagListResponse.class, parameters);
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagSearchHandler.query(ac, () -> boot.get().meshRoot().getTagRoot(), TagListResponse.class, false);
+		});
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagsRaw(String projectName, String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagSearchHandler.rawQuery(ac);
+		});
 	}
 
 	@Override
 	public MeshRequest<TagFamilyListResponse> searchTagFamilies(String projectName, String json, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<TagFamilyListResponse> ac = createContext(TagFamilyListResponse.class, parameters);
+		ac.setPayload(json);
+		return invoke(ac, () -> {
+			ac.setProject(projectName);
+			tagFamilySearchHandler.query(ac, () -> boot.get().meshRoot().getTagFamilyRoot(), TagFamilyListResponse.class, false);
+		});
 	}
 
 	@Override
 	public MeshRequest<ObjectNode> searchTagFamiliesRaw(String json) {
 		LocalActionContextImpl<ObjectNode> ac = createContext(ObjectNode.class);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayload(json);
+		return invoke(ac, () -> tagFamilySearchHandler.rawQuery(ac));
 	}
 
 	@Override
 	public MeshRequest<UserResetTokenResponse> getUserResetToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<UserResetTokenResponse> ac = createContext(UserResetTokenResponse.class);
+		return invoke(ac, () -> userCrudHandler.handleFetchToken(ac, userUuid));
 	}
 
 	@Override
 	public MeshRequest<String> getRAML() {
-		// TODO Auto-generated method stub
-		return null;
+		return notImplemented("getRAML");
 	}
 
 	@Override
 	public MeshRequest<GraphQLResponse> graphql(String projectName, GraphQLRequest request, ParameterProvider... parameters) {
-		// TODO Auto-generated method stub
-		return null;
+		// The graphql handler operates on the routing context
+		return notImplemented("graphql");
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeBackup() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> adminHandler.handleBackup(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeExport() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> adminHandler.handleExport(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeRestore() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> adminHandler.handleRestore(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeImport() {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> adminHandler.handleImport(ac));
 	}
 
 	@Override
 	public MeshRequest<UserAPITokenResponse> issueAPIToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<UserAPITokenResponse> ac = createContext(UserAPITokenResponse.class);
+		return invoke(ac, () -> userCrudHandler.handleIssueAPIToken(ac, userUuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invalidateAPIToken(String userUuid) {
-		// TODO Auto-generated method stub
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> userCrudHandler.handleDeleteAPIToken(ac, userUuid));
 	}
 
 	@Override
 	public MeshRestClient enableAnonymousAccess() {
-		// TODO Auto-generated method stub
+		// The local client always uses the given user
 		return this;
 	}
 
@@ -1540,85 +1764,114 @@ public class MeshLocalClientImpl implements MeshRestClient {
 
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> checkConsistency() {
-		return null;
+		LocalActionContextImpl<ConsistencyCheckResponse> ac = createContext(ConsistencyCheckResponse.class);
+		return invoke(ac, () -> consistencyCheckHandler.invokeCheck(ac));
 	}
 
 	@Override
 	public MeshRequest<ConsistencyCheckResponse> repairConsistency() {
-		return null;
+		LocalActionContextImpl<ConsistencyCheckResponse> ac = createContext(ConsistencyCheckResponse.class);
+		return invoke(ac, () -> consistencyCheckHandler.invokeRepair(ac));
+	}
+
+	@Override
+	public MeshRequest<CacheListResponse> loadCaches() {
+		LocalActionContextImpl<CacheListResponse> ac = createContext(CacheListResponse.class);
+		return invoke(ac, () -> adminHandler.handleCacheList(ac));
+	}
+
+	@Override
+	public MeshRequest<GenericMessageResponse> clearCache(String name) {
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> adminHandler.handleCacheClear(ac, name));
 	}
 
 	@Override
 	public MeshRequest<JobListResponse> findJobs(PagingParameters... parameters) {
-		return null;
+		LocalActionContextImpl<JobListResponse> ac = createContext(JobListResponse.class, parameters);
+		return invoke(ac, () -> jobHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<JobResponse> findJobByUuid(String uuid) {
-		return null;
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		return invoke(ac, () -> jobHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> deleteJob(String uuid) {
-		return null;
+		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		return invoke(ac, () -> jobHandler.handleDelete(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<EmptyResponse> resetJob(String uuid) {
-		return null;
+		LocalActionContextImpl<EmptyResponse> ac = createContext(EmptyResponse.class);
+		return invoke(ac, () -> jobHandler.handleResetJob(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<JobResponse> processJob(String uuid) {
-		return null;
+		LocalActionContextImpl<JobResponse> ac = createContext(JobResponse.class);
+		return invoke(ac, () -> jobHandler.handleProcess(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> invokeJobProcessing() {
-		return null;
+		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
+		return invoke(ac, () -> jobHandler.handleInvokeJobWorker(ac));
 	}
 
 	@Override
 	public MeshRequest<SchemaValidationResponse> validateSchema(Schema schema) {
-		return null;
+		LocalActionContextImpl<SchemaValidationResponse> ac = createContext(SchemaValidationResponse.class);
+		ac.setPayloadObject(schema);
+		return invoke(ac, () -> utilityHandler.validateSchema(ac));
 	}
 
 	@Override
 	public MeshRequest<SchemaValidationResponse> validateMicroschema(Microschema microschema) {
-		return null;
+		LocalActionContextImpl<SchemaValidationResponse> ac = createContext(SchemaValidationResponse.class);
+		ac.setPayloadObject(microschema);
+		return invoke(ac, () -> utilityHandler.validateMicroschema(ac));
 	}
 
 	@Override
 	public MeshRequest<PluginResponse> deployPlugin(PluginDeploymentRequest request) {
 		LocalActionContextImpl<PluginResponse> ac = createContext(PluginResponse.class);
-		pluginHandler.handleDeploy(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		ac.setPayloadObject(request);
+		return invoke(ac, () -> pluginHandler.handleDeploy(ac));
 	}
 
 	@Override
 	public MeshRequest<GenericMessageResponse> undeployPlugin(String uuid) {
 		LocalActionContextImpl<GenericMessageResponse> ac = createContext(GenericMessageResponse.class);
-		pluginHandler.handleUndeploy(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> pluginHandler.handleUndeploy(ac, uuid));
 	}
 
 	@Override
 	public MeshRequest<PluginListResponse> findPlugins(ParameterProvider... parameters) {
 		LocalActionContextImpl<PluginListResponse> ac = createContext(PluginListResponse.class, parameters);
-		pluginHandler.handleReadList(ac);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> pluginHandler.handleReadList(ac));
 	}
 
 	@Override
 	public MeshRequest<PluginResponse> findPlugin(String uuid) {
 		LocalActionContextImpl<PluginResponse> ac = createContext(PluginResponse.class);
-		pluginHandler.handleRead(ac, uuid);
-		return new MeshLocalRequestImpl<>(ac.getFuture());
+		return invoke(ac, () -> pluginHandler.handleRead(ac, uuid));
 	}
 
 	@Override
 	public JWTAuthentication getAuthentication() {
-		return null;
+		throw error(NOT_IMPLEMENTED, "local_client_error_not_implemented", "getAuthentication");
+	}
+
+	/**
+	 * Handler invocation which is executed by {@link MeshLocalClientImpl#invoke(LocalActionContextImpl, LocalHandler)}.
+	 */
+	@FunctionalInterface
+	private interface LocalHandler {
+		void handle() throws Exception;
 	}
 
 }
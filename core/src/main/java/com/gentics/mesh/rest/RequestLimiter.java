@@ -0,0 +1,113 @@
+package com.gentics.mesh.rest;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Limits the amount of requests which are handled concurrently by all HTTP server verticle instances. Requests which exceed the limit are rejected right
+ * away with status 503 and a Retry-After header so that clients back off instead of queuing up more work on the worker pool.
+ */
+@Singleton
+public class RequestLimiter {
+
+	private static final Logger log = LoggerFactory.getLogger(RequestLimiter.class);
+
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	/**
+	 * Matches the mount point of the eventbus bridge and the paths of the SockJS transports below it.
+	 */
+	private static final Pattern EVENTBUS_PATH = Pattern.compile("^/api/v\\d+/eventbus(/.*)?$");
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	private final int limit;
+
+	@Inject
+	public RequestLimiter(MeshOptions options) {
+		this.limit = options.getHttpServerOptions().getMaxConcurrentRequests();
+	}
+
+	/**
+	 * Wrap the given request handler. The handler will be returned as-is if no limit has been configured.
+	 *
+	 * @param handler
+	 * @return
+	 */
+	public Handler<HttpServerRequest> wrap(Handler<HttpServerRequest> handler) {
+		if (limit <= 0) {
+			return handler;
+		}
+		return request -> {
+			if (isLongLived(request)) {
+				handler.handle(request);
+				return;
+			}
+			if (running.incrementAndGet() > limit) {
+				running.decrementAndGet();
+				if (log.isDebugEnabled()) {
+					log.debug("Rejecting request {" + request.path() + "} since the limit of {" + limit + "} concurrent requests has been reached");
+				}
+				request.response()
+					.setStatusCode(SERVICE_UNAVAILABLE.code())
+					.putHeader("Retry-After", RETRY_AFTER_SECONDS)
+					.end();
+				return;
+			}
+			// The end handler is invoked once the response has been written or the connection has been closed before. It is reserved for the limiter
+			// since the close handler of the response is also used by other handlers (e.g. SockJS transports). The guard ensures that the slot is
+			// only released once.
+			AtomicBoolean released = new AtomicBoolean();
+			request.response().endHandler(v -> {
+				if (released.compareAndSet(false, true)) {
+					running.decrementAndGet();
+				}
+			});
+			handler.handle(request);
+		};
+	}
+
+	/**
+	 * Check whether the request will occupy the connection for an unbounded amount of time. Websocket upgrades and eventbus bridge requests (including
+	 * the SockJS polling and streaming transports) are not limited since they would otherwise hold a slot for the lifetime of the connection.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private boolean isLongLived(HttpServerRequest request) {
+		String upgrade = request.getHeader(HttpHeaders.UPGRADE);
+		if (upgrade != null) {
+			return true;
+		}
+		String connection = request.getHeader(HttpHeaders.CONNECTION);
+		if (connection != null && connection.toLowerCase().contains("upgrade")) {
+			return true;
+		}
+		String path = request.path();
+		return path != null && EVENTBUS_PATH.matcher(path).matches();
+	}
+
+	/**
+	 * Return the amount of requests which are currently being handled.
+	 *
+	 * @return
+	 */
+	public int getRunning() {
+		return running.get();
+	}
+
+}
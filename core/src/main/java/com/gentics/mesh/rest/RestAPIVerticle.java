@@ -24,6 +24,7 @@ import com.gentics.mesh.core.endpoint.navroot.NavRootEndpoint;
 import com.gentics.mesh.core.endpoint.node.NodeEndpoint;
 import com.gentics.mesh.core.endpoint.project.ProjectEndpoint;
 import com.gentics.mesh.core.endpoint.project.ProjectInfoEndpoint;
+import com.gentics.mesh.core.endpoint.project.ProjectTransferEndpoint;
 import com.gentics.mesh.core.endpoint.role.RoleEndpoint;
 import com.gentics.mesh.core.endpoint.schema.ProjectSchemaEndpoint;
 import com.gentics.mesh.core.endpoint.schema.SchemaEndpoint;
@@ -103,6 +104,9 @@ public class RestAPIVerticle extends AbstractVerticle {
 	@Inject
 	public Provider<ProjectMicroschemaEndpoint> projectMicroschemaEndpoint;
 
+	@Inject
+	public Provider<ProjectTransferEndpoint> projectTransferEndpoint;
+
 	@Inject
 	public Provider<WebRootEndpoint> webrootEndpoint;
 
@@ -145,6 +149,9 @@ public class RestAPIVerticle extends AbstractVerticle {
 	@Inject
 	public MeshOptions meshOptions;
 
+	@Inject
+	public RequestLimiter requestLimiter;
+
 	@Inject
 	public RestAPIVerticle() {
 	}
@@ -155,13 +162,29 @@ public class RestAPIVerticle extends AbstractVerticle {
 		String host = config().getString("host");
 		JsonArray initialProjects = config().getJsonArray("initialProjects");
 
+		HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
 		HttpServerOptions options = new HttpServerOptions();
 		options.setPort(port);
 		options.setHost(host);
-		options.setCompressionSupported(true);
+		options.setCompressionSupported(httpServerOptions.isCompressionEnabled());
+		if (httpServerOptions.isCompressionEnabled()) {
+			options.setCompressionLevel(httpServerOptions.getCompressionLevel());
+		}
 		options.setHandle100ContinueAutomatically(true);
 		// options.setLogActivity(true);
-		HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
+
+		// TCP tuning. Fast open, quick ack and port reuse only take effect with the native transport.
+		options.setTcpNoDelay(httpServerOptions.isTcpNoDelay());
+		options.setTcpFastOpen(httpServerOptions.isTcpFastOpen());
+		options.setTcpQuickAck(httpServerOptions.isTcpQuickAck());
+		options.setReusePort(httpServerOptions.isReusePort());
+		options.setAcceptBacklog(httpServerOptions.getAcceptBacklog());
+		options.setIdleTimeout(httpServerOptions.getIdleTimeout());
+
+		// HTTP/2 is negotiated via ALPN for SSL connections and via the h2c upgrade for plain connections
+		options.setHttp2ClearTextEnabled(httpServerOptions.isHttp2());
+		options.setUseAlpn(httpServerOptions.isHttp2() && httpServerOptions.getSsl());
+
 		if (httpServerOptions.getSsl()) {
 			if (log.isDebugEnabled()) {
 				log.debug("Setting ssl server options..");
@@ -191,7 +214,7 @@ public class RestAPIVerticle extends AbstractVerticle {
 		server = vertx.createHttpServer(options);
 		RouterStorage storage = routerStorage.get();
 		Router rootRouter = storage.root().getRouter();
-		server.requestHandler(rootRouter);
+		server.requestHandler(requestLimiter.wrap(rootRouter));
 
 		if (initialProjects != null) {
 			for (Object project : initialProjects) {
@@ -253,6 +276,7 @@ public class RestAPIVerticle extends AbstractVerticle {
 		endpoints.add(projectMicroschemaEndpoint.get());
 		endpoints.add(projectSearchEndpoint.get());
 		endpoints.add(projectRawSearchEndpoint.get());
+		endpoints.add(projectTransferEndpoint.get());
 		endpoints.add(branchEndpoint.get());
 		endpoints.add(graphqlEndpoint.get());
 
@@ -0,0 +1,66 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.schema.DecodedSchema;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = PROJECT, startServer = false)
+public class DecodedSchemaCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testDecodedSchema() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = schemaContainer("content").getLatestVersion();
+			DecodedSchema decoded = version.getDecodedSchema();
+			SchemaModel schema = decoded.getSchema();
+
+			assertEquals(version.getUuid(), decoded.getVersionUuid());
+			assertEquals(schema.getFields().size(), decoded.getFieldCount());
+			for (int i = 0; i < decoded.getFieldCount(); i++) {
+				FieldSchema field = schema.getFields().get(i);
+				assertEquals(field.getName(), decoded.getFieldName(i));
+				assertEquals(field.getType(), decoded.getFieldType(i));
+				assertSame(field, decoded.getField(field.getName()));
+			}
+			assertEquals("slug", decoded.getSegmentFieldName());
+			assertEquals("slug", decoded.getSegmentField().getName());
+			assertEquals("title", decoded.getDisplayFieldName());
+			assertEquals("string", decoded.getDisplayField().getType());
+			assertFalse(decoded.isContainer());
+			assertFalse(decoded.hasField("bogus"));
+			assertNull(decoded.getFieldType("bogus"));
+
+			assertTrue(schemaContainer("folder").getLatestVersion().getDecodedSchema().isContainer());
+		}
+	}
+
+	@Test
+	public void testCachedInstance() {
+		try (Tx tx = tx()) {
+			SchemaContainerVersion version = schemaContainer("content").getLatestVersion();
+			DecodedSchema decoded = version.getDecodedSchema();
+			assertSame("The decoded schema should be reused.", decoded, version.getDecodedSchema());
+			assertSame(decoded.getSchema(), version.getSchema());
+			assertSame("The cache should be keyed by the version uuid.", decoded, meshDagger().decodedSchemaCache().get(version.getUuid()));
+
+			meshDagger().decodedSchemaCache().clear();
+			DecodedSchema reloaded = version.getDecodedSchema();
+			assertEquals(decoded.getName(), reloaded.getName());
+			assertEquals(decoded.getVersion(), reloaded.getVersion());
+		}
+	}
+
+}
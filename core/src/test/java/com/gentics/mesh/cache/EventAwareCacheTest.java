@@ -49,4 +49,22 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		assertNull("The cache entry should have been invalidated.", USER_STATE_CACHE.get(userUuid()));
 		assertTrue("The other cache entry should be still in the cache.", USER_STATE_CACHE.get(uuid2));
 	}
+
+	@Test
+	public void testStats() {
+		EventAwareCache<String, Boolean> cache = EventAwareCache.<String, Boolean>builder()
+			.name("testStats")
+			.maxSize(100)
+			.events(USER_UPDATED)
+			.vertx(vertx())
+			.build();
+		assertEquals("testStats", cache.getName());
+
+		cache.get("a", key -> true);
+		cache.get("a", key -> true);
+		cache.get("b");
+		assertEquals("One entry should have been served by the cache.", 1, cache.stats().hitCount());
+		assertEquals(2, cache.stats().missCount());
+		assertEquals(1, cache.stats().loadCount());
+	}
 }
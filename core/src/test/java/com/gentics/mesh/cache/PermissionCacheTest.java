@@ -0,0 +1,67 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static com.gentics.mesh.test.TestSize.EMPTY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = EMPTY, startServer = false)
+public class PermissionCacheTest extends AbstractMeshTest {
+
+	private PermissionCacheImpl cache;
+
+	@Before
+	public void setupCache() {
+		cache = (PermissionCacheImpl) meshDagger().permissionCache();
+		cache.clear(false);
+		cache.store("#10:1", READ_PERM, "#20:1");
+		cache.store("#10:1", UPDATE_PERM, "#20:2");
+		cache.store("#10:2", READ_PERM, "#20:1");
+		cache.store("#10:2", READ_PERM, "#20:2");
+	}
+
+	@Test
+	public void testInvalidateElement() {
+		cache.invalidateElement("#20:1");
+
+		assertFalse(cache.hasPermission("#10:1", READ_PERM, "#20:1"));
+		assertFalse(cache.hasPermission("#10:2", READ_PERM, "#20:1"));
+		assertTrue(cache.hasPermission("#10:1", UPDATE_PERM, "#20:2"));
+		assertEquals("Only the entries of the element should have been removed.", 2, cache.size());
+		assertTrue(cache.hasPermission("#10:2", READ_PERM, "#20:2"));
+
+		cache.store("#10:1", READ_PERM, "#20:1");
+		assertTrue("The permission should be cached again after the invalidation.", cache.hasPermission("#10:1", READ_PERM, "#20:1"));
+	}
+
+	@Test
+	public void testInvalidateUsers() {
+		cache.invalidateUsers(Arrays.asList("#10:1"));
+		cache.invalidateElement("#20:2");
+
+		assertEquals("The entries of the user and the element should have been removed.", 1, cache.size());
+		assertTrue(cache.hasPermission("#10:2", READ_PERM, "#20:1"));
+		assertFalse(cache.hasPermission("#10:1", READ_PERM, "#20:1"));
+		assertFalse(cache.hasPermission("#10:2", READ_PERM, "#20:2"));
+	}
+
+	@Test
+	public void testInvalidateAfterClear() {
+		cache.clear(false);
+		cache.store("#10:1", READ_PERM, "#20:1");
+		cache.invalidateUser("#10:1");
+
+		assertEquals("The entry which was stored after the clear should have been removed.", 0, cache.size());
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.admin.cache.CacheInfo;
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = PROJECT, startServer = true, inMemoryDB = true)
+public class AdminCacheEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testListCaches() {
+		call(() -> client().loadCaches(), FORBIDDEN, "error_admin_permission_required");
+
+		tx(() -> group().addRole(roles().get("admin")));
+
+		// Load some elements to populate the permission cache
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+
+		CacheListResponse response = call(() -> client().loadCaches());
+		for (String name : new String[] { "permission", "userRole", "projectName", "branchName", "webrootPath" }) {
+			assertNotNull("The cache {" + name + "} should be listed.", response.getCache(name));
+		}
+		CacheInfo permissionCache = response.getCache("permission");
+		assertEquals(options().getCacheConfig().getPermissionCacheSize(), permissionCache.getMaxSize());
+		assertTrue("The permission cache should contain entries.", permissionCache.getSize() > 0);
+		assertTrue("The permission cache should have been used.", permissionCache.getHitCount() + permissionCache.getMissCount() > 0);
+	}
+
+	@Test
+	public void testClearCache() {
+		call(() -> client().clearCache("permission"), FORBIDDEN, "error_admin_permission_required");
+
+		tx(() -> group().addRole(roles().get("admin")));
+		call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid()));
+
+		call(() -> client().clearCache("permission"));
+		assertEquals("The permission cache should have been cleared.", 0, meshDagger().permissionCache().size());
+
+		call(() -> client().clearCache("bogus"), NOT_FOUND, "admin_cache_not_found", "bogus");
+	}
+
+}
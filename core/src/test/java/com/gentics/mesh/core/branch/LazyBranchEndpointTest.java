@@ -0,0 +1,156 @@
+package com.gentics.mesh.core.branch;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.LAZY_BRANCHES;
+import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = LAZY_BRANCHES)
+public class LazyBranchEndpointTest extends AbstractMeshTest {
+
+	private static final String BRANCH_NAME = "lazy";
+
+	/**
+	 * Create a new branch without migrating the nodes into it.
+	 */
+	private Branch createLazyBranch() {
+		try (Tx tx = tx()) {
+			Branch branch = createBranch(BRANCH_NAME);
+			tx.success();
+			return branch;
+		}
+	}
+
+	@Test
+	public void testReadThrough() {
+		Node node = folder("2015");
+		Branch branch = createLazyBranch();
+
+		try (Tx tx = tx()) {
+			String branchUuid = branch.getUuid();
+			assertThat(branch.isMigrated()).as("Branch migration status").isFalse();
+			assertThat(node.isMaterialized(branchUuid)).as("Materialized").isFalse();
+
+			NodeGraphFieldContainer initialContainer = node.getGraphFieldContainer("en", initialBranchUuid(), DRAFT);
+			assertThat(node.getGraphFieldContainer("en", branchUuid, DRAFT)).as("Draft in lazy branch").isEqualTo(initialContainer);
+			assertThat(node.getParentNode(branchUuid)).as("Parent in lazy branch").isEqualTo(node.getParentNode(initialBranchUuid()));
+			assertThat(node.getParentNode(branchUuid).getChildren(branchUuid).list()).as("Children in lazy branch").contains(node);
+			assertThat(node.isVisibleInBranch(branchUuid)).as("Visible in lazy branch").isTrue();
+		}
+
+		String uuid = tx(() -> node.getUuid());
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().setBranch(BRANCH_NAME)
+			.draft()));
+		assertThat(response).hasStringField("name", "2015");
+	}
+
+	@Test
+	public void testMaterializeOnUpdate() {
+		Node node = folder("2015");
+		String uuid = tx(() -> node.getUuid());
+		String parentUuid = tx(() -> node.getParentNode(initialBranchUuid()).getUuid());
+		Branch branch = createLazyBranch();
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion("1.0");
+		request.getFields().put("name", FieldUtil.createStringField("2015 in lazy branch"));
+		NodeResponse response = call(() -> client().updateNode(PROJECT_NAME, uuid, request, new VersioningParametersImpl().setBranch(BRANCH_NAME)));
+		assertThat(response).hasVersion("1.1").hasStringField("name", "2015 in lazy branch");
+
+		assertThat(call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().setBranch(initialBranch().getName())
+			.draft()))).as("Initial branch version").hasVersion("1.0").hasStringField("name", "2015");
+
+		try (Tx tx = tx()) {
+			String branchUuid = branch.getUuid();
+			assertThat(node.isMaterialized(branchUuid)).as("Materialized").isTrue();
+			assertThat(node.getParentNode(branchUuid).getUuid()).as("Parent in lazy branch").isEqualTo(parentUuid);
+		}
+
+		// The materialized node must only be listed once
+		NodeListResponse children = call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid, new VersioningParametersImpl().setBranch(
+			BRANCH_NAME)));
+		List<String> childUuids = children.getData().stream().map(NodeResponse::getUuid).filter(uuid::equals).collect(Collectors.toList());
+		assertThat(childUuids).hasSize(1);
+	}
+
+	@Test
+	public void testSegmentConflictWithUnmaterializedNode() {
+		Node node = folder("2015");
+		String parentUuid = tx(() -> node.getParentNode(initialBranchUuid()).getUuid());
+		String siblingUuid = tx(() -> folder("2014").getUuid());
+		Branch branch = createLazyBranch();
+
+		// The segment is still taken by the node which is read from the initial branch
+		NodeCreateRequest create = new NodeCreateRequest();
+		create.setParentNodeUuid(parentUuid);
+		create.setLanguage("en");
+		create.setSchema(new SchemaReferenceImpl().setName("folder"));
+		create.getFields().put("name", FieldUtil.createStringField("Another 2015"));
+		create.getFields().put("slug", FieldUtil.createStringField("2015"));
+		call(() -> client().createNode(PROJECT_NAME, create, new VersioningParametersImpl().setBranch(BRANCH_NAME)), CONFLICT,
+			"node_conflicting_segmentfield_update", "slug", "2015");
+
+		NodeUpdateRequest update = new NodeUpdateRequest();
+		update.setLanguage("en");
+		update.setVersion("1.0");
+		update.getFields().put("slug", FieldUtil.createStringField("2015"));
+		call(() -> client().updateNode(PROJECT_NAME, siblingUuid, update, new VersioningParametersImpl().setBranch(BRANCH_NAME)), CONFLICT,
+			"node_conflicting_segmentfield_update", "slug", "2015");
+
+		// The node must still be materializable
+		try (Tx tx = tx()) {
+			assertThat(node.isMaterialized(branch.getUuid())).as("Materialized").isFalse();
+		}
+		NodeUpdateRequest nodeUpdate = new NodeUpdateRequest();
+		nodeUpdate.setLanguage("en");
+		nodeUpdate.setVersion("1.0");
+		nodeUpdate.getFields().put("name", FieldUtil.createStringField("2015 in lazy branch"));
+		String uuid = tx(() -> node.getUuid());
+		call(() -> client().updateNode(PROJECT_NAME, uuid, nodeUpdate, new VersioningParametersImpl().setBranch(BRANCH_NAME)));
+		try (Tx tx = tx()) {
+			assertThat(node.isMaterialized(branch.getUuid())).as("Materialized").isTrue();
+		}
+	}
+
+	@Test
+	public void testDeleteInLazyBranch() {
+		Node node = folder("2015");
+		String uuid = tx(() -> node.getUuid());
+		Branch branch = createLazyBranch();
+
+		call(() -> client().deleteNode(PROJECT_NAME, uuid, new VersioningParametersImpl().setBranch(BRANCH_NAME), new DeleteParametersImpl()
+			.setRecursive(true)));
+
+		try (Tx tx = tx()) {
+			assertThat(node.isVisibleInBranch(branch.getUuid())).as("Visible in lazy branch").isFalse();
+			assertThat(node.isVisibleInBranch(initialBranchUuid())).as("Visible in initial branch").isTrue();
+		}
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().setBranch(BRANCH_NAME).draft()), NOT_FOUND);
+	}
+
+}
@@ -381,6 +381,64 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		assertEquals("The plain text of file {" + fileName + "} did not match", plainText, binaryField.getPlainText());
 	}
 
+	@Test
+	public void testReuseExtractedData() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		NodeResponse node2 = call(
+			() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+				buffer.length(), "test.pdf", "application/pdf"));
+		BinaryField extractedField = node2.getFields().getBinaryField("binary");
+
+		// Modify the extracted text. The modified field must not be used when the data gets uploaded again.
+		NodeUpdateRequest nodeUpdateRequest = node2.toRequest();
+		nodeUpdateRequest.getFields().getBinaryField("binary").setPlainText("modified");
+		call(() -> client().updateNode(PROJECT_NAME, node.getUuid(), nodeUpdateRequest));
+
+		NodeResponse otherNode = createBinaryNode(parentNodeUuid);
+		NodeResponse otherNode2 = call(
+			() -> client().updateNodeBinaryField(PROJECT_NAME, otherNode.getUuid(), "en", "0.1", "binary",
+				new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "other.pdf", "application/pdf"));
+		BinaryField reusedField = otherNode2.getFields().getBinaryField("binary");
+		assertEquals("Enemenemu", reusedField.getPlainText());
+		assertEquals(extractedField.getMetadata().getMap(), reusedField.getMetadata().getMap());
+
+		try (Tx tx = tx()) {
+			BinaryGraphField field = boot().nodeRoot().findByUuid(otherNode.getUuid()).getLatestDraftFieldContainer(english()).getBinary("binary");
+			assertTrue("The reused data should be marked as extracted", field.isExtracted());
+			assertFalse(field.isExtractionPending());
+			BinaryGraphField modifiedField = boot().nodeRoot().findByUuid(node.getUuid()).getLatestDraftFieldContainer(english()).getBinary("binary");
+			assertFalse("The modified data should not be marked as extracted", modifiedField.isExtracted());
+		}
+	}
+
+	@Test
+	public void testReuseLegacyExtractedData() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+			buffer.length(), "test.pdf", "application/pdf"));
+
+		// Fields which were created before the extraction flag was introduced only contain the stored data
+		try (Tx tx = tx()) {
+			BinaryGraphField field = boot().nodeRoot().findByUuid(node.getUuid()).getLatestDraftFieldContainer(english()).getBinary("binary");
+			field.property(BinaryGraphField.EXTRACTED_KEY, null);
+			field.setPlainText("legacy");
+			tx.success();
+		}
+
+		NodeResponse otherNode = createBinaryNode(parentNodeUuid);
+		NodeResponse otherNode2 = call(
+			() -> client().updateNodeBinaryField(PROJECT_NAME, otherNode.getUuid(), "en", "0.1", "binary",
+				new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "other.pdf", "application/pdf"));
+		assertEquals("The stored data of the legacy field should have been reused", "legacy", otherNode2.getFields().getBinaryField("binary")
+			.getPlainText());
+	}
+
 	@Test
 	public void testUploadToNodeWithoutBinaryField() throws IOException {
 		String contentType = "application/octet-stream";
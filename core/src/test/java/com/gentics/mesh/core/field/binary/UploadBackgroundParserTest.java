@@ -0,0 +1,99 @@
+package com.gentics.mesh.core.field.binary;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.BACKGROUND_UPLOAD_PARSER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Test upload processing with enabled background parser.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = BACKGROUND_UPLOAD_PARSER)
+public class UploadBackgroundParserTest extends AbstractMeshTest {
+
+	@Test
+	public void testBackgroundExtraction() throws Exception {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+			buffer.length(), "test.pdf", "application/pdf"));
+
+		BinaryField binaryField = waitForPlainText(node.getUuid());
+		assertEquals("Enemenemu", binaryField.getPlainText());
+		assertFalse("The metadata should have been extracted", binaryField.getMetadata().getMap().isEmpty());
+
+		try (Tx tx = tx()) {
+			BinaryGraphField field = boot().nodeRoot().findByUuid(node.getUuid()).getLatestDraftFieldContainer(english()).getBinary("binary");
+			assertFalse(field.isExtractionPending());
+			assertTrue(field.isExtracted());
+			assertFalse("The binary should no longer be flagged", field.getBinary().isExtractionPending());
+		}
+	}
+
+	@Test
+	public void testPendingExtractionIsResumed() throws Exception {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/testfiles/test.pdf");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(buffer.getBytes()),
+			buffer.length(), "test.pdf", "application/pdf"));
+		waitForPlainText(node.getUuid());
+
+		// Simulate an extraction which was interrupted by a shutdown
+		try (Tx tx = tx()) {
+			BinaryGraphField field = boot().nodeRoot().findByUuid(node.getUuid()).getLatestDraftFieldContainer(english()).getBinary("binary");
+			field.setPlainText(null);
+			field.setExtracted(false);
+			field.setExtractionPending(true);
+			field.getBinary().setExtractionPending(true);
+			tx.success();
+		}
+
+		meshDagger().binaryExtractionQueue().enqueuePending();
+		BinaryField binaryField = waitForPlainText(node.getUuid());
+		assertEquals("Enemenemu", binaryField.getPlainText());
+	}
+
+	@Test
+	public void testImageInfoIsProcessedInline() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/pictures/blume.jpg");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		NodeResponse node2 = call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary",
+			new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "blume.jpg", "image/jpeg"));
+
+		BinaryField binaryField = node2.getFields().getBinaryField("binary");
+		assertTrue("The image size should be available right away", binaryField.getWidth() > 0);
+	}
+
+	private BinaryField waitForPlainText(String nodeUuid) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid));
+			BinaryField binaryField = response.getFields().getBinaryField("binary");
+			if (binaryField.getPlainText() != null) {
+				return binaryField;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("The plain text was not extracted in time");
+	}
+
+}
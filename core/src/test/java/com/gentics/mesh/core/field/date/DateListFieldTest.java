@@ -10,6 +10,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -19,7 +21,9 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.DateGraphField;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.DateGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.DateGraphFieldListImpl;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.Field;
@@ -214,4 +218,22 @@ public class DateListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testItemPropertyLayout() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			DateGraphFieldListImpl list = (DateGraphFieldListImpl) container.createDateList("legacyList");
+
+			// Older versions stored the timestamps as strings
+			list.getElement().setProperty("item-1-date", "1000");
+			list.getElement().setProperty("item-2-date", "2000");
+			assertEquals(Arrays.asList(1000L, 2000L), list.getValues());
+
+			assertTrue(list.convertItemProperties());
+			assertEquals(Arrays.asList(1000L, 2000L), list.getElement().getProperty(AbstractBasicGraphFieldList.VALUES_PROPERTY_KEY));
+			assertEquals(Long.valueOf(2000L), list.getDate(2).getDate());
+			assertEquals(toISO8601(1000L), list.transformToRest(null, "legacyList", null, 0).getItems().get(0));
+		}
+	}
+
 }
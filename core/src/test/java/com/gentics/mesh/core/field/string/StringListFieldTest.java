@@ -9,6 +9,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -17,7 +19,9 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.Field;
@@ -222,4 +226,35 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testItemPropertyLayout() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldListImpl list = (StringGraphFieldListImpl) container.createStringList("legacyList");
+
+			// Simulate a list which was written by an older version
+			list.getElement().setProperty("item-2-string", "two");
+			list.getElement().setProperty("item-2-links", "");
+			list.getElement().setProperty("item-10-string", "ten");
+			list.getElement().setProperty("item-1-string", "one");
+			list.getElement().setProperty("item-1-links", "");
+
+			assertEquals(3, list.getSize());
+			assertEquals(Arrays.asList("one", "two", "ten"), list.getValues());
+			assertEquals("ten", list.getList().get(2).getString());
+
+			assertTrue("The list should have been converted", list.convertItemProperties());
+			assertFalse("The list was already converted", list.convertItemProperties());
+			assertFalse("The item properties should have been removed",
+				list.getElement().getPropertyKeys().stream().anyMatch(key -> key.startsWith("item-")));
+			assertEquals(Arrays.asList("one", "two", "ten"), list.getElement().getProperty(AbstractBasicGraphFieldList.VALUES_PROPERTY_KEY));
+			assertEquals(3, list.getSize());
+			assertEquals("two", list.getString(2).getString());
+
+			list.createString("four");
+			list.getString(1).setString("first");
+			assertEquals(Arrays.asList("first", "two", "ten", "four"), list.getValues());
+		}
+	}
+
 }
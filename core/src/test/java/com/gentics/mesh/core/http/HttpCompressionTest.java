@@ -0,0 +1,95 @@
+package com.gentics.mesh.core.http;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.rest.client.MeshRestClient;
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+import com.gentics.mesh.rest.client.impl.MeshRestOkHttpClientImpl;
+import com.gentics.mesh.rest.client.impl.OkHttpResponseCache;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class HttpCompressionTest extends AbstractMeshTest {
+
+	@Test
+	public void testSmallResponseIsNotCompressed() throws IOException {
+		try (Response response = get(CURRENT_API_BASE_PATH + "/")) {
+			assertEquals(200, response.code());
+			assertNotEquals("gzip", response.header("Content-Encoding"));
+			assertTrue("The test response must be smaller than the minimum compression size",
+				Long.parseLong(response.header("Content-Length")) < options().getHttpServerOptions().getMinCompressionSize());
+		}
+	}
+
+	@Test
+	public void testLargeResponseIsCompressed() throws IOException {
+		try (Response response = get(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes")) {
+			assertEquals(200, response.code());
+			assertEquals("gzip", response.header("Content-Encoding"));
+		}
+	}
+
+	@Test
+	public void testCompressedResponseIsCached() {
+		List<String> encodings = new ArrayList<>();
+		List<Integer> codes = new ArrayList<>();
+		// The network interceptor sees the responses before they are transparently decompressed
+		OkHttpClient okHttp = httpClient().newBuilder().addNetworkInterceptor(chain -> {
+			Response response = chain.proceed(chain.request());
+			encodings.add(response.header("Content-Encoding"));
+			codes.add(response.code());
+			return response;
+		}).build();
+		MeshRestClientConfig config = new MeshRestClientConfig.Builder()
+			.setHost("localhost")
+			.setPort(port())
+			.setBasePath(CURRENT_API_BASE_PATH)
+			.setResponseCacheSize(10)
+			.build();
+		MeshRestClient cachingClient = MeshRestClient.create(config, okHttp);
+		try {
+			cachingClient.setAuthenticationProvider(client().getAuthentication());
+			OkHttpResponseCache cache = ((MeshRestOkHttpClientImpl) cachingClient).getResponseCache();
+
+			NodeListResponse first = call(() -> cachingClient.findNodes(PROJECT_NAME));
+			assertEquals("gzip", encodings.get(0));
+			assertEquals("The compressed response must be cached", 1, cache.size());
+
+			// The second request must be revalidated and answered from the cache
+			NodeListResponse second = call(() -> cachingClient.findNodes(PROJECT_NAME));
+			assertEquals(304, codes.get(1).intValue());
+			assertEquals(first.getData().size(), second.getData().size());
+		} finally {
+			cachingClient.close();
+		}
+	}
+
+	private Response get(String path) throws IOException {
+		// Setting the header explicitly disables the transparent decompression of the client
+		Request request = new Request.Builder()
+			.url(prepareUrl(path))
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.addHeader("Accept-Encoding", "gzip")
+			.build();
+		return httpClient().newCall(request).execute();
+	}
+
+}
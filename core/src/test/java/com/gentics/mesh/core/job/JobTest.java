@@ -7,7 +7,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.cxf.jaxrs.utils.ExceptionUtils;
@@ -15,6 +18,7 @@ import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.JobQueueInfo;
 import com.gentics.mesh.core.data.job.JobRoot;
 import com.gentics.mesh.core.data.job.impl.BranchMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
@@ -119,4 +123,36 @@ public class JobTest extends AbstractMeshTest {
 					BranchMigrationJobImpl.class.getName());
 		}
 	}
+
+	@Test
+	public void testJobLanes() {
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			Job first = root.enqueueBranchMigration(user(), initialBranch());
+			Job purge = root.enqueueVersionPurge(user(), project());
+			Job second = root.enqueueBranchMigration(user(), initialBranch());
+
+			// The jobs of a project conflict with each other and thus share one lane
+			assertEquals("project." + projectUuid(), first.getLaneKey());
+			assertEquals("project." + projectUuid(), purge.getLaneKey());
+			assertThat(root.findPendingLanes()).containsExactly(first.getLaneKey());
+
+			// Jobs of the same lane are queued behind each other
+			Map<String, JobQueueInfo> queueInfo = root.getQueueInfo();
+			assertEquals(0, queueInfo.get(first.getUuid()).getPosition());
+			assertEquals(1, queueInfo.get(purge.getUuid()).getPosition());
+			assertEquals(2, queueInfo.get(second.getUuid()).getPosition());
+			assertEquals(first.getUuid(), root.findNextPending(first.getLaneKey(), new HashSet<>()).getUuid());
+			assertEquals(purge.getUuid(), root.findNextPending(first.getLaneKey(), Collections.singleton(first.getUuid())).getUuid());
+
+			// No estimation is possible without completed jobs
+			assertNull(queueInfo.get(second.getUuid()).getEstimatedCompletionTimestamp());
+
+			first.markAsFailed(new Exception("some error"));
+			queueInfo = root.getQueueInfo();
+			assertNull(queueInfo.get(first.getUuid()));
+			assertEquals(0, queueInfo.get(purge.getUuid()).getPosition());
+			assertEquals(1, queueInfo.get(second.getUuid()).getPosition());
+		}
+	}
 }
@@ -0,0 +1,118 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation.Action;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkResult;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeBulkEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testBulkCreateUpdatePublish() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+
+		NodeBulkRequest request = new NodeBulkRequest();
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-1.html")).setPublish(true));
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-2.html")));
+		NodeUpsertRequest update = new NodeUpsertRequest().setLanguage("en");
+		update.getFields().put("teaser", FieldUtil.createStringField("Updated teaser"));
+		request.add(new NodeBulkOperation().setAction(Action.UPDATE).setUuid(contentUuid).setNode(update));
+		request.add(new NodeBulkOperation().setAction(Action.PUBLISH).setUuid(contentUuid).setLanguage("en"));
+
+		NodeBulkResponse response = call(() -> client().bulkNodes(PROJECT_NAME, request));
+		assertEquals(4, response.getSucceeded());
+		assertEquals(0, response.getFailed());
+		assertEquals(201, response.getResults().get(0).getStatus());
+		assertEquals(200, response.getResults().get(2).getStatus());
+
+		String createdUuid = response.getResults().get(0).getUuid();
+		NodeResponse created = call(() -> client().findNodeByUuid(PROJECT_NAME, createdUuid, new VersioningParametersImpl().published()));
+		assertEquals("bulk-1.html", created.getFields().getStringField("slug").getString());
+
+		NodeResponse updated = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid, new VersioningParametersImpl().published()));
+		assertEquals("Updated teaser", updated.getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testBulkWithFailingOperation() {
+		String folderUuid = tx(() -> folder("news").getUuid());
+
+		NodeBulkRequest request = new NodeBulkRequest();
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-1.html")));
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-2.html").setLanguage("BOGUS")));
+		request.add(new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-3.html")));
+
+		NodeBulkResponse response = call(() -> client().bulkNodes(PROJECT_NAME, request));
+		assertEquals(2, response.getSucceeded());
+		assertEquals(1, response.getFailed());
+
+		NodeBulkResult failed = response.getResults().get(1);
+		assertEquals(1, failed.getIndex());
+		assertEquals(400, failed.getStatus());
+		assertNotNull(failed.getMessage());
+		for (int i : new int[] { 0, 2 }) {
+			NodeBulkResult result = response.getResults().get(i);
+			assertNull(result.getMessage());
+			call(() -> client().findNodeByUuid(PROJECT_NAME, result.getUuid()));
+		}
+	}
+
+	@Test
+	public void testBulkNdjson() throws IOException {
+		String folderUuid = tx(() -> folder("news").getUuid());
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			NodeBulkOperation operation = new NodeBulkOperation().setAction(Action.CREATE).setNode(createContent(folderUuid, "bulk-" + i + ".html"));
+			body.append(JsonUtil.toJson(operation).replaceAll("\n", "")).append("\n");
+		}
+
+		Request request = new Request.Builder()
+			.url(prepareUrl(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/bulk"))
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.post(RequestBody.create(MediaType.parse("application/x-ndjson"), body.toString()))
+			.build();
+		try (Response response = httpClient().newCall(request).execute()) {
+			assertEquals(200, response.code());
+			NodeBulkResponse bulkResponse = JsonUtil.readValue(response.body().string(), NodeBulkResponse.class);
+			assertEquals(3, bulkResponse.getSucceeded());
+		}
+	}
+
+	private NodeUpsertRequest createContent(String parentUuid, String slug) {
+		NodeUpsertRequest request = new NodeUpsertRequest();
+		request.setLanguage("en");
+		request.setSchemaName("content");
+		request.setParentNodeUuid(parentUuid);
+		request.getFields().put("teaser", FieldUtil.createStringField("Teaser of " + slug));
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		return request;
+	}
+
+}
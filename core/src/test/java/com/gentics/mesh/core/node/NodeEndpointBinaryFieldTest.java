@@ -3,6 +3,7 @@ package com.gentics.mesh.core.node;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -51,6 +52,8 @@ import com.gentics.mesh.util.VersionNumber;
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
 import io.vertx.core.buffer.Buffer;
+import okhttp3.Request;
+import okhttp3.Response;
 
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class NodeEndpointBinaryFieldTest extends AbstractMeshTest {
@@ -300,6 +303,48 @@ public class NodeEndpointBinaryFieldTest extends AbstractMeshTest {
 		response.close();
 	}
 
+	@Test
+	public void testDownloadResizedImageRange() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/pictures/android-gps.jpg"));
+
+		NodeCreateRequest nodeCreateRequest = new NodeCreateRequest();
+		nodeCreateRequest.setLanguage("en");
+		nodeCreateRequest.setParentNodeUuid(parentNodeUuid);
+		nodeCreateRequest.setSchemaName("binary_content");
+		NodeResponse node = call(() -> client().createNode(PROJECT_NAME, nodeCreateRequest));
+		call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary", new ByteArrayInputStream(bytes),
+			bytes.length, "test.jpg", "image/jpeg"));
+
+		String url = prepareUrl(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + node.getUuid() + "/binary/binary?w=100");
+		String etag;
+		long length;
+		try (Response response = httpClient().newCall(download(url).build()).execute()) {
+			assertEquals(200, response.code());
+			etag = response.header("ETag");
+			assertNotNull(response.header("Last-Modified"));
+			length = response.body().bytes().length;
+		}
+
+		try (Response response = httpClient().newCall(download(url).header("Range", "bytes=0-9").header("If-Range", etag).build()).execute()) {
+			assertEquals(206, response.code());
+			assertEquals("bytes 0-9/" + length, response.header("Content-Range"));
+			assertEquals(etag, response.header("ETag"));
+			assertEquals(10, response.body().bytes().length);
+		}
+
+		// A range must be ignored when the validator does not match the current representation
+		try (Response response = httpClient().newCall(download(url).header("Range", "bytes=0-9").header("If-Range", "\"bogus\"").build())
+			.execute()) {
+			assertEquals(200, response.code());
+			assertEquals(length, response.body().bytes().length);
+		}
+	}
+
+	private Request.Builder download(String url) {
+		return new Request.Builder().url(url).addHeader("Authorization", "Bearer " + client().getAuthentication().getToken());
+	}
+
 	/**
 	 * Test downloading an image which already has a preconfigured focal point.
 	 * 
@@ -39,6 +39,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -65,6 +66,8 @@ import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.node.NodeUpsertRequest;
+import com.gentics.mesh.core.rest.node.PublishStatusModel;
+import com.gentics.mesh.core.rest.node.PublishStatusResponse;
 import com.gentics.mesh.core.rest.node.field.StringField;
 import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
@@ -367,6 +370,87 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 
 	}
 
+	@Test
+	public void testDeleteRecursiveInChunks() {
+		String uuid = tx(() -> folder("news").getUuid());
+		String childUuid = tx(() -> folder("2015").getUuid());
+		int chunkSize = options().getContentOptions().getSubtreeChunkSize();
+		options().getContentOptions().setSubtreeChunkSize(1);
+		try {
+			call(() -> client().deleteNode(PROJECT_NAME, uuid, new DeleteParametersImpl().setRecursive(true)));
+		} finally {
+			options().getContentOptions().setSubtreeChunkSize(chunkSize);
+		}
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), NOT_FOUND, "object_not_found_for_uuid", uuid);
+		call(() -> client().findNodeByUuid(PROJECT_NAME, childUuid), NOT_FOUND, "object_not_found_for_uuid", childUuid);
+	}
+
+	@Test
+	public void testDeleteRecursiveAsJob() {
+		String uuid = tx(() -> folder("news").getUuid());
+		String childUuid = tx(() -> folder("2015").getUuid());
+		int threshold = options().getContentOptions().getSubtreeJobThreshold();
+		options().getContentOptions().setSubtreeJobThreshold(0);
+		try {
+			waitForJob(() -> {
+				call(() -> client().deleteNode(PROJECT_NAME, uuid, new DeleteParametersImpl().setRecursive(true)));
+			});
+		} finally {
+			options().getContentOptions().setSubtreeJobThreshold(threshold);
+		}
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), NOT_FOUND, "object_not_found_for_uuid", uuid);
+		call(() -> client().findNodeByUuid(PROJECT_NAME, childUuid), NOT_FOUND, "object_not_found_for_uuid", childUuid);
+	}
+
+	@Test
+	public void testTakeOfflineAndPublishRecursiveInChunks() {
+		String uuid = tx(() -> folder("news").getUuid());
+		String childUuid = tx(() -> folder("2015").getUuid());
+		int chunkSize = options().getContentOptions().getSubtreeChunkSize();
+		options().getContentOptions().setSubtreeChunkSize(1);
+		try {
+			call(() -> client().takeNodeOffline(PROJECT_NAME, uuid, new PublishParametersImpl().setRecursive(true)));
+			assertPublished(uuid, false);
+			assertPublished(childUuid, false);
+
+			call(() -> client().publishNode(PROJECT_NAME, uuid, new PublishParametersImpl().setRecursive(true)));
+			assertPublished(uuid, true);
+			assertPublished(childUuid, true);
+		} finally {
+			options().getContentOptions().setSubtreeChunkSize(chunkSize);
+		}
+	}
+
+	@Test
+	public void testTakeOfflineAndPublishRecursiveAsJob() {
+		String uuid = tx(() -> folder("news").getUuid());
+		String childUuid = tx(() -> folder("2015").getUuid());
+		int threshold = options().getContentOptions().getSubtreeJobThreshold();
+		options().getContentOptions().setSubtreeJobThreshold(0);
+		try {
+			waitForJob(() -> {
+				call(() -> client().takeNodeOffline(PROJECT_NAME, uuid, new PublishParametersImpl().setRecursive(true)));
+			});
+			assertPublished(uuid, false);
+			assertPublished(childUuid, false);
+
+			waitForJob(() -> {
+				call(() -> client().publishNode(PROJECT_NAME, uuid, new PublishParametersImpl().setRecursive(true)));
+			});
+			assertPublished(uuid, true);
+			assertPublished(childUuid, true);
+		} finally {
+			options().getContentOptions().setSubtreeJobThreshold(threshold);
+		}
+	}
+
+	private void assertPublished(String uuid, boolean published) {
+		PublishStatusResponse status = call(() -> client().getNodePublishStatus(PROJECT_NAME, uuid));
+		for (Entry<String, PublishStatusModel> entry : status.getAvailableLanguages().entrySet()) {
+			assertEquals("Publish status of language {" + entry.getKey() + "} of node {" + uuid + "}", published, entry.getValue().isPublished());
+		}
+	}
+
 	@Test
 	@Override
 	public void testCreateWithDuplicateUuid() throws Exception {
@@ -0,0 +1,139 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.IMAGE_VARIANTS;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.binary.ImageVariantGenerator;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.image.spi.CacheFileInfo;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.BinaryField;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariant;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.rest.client.MeshBinaryResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = IMAGE_VARIANTS)
+public class NodeImageVariantEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testVariantManifest() throws Exception {
+		Node node = folder("news");
+		NodeResponse response = uploadImage(node, "en", "image");
+
+		List<ImageVariant> variants = response.getFields().getBinaryField("image").getVariants();
+		assertNotNull("The variant manifest should be part of the response", variants);
+		assertEquals(2, variants.size());
+		assertEquals("thumbnail", variants.get(0).getName());
+		assertEquals(100, variants.get(0).getWidth().intValue());
+		assertEquals(100, variants.get(0).getHeight().intValue());
+		assertEquals("fp", variants.get(0).getCrop());
+		assertEquals("teaser", variants.get(1).getName());
+		assertNull(variants.get(1).getHeight());
+	}
+
+	@Test
+	public void testNoManifestForDocuments() throws Exception {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/testfiles/test.pdf"));
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		NodeResponse response = call(() -> client().updateNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary",
+			new ByteArrayInputStream(bytes), bytes.length, "test.pdf", "application/pdf"));
+		BinaryField field = response.getFields().getBinaryField("binary");
+		assertNull(field.getVariants());
+	}
+
+	@Test
+	public void testVariantsAreGeneratedOnUpload() throws Exception {
+		Node node = folder("news");
+		uploadImage(node, "en", "image");
+		waitForVariant(node, "thumbnail");
+		waitForVariant(node, "teaser");
+	}
+
+	@Test
+	public void testVariantsAreGeneratedOnPublish() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+		waitForVariant(node, "thumbnail");
+		waitForVariant(node, "teaser");
+
+		FileUtils.deleteDirectory(new File(options().getImageOptions().getImageCacheDirectory()));
+		call(() -> client().publishNode(PROJECT_NAME, nodeUuid));
+		waitForVariant(node, "thumbnail");
+		waitForVariant(node, "teaser");
+	}
+
+	@Test
+	public void testDownloadVariant() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		BufferedImage thumbnail = download(nodeUuid, new ImageManipulationParametersImpl().setVariant("thumbnail"));
+		assertEquals(100, thumbnail.getWidth());
+		assertEquals(100, thumbnail.getHeight());
+
+		// The variant replaces the other resize parameters
+		BufferedImage teaser = download(nodeUuid, new ImageManipulationParametersImpl().setVariant("teaser").setWidth(50));
+		assertEquals(300, teaser.getWidth());
+	}
+
+	@Test
+	public void testDownloadUnknownVariant() throws Exception {
+		Node node = folder("news");
+		String nodeUuid = tx(() -> node.getUuid());
+		uploadImage(node, "en", "image");
+
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setVariant("bogus");
+		call(() -> client().downloadBinaryField(PROJECT_NAME, nodeUuid, "en", "image", params), NOT_FOUND, "image_error_variant_not_found", "bogus");
+	}
+
+	private BufferedImage download(String nodeUuid, ImageManipulationParameters params) throws Exception {
+		MeshBinaryResponse download = call(() -> client().downloadBinaryField(PROJECT_NAME, nodeUuid, "en", "image", params));
+		byte[] bytes = IOUtils.toByteArray(download.getStream());
+		download.close();
+		return ImageIO.read(new ByteArrayInputStream(bytes));
+	}
+
+	private void waitForVariant(Node node, String name) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			CacheFileInfo info;
+			try (Tx tx = tx()) {
+				BinaryGraphField field = node.getLatestDraftFieldContainer(english()).getBinary("image");
+				ImageVariantPreset preset = options().getImageOptions().getVariant(name);
+				ImageManipulationParameters params = ImageVariantGenerator.createParameters(field, preset);
+				info = meshDagger().imageManipulator().getCacheFilePath(field.getBinary().getSHA512Sum(), params).blockingGet();
+			}
+			if (info.exists) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("The image variant {" + name + "} was not generated in time");
+	}
+
+}
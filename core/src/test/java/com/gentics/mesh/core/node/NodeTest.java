@@ -89,6 +89,28 @@ public class NodeTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testChildCounts() {
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			String schemaUuid = getSchemaContainer().getUuid();
+			Node news = folder("news");
+			Node target = folder("2015");
+			long newsCount = news.getChildCounts(branchUuid).getOrDefault(schemaUuid, 0L);
+			long targetCount = target.getChildCounts(branchUuid).getOrDefault(schemaUuid, 0L);
+
+			Node child = news.create(user(), getSchemaContainer().getLatestVersion(), project());
+			assertEquals(newsCount + 1, news.getChildCounts(branchUuid).get(schemaUuid).longValue());
+
+			child.setParentNode(branchUuid, target);
+			assertEquals(newsCount, news.getChildCounts(branchUuid).getOrDefault(schemaUuid, 0L).longValue());
+			assertEquals(targetCount + 1, target.getChildCounts(branchUuid).get(schemaUuid).longValue());
+
+			child.delete(createBulkContext());
+			assertEquals(targetCount, target.getChildCounts(branchUuid).getOrDefault(schemaUuid, 0L).longValue());
+		}
+	}
+
 	@Test
 	public void testTaggingOfMeshNode() {
 		try (Tx tx = tx()) {
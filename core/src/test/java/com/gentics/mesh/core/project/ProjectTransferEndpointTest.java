@@ -0,0 +1,122 @@
+package com.gentics.mesh.core.project;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry;
+import com.gentics.mesh.core.rest.project.ProjectTransferEntry.Type;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class ProjectTransferEndpointTest extends AbstractMeshTest {
+
+	private static final String TRANSFER_PATH = CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/transfer";
+
+	@Test
+	public void testExport() throws IOException {
+		grantAdminRole();
+		List<ProjectTransferEntry> entries = parse(export());
+
+		assertEquals(Type.PROJECT, entries.get(0).getType());
+		assertTrue(entries.stream().anyMatch(entry -> entry.getType() == Type.SCHEMA));
+		assertTrue(entries.stream().anyMatch(entry -> entry.getType() == Type.TAG));
+
+		// The parent must always be exported before the child
+		List<String> exported = new ArrayList<>();
+		for (ProjectTransferEntry entry : entries) {
+			if (entry.getType() == Type.NODE) {
+				NodeResponse node = entry.getData(NodeResponse.class);
+				if (node.getParentNode() != null) {
+					assertTrue("The parent of node {" + node.getUuid() + "} was not exported before the node.", exported.contains(node.getParentNode()
+						.getUuid()));
+				}
+				exported.add(node.getUuid());
+			}
+		}
+	}
+
+	@Test
+	public void testExportWithoutPermission() throws IOException {
+		try (Response response = httpClient().newCall(authorized(new Request.Builder().url(prepareUrl(TRANSFER_PATH + "/export"))).build())
+			.execute()) {
+			assertEquals(FORBIDDEN.code(), response.code());
+		}
+	}
+
+	@Test
+	public void testExportAndImport() throws IOException {
+		grantAdminRole();
+		String export = export();
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String contentUuid = tx(() -> content("news_2015").getUuid());
+		call(() -> client().deleteNode(PROJECT_NAME, folderUuid, new DeleteParametersImpl().setRecursive(true)));
+
+		RequestBody body = new MultipartBody.Builder()
+			.setType(MultipartBody.FORM)
+			.addFormDataPart("file", "export.ndjson", RequestBody.create(MediaType.parse("application/x-ndjson"), export))
+			.build();
+		Request.Builder request = new Request.Builder().url(prepareUrl(TRANSFER_PATH + "/import")).post(body);
+		JsonObject result;
+		try (Response response = httpClient().newCall(authorized(request).build()).execute()) {
+			assertEquals(ACCEPTED.code(), response.code());
+			result = new JsonObject(response.body().string());
+		}
+		String jobUuid = result.getJsonObject("properties").getString("jobUuid");
+		JobResponse job = waitForJob(() -> {
+		}, jobUuid, COMPLETED);
+		assertTrue(job.getCompletionCount() > 0);
+		assertEquals("0", job.getProperties().get("failed"));
+
+		NodeResponse folder = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid));
+		assertEquals("2015", folder.getFields().getStringField("slug").getString());
+		NodeResponse content = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid, new VersioningParametersImpl().published()));
+		assertEquals(folderUuid, content.getParentNode().getUuid());
+	}
+
+	private String export() throws IOException {
+		try (Response response = httpClient().newCall(authorized(new Request.Builder().url(prepareUrl(TRANSFER_PATH + "/export"))).build())
+			.execute()) {
+			assertEquals(200, response.code());
+			return response.body().string();
+		}
+	}
+
+	private Request.Builder authorized(Request.Builder builder) {
+		return builder.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken());
+	}
+
+	private List<ProjectTransferEntry> parse(String export) {
+		List<ProjectTransferEntry> entries = new ArrayList<>();
+		for (String line : export.split("\n")) {
+			entries.add(JsonUtil.readValue(line, ProjectTransferEntry.class));
+		}
+		return entries;
+	}
+
+}
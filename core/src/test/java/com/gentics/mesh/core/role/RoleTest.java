@@ -135,6 +135,36 @@ public class RoleTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testRoleSetPermissions() {
+		try (Tx tx = tx()) {
+			Role role = meshRoot().getRoleRoot().create("roleSetRole", user());
+			group().addRole(role);
+			NodeImpl extraNode = tx.getGraph().addFramedVertex(NodeImpl.class);
+			role.grantPermissions(extraNode, READ_PERM, UPDATE_PERM);
+			assertTrue(extraNode.getRoleUuidsForPerm(READ_PERM).contains(role.getUuid()));
+			assertTrue(extraNode.getRoleUuidsForPerm(UPDATE_PERM).contains(role.getUuid()));
+
+			options().getStorageOptions().setRoleSetPermissions(true);
+			try {
+				assertTrue(user().hasPermission(extraNode, READ_PERM));
+				assertFalse(user().hasPermission(extraNode, DELETE_PERM));
+
+				role.revokePermissions(extraNode, READ_PERM);
+				assertFalse(extraNode.getRoleUuidsForPerm(READ_PERM).contains(role.getUuid()));
+				assertFalse(user().hasPermission(extraNode, READ_PERM));
+				assertTrue(user().hasPermission(extraNode, UPDATE_PERM));
+
+				// The role sets must be cleaned up when deleting the role
+				role.delete(createBulkContext());
+				assertTrue(extraNode.getRoleUuidsForPerm(UPDATE_PERM).isEmpty());
+				assertFalse(user().hasPermission(extraNode, UPDATE_PERM));
+			} finally {
+				options().getStorageOptions().setRoleSetPermissions(false);
+			}
+		}
+	}
+
 	@Test
 	public void testGrantPermissionTwice() {
 		try (Tx tx = tx()) {
@@ -0,0 +1,32 @@
+package com.gentics.mesh.graphdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.madl.annotations.GraphElementRegistry;
+
+public class GraphElementRegistryTest {
+
+	private static final String BASE_PATH = "com.gentics.mesh.core.data";
+
+	@Test
+	public void testRegistryMatchesClasspathScan() {
+		GraphElementRegistry registry = GraphElementRegistry.load(getClass().getClassLoader(), BASE_PATH);
+		assertFalse("The registry should have been written by the annotation processor", registry.isEmpty());
+
+		GraphElementRegistry scanned = SimpleReflectionCache.scan(BASE_PATH);
+		assertEquals("The registry did not contain the same classes which were found via classpath scanning", scanned.getClasses(), registry
+			.getClasses());
+	}
+
+	@Test
+	public void testFallbackForUnknownTypes() {
+		SimpleReflectionCache cache = new SimpleReflectionCache(BASE_PATH);
+		assertNull(cache.forName("UnknownGraphElementImpl"));
+		assertEquals("The type filter must only contain the type itself", 1, cache.getSubTypeNames("NodeImpl").size());
+	}
+
+}
@@ -6,6 +6,7 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.link.LinkTokens;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
@@ -26,6 +27,7 @@ import java.util.concurrent.ExecutionException;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 @MeshTestSetting(testSize = FULL, startServer = false)
 public class LinkRendererTest extends AbstractMeshTest {
@@ -93,6 +95,28 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testLinkReplacerWithTokens() {
+		try (Tx tx = tx()) {
+			Node newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			String branchUuid = project().getLatestBranch().getUuid();
+			final String content = "prefix {{mesh.link('" + uuid + "')}} and {{mesh.link('" + uuid + "')}}";
+			final String expected = "prefix /News/News%20Overview.en.html and /News/News%20Overview.en.html";
+			InternalActionContext ac = mockActionContext();
+
+			assertEquals(expected, replacer.replace(ac, branchUuid, ContainerType.DRAFT, content, LinkTokens.parse(content), LinkType.SHORT, null,
+				null));
+
+			// Tokens which do not match the content must be ignored
+			LinkTokens otherTokens = LinkTokens.parse("{{mesh.link('" + uuid + "')}}");
+			assertEquals(expected, replacer.replace(ac, branchUuid, ContainerType.DRAFT, content, otherTokens, LinkType.SHORT, null, null));
+
+			// Stored field values contain the tokens
+			assertSame(LinkTokens.NONE, newsNode.getLatestDraftFieldContainer(english()).getString("title").getLinkTokens());
+		}
+	}
+
 	@Test
 	public void testLinkAtStart() {
 		try (Tx tx = tx()) {
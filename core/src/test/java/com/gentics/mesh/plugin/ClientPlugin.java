@@ -38,6 +38,13 @@ public class ClientPlugin extends AbstractPlugin implements RestPlugin {
 			}, rc::fail);
 		});
 
+		router.route("/local/me").handler(rc -> {
+			PluginContext context = wrap(rc);
+			context.localClient().me().toSingle().subscribe(me -> {
+				rc.response().end(me.toJson());
+			}, rc::fail);
+		});
+
 		router.route("/user").handler(rc -> {
 			rc.response().end(rc.user().principal().encodePrettily());
 		});
@@ -135,6 +135,9 @@ public class PluginManagerTest extends AbstractPluginTest {
 		UserResponse user = getViaClient(UserResponse.class, CURRENT_API_BASE_PATH + "/plugins/client/me");
 		assertEquals("The plugin should return the authenticated response", "joe1", user.getUsername());
 
+		UserResponse localUser = getViaClient(UserResponse.class, CURRENT_API_BASE_PATH + "/plugins/client/local/me");
+		assertEquals("The local client should use the user of the inbound request", "joe1", localUser.getUsername());
+
 		UserResponse admin = getViaClient(UserResponse.class, CURRENT_API_BASE_PATH + "/plugins/client/admin");
 		assertEquals("The admin endpoint should return the response which was authenticated using the admin user", "admin", admin.getUsername());
 
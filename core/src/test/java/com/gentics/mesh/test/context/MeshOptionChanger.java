@@ -4,6 +4,7 @@ import java.net.ServerSocket;
 import java.util.function.Consumer;
 
 import com.gentics.mesh.etc.config.AuthenticationOptions;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.OAuth2Options;
 
@@ -15,6 +16,13 @@ public enum MeshOptionChanger {
 		options.getCacheConfig().setPathCacheSize(0);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
+	}), BACKGROUND_UPLOAD_PARSER(options -> {
+		options.getUploadOptions().setParserInBackground(true);
+	}), IMAGE_VARIANTS(options -> {
+		options.getImageOptions().addVariant("thumbnail", new ImageVariantPreset(100, 100).setCrop("fp").setQuality(0.5f));
+		options.getImageOptions().addVariant("teaser", new ImageVariantPreset(300, null));
+	}), LAZY_BRANCHES(options -> {
+		options.getContentOptions().setLazyBranches(true);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
 		options.getSearchOptions().setIncludeBinaryFields(false);
 	}), RANDOM_ES_PORT(options -> {
@@ -110,6 +110,11 @@ public class Neo4jDatabase extends AbstractDatabase {
 		// NOOP
 	}
 
+	@Override
+	public void disableMassInsert() {
+		// NOOP
+	}
+
 	@Override
 	public String getVersion() {
 		return Version.getNeo4jVersion();
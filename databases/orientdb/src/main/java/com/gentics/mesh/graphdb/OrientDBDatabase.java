@@ -5,6 +5,7 @@ import static com.gentics.mesh.metric.Metrics.TX_RETRY;
 import static com.gentics.mesh.metric.Metrics.TX_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
@@ -23,6 +24,7 @@ import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.backup.IncrementalBackup;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManager;
 import com.gentics.mesh.graphdb.index.OrientDBIndexHandler;
 import com.gentics.mesh.graphdb.index.OrientDBTypeHandler;
@@ -273,6 +275,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		tx.declareIntent(new OIntentMassiveInsert().setDisableHooks(true).setDisableValidation(true));
 	}
 
+	@Override
+	public void disableMassInsert() {
+		unwrapCurrentGraph().declareIntent(null);
+	}
+
 	@Override
 	public <T extends MeshElement> T findVertex(String fieldKey, Object fieldValue, Class<T> clazz) {
 		FramedGraph graph = Tx.getActive().getGraph();
@@ -391,6 +398,10 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public void restoreGraph(String backupFile) throws IOException {
+		if (IncrementalBackup.isBackup(new File(backupFile))) {
+			// The storage files will be replaced and thus the storage needs to be closed. The engine will be started again by setupConnectionPool
+			Orient.instance().shutdown();
+		}
 		txProvider.restore(backupFile);
 	}
 
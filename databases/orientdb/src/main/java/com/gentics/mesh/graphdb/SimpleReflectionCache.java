@@ -3,66 +3,128 @@ package com.gentics.mesh.graphdb;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementRegistry;
 
-public class SimpleReflectionCache extends Reflections {
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 
-	private final Map<String, Set<String>> hierarchy;
-	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-	private final Map<String, Class> classStringCache = new HashMap<>();
+/**
+ * Immutable cache which maps the type names that are stored in the graph to the corresponding graph element classes.
+ * 
+ * The cache is populated from the {@link GraphElementRegistry} which was generated at compile time. Classpath scanning will be used as a fallback
+ * when no registry could be found (e.g. when the classes were compiled without annotation processing) or when a type name is missing in the
+ * registry.
+ */
+public class SimpleReflectionCache {
 
-	public SimpleReflectionCache() {
-		super();
-		this.hierarchy = new HashMap<>();
-	}
+	private static final Logger log = LoggerFactory.getLogger(SimpleReflectionCache.class);
+
+	private final String[] basePaths;
+
+	private final GraphElementRegistry registry;
+
+	private volatile GraphElementRegistry scannedRegistry;
+
+	private final Map<String, Class<?>> fallbackClasses = new ConcurrentHashMap<>();
 
 	public SimpleReflectionCache(String... basePaths) {
-		this();
-		for (String basePath : basePaths) {
-			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
-			for (Class<?> clazz : graphTypeClasses) {
-				classStringCache.put(clazz.getSimpleName(), clazz);
-			}
+		this.basePaths = basePaths;
+		GraphElementRegistry loaded = GraphElementRegistry.load(SimpleReflectionCache.class.getClassLoader(), basePaths);
+		if (loaded.isEmpty() && basePaths != null && basePaths.length != 0) {
+			log.warn("No graph element registry found for base paths {" + String.join(",", basePaths) + "}. Falling back to classpath scanning.");
+			loaded = scan(basePaths);
+			this.scannedRegistry = loaded;
+		}
+		this.registry = loaded;
+		if (log.isDebugEnabled()) {
+			log.debug("Loaded {" + registry.size() + "} graph element classes");
 		}
 	}
 
+	/**
+	 * Return the type names which are accepted when filtering by the given type. Only the name of the type itself is returned since the type property
+	 * of an element contains the name of its concrete class. Subtypes are not resolved.
+	 * 
+	 * @param type
+	 * @return
+	 */
 	public Set<? extends String> getSubTypeNames(final Class<?> type) {
-		Set<String> subtypes = this.hierarchy.get(type.getName());
-		if (subtypes == null)
-			subtypes = Collections.singleton(type.getName());
-		return Collections.unmodifiableSet(subtypes);
+		return Collections.singleton(type.getName());
 	}
 
+	/**
+	 * Return the type names which are accepted when filtering by the given type name. Only the name itself is returned. Subtypes are not resolved.
+	 * 
+	 * @param typeName
+	 * @return
+	 */
 	public Set<? extends String> getSubTypeNames(final String typeName) {
-		Set<String> subtypes = this.hierarchy.get(typeName);
-		if (subtypes == null)
-			subtypes = Collections.singleton(typeName);
-		return Collections.unmodifiableSet(subtypes);
+		return Collections.singleton(typeName);
 	}
 
 	public <E extends Annotation> E getAnnotation(final Method method, final Class<E> annotationType) {
-		Map<Class<Annotation>, Annotation> annotationsPresent = annotationCache.get(method);
-		if (annotationsPresent == null) {
-			annotationsPresent = new HashMap<>();
-			annotationCache.put(method, annotationsPresent);
+		// The JVM already caches the annotations of a method.
+		return method.getAnnotation(annotationType);
+	}
+
+	/**
+	 * Return the graph element class for the given type name.
+	 * 
+	 * @param className
+	 *            Simple name of the class
+	 * @return Found class or null if the class could neither be found in the registry nor via classpath scanning
+	 */
+	public Class<?> forName(final String className) {
+		Class<?> clazz = registry.forName(className);
+		if (clazz != null) {
+			return clazz;
 		}
+		return fallbackClasses.computeIfAbsent(className, name -> {
+			Class<?> scanned = scannedRegistry().forName(name);
+			if (scanned != null) {
+				log.warn("The graph element class {" + scanned.getName() + "} is missing in the graph element registry. "
+					+ "Make sure that the module which contains the class is compiled with the graph element annotation processor.");
+			}
+			return scanned;
+		});
+	}
 
-		E annotation = (E) annotationsPresent.get(annotationType);
-		if (annotation == null) {
-			annotation = method.getAnnotation(annotationType);
-			annotationsPresent.put((Class<Annotation>) annotationType, annotation);
+	private GraphElementRegistry scannedRegistry() {
+		GraphElementRegistry scanned = scannedRegistry;
+		if (scanned == null) {
+			synchronized (this) {
+				scanned = scannedRegistry;
+				if (scanned == null) {
+					scanned = scan(basePaths);
+					scannedRegistry = scanned;
+				}
+			}
 		}
-		return annotation;
+		return scanned;
 	}
 
-	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+	/**
+	 * Scan the classpath for graph element classes within the given base packages.
+	 * 
+	 * @param basePaths
+	 * @return
+	 */
+	public static GraphElementRegistry scan(String... basePaths) {
+		Set<Class<?>> graphTypeClasses = new HashSet<>();
+		if (basePaths != null) {
+			for (String basePath : basePaths) {
+				graphTypeClasses.addAll(new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class));
+			}
+		}
+		return GraphElementRegistry.of(graphTypeClasses);
 	}
 
 }
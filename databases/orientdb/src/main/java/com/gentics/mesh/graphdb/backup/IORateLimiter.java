@@ -0,0 +1,92 @@
+package com.gentics.mesh.graphdb.backup;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limiter which restricts the amount of bytes that are processed per second. The backup process uses the limiter to reduce the I/O impact on the running
+ * instance.
+ */
+public class IORateLimiter {
+
+	private final long bytesPerSecond;
+
+	private long start = -1;
+
+	private long consumed = 0;
+
+	/**
+	 * Create a new limiter.
+	 *
+	 * @param bytesPerSecond
+	 *            Maximum amount of bytes per second or 0 to disable the limit
+	 */
+	public IORateLimiter(long bytesPerSecond) {
+		this.bytesPerSecond = bytesPerSecond;
+	}
+
+	/**
+	 * Check whether the limiter will restrict the throughput.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return bytesPerSecond > 0;
+	}
+
+	/**
+	 * Account the given amount of bytes. The calling thread will be put to sleep until the processed bytes are within the limit again.
+	 *
+	 * @param bytes
+	 * @throws InterruptedIOException
+	 */
+	public synchronized void acquire(long bytes) throws InterruptedIOException {
+		if (!isEnabled()) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (start == -1) {
+			start = now;
+		}
+		consumed += bytes;
+		long expected = consumed * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+		long delay = expected - (now - start);
+		if (delay > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the backup I/O limit");
+			}
+		}
+	}
+
+	/**
+	 * Wrap the given stream so that all writes will be accounted by the limiter.
+	 *
+	 * @param out
+	 * @return
+	 */
+	public OutputStream wrap(OutputStream out) {
+		if (!isEnabled()) {
+			return out;
+		}
+		return new FilterOutputStream(out) {
+			@Override
+			public void write(int b) throws IOException {
+				acquire(1);
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				acquire(len);
+				out.write(b, off, len);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,457 @@
+package com.gentics.mesh.graphdb.backup;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Page based backup of a storage directory. Every backup is written into its own directory which contains a manifest, the page checksums and a zip file
+ * with the pages that have been changed since the previous backup. The manifest references the previous backup so that the storage can be rebuilt by
+ * applying the chain of backups, starting with the full backup.
+ */
+public class IncrementalBackup {
+
+	private static final Logger log = LoggerFactory.getLogger(IncrementalBackup.class);
+
+	public static final String MANIFEST_FILE = "manifest.json";
+
+	public static final String PAGES_FILE = "pages.zip";
+
+	/**
+	 * Binary file which contains the checksums of all pages. It is used to detect the changed pages of the next backup.
+	 */
+	public static final String CHECKSUMS_FILE = "checksums.bin";
+
+	/**
+	 * Copy of the changed files which is written while the storage is frozen.
+	 */
+	private static final String STAGING_DIRECTORY = "staging";
+
+	public static final int PAGE_SIZE = 64 * 1024;
+
+	/**
+	 * Files which have been modified shortly before the previous backup are always scanned since the file system may only track the modification time in
+	 * seconds.
+	 */
+	private static final long MODIFICATION_TIME_GRANULARITY = 2000;
+
+	private static final int END_OF_PAGES = -1;
+
+	private static final String TYPE_FULL = "full";
+
+	private static final String TYPE_INCREMENTAL = "incremental";
+
+	private final int compressionLevel;
+
+	private final int maxChainLength;
+
+	private final IORateLimiter limiter;
+
+	/**
+	 * Create a new backup handler.
+	 *
+	 * @param compressionLevel
+	 *            Compression level of the page files
+	 * @param maxBytesPerSecond
+	 *            Limit for the amount of bytes that are read from the storage per second or 0 for no limit
+	 * @param maxChainLength
+	 *            Maximum amount of incremental backups which are based on a full backup
+	 */
+	public IncrementalBackup(int compressionLevel, long maxBytesPerSecond, int maxChainLength) {
+		this.compressionLevel = compressionLevel;
+		this.maxChainLength = maxChainLength;
+		this.limiter = new IORateLimiter(maxBytesPerSecond);
+	}
+
+	/**
+	 * Write a backup of the source directory. An incremental backup will be written if the backup directory already contains a backup which can be used as
+	 * the base. The storage files must not be modified while the backup is running.
+	 *
+	 * @param sourceDirectory
+	 *            Storage directory
+	 * @param backupDirectory
+	 *            Directory which contains the backups
+	 * @param name
+	 *            Name of the new backup
+	 * @return Directory of the new backup
+	 * @throws IOException
+	 */
+	public File backup(File sourceDirectory, File backupDirectory, String name) throws IOException {
+		return snapshot(sourceDirectory, backupDirectory, name).write();
+	}
+
+	/**
+	 * Copy the files of the source directory which have been changed since the previous backup into the staging directory of the new backup. The storage
+	 * files must not be modified while the snapshot is taken. The files are neither read page by page nor rate limited in order to keep this phase short.
+	 * The backup is completed by invoking {@link Snapshot#write()}, which may happen while the storage is modified again.
+	 *
+	 * @param sourceDirectory
+	 *            Storage directory
+	 * @param backupDirectory
+	 *            Directory which contains the backups
+	 * @param name
+	 *            Name of the new backup
+	 * @return Snapshot which needs to be written
+	 * @throws IOException
+	 */
+	public Snapshot snapshot(File sourceDirectory, File backupDirectory, String name) throws IOException {
+		File latest = findLatest(backupDirectory);
+		JsonObject parent = latest == null ? null : readManifest(latest);
+		boolean full = parent == null || parent.getInteger("pageSize") != PAGE_SIZE || parent.getInteger("chainLength") >= maxChainLength;
+
+		File target = new File(backupDirectory, name);
+		if (!target.mkdirs()) {
+			throw new IOException("Could not create backup directory {" + target.getAbsolutePath() + "}");
+		}
+		JsonObject manifest = new JsonObject();
+		manifest.put("type", full ? TYPE_FULL : TYPE_INCREMENTAL);
+		manifest.put("parent", full ? null : latest.getName());
+		manifest.put("chainLength", full ? 0 : parent.getInteger("chainLength") + 1);
+		manifest.put("sequence", parent == null ? 0 : parent.getLong("sequence") + 1);
+		manifest.put("created", System.currentTimeMillis());
+		manifest.put("pageSize", PAGE_SIZE);
+
+		JsonObject previousFiles = full ? new JsonObject() : parent.getJsonObject("files");
+		long previousCreated = full ? 0 : parent.getLong("created");
+		JsonObject files = new JsonObject();
+		Set<String> staged = new HashSet<>();
+		File staging = new File(target, STAGING_DIRECTORY);
+		for (String path : listFiles(sourceDirectory)) {
+			File file = new File(sourceDirectory, path);
+			JsonObject previous = previousFiles.getJsonObject(path);
+			if (previous != null && isUnchanged(file, previous, previousCreated)) {
+				files.put(path, previous.copy());
+				continue;
+			}
+			JsonObject info = new JsonObject();
+			info.put("length", file.length());
+			info.put("lastModified", file.lastModified());
+			files.put(path, info);
+
+			// The storage modifies its files in place once it has been released. A hard link would therefore not preserve the current state.
+			File copy = new File(staging, path);
+			copy.getParentFile().mkdirs();
+			Files.copy(file.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			staged.add(path);
+		}
+		manifest.put("files", files);
+		return new Snapshot(target, full ? null : latest, manifest, staged);
+	}
+
+	/**
+	 * Files of a backup which have been copied into the staging directory but not yet been compared with the previous backup.
+	 */
+	public class Snapshot {
+
+		private final File target;
+
+		private final File parent;
+
+		private final JsonObject manifest;
+
+		private final Set<String> staged;
+
+		private Snapshot(File target, File parent, JsonObject manifest, Set<String> staged) {
+			this.target = target;
+			this.parent = parent;
+			this.manifest = manifest;
+			this.staged = staged;
+		}
+
+		/**
+		 * Compare the pages of the staged files with the checksums of the previous backup and compress the changed pages into the pages file. The staged
+		 * files are read using the configured rate limit. The backup will only be used as the base for further backups once the manifest has been written.
+		 *
+		 * @return Directory of the new backup
+		 * @throws IOException
+		 */
+		public File write() throws IOException {
+			Map<String, long[]> previousChecksums = parent == null ? Collections.emptyMap() : readChecksums(parent);
+			File staging = new File(target, STAGING_DIRECTORY);
+			long changedPages = 0;
+			try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(new File(target, PAGES_FILE))));
+				DataOutputStream checksums = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(target, CHECKSUMS_FILE))))) {
+				zip.setLevel(compressionLevel);
+				for (String path : manifest.getJsonObject("files").fieldNames()) {
+					long[] previous = previousChecksums.get(path);
+					long[] current;
+					if (staged.contains(path)) {
+						current = new long[pageCount(new File(staging, path).length())];
+						changedPages += writeChangedPages(new File(staging, path), path, previous, current, zip);
+					} else {
+						current = previous == null ? new long[0] : previous;
+					}
+					checksums.writeBoolean(true);
+					checksums.writeUTF(path);
+					checksums.writeInt(current.length);
+					for (long checksum : current) {
+						checksums.writeLong(checksum);
+					}
+				}
+				checksums.writeBoolean(false);
+			}
+			FileUtils.deleteDirectory(staging);
+			FileUtils.writeStringToFile(new File(target, MANIFEST_FILE), manifest.encode(), UTF_8);
+			if (log.isDebugEnabled()) {
+				log.debug("Wrote {" + manifest.getString("type") + "} backup {" + target.getName() + "} with {" + changedPages + "} pages");
+			}
+			return target;
+		}
+	}
+
+	/**
+	 * Rebuild the storage directory using the chain of backups which ends with the given backup.
+	 *
+	 * @param backup
+	 *            Directory of the last backup which should be applied
+	 * @param targetDirectory
+	 *            Empty directory which will contain the restored storage files
+	 * @throws IOException
+	 */
+	public void restore(File backup, File targetDirectory) throws IOException {
+		List<File> chain = new LinkedList<>();
+		JsonObject manifest = readManifest(backup);
+		JsonObject current = manifest;
+		chain.add(backup);
+		while (current.getString("parent") != null) {
+			File parent = new File(backup.getParentFile(), current.getString("parent"));
+			if (!new File(parent, MANIFEST_FILE).exists()) {
+				throw new IOException("The backup {" + parent.getAbsolutePath() + "} which is required for the restore could not be found");
+			}
+			current = readManifest(parent);
+			chain.add(0, parent);
+		}
+		if (!TYPE_FULL.equals(current.getString("type"))) {
+			throw new IOException("The backup chain of {" + backup.getAbsolutePath() + "} does not start with a full backup");
+		}
+
+		targetDirectory.mkdirs();
+		for (File dir : chain) {
+			if (log.isDebugEnabled()) {
+				log.debug("Applying backup {" + dir.getName() + "}");
+			}
+			applyPages(new File(dir, PAGES_FILE), targetDirectory);
+			JsonObject files = readManifest(dir).getJsonObject("files");
+			for (String path : files.fieldNames()) {
+				File file = new File(targetDirectory, path);
+				file.getParentFile().mkdirs();
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+					raf.setLength(files.getJsonObject(path).getLong("length"));
+				}
+			}
+		}
+
+		// Remove the files which have been deleted within the chain
+		JsonObject files = manifest.getJsonObject("files");
+		for (String path : listFiles(targetDirectory)) {
+			if (!files.containsKey(path)) {
+				Files.delete(new File(targetDirectory, path).toPath());
+			}
+		}
+	}
+
+	/**
+	 * Return the most recent backup within the given directory.
+	 *
+	 * @param backupDirectory
+	 * @return Backup directory or null if no backup could be found
+	 * @throws IOException
+	 */
+	public static File findLatest(File backupDirectory) throws IOException {
+		File[] dirs = backupDirectory.listFiles(IncrementalBackup::isBackup);
+		if (dirs == null) {
+			return null;
+		}
+		File latest = null;
+		long latestSequence = -1;
+		for (File dir : dirs) {
+			long sequence = readManifest(dir).getLong("sequence");
+			if (sequence > latestSequence) {
+				latest = dir;
+				latestSequence = sequence;
+			}
+		}
+		return latest;
+	}
+
+	/**
+	 * Check whether the given file is the directory of a backup.
+	 *
+	 * @param file
+	 * @return
+	 */
+	public static boolean isBackup(File file) {
+		return file.isDirectory() && new File(file, MANIFEST_FILE).isFile();
+	}
+
+	private boolean isUnchanged(File file, JsonObject previous, long previousCreated) {
+		long lastModified = file.lastModified();
+		return file.length() == previous.getLong("length")
+			&& lastModified == previous.getLong("lastModified")
+			&& lastModified < previousCreated - MODIFICATION_TIME_GRANULARITY;
+	}
+
+	/**
+	 * Write the pages of the staged file which differ from the previous checksums to the pages file and record the checksums of all pages.
+	 *
+	 * @return Amount of written pages
+	 */
+	private long writeChangedPages(File file, String path, long[] previous, long[] checksums, ZipOutputStream zip) throws IOException {
+		DataOutputStream out = new DataOutputStream(zip);
+		byte[] page = new byte[PAGE_SIZE];
+		long written = 0;
+		try (InputStream in = new BufferedInputStream(new FileInputStream(file), PAGE_SIZE)) {
+			for (int i = 0; i < checksums.length; i++) {
+				limiter.acquire(PAGE_SIZE);
+				int len = readPage(in, page);
+				long checksum = checksum(page, len);
+				checksums[i] = checksum;
+				if (previous != null && i < previous.length && previous[i] == checksum) {
+					continue;
+				}
+				if (written == 0) {
+					zip.putNextEntry(new ZipEntry(path));
+				}
+				out.writeInt(i);
+				out.writeInt(len);
+				out.write(page, 0, len);
+				written++;
+			}
+		}
+		if (written > 0) {
+			out.writeInt(END_OF_PAGES);
+			out.flush();
+			zip.closeEntry();
+		}
+		return written;
+	}
+
+	/**
+	 * Read the page checksums of all files of the given backup.
+	 */
+	private static Map<String, long[]> readChecksums(File backup) throws IOException {
+		Map<String, long[]> checksums = new HashMap<>();
+		File file = new File(backup, CHECKSUMS_FILE);
+		if (!file.exists()) {
+			return checksums;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			while (in.readBoolean()) {
+				String path = in.readUTF();
+				long[] values = new long[in.readInt()];
+				for (int i = 0; i < values.length; i++) {
+					values[i] = in.readLong();
+				}
+				checksums.put(path, values);
+			}
+		}
+		return checksums;
+	}
+
+	private static int pageCount(long length) {
+		return (int) ((length + PAGE_SIZE - 1) / PAGE_SIZE);
+	}
+
+	private void applyPages(File pagesFile, File targetDirectory) throws IOException {
+		try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(new FileInputStream(pagesFile)))) {
+			ZipEntry entry;
+			byte[] page = new byte[PAGE_SIZE];
+			while ((entry = zip.getNextEntry()) != null) {
+				File file = new File(targetDirectory, entry.getName());
+				if (!file.getCanonicalPath().startsWith(targetDirectory.getCanonicalPath() + File.separator)) {
+					throw new IOException("The backup entry {" + entry.getName() + "} is outside of the storage directory");
+				}
+				file.getParentFile().mkdirs();
+				DataInputStream in = new DataInputStream(zip);
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+					int index;
+					while ((index = in.readInt()) != END_OF_PAGES) {
+						int len = in.readInt();
+						in.readFully(page, 0, len);
+						raf.seek((long) index * PAGE_SIZE);
+						raf.write(page, 0, len);
+					}
+				}
+				zip.closeEntry();
+			}
+		}
+	}
+
+	private static int readPage(InputStream in, byte[] page) throws IOException {
+		int len = 0;
+		while (len < page.length) {
+			int read = in.read(page, len, page.length - len);
+			if (read == -1) {
+				break;
+			}
+			len += read;
+		}
+		return len;
+	}
+
+	/**
+	 * The CRC32 and Adler32 values of the page are combined to reduce the chance of missing a changed page.
+	 */
+	private static long checksum(byte[] page, int len) {
+		CRC32 crc = new CRC32();
+		crc.update(page, 0, len);
+		Adler32 adler = new Adler32();
+		adler.update(page, 0, len);
+		return (crc.getValue() << 32) | adler.getValue();
+	}
+
+	private static JsonObject readManifest(File backup) throws IOException {
+		return new JsonObject(FileUtils.readFileToString(new File(backup, MANIFEST_FILE), UTF_8));
+	}
+
+	/**
+	 * List the relative paths of all files within the directory.
+	 */
+	private static List<String> listFiles(File directory) throws IOException {
+		if (!directory.exists()) {
+			return Collections.emptyList();
+		}
+		Path root = directory.toPath();
+		try (Stream<Path> stream = Files.walk(root)) {
+			List<String> paths = new ArrayList<>();
+			for (Path path : stream.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				paths.add(root.relativize(path).toString().replace(File.separatorChar, '/'));
+			}
+			return paths;
+		}
+	}
+
+}
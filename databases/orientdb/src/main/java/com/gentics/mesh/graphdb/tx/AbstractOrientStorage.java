@@ -16,8 +16,13 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.apache.commons.io.FileUtils;
+
 import com.codahale.metrics.Meter;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.backup.IORateLimiter;
+import com.gentics.mesh.graphdb.backup.IncrementalBackup;
 import com.gentics.mesh.metric.MetricsService;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
@@ -80,6 +85,11 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		if (isMemoryMode) {
 			throw error(SERVICE_UNAVAILABLE, "backup_error_not_supported_in_memory_mode");
 		}
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		if (storageOptions.isIncrementalBackup()) {
+			incrementalBackup(backupDirectory);
+			return;
+		}
 		ODatabaseSession db = createSession();
 		try {
 			OCommandOutputListener listener = new OCommandOutputListener() {
@@ -91,12 +101,42 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 			String dateString = formatter.format(new Date());
 			String backupFile = "backup_" + dateString + ".zip";
 			new File(backupDirectory).mkdirs();
-			try (OutputStream out = new FileOutputStream(new File(backupDirectory, backupFile).getAbsolutePath())) {
-				db.backup(out, null, null, listener, 9, 2048);
+			IORateLimiter limiter = new IORateLimiter(storageOptions.getBackupMaxBytesPerSecond());
+			try (OutputStream out = limiter.wrap(new FileOutputStream(new File(backupDirectory, backupFile).getAbsolutePath()))) {
+				db.backup(out, null, null, listener, storageOptions.getBackupCompressionLevel(), 2048);
+			}
+		} finally {
+			db.close();
+		}
+	}
+
+	/**
+	 * Write a backup which only contains the storage pages that have been changed since the previous backup. The database is only frozen while the changed
+	 * pages are copied into the staging file so that the storage files are consistent. Write operations will wait until the copy has been completed. The
+	 * compression and the rate limited write of the backup happen after the database has been released.
+	 * 
+	 * @param backupDirectory
+	 * @throws IOException
+	 */
+	protected void incrementalBackup(String backupDirectory) throws IOException {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		IncrementalBackup backup = new IncrementalBackup(storageOptions.getBackupCompressionLevel(), storageOptions.getBackupMaxBytesPerSecond(),
+			storageOptions.getBackupMaxChainLength());
+		String name = "backup_" + formatter.format(new Date());
+		IncrementalBackup.Snapshot snapshot;
+		ODatabaseSession db = createSession();
+		try {
+			db.freeze();
+			try {
+				snapshot = backup.snapshot(getStorageDirectory(), new File(backupDirectory), name);
+			} finally {
+				db.release();
 			}
 		} finally {
 			db.close();
 		}
+		File dir = snapshot.write();
+		log.info("Wrote incremental backup to {" + dir.getAbsolutePath() + "}");
 	}
 
 	@Override
@@ -104,6 +144,11 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		if (log.isDebugEnabled()) {
 			log.debug("Running restore using {" + backupFile + "} backup file.");
 		}
+		File backup = new File(backupFile);
+		if (IncrementalBackup.isBackup(backup)) {
+			incrementalRestore(backup);
+			return;
+		}
 		log.debug("Opening database {}", DB_NAME);
 		ODatabaseSession db = createSession();
 		try {
@@ -121,6 +166,37 @@ public abstract class AbstractOrientStorage implements OrientStorage {
 		}
 	}
 
+	/**
+	 * Rebuild the storage files using the chain of incremental backups which ends with the given backup. The storage must not be opened while the files are
+	 * replaced.
+	 * 
+	 * @param backup
+	 *            Directory of the backup
+	 * @throws IOException
+	 */
+	protected void incrementalRestore(File backup) throws IOException {
+		GraphStorageOptions storageOptions = options.getStorageOptions();
+		File storageDirectory = getStorageDirectory();
+		File restoreDirectory = new File(storageDirectory.getParentFile(), DB_NAME + "_restore");
+		FileUtils.deleteDirectory(restoreDirectory);
+		new IncrementalBackup(storageOptions.getBackupCompressionLevel(), 0, storageOptions.getBackupMaxChainLength()).restore(backup,
+			restoreDirectory);
+		FileUtils.deleteDirectory(storageDirectory);
+		if (!restoreDirectory.renameTo(storageDirectory)) {
+			throw new IOException("Could not move the restored storage {" + restoreDirectory.getAbsolutePath() + "} to {" + storageDirectory
+				.getAbsolutePath() + "}");
+		}
+	}
+
+	/**
+	 * Return the directory which contains the storage files of the database.
+	 * 
+	 * @return
+	 */
+	protected File getStorageDirectory() {
+		return new File(options.getStorageOptions().getDirectory(), DB_NAME);
+	}
+
 	/**
 	 * Create a new session to access the database. Remember to close the session after usage.
 	 * 
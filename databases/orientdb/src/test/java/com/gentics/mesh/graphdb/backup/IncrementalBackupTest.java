@@ -0,0 +1,172 @@
+package com.gentics.mesh.graphdb.backup;
+
+import static com.gentics.mesh.graphdb.backup.IncrementalBackup.PAGE_SIZE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class IncrementalBackupTest {
+
+	private File baseDir;
+
+	private File storageDir;
+
+	private File backupDir;
+
+	private final Random random = new Random(42);
+
+	@Before
+	public void setup() {
+		baseDir = new File(System.getProperty("java.io.tmpdir"), "random_" + Math.random());
+		storageDir = new File(baseDir, "storage");
+		backupDir = new File(baseDir, "backup");
+		storageDir.mkdirs();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		FileUtils.deleteDirectory(baseDir);
+	}
+
+	@Test
+	public void testFullAndIncrementalRestore() throws IOException {
+		IncrementalBackup backup = new IncrementalBackup(1, 0, 5);
+		writeRandom(new File(storageDir, "cluster.pcl"), 10 * PAGE_SIZE + 100);
+		writeRandom(new File(storageDir, "index.sbt"), 3 * PAGE_SIZE);
+		writeRandom(new File(storageDir, "removed.cpm"), 2 * PAGE_SIZE);
+		File full = backup.backup(storageDir, backupDir, "backup_1");
+		assertEquals("full", manifest(full).getString("type"));
+
+		// Change a single page, grow one file and remove another one
+		try (RandomAccessFile raf = new RandomAccessFile(new File(storageDir, "cluster.pcl"), "rw")) {
+			raf.seek(4 * PAGE_SIZE + 10);
+			raf.write("changed".getBytes(StandardCharsets.UTF_8));
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(new File(storageDir, "index.sbt"), "rw")) {
+			raf.seek(raf.length());
+			raf.write(new byte[] { 1, 2, 3 });
+		}
+		new File(storageDir, "removed.cpm").delete();
+		File incremental = backup.backup(storageDir, backupDir, "backup_2");
+
+		JsonObject manifest = manifest(incremental);
+		assertEquals("incremental", manifest.getString("type"));
+		assertEquals("backup_1", manifest.getString("parent"));
+		assertFalse(manifest.getJsonObject("files").containsKey("removed.cpm"));
+		assertEquals(1, countPages(incremental, "cluster.pcl"));
+		assertEquals(1, countPages(incremental, "index.sbt"));
+
+		File restoreDir = new File(baseDir, "restore");
+		backup.restore(incremental, restoreDir);
+		assertSameContent("cluster.pcl", restoreDir);
+		assertSameContent("index.sbt", restoreDir);
+		assertFalse(new File(restoreDir, "removed.cpm").exists());
+	}
+
+	@Test
+	public void testChainLength() throws IOException {
+		IncrementalBackup backup = new IncrementalBackup(9, 0, 1);
+		File file = new File(storageDir, "cluster.pcl");
+		writeRandom(file, 2 * PAGE_SIZE);
+		backup.backup(storageDir, backupDir, "backup_1");
+		writeRandom(file, 2 * PAGE_SIZE);
+		assertEquals("incremental", manifest(backup.backup(storageDir, backupDir, "backup_2")).getString("type"));
+		writeRandom(file, 2 * PAGE_SIZE);
+		File latest = backup.backup(storageDir, backupDir, "backup_3");
+		assertEquals("full", manifest(latest).getString("type"));
+		assertEquals(latest, IncrementalBackup.findLatest(backupDir));
+		assertTrue(IncrementalBackup.isBackup(latest));
+
+		// The restore must not depend on the previous chain
+		FileUtils.deleteDirectory(new File(backupDir, "backup_1"));
+		File restoreDir = new File(baseDir, "restore");
+		backup.restore(latest, restoreDir);
+		assertSameContent("cluster.pcl", restoreDir);
+	}
+
+	@Test
+	public void testModificationAfterSnapshot() throws IOException {
+		IncrementalBackup backup = new IncrementalBackup(9, 0, 5);
+		File file = new File(storageDir, "cluster.pcl");
+		writeRandom(file, 3 * PAGE_SIZE);
+		byte[] snapshotContent = FileUtils.readFileToByteArray(file);
+		IncrementalBackup.Snapshot snapshot = backup.snapshot(storageDir, backupDir, "backup_1");
+		assertFalse("The snapshot must not be usable before it has been written", IncrementalBackup.isBackup(new File(backupDir, "backup_1")));
+
+		// The storage may be modified again once the snapshot has been taken
+		writeRandom(file, 4 * PAGE_SIZE);
+		File full = snapshot.write();
+		assertTrue(IncrementalBackup.isBackup(full));
+		assertFalse(new File(full, "staging").exists());
+		assertTrue(new File(full, IncrementalBackup.CHECKSUMS_FILE).isFile());
+
+		File restoreDir = new File(baseDir, "restore");
+		backup.restore(full, restoreDir);
+		assertArrayEquals(snapshotContent, FileUtils.readFileToByteArray(new File(restoreDir, "cluster.pcl")));
+	}
+
+	@Test(expected = IOException.class)
+	public void testRestoreWithMissingFullBackup() throws IOException {
+		IncrementalBackup backup = new IncrementalBackup(9, 0, 5);
+		File file = new File(storageDir, "cluster.pcl");
+		writeRandom(file, PAGE_SIZE);
+		backup.backup(storageDir, backupDir, "backup_1");
+		writeRandom(file, PAGE_SIZE);
+		File incremental = backup.backup(storageDir, backupDir, "backup_2");
+		FileUtils.deleteDirectory(new File(backupDir, "backup_1"));
+		backup.restore(incremental, new File(baseDir, "restore"));
+	}
+
+	private void writeRandom(File file, int size) throws IOException {
+		byte[] data = new byte[size];
+		random.nextBytes(data);
+		FileUtils.writeByteArrayToFile(file, data);
+	}
+
+	private void assertSameContent(String name, File restoreDir) throws IOException {
+		assertArrayEquals("The restored file {" + name + "} differs", FileUtils.readFileToByteArray(new File(storageDir, name)), FileUtils
+			.readFileToByteArray(new File(restoreDir, name)));
+	}
+
+	private JsonObject manifest(File backup) throws IOException {
+		return new JsonObject(FileUtils.readFileToString(new File(backup, IncrementalBackup.MANIFEST_FILE), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Count the pages of the given file which have been written to the backup.
+	 */
+	private int countPages(File backup, String name) throws IOException {
+		try (ZipFile zip = new ZipFile(new File(backup, IncrementalBackup.PAGES_FILE))) {
+			ZipEntry entry = zip.getEntry(name);
+			if (entry == null) {
+				return 0;
+			}
+			try (DataInputStream in = new DataInputStream(zip.getInputStream(entry))) {
+				int count = 0;
+				while (in.readInt() != -1) {
+					in.skipBytes(in.readInt());
+					count++;
+				}
+				return count;
+			}
+		}
+	}
+
+}
@@ -22,9 +22,9 @@ import org.jsoup.Jsoup;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
+import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
@@ -44,7 +44,6 @@ import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
-import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.FieldTypes;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
@@ -53,6 +52,7 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.impl.ListFieldSchemaImpl;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.search.index.AbstractTransformer;
+import com.gentics.mesh.search.index.node.NodeTransformContext.SchemaInfo;
 import com.gentics.mesh.util.ETag;
 
 import io.reactivex.Observable;
@@ -83,15 +83,13 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * Transform the given schema and add it to the source map.
 	 * 
 	 * @param document
-	 * @param schemaContainerVersion
+	 * @param schema
 	 */
-	private void addSchema(JsonObject document, SchemaContainerVersion schemaContainerVersion) {
-		String name = schemaContainerVersion.getName();
-		String uuid = schemaContainerVersion.getSchemaContainer().getUuid();
+	private void addSchema(JsonObject document, SchemaInfo schema) {
 		Map<String, String> schemaFields = new HashMap<>();
-		schemaFields.put(NAME_KEY, name);
-		schemaFields.put(UUID_KEY, uuid);
-		schemaFields.put(VERSION_KEY, schemaContainerVersion.getVersion());
+		schemaFields.put(NAME_KEY, schema.getName());
+		schemaFields.put(UUID_KEY, schema.getSchemaUuid());
+		schemaFields.put(VERSION_KEY, schema.getVersion());
 		document.put("schema", schemaFields);
 	}
 
@@ -99,11 +97,11 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * Use the given node to populate the parent node fields within the source map.
 	 * 
 	 * @param document
-	 * @param parentNode
+	 * @param parentNodeUuid
 	 */
-	private void addParentNodeInfo(JsonObject document, Node parentNode) {
+	private void addParentNodeInfo(JsonObject document, String parentNodeUuid) {
 		JsonObject info = new JsonObject();
-		info.put(UUID_KEY, parentNode.getUuid());
+		info.put(UUID_KEY, parentNodeUuid);
 		// TODO check whether nesting of nested elements would also work
 		// TODO FIXME MIGRATE: How to add this reference info? The schema is now linked to the node. Should we add another reference:
 		// (n:Node)->(sSchemaContainer) ?
@@ -118,19 +116,14 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * @param document
 	 * @param node
 	 * @param type
+	 * @param context
 	 */
-	private void addPermissionInfo(JsonObject document, Node node, ContainerType type) {
-		List<String> roleUuids = new ArrayList<>();
-
-		for (Role role : node.getRolesWithPerm(READ_PERM)) {
-			roleUuids.add(role.getUuid());
-		}
+	private void addPermissionInfo(JsonObject document, Node node, ContainerType type, NodeTransformContext context) {
+		List<String> roleUuids = new ArrayList<>(context.getRoleUuids(node, READ_PERM));
 
 		// Also add the roles which would grant read on published nodes if the container is published.
 		if (type == PUBLISHED) {
-			for (Role role : node.getRolesWithPerm(READ_PUBLISHED_PERM)) {
-				roleUuids.add(role.getUuid());
-			}
+			roleUuids.addAll(context.getRoleUuids(node, READ_PUBLISHED_PERM));
 		}
 		document.put("_roleUuids", roleUuids);
 	}
@@ -280,31 +273,23 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 					case "date":
 						DateGraphFieldList graphDateList = container.getDateList(fieldSchema.getName());
 						if (graphDateList != null) {
-							List<Long> dateItems = new ArrayList<>();
-							for (DateGraphField listItem : graphDateList.getList()) {
-								dateItems.add(listItem.getDate());
-							}
-							fieldsMap.put(fieldSchema.getName(), dateItems);
+							fieldsMap.put(fieldSchema.getName(), graphDateList.getValues());
 						}
 						break;
 					case "number":
 						NumberGraphFieldList graphNumberList = container.getNumberList(fieldSchema.getName());
 						if (graphNumberList != null) {
-							List<Number> numberItems = new ArrayList<>();
-							for (NumberGraphField listItem : graphNumberList.getList()) {
-								// TODO Number can also be a big decimal. We need to convert those special objects into basic numbers or else ES will not be
-								// able to store them
-								numberItems.add(listItem.getNumber());
-							}
-							fieldsMap.put(fieldSchema.getName(), numberItems);
+							// TODO Number can also be a big decimal. We need to convert those special objects into basic numbers or else ES will not be
+							// able to store them
+							fieldsMap.put(fieldSchema.getName(), graphNumberList.getValues());
 						}
 						break;
 					case "boolean":
 						BooleanGraphFieldList graphBooleanList = container.getBooleanList(fieldSchema.getName());
 						if (graphBooleanList != null) {
 							List<String> booleanItems = new ArrayList<>();
-							for (BooleanGraphField listItem : graphBooleanList.getList()) {
-								booleanItems.add(String.valueOf(listItem.getBoolean()));
+							for (Boolean item : graphBooleanList.getValues()) {
+								booleanItems.add(String.valueOf(item));
 							}
 							fieldsMap.put(fieldSchema.getName(), booleanItems);
 						}
@@ -328,8 +313,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 						StringGraphFieldList graphStringList = container.getStringList(fieldSchema.getName());
 						if (graphStringList != null) {
 							List<String> stringItems = new ArrayList<>();
-							for (StringGraphField listItem : graphStringList.getList()) {
-								String value = listItem.getString();
+							for (String value : graphStringList.getValues()) {
 								if (addRaw) {
 									value = truncateRawFieldValue(value);
 								}
@@ -342,8 +326,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 						HtmlGraphFieldList graphHtmlList = container.getHTMLList(fieldSchema.getName());
 						if (graphHtmlList != null) {
 							List<String> htmlItems = new ArrayList<>();
-							for (HtmlGraphField listItem : graphHtmlList.getList()) {
-								String value = listItem.getHTML();
+							for (String value : graphHtmlList.getValues()) {
 								if (value != null) {
 									String plainValue = Jsoup.parse(value).text();
 									if (addRaw) {
@@ -405,27 +388,43 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	}
 
 	/**
-	 * Transforms tags grouped by tag families
+	 * Transforms the tags of the node into the tags partial and the tags grouped by tag families. The tags will only be loaded once.
 	 * 
-	 * @param document
-	 * @param tags
+	 * @param node
+	 * @return Array which contains the tags partial and the tag families partial
 	 */
-	private void addTagFamilies(JsonObject document, Iterable<? extends Tag> tags) {
+	private JsonObject[] loadTags(Node node) {
 		JsonObject familiesObject = new JsonObject();
+		Map<Object, JsonObject> familiesById = new HashMap<>();
+		List<String> tagUuids = new ArrayList<>();
+		List<String> tagNames = new ArrayList<>();
+
+		for (Tag tag : node.getTags(node.getProject().getLatestBranch())) {
+			String tagUuid = tag.getUuid();
+			String tagName = tag.getName();
+			tagUuids.add(tagUuid);
+			tagNames.add(tagName);
 
-		for (Tag tag : tags) {
 			TagFamily family = tag.getTagFamily();
-			JsonObject familyObject = familiesObject.getJsonObject(family.getName());
+			JsonObject familyObject = familiesById.get(family.id());
 			if (familyObject == null) {
-				familyObject = new JsonObject();
-				familyObject.put("uuid", family.getUuid());
-				familyObject.put("tags", new JsonArray());
-				familiesObject.put(family.getName(), familyObject);
+				String familyName = family.getName();
+				familyObject = familiesObject.getJsonObject(familyName);
+				if (familyObject == null) {
+					familyObject = new JsonObject();
+					familyObject.put("uuid", family.getUuid());
+					familyObject.put("tags", new JsonArray());
+					familiesObject.put(familyName, familyObject);
+				}
+				familiesById.put(family.id(), familyObject);
 			}
-			familyObject.getJsonArray("tags").add(new JsonObject().put("name", tag.getName()).put("uuid", tag.getUuid()));
+			familyObject.getJsonArray("tags").add(new JsonObject().put("name", tagName).put("uuid", tagUuid));
 		}
 
-		document.put("tagFamilies", familiesObject);
+		JsonObject tagsObject = new JsonObject();
+		tagsObject.put("uuid", tagUuids);
+		tagsObject.put("name", tagNames);
+		return new JsonObject[] { tagsObject, familiesObject };
 	}
 
 	/**
@@ -447,8 +446,20 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * @return
 	 */
 	public JsonObject toPermissionPartial(Node node, ContainerType type) {
+		return toPermissionPartial(node, type, new NodeTransformContext());
+	}
+
+	/**
+	 * Generate the node specific permission info partial and utilize the given context to avoid loading the roles multiple times.
+	 * 
+	 * @param node
+	 * @param type
+	 * @param context
+	 * @return
+	 */
+	public JsonObject toPermissionPartial(Node node, ContainerType type, NodeTransformContext context) {
 		JsonObject document = new JsonObject();
-		addPermissionInfo(document, node, type);
+		addPermissionInfo(document, node, type, context);
 		return document;
 	}
 
@@ -488,29 +499,47 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * @return
 	 */
 	public JsonObject toDocument(NodeGraphFieldContainer container, String branchUuid, ContainerType type) {
+		return toDocument(container, branchUuid, type, new NodeTransformContext());
+	}
+
+	/**
+	 * Transform the container to the document which can be stored in ES. Data which is shared between multiple documents will be memoized in the given
+	 * context.
+	 * 
+	 * @param container
+	 * @param branchUuid
+	 * @param type
+	 * @param context
+	 * @return
+	 */
+	public JsonObject toDocument(NodeGraphFieldContainer container, String branchUuid, ContainerType type, NodeTransformContext context) {
 		Node node = container.getParentNode();
+		Project project = node.getProject();
 		JsonObject document = new JsonObject();
 		document.put("uuid", node.getUuid());
-		addUser(document, "editor", container.getEditor());
+		addUser(document, "editor", container.getEditor(), context);
 		document.put("edited", toISO8601(container.getLastEditedTimestamp()));
-		addUser(document, "creator", node.getCreator());
+		addUser(document, "creator", node.getCreator(), context);
 		document.put("created", toISO8601(node.getCreationTimestamp()));
 
-		addProject(document, node.getProject());
-		addTags(document, node.getTags(node.getProject().getLatestBranch()));
-		addTagFamilies(document, node.getTags(node.getProject().getLatestBranch()));
-		addPermissionInfo(document, node, type);
+		document.put("project", context.getProject(project, p -> new JsonObject().put("name", p.getName()).put("uuid", p.getUuid())));
+		JsonObject[] tags = context.getTags(node, this::loadTags);
+		document.put("tags", tags[0]);
+		document.put("tagFamilies", tags[1]);
+		addPermissionInfo(document, node, type, context);
 
 		// The basenode has no parent.
-		if (node.getParentNode(branchUuid) != null) {
-			addParentNodeInfo(document, node.getParentNode(branchUuid));
+		String parentNodeUuid = context.getParentUuid(node, branchUuid);
+		if (parentNodeUuid != null) {
+			addParentNodeInfo(document, parentNodeUuid);
 		}
 
 		String language = container.getLanguageTag();
 		document.put("language", language);
-		addSchema(document, container.getSchemaContainerVersion());
+		SchemaInfo schema = context.getSchema(container.getSchemaContainerVersion());
+		addSchema(document, schema);
 
-		addFields(document, "fields", container, container.getSchemaContainerVersion().getSchema().getFields());
+		addFields(document, "fields", container, schema.getFields());
 		if (log.isTraceEnabled()) {
 			String json = document.toString();
 			log.trace("Search index json:");
@@ -519,11 +548,25 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 
 		// Add display field value
 		JsonObject displayField = new JsonObject();
-		displayField.put("key", container.getSchemaContainerVersion().getSchema().getDisplayField());
+		displayField.put("key", schema.getDisplayField());
 		displayField.put("value", container.getDisplayFieldValue());
 		document.put("displayField", displayField);
 		document.put(VERSION_KEY, generateVersion(container, branchUuid, type));
 		return document;
 	}
 
+	/**
+	 * Add the user field to the document and use the context to resolve the user uuid.
+	 * 
+	 * @param document
+	 * @param key
+	 * @param user
+	 * @param context
+	 */
+	private void addUser(JsonObject document, String key, User user, NodeTransformContext context) {
+		if (user != null) {
+			document.put(key, new JsonObject().put("uuid", context.getUserUuid(user)));
+		}
+	}
+
 }
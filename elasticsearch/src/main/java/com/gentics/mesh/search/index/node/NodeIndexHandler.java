@@ -8,6 +8,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -45,6 +46,7 @@ import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphdb.spi.Transactional;
 import com.gentics.mesh.search.SearchProvider;
@@ -79,15 +81,23 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 
 	private static final Logger log = LoggerFactory.getLogger(NodeIndexHandler.class);
 
+	/**
+	 * Amount of documents which will be transformed with a shared transform context during the index sync.
+	 */
+	private static final int SYNC_TRANSFORM_BATCH_SIZE = 100;
+
 	@Inject
 	public NodeContainerTransformer transformer;
 
 	@Inject
 	public NodeContainerMappingProvider mappingProvider;
 
+	private final MeshOptions options;
+
 	@Inject
-	public NodeIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, MeshHelper helper) {
+	public NodeIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, MeshHelper helper, MeshOptions options) {
 		super(searchProvider, db, boot, helper);
+		this.options = options;
 	}
 
 	@Override
@@ -283,17 +293,28 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 
 				io.reactivex.functions.Function<
 					Action,
-					io.reactivex.functions.Function<String, CreateDocumentRequest>
-					> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, action);
+					io.reactivex.functions.Function<List<String>, List<CreateDocumentRequest>>
+					> toCreateRequests = action -> uuids -> {
+					// Share the context within the batch so that users, schema and project are only loaded once per batch.
+					// A new context is used for each batch to keep the memory bounded and to not use outdated data.
+					NodeTransformContext transformContext = new NodeTransformContext();
+					return db.tx(() -> {
+						List<CreateDocumentRequest> requests = new ArrayList<>(uuids.size());
+						for (String uuid : uuids) {
+							JsonObject doc = getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type, transformContext);
+							requests.add(helper.createDocumentRequest(indexName, uuid, doc, action));
+						}
+						return requests;
+					});
 				};
 
 				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(metric::decInsert));
+					.buffer(SYNC_TRANSFORM_BATCH_SIZE)
+					.concatMapIterable(toCreateRequests.apply(metric::decInsert));
 
 				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(metric::decUpdate));
+					.buffer(SYNC_TRANSFORM_BATCH_SIZE)
+					.concatMapIterable(toCreateRequests.apply(metric::decUpdate));
 
 				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
 					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, metric::decDelete));
@@ -309,6 +330,13 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 			Project project = ac.getProject();
 			if (project != null) {
 				Branch branch = ac.getBranch();
+				// The index of a lazy branch only contains the nodes which have already been materialized. The index of the branch from which the
+				// contents are read is searched instead until the migration has been completed.
+				if (options.getContentOptions().isLazyBranches()) {
+					while (!branch.isMigrated() && branch.getPreviousBranch() != null) {
+						branch = branch.getPreviousBranch();
+					}
+				}
 				// Locate all schema versions which need to be taken into consideration when choosing the indices
 				for (SchemaContainerVersion version : branch.findActiveSchemaVersions()) {
 					indices.add(NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(), version.getUuid(), ContainerType
@@ -352,7 +380,7 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	public Observable<IndexBulkEntry> storeForBulk(Node node, UpdateDocumentEntry entry) {
 		GenericEntryContext context = entry.getContext();
 		try (Tx tx = db.tx()) {
-			return storeForBulk(node, context);
+			return storeForBulk(node, context, new NodeTransformContext());
 		}
 	}
 
@@ -430,17 +458,18 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	 * 
 	 * @param node
 	 * @param context
+	 * @param transformContext
 	 * @return
 	 */
-	private Observable<IndexBulkEntry> storeForBulk(Node node, GenericEntryContext context) {
+	private Observable<IndexBulkEntry> storeForBulk(Node node, GenericEntryContext context, NodeTransformContext transformContext) {
 		if (context.getBranchUuid() == null) {
 			Set<Observable<IndexBulkEntry>> obs = new HashSet<>();
 			for (Branch branch : node.getProject().getBranchRoot().findAll()) {
-				obs.add(storeForBulk(node, branch.getUuid(), context));
+				obs.add(storeForBulk(node, branch.getUuid(), context, transformContext));
 			}
 			return Observable.merge(obs);
 		} else {
-			return storeForBulk(node, context.getBranchUuid(), context);
+			return storeForBulk(node, context.getBranchUuid(), context, transformContext);
 		}
 	}
 
@@ -453,20 +482,21 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	 * @param node
 	 * @param branchUuid
 	 * @param context
+	 * @param transformContext
 	 * @return
 	 */
-	private Observable<IndexBulkEntry> storeForBulk(Node node, String branchUuid, GenericEntryContext context) {
+	private Observable<IndexBulkEntry> storeForBulk(Node node, String branchUuid, GenericEntryContext context, NodeTransformContext transformContext) {
 		if (context.getContainerType() == null) {
 			Set<Observable<IndexBulkEntry>> obs = new HashSet<>();
 			for (ContainerType type : ContainerType.values()) {
 				// We only want to store DRAFT and PUBLISHED Types
 				if (type == DRAFT || type == PUBLISHED) {
-					obs.add(storeForBulk(node, branchUuid, type, context));
+					obs.add(storeForBulk(node, branchUuid, type, context, transformContext));
 				}
 			}
 			return Observable.merge(obs);
 		} else {
-			return storeForBulk(node, branchUuid, context.getContainerType(), context);
+			return storeForBulk(node, branchUuid, context.getContainerType(), context, transformContext);
 		}
 	}
 
@@ -479,21 +509,23 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	 * @param branchUuid
 	 * @param type
 	 * @param context
+	 * @param transformContext
 	 * @return
 	 */
-	private Observable<IndexBulkEntry> storeForBulk(Node node, String branchUuid, ContainerType type, GenericEntryContext context) {
+	private Observable<IndexBulkEntry> storeForBulk(Node node, String branchUuid, ContainerType type, GenericEntryContext context,
+		NodeTransformContext transformContext) {
 		if (context.getLanguageTag() != null) {
 			NodeGraphFieldContainer container = node.getGraphFieldContainer(context.getLanguageTag(), branchUuid, type);
 			if (container == null) {
 				log.warn("Node {" + node.getUuid() + "} has no language container for languageTag {" + context.getLanguageTag()
 					+ "}. I can't store the search index document. This may be normal in cases if mesh is handling an outdated search queue batch entry.");
 			} else {
-				return storeContainerForBulk(container, branchUuid, type).toObservable();
+				return storeContainerForBulk(container, branchUuid, type, transformContext).toObservable();
 			}
 		} else {
 			Set<Observable<IndexBulkEntry>> obs = new HashSet<>();
 			for (NodeGraphFieldContainer container : node.getGraphFieldContainers(branchUuid, type)) {
-				obs.add(storeContainerForBulk(container, branchUuid, type).toObservable());
+				obs.add(storeContainerForBulk(container, branchUuid, type, transformContext).toObservable());
 			}
 			return Observable.merge(obs);
 		}
@@ -583,7 +615,21 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	 * @return Single with the bulk entry
 	 */
 	public Single<IndexBulkEntry> storeContainerForBulk(NodeGraphFieldContainer container, String branchUuid, ContainerType type) {
-		JsonObject doc = transformer.toDocument(container, branchUuid, type);
+		return storeContainerForBulk(container, branchUuid, type, new NodeTransformContext());
+	}
+
+	/**
+	 * Generate an elasticsearch document object from the given container and utilize the context to share loaded data between documents.
+	 * 
+	 * @param container
+	 * @param branchUuid
+	 * @param type
+	 * @param transformContext
+	 * @return Single with the bulk entry
+	 */
+	public Single<IndexBulkEntry> storeContainerForBulk(NodeGraphFieldContainer container, String branchUuid, ContainerType type,
+		NodeTransformContext transformContext) {
+		JsonObject doc = transformer.toDocument(container, branchUuid, type, transformContext);
 		String projectUuid = container.getParentNode().getProject().getUuid();
 		String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, branchUuid, container.getSchemaContainerVersion().getUuid(), type);
 		if (log.isDebugEnabled()) {
@@ -617,13 +663,17 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 		} else {
 			Project project = node.getProject();
 
+			// The permission partial only depends on the node and the type. Compute it only once per type.
+			NodeTransformContext context = new NodeTransformContext();
+			Map<ContainerType, JsonObject> partials = new EnumMap<>(ContainerType.class);
+
 			List<UpdateBulkEntry> entries = new ArrayList<>();
 
 			// Determine which documents need to be updated. The node could have multiple documents in various indices.
 			for (Branch branch : project.getBranchRoot().findAll()) {
 				for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
-					JsonObject json = getTransformer().toPermissionPartial(node, type);
 					for (NodeGraphFieldContainer container : node.getGraphFieldContainers(branch, type)) {
+						JsonObject json = partials.computeIfAbsent(type, t -> getTransformer().toPermissionPartial(node, t, context));
 						String indexName = container.getIndexName(project.getUuid(), branch.getUuid(), type);
 						String documentId = container.getDocumentId();
 						entries.add(new UpdateBulkEntry(indexName, documentId, json, true));
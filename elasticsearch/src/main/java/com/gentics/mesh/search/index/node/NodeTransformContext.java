@@ -0,0 +1,162 @@
+package com.gentics.mesh.search.index.node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Memoization context which is used by the {@link NodeContainerTransformer} when transforming multiple containers in one go. Data which is shared between
+ * documents (e.g. users, project, schema versions, tags and permissions of a node) will only be loaded once from the graph.
+ *
+ * The context only holds plain values and no graph elements. It must not be kept longer than the batch it was created for since it does not track changes
+ * of the graph.
+ */
+public class NodeTransformContext {
+
+	private final Map<Object, String> userUuids = new HashMap<>();
+
+	private final Map<Object, JsonObject> projects = new HashMap<>();
+
+	private final Map<Object, SchemaInfo> schemas = new HashMap<>();
+
+	private final Map<Object, JsonObject[]> tags = new HashMap<>();
+
+	private final Map<String, List<String>> roleUuids = new HashMap<>();
+
+	private final Map<String, String> parentUuids = new HashMap<>();
+
+	/**
+	 * Return the uuid of the given user.
+	 *
+	 * @param user
+	 * @return
+	 */
+	public String getUserUuid(User user) {
+		return userUuids.computeIfAbsent(user.id(), k -> user.getUuid());
+	}
+
+	/**
+	 * Return the project document partial.
+	 *
+	 * @param project
+	 * @param loader
+	 * @return
+	 */
+	public JsonObject getProject(Project project, Function<Project, JsonObject> loader) {
+		return projects.computeIfAbsent(project.id(), k -> loader.apply(project));
+	}
+
+	/**
+	 * Return the schema information for the given version.
+	 *
+	 * @param version
+	 * @return
+	 */
+	public SchemaInfo getSchema(SchemaContainerVersion version) {
+		return schemas.computeIfAbsent(version.id(), k -> new SchemaInfo(version));
+	}
+
+	/**
+	 * Return the tags and tag families partials of the node.
+	 *
+	 * @param node
+	 * @param loader
+	 * @return Array which contains the tags partial and the tag families partial
+	 */
+	public JsonObject[] getTags(Node node, Function<Node, JsonObject[]> loader) {
+		return tags.computeIfAbsent(node.id(), k -> loader.apply(node));
+	}
+
+	/**
+	 * Return the uuids of the roles which grant the permission on the node. The roles will only be loaded once per node and permission.
+	 *
+	 * @param node
+	 * @param perm
+	 * @return
+	 */
+	public List<String> getRoleUuids(Node node, GraphPermission perm) {
+		return roleUuids.computeIfAbsent(node.id() + "|" + perm.name(), k -> {
+			List<String> uuids = new ArrayList<>();
+			for (Role role : node.getRolesWithPerm(perm)) {
+				uuids.add(role.getUuid());
+			}
+			return uuids;
+		});
+	}
+
+	/**
+	 * Return the uuid of the parent node in the given branch.
+	 *
+	 * @param node
+	 * @param branchUuid
+	 * @return Uuid or null if the node has no parent
+	 */
+	public String getParentUuid(Node node, String branchUuid) {
+		String key = node.id() + "|" + branchUuid;
+		if (parentUuids.containsKey(key)) {
+			return parentUuids.get(key);
+		}
+		Node parent = node.getParentNode(branchUuid);
+		String uuid = parent == null ? null : parent.getUuid();
+		parentUuids.put(key, uuid);
+		return uuid;
+	}
+
+	/**
+	 * Resolved schema information of a schema container version.
+	 */
+	public static class SchemaInfo {
+
+		private final String uuid;
+		private final String name;
+		private final String version;
+		private final String schemaUuid;
+		private final String displayField;
+		private final List<FieldSchema> fields;
+
+		SchemaInfo(SchemaContainerVersion version) {
+			this.uuid = version.getUuid();
+			this.name = version.getName();
+			this.version = version.getVersion();
+			this.schemaUuid = version.getSchemaContainer().getUuid();
+			this.displayField = version.getSchema().getDisplayField();
+			this.fields = version.getSchema().getFields();
+		}
+
+		public String getUuid() {
+			return uuid;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getVersion() {
+			return version;
+		}
+
+		public String getSchemaUuid() {
+			return schemaUuid;
+		}
+
+		public String getDisplayField() {
+			return displayField;
+		}
+
+		public List<FieldSchema> getFields() {
+			return fields;
+		}
+	}
+}
@@ -23,6 +23,7 @@ import com.gentics.mesh.core.rest.event.tag.TagElementEventModel;
 import com.gentics.mesh.search.index.group.GroupTransformer;
 import com.gentics.mesh.search.index.microschema.MicroschemaTransformer;
 import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+import com.gentics.mesh.search.index.node.NodeTransformContext;
 import com.gentics.mesh.search.index.project.ProjectTransformer;
 import com.gentics.mesh.search.index.role.RoleTransformer;
 import com.gentics.mesh.search.index.schema.SchemaTransformer;
@@ -266,6 +267,7 @@ public class MeshEntities {
 	 */
 	public Stream<CreateDocumentRequest> generateNodeRequests(String nodeUuid, Project project, Branch branch) {
 		NodeContainerTransformer transformer = (NodeContainerTransformer) nodeContent.getTransformer();
+		NodeTransformContext context = new NodeTransformContext();
 		return findElementByUuidStream(project.getNodeRoot(), nodeUuid)
 		.flatMap(node -> latestVersionTypes()
 		.flatMap(type -> node.getGraphFieldContainers(branch, type).stream()
@@ -277,7 +279,7 @@ public class MeshEntities {
 				type
 			),
 			NodeGraphFieldContainer.composeDocumentId(nodeUuid, container.getLanguageTag()),
-			transformer.toDocument(container, branch.getUuid(), type)
+			transformer.toDocument(container, branch.getUuid(), type, context)
 		))));
 	}
 }
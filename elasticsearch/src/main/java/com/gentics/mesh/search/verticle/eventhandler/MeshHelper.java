@@ -5,6 +5,7 @@ import static com.gentics.mesh.util.RxUtil.NOOP;
 import javax.inject.Inject;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.search.request.CachedJsonObjectProxy;
 import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
 import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
@@ -77,6 +78,17 @@ public class MeshHelper {
 		return new UpdateDocumentRequest(index, prefixIndexName(index), id, doc);
 	}
 
+	/**
+	 * Creates a {@link UpdateDocumentRequest} with a shared partial and prefixes the index with the configured prefix.
+	 * @param index
+	 * @param id
+	 * @param doc
+	 * @return
+	 */
+	public UpdateDocumentRequest updateDocumentRequest(String index, String id, CachedJsonObjectProxy doc) {
+		return new UpdateDocumentRequest(index, prefixIndexName(index), id, doc);
+	}
+
 	/**
 	 * Creates a {@link DeleteDocumentRequest} and prefixes the index with the configured prefix.
 	 * @param index
@@ -5,13 +5,20 @@ import static com.gentics.mesh.search.verticle.eventhandler.Util.toFlowable;
 import static com.gentics.mesh.util.StreamUtil.ofNullable;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.ElementType;
+import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -21,12 +28,14 @@ import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.core.data.search.request.CachedJsonObjectProxy;
 import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModelImpl;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedProjectElementEventModel;
-import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+import com.gentics.mesh.search.index.node.NodeTransformContext;
 import com.gentics.mesh.search.verticle.MessageEvent;
 import com.gentics.mesh.search.verticle.entity.MeshEntities;
 
@@ -71,21 +80,45 @@ public class PermissionChangedEventHandler implements EventHandler {
 		}
 	}
 
+	/**
+	 * Generate the permission update requests for all documents of the node. The permission partial is only computed once per container type and shared
+	 * between all documents. The requests are grouped by index so that the bulk requests only touch a small amount of indices.
+	 *
+	 * @param model
+	 * @return
+	 */
 	private Flowable<UpdateDocumentRequest> handleNodePermissionsChange(PermissionChangedProjectElementEventModel model) {
 		NodeContainerTransformer tf = (NodeContainerTransformer) meshEntities.nodeContent.getTransformer();
-		return meshHelper.getDb().tx(() -> ofNullable(meshHelper.getBoot().projectRoot().findByUuid(model.getProject().getUuid()))
+		String projectUuid = model.getProject().getUuid();
+		return meshHelper.getDb().tx(() -> ofNullable(meshHelper.getBoot().projectRoot().findByUuid(projectUuid))
 			.flatMap(project -> ofNullable(project.getNodeRoot().findByUuid(model.getUuid()))
-				.flatMap(node -> project.getBranchRoot().findAll().stream().map(MeshElement::getUuid)
-					.flatMap(branchUuid -> Util.latestVersionTypes()
-						.flatMap(type -> node.getGraphFieldContainers(branchUuid, type).stream()
-							.map(container -> meshHelper.updateDocumentRequest(
-								NodeGraphFieldContainer.composeIndexName(
-									model.getProject().getUuid(),
-									branchUuid,
-									container.getSchemaContainerVersion().getUuid(),
-									type),
-								NodeGraphFieldContainer.composeDocumentId(model.getUuid(), container.getLanguageTag()),
-								tf.toPermissionPartial(node, type)))))))
+				.flatMap(node -> {
+					NodeTransformContext context = new NodeTransformContext();
+					Map<ContainerType, CachedJsonObjectProxy> partials = new EnumMap<>(ContainerType.class);
+					Map<String, List<String>> documentIdsPerIndex = new LinkedHashMap<>();
+					Map<String, ContainerType> typePerIndex = new HashMap<>();
+					for (Branch branch : project.getBranchRoot().findAll()) {
+						String branchUuid = branch.getUuid();
+						Util.latestVersionTypes().forEach(type -> {
+							for (NodeGraphFieldContainer container : node.getGraphFieldContainers(branchUuid, type)) {
+								String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, branchUuid,
+									container.getSchemaContainerVersion().getUuid(), type);
+								documentIdsPerIndex.computeIfAbsent(indexName, k -> new ArrayList<>())
+									.add(NodeGraphFieldContainer.composeDocumentId(model.getUuid(), container.getLanguageTag()));
+								typePerIndex.put(indexName, type);
+								partials.computeIfAbsent(type, t -> new CachedJsonObjectProxy(tf.toPermissionPartial(node, t, context)));
+							}
+						});
+					}
+					List<UpdateDocumentRequest> requests = new ArrayList<>();
+					documentIdsPerIndex.forEach((indexName, documentIds) -> {
+						CachedJsonObjectProxy partial = partials.get(typePerIndex.get(indexName));
+						for (String documentId : documentIds) {
+							requests.add(meshHelper.updateDocumentRequest(indexName, documentId, partial));
+						}
+					});
+					return requests.stream();
+				}))
 			.collect(toFlowable()));
 	}
 
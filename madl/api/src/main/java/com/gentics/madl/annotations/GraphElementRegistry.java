@@ -0,0 +1,162 @@
+package com.gentics.madl.annotations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.gentics.madl.annotations.processor.GraphElementProcessor;
+
+/**
+ * Immutable registry of all known graph element classes. The registry is populated from the resources which were written by the
+ * {@link GraphElementProcessor} at compile time and thus does not require any classpath scanning.
+ * 
+ * Classes are keyed by their simple name since this is the value which is stored in the type property of the graph elements.
+ */
+public final class GraphElementRegistry {
+
+	/**
+	 * Location of the registry resources which list the graph element classes of a jar. Shaded jars must append the resources of all modules (e.g. via
+	 * the <code>AppendingTransformer</code> of the maven shade plugin).
+	 */
+	public static final String REGISTRY_RESOURCE = "META-INF/mesh/graph-elements";
+
+	private static final GraphElementRegistry EMPTY = new GraphElementRegistry(new String[0], new Class<?>[0]);
+
+	/**
+	 * Sorted simple names of the registered classes.
+	 */
+	private final String[] names;
+
+	/**
+	 * Classes which correspond to the entries of {@link #names}.
+	 */
+	private final Class<?>[] classes;
+
+	private GraphElementRegistry(String[] names, Class<?>[] classes) {
+		this.names = names;
+		this.classes = classes;
+	}
+
+	/**
+	 * Load the registry from all registry resources which can be found using the given classloader. Only classes within the given base packages will
+	 * be registered.
+	 * 
+	 * @param classLoader
+	 * @param basePaths
+	 *            Package prefixes of the classes which should be registered
+	 * @return Loaded registry or an empty registry if no matching registry entries could be found
+	 */
+	public static GraphElementRegistry load(ClassLoader classLoader, String... basePaths) {
+		if (basePaths == null || basePaths.length == 0) {
+			return EMPTY;
+		}
+		Set<String> classNames = new TreeSet<>();
+		try {
+			Enumeration<URL> resources = classLoader.getResources(REGISTRY_RESOURCE);
+			while (resources.hasMoreElements()) {
+				URL url = resources.nextElement();
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						line = line.trim();
+						if (!line.isEmpty() && matches(line, basePaths)) {
+							classNames.add(line);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not load graph element registry", e);
+		}
+
+		List<Class<?>> graphElementClasses = new ArrayList<>();
+		for (String className : classNames) {
+			try {
+				graphElementClasses.add(Class.forName(className, false, classLoader));
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException("The registered graph element class {" + className + "} could not be loaded", e);
+			}
+		}
+		return of(graphElementClasses);
+	}
+
+	/**
+	 * Create a registry for the given classes.
+	 * 
+	 * @param graphElementClasses
+	 * @return
+	 */
+	public static GraphElementRegistry of(Collection<Class<?>> graphElementClasses) {
+		if (graphElementClasses.isEmpty()) {
+			return EMPTY;
+		}
+		TreeMap<String, Class<?>> sorted = new TreeMap<>();
+		for (Class<?> clazz : graphElementClasses) {
+			Class<?> previous = sorted.put(clazz.getSimpleName(), clazz);
+			if (previous != null && previous != clazz) {
+				throw new IllegalStateException("The graph element classes {" + previous.getName() + "} and {" + clazz.getName()
+					+ "} share the same simple name. The simple name is used to identify the type of graph elements and must be unique.");
+			}
+		}
+		return new GraphElementRegistry(sorted.keySet().toArray(new String[0]), sorted.values().toArray(new Class<?>[0]));
+	}
+
+	private static boolean matches(String className, String[] basePaths) {
+		for (String basePath : basePaths) {
+			if (className.startsWith(basePath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the registered class for the given simple name.
+	 * 
+	 * @param simpleName
+	 * @return Found class or null if no class has been registered for the name
+	 */
+	public Class<?> forName(String simpleName) {
+		int idx = Arrays.binarySearch(names, simpleName);
+		return idx < 0 ? null : classes[idx];
+	}
+
+	/**
+	 * Return the registered classes sorted by their simple name.
+	 * 
+	 * @return
+	 */
+	public List<Class<?>> getClasses() {
+		return Arrays.asList(classes.clone());
+	}
+
+	/**
+	 * Check whether the registry contains no classes.
+	 * 
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return names.length == 0;
+	}
+
+	/**
+	 * Return the amount of registered classes.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return names.length;
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.gentics.madl.annotations.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementRegistry;
+
+/**
+ * Annotation processor which writes the list of all graph element classes of a compilation unit to {@link GraphElementRegistry#REGISTRY_RESOURCE}.
+ * 
+ * A class is considered to be a graph element when the class itself or any of its superclasses is annotated with {@link GraphElement}. Each line of
+ * the registry contains the binary name of one class. This way the type resolver does not need to scan the classpath during startup.
+ * 
+ * The processor is only invoked for compilation units which contain at least one class that is directly annotated with {@link GraphElement}. Graph
+ * elements of other modules will be resolved via the classpath scanning fallback of the type resolver.
+ */
+@SupportedAnnotationTypes("com.gentics.madl.annotations.GraphElement")
+public class GraphElementProcessor extends AbstractProcessor {
+
+	private final Set<String> elements = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeRegistry();
+		} else {
+			for (Element element : roundEnv.getRootElements()) {
+				collect(element);
+			}
+		}
+		// Never claim the annotations. Other processors (e.g. dagger) need to see them as well.
+		return false;
+	}
+
+	private void collect(Element element) {
+		if (element.getKind() == ElementKind.CLASS) {
+			TypeElement type = (TypeElement) element;
+			boolean annotated = type.getAnnotation(GraphElement.class) != null;
+			TypeElement current = superclassOf(type);
+			while (!annotated && current != null) {
+				annotated = current.getAnnotation(GraphElement.class) != null;
+				current = superclassOf(current);
+			}
+			if (annotated) {
+				elements.add(binaryName(type));
+			}
+		}
+		for (Element enclosed : element.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.CLASS) {
+				collect(enclosed);
+			}
+		}
+	}
+
+	private TypeElement superclassOf(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+		if (Object.class.getName().equals(superElement.getQualifiedName().toString())) {
+			return null;
+		}
+		return superElement;
+	}
+
+	private String binaryName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeRegistry() {
+		if (elements.isEmpty()) {
+			return;
+		}
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", GraphElementRegistry.REGISTRY_RESOURCE);
+			try (Writer writer = file.openWriter()) {
+				for (String element : elements) {
+					writer.write(element);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write graph element registry: " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.gentics.mesh.core.http;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.Test;
+
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Load test which measures the request throughput of the HTTP server with an increasing amount of HTTP server verticle instances. The amount of concurrent
+ * client connections stays the same for all runs so that the results show how the server scales with the available cores.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class HttpServerScalingPerformanceTest extends AbstractMeshTest {
+
+	private static final int WARMUP_SECONDS = 3;
+
+	private static final int MEASURE_SECONDS = 10;
+
+	private final StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testScalingWithVerticleAmount() throws Exception {
+		String uuid = tx(() -> folder("2015").getUuid());
+		Request request = new Request.Builder()
+			.url(prepareUrl(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + uuid))
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.build();
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		int concurrency = 4 * cores;
+		OkHttpClient loadClient = httpClient().newBuilder()
+			.connectionPool(new ConnectionPool(concurrency, 1, TimeUnit.MINUTES))
+			.build();
+
+		for (int amount : verticleAmounts(cores)) {
+			options().getHttpServerOptions().setVerticleAmount(amount);
+			restartRestVerticle().blockingAwait();
+
+			run(loadClient, request, concurrency, WARMUP_SECONDS);
+			Result result = run(loadClient, request, concurrency, MEASURE_SECONDS);
+			assertEquals("Requests of the run with {" + amount + "} verticles failed", 0, result.failed);
+
+			long requests = Math.max(1, result.requests);
+			double latency = result.totalLatencyMicros / 1000d / requests;
+			// The server time per request is the inverse of the throughput over all connections
+			double timePerRequest = TimeUnit.SECONDS.toMillis(MEASURE_SECONDS) / (double) requests;
+			logger.log("http.scaling.verticles-" + amount + ".avg", latency);
+			logger.log("http.scaling.verticles-" + amount + ".per-request", timePerRequest);
+		}
+		logger.flush();
+	}
+
+	/**
+	 * Return the verticle amounts which will be tested. The amounts double up to the amount of cores.
+	 */
+	private List<Integer> verticleAmounts(int cores) {
+		TreeSet<Integer> amounts = new TreeSet<>();
+		for (int amount = 1; amount < cores; amount *= 2) {
+			amounts.add(amount);
+		}
+		amounts.add(cores);
+		return new ArrayList<>(amounts);
+	}
+
+	private Result run(OkHttpClient client, Request request, int concurrency, int seconds) throws InterruptedException {
+		LongAdder requests = new LongAdder();
+		LongAdder latency = new LongAdder();
+		AtomicInteger failed = new AtomicInteger();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			executor.execute(() -> {
+				while (System.nanoTime() < deadline) {
+					long start = System.nanoTime();
+					try (Response response = client.newCall(request).execute()) {
+						response.body().bytes();
+						if (response.code() != 200) {
+							failed.incrementAndGet();
+						}
+					} catch (IOException e) {
+						failed.incrementAndGet();
+					}
+					latency.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+					requests.increment();
+				}
+			});
+		}
+		executor.shutdown();
+		executor.awaitTermination(seconds + 30, TimeUnit.SECONDS);
+		return new Result(requests.sum(), latency.sum(), failed.get());
+	}
+
+	private static class Result {
+
+		private final long requests;
+
+		private final long totalLatencyMicros;
+
+		private final int failed;
+
+		Result(long requests, long totalLatencyMicros, int failed) {
+			this.requests = requests;
+			this.totalLatencyMicros = totalLatencyMicros;
+			this.failed = failed;
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.gentics.mesh.core.link;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class LinkRendererPerformanceTest extends AbstractMeshTest {
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testRenderLargeHtml() {
+		WebRootLinkReplacer replacer = meshDagger().webRootLinkReplacer();
+		try (Tx tx = tx()) {
+			String uuid = content("news overview").getUuid();
+			String branchUuid = project().getLatestBranch().getUuid();
+			InternalActionContext ac = mockActionContext();
+
+			String paragraph = "<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore.</p>";
+			StringBuilder withLinks = new StringBuilder();
+			StringBuilder withoutLinks = new StringBuilder();
+			for (int i = 0; i < 2000; i++) {
+				withoutLinks.append(paragraph);
+				withLinks.append(paragraph);
+				if (i % 20 == 0) {
+					withLinks.append("<a href=\"{{mesh.link(\"" + uuid + "\", \"en\")}}\">Link</a>");
+				}
+			}
+			String linkedHtml = withLinks.toString();
+			String plainHtml = withoutLinks.toString();
+			LinkTokens linkedTokens = LinkTokens.parse(linkedHtml);
+			LinkTokens plainTokens = LinkTokens.parse(plainHtml);
+			int steps = 200;
+
+			loggingStopWatch(logger, "link.render-tokenize", steps, (step) -> {
+				replacer.replace(ac, branchUuid, DRAFT, linkedHtml, LinkType.SHORT, null, null);
+			});
+
+			loggingStopWatch(logger, "link.render-stored-tokens", steps, (step) -> {
+				replacer.replace(ac, branchUuid, DRAFT, linkedHtml, linkedTokens, LinkType.SHORT, null, null);
+			});
+
+			loggingStopWatch(logger, "link.render-no-links-tokenize", steps, (step) -> {
+				replacer.replace(ac, branchUuid, DRAFT, plainHtml, LinkType.SHORT, null, null);
+			});
+
+			loggingStopWatch(logger, "link.render-no-links-stored-tokens", steps, (step) -> {
+				replacer.replace(ac, branchUuid, DRAFT, plainHtml, plainTokens, LinkType.SHORT, null, null);
+			});
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+import com.gentics.mesh.search.index.node.NodeTransformContext;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeIndexPerformanceTest extends AbstractMeshTest {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeIndexPerformanceTest.class);
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testTransform() {
+		NodeContainerTransformer transformer = new NodeContainerTransformer(options());
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			List<NodeGraphFieldContainer> containers = new ArrayList<>();
+			for (Node node : project().getNodeRoot().findAll()) {
+				containers.addAll(node.getGraphFieldContainers(branchUuid, DRAFT).list());
+			}
+			int steps = 200;
+
+			long start = System.currentTimeMillis();
+			loggingStopWatch(logger, "node.transform-uncached", steps, (step) -> {
+				for (NodeGraphFieldContainer container : containers) {
+					transformer.toDocument(container, branchUuid, DRAFT);
+				}
+			});
+			logThroughput("uncached", containers.size() * steps, System.currentTimeMillis() - start);
+
+			start = System.currentTimeMillis();
+			loggingStopWatch(logger, "node.transform-batch", steps, (step) -> {
+				NodeTransformContext context = new NodeTransformContext();
+				for (NodeGraphFieldContainer container : containers) {
+					transformer.toDocument(container, branchUuid, DRAFT, context);
+				}
+			});
+			logThroughput("batch", containers.size() * steps, System.currentTimeMillis() - start);
+		}
+	}
+
+	private void logThroughput(String name, int documents, long duration) {
+		log.info("Transformed {" + documents + "} documents in {" + duration + "} ms using {" + name + "} mode. {"
+			+ (documents * 1000L / Math.max(duration, 1)) + "} documents/s");
+	}
+
+}
@@ -0,0 +1,136 @@
+package com.gentics.mesh.image;
+
+import static com.gentics.mesh.parameter.image.CropMode.RECT;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * Benchmark for the image operations on large JPEG and PNG images with and without subsampled decoding.
+ */
+public class ImageManipulatorPerformanceTest {
+
+	private static final int WIDTH = 6000;
+
+	private static final int HEIGHT = 4000;
+
+	private static File baseDir;
+
+	private static File jpegFile;
+
+	private static File pngFile;
+
+	private static Vertx vertx;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@BeforeClass
+	public static void createImages() throws IOException {
+		baseDir = new File("target", "image_benchmark_" + System.currentTimeMillis());
+		baseDir.mkdirs();
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setPaint(new GradientPaint(0, 0, Color.ORANGE, WIDTH, HEIGHT, Color.BLUE));
+		g.fillRect(0, 0, WIDTH, HEIGHT);
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			g.setColor(new Color(random.nextInt(0xffffff)));
+			g.fillOval(random.nextInt(WIDTH), random.nextInt(HEIGHT), 20 + random.nextInt(200), 20 + random.nextInt(200));
+		}
+		g.dispose();
+		jpegFile = new File(baseDir, "large.jpg");
+		pngFile = new File(baseDir, "large.png");
+		ImageIO.write(image, "jpg", jpegFile);
+		ImageIO.write(image, "png", pngFile);
+		vertx = Vertx.vertx();
+	}
+
+	@AfterClass
+	public static void cleanup() throws IOException {
+		vertx.close();
+		FileUtils.deleteDirectory(baseDir);
+	}
+
+	@Test
+	public void testThumbnail() {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(200).setHeight(150);
+		for (File file : new File[] { jpegFile, pngFile }) {
+			String type = file.getName().substring(file.getName().lastIndexOf('.') + 1);
+			for (boolean subsampling : new boolean[] { true, false }) {
+				ImgscalrImageManipulator manipulator = createManipulator(subsampling);
+				String name = "image.thumbnail-" + type + (subsampling ? "-subsampled" : "-full");
+				loggingStopWatch(logger, name, 10, (step) -> {
+					manipulator.handleResize(mockBinary(file, name + step), params).blockingGet();
+				});
+			}
+		}
+	}
+
+	@Test
+	public void testRectCropAndResize() {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(200).setRect(1000, 1000, 2000, 2000).setCropMode(RECT);
+		for (boolean subsampling : new boolean[] { true, false }) {
+			ImgscalrImageManipulator manipulator = createManipulator(subsampling);
+			String name = "image.crop-resize-jpg" + (subsampling ? "-subsampled" : "-full");
+			loggingStopWatch(logger, name, 10, (step) -> {
+				manipulator.handleResize(mockBinary(jpegFile, name + step), params).blockingGet();
+			});
+		}
+	}
+
+	@Test
+	public void testImageInfo() {
+		for (File file : new File[] { jpegFile, pngFile }) {
+			String type = file.getName().substring(file.getName().lastIndexOf('.') + 1);
+			for (boolean subsampling : new boolean[] { true, false }) {
+				ImgscalrImageManipulator manipulator = createManipulator(subsampling);
+				String name = "image.info-" + type + (subsampling ? "-subsampled" : "-full");
+				loggingStopWatch(logger, name, 10, (step) -> {
+					manipulator.readImageInfo(file.getAbsolutePath()).blockingGet();
+				});
+			}
+		}
+	}
+
+	private ImgscalrImageManipulator createManipulator(boolean subsampling) {
+		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(new File(baseDir, "cache").getAbsolutePath());
+		options.setSubsampling(subsampling);
+		return new ImgscalrImageManipulator(vertx, options);
+	}
+
+	/**
+	 * Mock a binary for the given file. A unique hash is used for each step to bypass the image cache.
+	 */
+	private Binary mockBinary(File file, String hash) {
+		Binary binary = mock(Binary.class);
+		when(binary.openBlockingStream()).thenReturn(() -> new FileInputStream(file));
+		when(binary.getSHA512Sum()).thenReturn(hash);
+		return binary;
+	}
+
+}
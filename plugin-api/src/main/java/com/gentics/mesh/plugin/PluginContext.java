@@ -55,8 +55,28 @@ public class PluginContext implements RoutingContext {
 		this.env = env;
 	}
 
+	private static final String LOCAL_CLIENT_KEY = "mesh.plugin.localClient";
+
+	/**
+	 * Return a local mesh client which will use the same authenticated user as the inbound request that is being handled. The client directly invokes the
+	 * handlers of Gentics Mesh and passes the request and response models through without any HTTP communication or JSON serialization. The client is only
+	 * created once per inbound request. Endpoints which are not supported by the local client can be accessed via {@link #client()}.
+	 * 
+	 * @return Local client or a regular client if the inbound request was not authenticated
+	 */
+	public MeshRestClient localClient() {
+		MeshRestClient client = rc.get(LOCAL_CLIENT_KEY);
+		if (client == null) {
+			User user = rc.user();
+			client = user == null ? client() : env.createLocalClient(user);
+			rc.put(LOCAL_CLIENT_KEY, client);
+		}
+		return client;
+	}
+
 	/**
-	 * Return a mesh client which will use the same authenticated user as the inbound request that is being handled.
+	 * Return a mesh client which will use the same authenticated user as the inbound request that is being handled. The client will send regular HTTP
+	 * requests. Use {@link #localClient()} to avoid the HTTP and serialization overhead.
 	 * 
 	 * @return
 	 */
@@ -26,7 +26,8 @@ public interface AuthServicePlugin extends MeshPlugin {
 	 * Map the token information to mesh elements. You can use this method to extract information from the token and sync roles, groups in Gentics Mesh.
 	 * 
 	 * @param req
-	 *            Http Sever request that needs authentication
+	 *            Http Sever request that needs authentication. The request will be null when the mapping of an existing user is updated in the background
+	 *            because the claims of the token have changed.
 	 * @param userUuid
 	 *            Uuid of the user. This will only be set if the user has already been created before.
 	 * @param token
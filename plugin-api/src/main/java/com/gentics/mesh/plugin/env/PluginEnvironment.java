@@ -4,6 +4,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.rest.client.MeshRestClient;
 
 import io.vertx.core.Vertx;
+import io.vertx.ext.auth.User;
 
 /**
  * Environment for a plugin is used to access data provided by mesh (e.g. adminToken).
@@ -31,6 +32,20 @@ public interface PluginEnvironment {
 	 */
 	MeshRestClient createAdminClient();
 
+	/**
+	 * Create a local client which will directly invoke the handlers of Gentics Mesh using the given user. Request and response models are passed through
+	 * without any HTTP communication or JSON serialization.
+	 * 
+	 * @param user
+	 *            Authenticated user of the inbound request
+	 * @return
+	 * @throws UnsupportedOperationException
+	 *             if the environment does not provide local clients
+	 */
+	default MeshRestClient createLocalClient(User user) {
+		throw new UnsupportedOperationException("The plugin environment does not support local clients");
+	}
+
 	/**
 	 * Return the Mesh options.
 	 * 
@@ -10,7 +10,9 @@ public class MeshRestClientConfig {
 	private final boolean ssl;
 	private final Duration websocketReconnectInterval;
 	private final Duration websocketPingInterval;
-
+	private final int responseCacheSize;
+	private final Duration responseCacheMaxAge;
+	private final boolean responseCacheEventEviction;
 
 	public MeshRestClientConfig(Builder builder) {
 		this.host = Objects.requireNonNull(builder.host);
@@ -19,6 +21,9 @@ public class MeshRestClientConfig {
 		this.websocketReconnectInterval = builder.websocketReconnectInterval;
 		this.websocketPingInterval = builder.websocketPingInterval;
 		this.basePath = builder.basePath;
+		this.responseCacheSize = builder.responseCacheSize;
+		this.responseCacheMaxAge = builder.responseCacheMaxAge;
+		this.responseCacheEventEviction = builder.responseCacheEventEviction;
 	}
 
 	public String getHost() {
@@ -45,6 +50,18 @@ public class MeshRestClientConfig {
 		return basePath;
 	}
 
+	public int getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	public Duration getResponseCacheMaxAge() {
+		return responseCacheMaxAge;
+	}
+
+	public boolean isResponseCacheEventEviction() {
+		return responseCacheEventEviction;
+	}
+
 	public String getBaseUrl() {
 		return (isSsl() ? "https" : "http") +
 			"://" + getHost() + ":" + getPort() +
@@ -62,6 +79,9 @@ public class MeshRestClientConfig {
 		private boolean ssl = false;
 		private Duration websocketReconnectInterval = Duration.ofSeconds(5);
 		private Duration websocketPingInterval = Duration.ofSeconds(2);
+		private int responseCacheSize = 0;
+		private Duration responseCacheMaxAge = Duration.ZERO;
+		private boolean responseCacheEventEviction = false;
 
 		public MeshRestClientConfig build() {
 			return new MeshRestClientConfig(this);
@@ -144,5 +164,48 @@ public class MeshRestClientConfig {
 			this.basePath = Objects.requireNonNull(basePath);
 			return this;
 		}
+	
+		/**
+		 * Sets the maximum amount of responses which will be kept in the client side response cache. The cache stores the responses of GET requests
+		 * together with their ETag. Cached responses will be revalidated using conditional requests and identical concurrent requests will be
+		 * coalesced into a single request. A value of 0 disables the cache.
+		 *
+		 * <p>Default: 0</p>
+		 *
+		 * @param responseCacheSize
+		 * @return
+		 */
+		public Builder setResponseCacheSize(int responseCacheSize) {
+			this.responseCacheSize = responseCacheSize;
+			return this;
+		}
+
+		/**
+		 * Sets the amount of time in which a cached response will be returned without revalidating it with the server. A duration of zero will
+		 * revalidate the response on every request. Larger durations should be combined with {@link #setResponseCacheEventEviction(boolean)}.
+		 *
+		 * <p>Default: 0 seconds</p>
+		 *
+		 * @param responseCacheMaxAge
+		 * @return
+		 */
+		public Builder setResponseCacheMaxAge(Duration responseCacheMaxAge) {
+			this.responseCacheMaxAge = Objects.requireNonNull(responseCacheMaxAge);
+			return this;
+		}
+
+		/**
+		 * Decides if the response cache should subscribe to the mesh eventbus via websocket in order to evict entries once the referenced elements
+		 * change.
+		 *
+		 * <p>Default: false</p>
+		 *
+		 * @param responseCacheEventEviction
+		 * @return
+		 */
+		public Builder setResponseCacheEventEviction(boolean responseCacheEventEviction) {
+			this.responseCacheEventEviction = responseCacheEventEviction;
+			return this;
+		}
 	}
 }
@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
@@ -40,6 +41,8 @@ import com.gentics.mesh.core.rest.microschema.impl.MicroschemaCreateRequest;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -627,6 +630,13 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			parameters), PublishStatusModel.class);
 	}
 
+	@Override
+	public MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(request, "request must not be null");
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/bulk" + getQuery(parameters), NodeBulkResponse.class, request);
+	}
+
 	@Override
 	public MeshRequest<PublishStatusModel> publishNodeLanguage(String projectName, String nodeUuid, String languageTag,
 		ParameterProvider... parameters) {
@@ -1029,6 +1039,17 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(POST, "/admin/consistency/repair", ConsistencyCheckResponse.class);
 	}
 
+	@Override
+	public MeshRequest<CacheListResponse> loadCaches() {
+		return prepareRequest(GET, "/admin/caches", CacheListResponse.class);
+	}
+
+	@Override
+	public MeshRequest<GenericMessageResponse> clearCache(String name) {
+		Objects.requireNonNull(name, "name must not be null");
+		return prepareRequest(DELETE, "/admin/caches/" + encodeSegment(name), GenericMessageResponse.class);
+	}
+
 	@Override
 	public MeshRequest<MeshStatusResponse> meshStatus() {
 		return prepareRequest(GET, "/admin/status", MeshStatusResponse.class);
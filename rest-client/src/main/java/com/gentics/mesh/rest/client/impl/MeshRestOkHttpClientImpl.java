@@ -19,6 +19,7 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 
 	private final OkHttpClient client;
 	private final MeshRestClientConfig config;
+	private final OkHttpResponseCache responseCache;
 	private static OkHttpClient defaultClient;
 
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config) {
@@ -26,8 +27,18 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 	}
 
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config, OkHttpClient client) {
-		this.client = client;
 		this.config = config;
+		if (config.getResponseCacheSize() > 0) {
+			this.responseCache = new OkHttpResponseCache(config);
+			// The derived client shares the connection pool and dispatcher with the given client
+			this.client = client.newBuilder().addInterceptor(responseCache).build();
+			if (config.isResponseCacheEventEviction()) {
+				responseCache.registerEvictionEvents(() -> new OkHttpWebsocket(client, config));
+			}
+		} else {
+			this.responseCache = null;
+			this.client = client;
+		}
 	}
 
 	/**
@@ -91,8 +102,20 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 		return config.getBaseUrl() + path;
 	}
 
+	/**
+	 * Return the response cache of the client.
+	 * 
+	 * @return Cache or null if the cache has not been enabled in the config
+	 */
+	public OkHttpResponseCache getResponseCache() {
+		return responseCache;
+	}
+
 	@Override
 	public void close() {
+		if (responseCache != null) {
+			responseCache.close();
+		}
 		// We don't close the client because it is either
 		// * The default client. This cannot be closed because other instances might use it.
 		// * A user provided client. The user could use the client somewhere else, so we should not close it here.
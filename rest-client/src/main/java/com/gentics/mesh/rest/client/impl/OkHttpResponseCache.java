@@ -0,0 +1,425 @@
+package com.gentics.mesh.rest.client.impl;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.rest.client.EventbusEvent;
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+import com.gentics.mesh.rest.client.MeshWebsocket;
+
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Bounded in-memory cache for JSON responses of GET requests. The cache is applied to the OkHttp client as an interceptor.
+ *
+ * <ul>
+ * <li>Responses which contain an ETag are stored and will be revalidated via <code>If-None-Match</code> once they are older than the configured
+ * max age.</li>
+ * <li>Identical concurrent GET requests are coalesced. Only the first request is sent to the server and the other callers receive a copy of its
+ * response.</li>
+ * <li>Optionally the cache subscribes to the mesh eventbus and evicts entries which reference changed elements.</li>
+ * </ul>
+ */
+public class OkHttpResponseCache implements Interceptor {
+
+	private static final Logger log = LoggerFactory.getLogger(OkHttpResponseCache.class);
+
+	/**
+	 * Responses with larger bodies will not be buffered.
+	 */
+	private static final long MAX_BODY_SIZE = 1024 * 1024;
+
+	private static final String ETAG = "ETag";
+
+	private static final String IF_NONE_MATCH = "If-None-Match";
+
+	/**
+	 * Cookies are specific to the response which set them and must not be replayed to other callers.
+	 */
+	private static final String SET_COOKIE = "Set-Cookie";
+
+	/**
+	 * Events which may affect any cached response (e.g. due to changed permissions).
+	 */
+	private static final Set<MeshEvent> CLEAR_EVENTS = EnumSet.of(ROLE_PERMISSIONS_CHANGED, GROUP_ROLE_ASSIGNED, GROUP_ROLE_UNASSIGNED,
+		GROUP_USER_ASSIGNED, GROUP_USER_UNASSIGNED, PROJECT_LATEST_BRANCH_UPDATED, SCHEMA_MIGRATION_FINISHED, MICROSCHEMA_MIGRATION_FINISHED,
+		BRANCH_MIGRATION_FINISHED);
+
+	/**
+	 * Events which affect the element with the uuid of the event.
+	 */
+	private static final Set<MeshEvent> ELEMENT_EVENTS = EnumSet.of(USER_UPDATED, USER_DELETED, GROUP_UPDATED, GROUP_DELETED, ROLE_UPDATED,
+		ROLE_DELETED, TAG_UPDATED, TAG_DELETED, TAG_FAMILY_UPDATED, TAG_FAMILY_DELETED, PROJECT_UPDATED, PROJECT_DELETED, SCHEMA_UPDATED,
+		SCHEMA_DELETED, MICROSCHEMA_UPDATED, MICROSCHEMA_DELETED, BRANCH_UPDATED, BRANCH_DELETED);
+
+	/**
+	 * Events which affect a node. Path based responses (e.g. webroot) may also contain the node and are evicted as well.
+	 */
+	private static final Set<MeshEvent> NODE_EVENTS = EnumSet.of(NODE_CREATED, NODE_UPDATED, NODE_DELETED, NODE_TAGGED, NODE_UNTAGGED,
+		NODE_PUBLISHED, NODE_UNPUBLISHED, NODE_MOVED, NODE_CONTENT_DELETED, NODE_CONTENT_CREATED, NODE_REFERENCE_UPDATED);
+
+	private final int maxSize;
+
+	private final long maxAge;
+
+	private final Map<String, CachedResponse> entries;
+
+	private final ConcurrentMap<String, CompletableFuture<CachedResponse>> inflight = new ConcurrentHashMap<>();
+
+	private volatile Supplier<MeshWebsocket> websocketFactory;
+
+	private volatile MeshWebsocket websocket;
+
+	private Disposable eventSubscription;
+
+	private boolean closed;
+
+	public OkHttpResponseCache(MeshRestClientConfig config) {
+		this.maxSize = config.getResponseCacheSize();
+		this.maxAge = config.getResponseCacheMaxAge().toMillis();
+		this.entries = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		// Requests which handle the ETag themselves are not cached
+		if (!"GET".equalsIgnoreCase(request.method()) || request.header(IF_NONE_MATCH) != null) {
+			return chain.proceed(request);
+		}
+
+		openEvictionEvents();
+		String key = keyOf(request);
+		CachedResponse cached = get(key);
+		if (cached != null && cached.isFresh(maxAge)) {
+			return cached.toResponse(request);
+		}
+
+		CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+		CompletableFuture<CachedResponse> existing = inflight.putIfAbsent(key, future);
+		if (existing != null) {
+			CachedResponse shared = await(existing);
+			if (shared != null) {
+				return shared.toResponse(request);
+			}
+			// The response could not be shared
+			return chain.proceed(request);
+		}
+
+		CachedResponse result = null;
+		try {
+			Request outgoing = cached == null ? request : request.newBuilder().header(IF_NONE_MATCH, cached.etag).build();
+			Response response = chain.proceed(outgoing);
+			if (cached != null && response.code() == 304) {
+				response.close();
+				result = cached.revalidated();
+				put(key, result);
+				return result.toResponse(request);
+			}
+			if (!isBufferable(response)) {
+				remove(key);
+				return response;
+			}
+			// The length of transparently decompressed responses is unknown. The peek reads at most one byte more than the limit.
+			ResponseBody peeked = response.peekBody(MAX_BODY_SIZE + 1);
+			if (peeked.contentLength() > MAX_BODY_SIZE) {
+				remove(key);
+				return response;
+			}
+			result = buffer(response, peeked);
+			if (result.etag != null) {
+				put(key, result);
+			} else {
+				remove(key);
+			}
+			// Only the caller which sent the request receives the cookies
+			return result.toResponse(request).newBuilder().headers(response.headers()).build();
+		} finally {
+			inflight.remove(key, future);
+			future.complete(result);
+		}
+	}
+
+	/**
+	 * Only successful JSON responses with a limited size will be buffered. Responses without a known length (e.g. compressed responses) need to be checked
+	 * by peeking into the body.
+	 */
+	private static boolean isBufferable(Response response) {
+		ResponseBody body = response.body();
+		if (!response.isSuccessful() || body == null || !isJson(body.contentType())) {
+			return false;
+		}
+		return body.contentLength() <= MAX_BODY_SIZE;
+	}
+
+	/**
+	 * Create the cache entry using the complete body which has been peeked from the response. Cookies are not stored.
+	 */
+	private static CachedResponse buffer(Response response, ResponseBody peeked) throws IOException {
+		try {
+			Headers headers = response.headers().newBuilder().removeAll(SET_COOKIE).build();
+			return new CachedResponse(response.protocol(), response.code(), response.message(), headers, response.body().contentType(),
+				peeked.bytes(), response.header(ETAG));
+		} finally {
+			response.close();
+		}
+	}
+
+	private static boolean isJson(MediaType type) {
+		return type != null && "application".equals(type.type()) && "json".equals(type.subtype());
+	}
+
+	private static CachedResponse await(CompletableFuture<CachedResponse> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for coalesced request");
+		} catch (ExecutionException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Responses depend on the url and on all request headers (e.g. authentication).
+	 */
+	private static String keyOf(Request request) {
+		return request.url().toString() + "\n" + request.headers().toString();
+	}
+
+	private synchronized CachedResponse get(String key) {
+		return entries.get(key);
+	}
+
+	private synchronized void put(String key, CachedResponse response) {
+		entries.put(key, response);
+	}
+
+	private synchronized void remove(String key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Return the amount of cached responses.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Remove all cached responses of requests which reference the given uuid.
+	 *
+	 * @param uuid
+	 * @param includePathRequests
+	 *            Whether to also remove the responses of path based requests (webroot, navroot) which can't be related to the uuid
+	 */
+	public synchronized void evict(String uuid, boolean includePathRequests) {
+		Iterator<String> it = entries.keySet().iterator();
+		while (it.hasNext()) {
+			String key = it.next();
+			String url = key.substring(0, key.indexOf('\n'));
+			if ((uuid != null && url.contains(uuid)) || (includePathRequests && (url.contains("/webroot/") || url.contains("/navroot/")))) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Subscribe to the events of a websocket in order to evict the cached responses of changed elements. The websocket will be opened by the first
+	 * request which uses the cache.
+	 *
+	 * @param websocketFactory
+	 */
+	public synchronized void registerEvictionEvents(Supplier<MeshWebsocket> websocketFactory) {
+		this.websocketFactory = websocketFactory;
+	}
+
+	/**
+	 * Open the websocket for the eviction events if it has been registered and not yet been opened.
+	 */
+	private void openEvictionEvents() {
+		if (websocketFactory == null || websocket != null) {
+			return;
+		}
+		synchronized (this) {
+			if (websocket != null || closed) {
+				return;
+			}
+			MeshWebsocket socket = websocketFactory.get();
+			Set<MeshEvent> events = EnumSet.copyOf(CLEAR_EVENTS);
+			events.addAll(ELEMENT_EVENTS);
+			events.addAll(NODE_EVENTS);
+			socket.registerEvents(events.toArray(new MeshEvent[events.size()]));
+			// Entries may be outdated after a reconnect since events could have been missed
+			Disposable connections = socket.connections().subscribe(ignore -> clear());
+			Disposable eventsSub = socket.events().subscribe(this::handleEvent, err -> log.error("Error while handling cache eviction event", err));
+			this.eventSubscription = new CompositeDisposable(connections, eventsSub);
+			this.websocket = socket;
+		}
+	}
+
+	private void handleEvent(EventbusEvent event) {
+		MeshEvent meshEvent = MeshEvent.fromAddress(event.getAddress()).orElse(null);
+		if (meshEvent == null) {
+			return;
+		}
+		if (CLEAR_EVENTS.contains(meshEvent)) {
+			clear();
+			return;
+		}
+		String uuid = null;
+		ObjectNode body = event.getBodyAsJson();
+		if (body != null) {
+			JsonNode uuidNode = body.get("uuid");
+			uuid = uuidNode == null ? null : uuidNode.textValue();
+		}
+		boolean isNodeEvent = NODE_EVENTS.contains(meshEvent);
+		if (uuid == null && !isNodeEvent) {
+			clear();
+		} else {
+			evict(uuid, isNodeEvent);
+		}
+	}
+
+	/**
+	 * Stop listening to eviction events and close the used websocket.
+	 */
+	public synchronized void close() {
+		closed = true;
+		if (eventSubscription != null) {
+			eventSubscription.dispose();
+		}
+		if (websocket != null) {
+			websocket.close();
+		}
+		clear();
+	}
+
+	/**
+	 * Buffered response with the ETag that was returned by the server.
+	 */
+	private static class CachedResponse {
+
+		private final Protocol protocol;
+		private final int code;
+		private final String message;
+		private final Headers headers;
+		private final MediaType contentType;
+		private final byte[] body;
+		private final String etag;
+		private final long validatedAt;
+
+		CachedResponse(Protocol protocol, int code, String message, Headers headers, MediaType contentType, byte[] body, String etag) {
+			this(protocol, code, message, headers, contentType, body, etag, System.currentTimeMillis());
+		}
+
+		private CachedResponse(Protocol protocol, int code, String message, Headers headers, MediaType contentType, byte[] body, String etag,
+			long validatedAt) {
+			this.protocol = protocol;
+			this.code = code;
+			this.message = message;
+			this.headers = headers;
+			this.contentType = contentType;
+			this.body = body;
+			this.etag = etag;
+			this.validatedAt = validatedAt;
+		}
+
+		boolean isFresh(long maxAge) {
+			return maxAge > 0 && System.currentTimeMillis() - validatedAt < maxAge;
+		}
+
+		CachedResponse revalidated() {
+			return new CachedResponse(protocol, code, message, headers, contentType, body, etag);
+		}
+
+		Response toResponse(Request request) {
+			return new Response.Builder()
+				.request(request)
+				.protocol(protocol)
+				.code(code)
+				.message(message)
+				.headers(headers)
+				.body(ResponseBody.create(contentType, body))
+				.build();
+		}
+	}
+}
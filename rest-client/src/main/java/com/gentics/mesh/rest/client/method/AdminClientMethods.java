@@ -1,5 +1,6 @@
 package com.gentics.mesh.rest.client.method;
 
+import com.gentics.mesh.core.rest.admin.cache.CacheListResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
@@ -76,4 +77,19 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<ConsistencyCheckResponse> repairConsistency();
 
+	/**
+	 * Load the caches of the instance together with their statistics.
+	 * 
+	 * @return
+	 */
+	MeshRequest<CacheListResponse> loadCaches();
+
+	/**
+	 * Clear the cache with the given name.
+	 * 
+	 * @param name
+	 * @return
+	 */
+	MeshRequest<GenericMessageResponse> clearCache(String name);
+
 }
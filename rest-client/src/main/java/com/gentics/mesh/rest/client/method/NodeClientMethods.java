@@ -1,5 +1,7 @@
 package com.gentics.mesh.rest.client.method;
 
+import com.gentics.mesh.core.rest.node.NodeBulkRequest;
+import com.gentics.mesh.core.rest.node.NodeBulkResponse;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -242,6 +244,18 @@ public interface NodeClientMethods {
 	 */
 	MeshRequest<PublishStatusResponse> publishNode(String projectName, String nodeUuid, ParameterProvider... parameters);
 
+	/**
+	 * Apply the create, update and publish operations of the bulk request. The response contains the result of each operation.
+	 *
+	 * @param projectName
+	 *            Name of the project
+	 * @param request
+	 *            Bulk request which contains the operations
+	 * @param parameters
+	 * @return Mesh request which can be invoked
+	 */
+	MeshRequest<NodeBulkResponse> bulkNodes(String projectName, NodeBulkRequest request, ParameterProvider... parameters);
+
 	/**
 	 * Publish a node language.
 	 *
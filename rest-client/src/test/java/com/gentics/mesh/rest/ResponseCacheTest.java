@@ -0,0 +1,124 @@
+package com.gentics.mesh.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+import com.gentics.mesh.rest.client.impl.OkHttpResponseCache;
+
+import okhttp3.Interceptor.Chain;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class ResponseCacheTest {
+
+	private static final MediaType JSON = MediaType.get("application/json");
+
+	@Test
+	public void testRevalidation() throws Exception {
+		OkHttpResponseCache cache = new OkHttpResponseCache(config(10, Duration.ZERO));
+		Request request = new Request.Builder().url("http://localhost:8080/api/v1/dummy/nodes/uuid").build();
+		List<Request> sent = new ArrayList<>();
+		Chain chain = mock(Chain.class);
+		when(chain.request()).thenReturn(request);
+		when(chain.proceed(any(Request.class))).thenAnswer(invocation -> {
+			Request req = (Request) invocation.getArguments()[0];
+			sent.add(req);
+			if ("\"etag1\"".equals(req.header("If-None-Match"))) {
+				return response(req, 304, null);
+			}
+			return response(req, 200, "{\"uuid\":\"uuid\"}");
+		});
+
+		assertEquals("{\"uuid\":\"uuid\"}", cache.intercept(chain).body().string());
+		assertEquals(1, cache.size());
+		assertNull(sent.get(0).header("If-None-Match"));
+
+		// The second request must be revalidated and return the cached body
+		Response second = cache.intercept(chain);
+		assertEquals(200, second.code());
+		assertEquals("{\"uuid\":\"uuid\"}", second.body().string());
+		assertEquals("\"etag1\"", sent.get(1).header("If-None-Match"));
+
+		cache.evict("uuid", false);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testMaxAge() throws Exception {
+		OkHttpResponseCache cache = new OkHttpResponseCache(config(10, Duration.ofMinutes(1)));
+		Request request = new Request.Builder().url("http://localhost:8080/api/v1/dummy/webroot/test").build();
+		Chain chain = mock(Chain.class);
+		when(chain.request()).thenReturn(request);
+		when(chain.proceed(any(Request.class))).thenAnswer(invocation -> response((Request) invocation.getArguments()[0], 200, "{}"));
+
+		cache.intercept(chain).close();
+		assertEquals("{}", cache.intercept(chain).body().string());
+		verify(chain, times(1)).proceed(any(Request.class));
+
+		// Path based requests are evicted by node events
+		cache.evict(null, true);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testCookiesAreNotCached() throws Exception {
+		OkHttpResponseCache cache = new OkHttpResponseCache(config(10, Duration.ofMinutes(1)));
+		Request request = new Request.Builder().url("http://localhost:8080/api/v1/auth/me").build();
+		Chain chain = mock(Chain.class);
+		when(chain.request()).thenReturn(request);
+		when(chain.proceed(any(Request.class))).thenAnswer(invocation -> response((Request) invocation.getArguments()[0], 200, "{}").newBuilder()
+			.header("Set-Cookie", "mesh.token=secret")
+			.build());
+
+		assertEquals("mesh.token=secret", cache.intercept(chain).header("Set-Cookie"));
+		Response cached = cache.intercept(chain);
+		verify(chain, times(1)).proceed(any(Request.class));
+		assertNull(cached.header("Set-Cookie"));
+	}
+
+	@Test
+	public void testBoundedSize() throws Exception {
+		OkHttpResponseCache cache = new OkHttpResponseCache(config(2, Duration.ZERO));
+		Chain chain = mock(Chain.class);
+		when(chain.proceed(any(Request.class))).thenAnswer(invocation -> response((Request) invocation.getArguments()[0], 200, "{}"));
+		for (int i = 0; i < 5; i++) {
+			when(chain.request()).thenReturn(new Request.Builder().url("http://localhost:8080/api/v1/users/" + i).build());
+			cache.intercept(chain).close();
+		}
+		assertEquals(2, cache.size());
+	}
+
+	private MeshRestClientConfig config(int size, Duration maxAge) {
+		return MeshRestClientConfig.newConfig()
+			.setHost("localhost")
+			.setResponseCacheSize(size)
+			.setResponseCacheMaxAge(maxAge)
+			.build();
+	}
+
+	private Response response(Request request, int code, String body) {
+		return new Response.Builder()
+			.request(request)
+			.protocol(Protocol.HTTP_1_1)
+			.code(code)
+			.message("OK")
+			.header("ETag", "\"etag1\"")
+			.body(ResponseBody.create(JSON, body == null ? "" : body))
+			.build();
+	}
+}
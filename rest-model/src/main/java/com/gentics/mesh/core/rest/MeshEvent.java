@@ -188,6 +188,13 @@ public enum MeshEvent {
 		null,
 		"Event which will clear the permission stores."),
 
+	/**
+	 * Event which is send to invalidate the cached permissions of specific users and elements.
+	 */
+	INVALIDATE_PERMISSION_STORE("mesh.invalidate-permission-store",
+		null,
+		"Event which will invalidate the cached permissions of the listed users and elements."),
+
 	/**
 	 * Event which is send to update the webroot path stores.
 	 */
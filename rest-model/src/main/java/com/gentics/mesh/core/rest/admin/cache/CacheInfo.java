@@ -0,0 +1,129 @@
+package com.gentics.mesh.core.rest.admin.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO which contains the size and statistics of a single cache.
+ */
+public class CacheInfo implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Name of the cache.")
+	private String name;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Flag which indicates whether the cache is enabled.")
+	private boolean enabled;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Current amount of entries in the cache.")
+	private long size;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Configured maximum amount of entries.")
+	private long maxSize;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of lookups which were answered by the cache.")
+	private long hitCount;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of lookups which could not be answered by the cache.")
+	private long missCount;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Ratio of hits to lookups. The ratio is 1.0 if no lookup was made yet.")
+	private double hitRate;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of values which have been loaded by the cache.")
+	private long loadCount;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of entries which have been evicted due to size or expiry.")
+	private long evictionCount;
+
+	public String getName() {
+		return name;
+	}
+
+	public CacheInfo setName(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public CacheInfo setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		return this;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public CacheInfo setSize(long size) {
+		this.size = size;
+		return this;
+	}
+
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	public CacheInfo setMaxSize(long maxSize) {
+		this.maxSize = maxSize;
+		return this;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public CacheInfo setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+		return this;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public CacheInfo setMissCount(long missCount) {
+		this.missCount = missCount;
+		return this;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	public CacheInfo setHitRate(double hitRate) {
+		this.hitRate = hitRate;
+		return this;
+	}
+
+	public long getLoadCount() {
+		return loadCount;
+	}
+
+	public CacheInfo setLoadCount(long loadCount) {
+		this.loadCount = loadCount;
+		return this;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public CacheInfo setEvictionCount(long evictionCount) {
+		this.evictionCount = evictionCount;
+		return this;
+	}
+
+}
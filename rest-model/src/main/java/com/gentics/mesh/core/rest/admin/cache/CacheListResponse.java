@@ -0,0 +1,38 @@
+package com.gentics.mesh.core.rest.admin.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO which lists the caches of the instance.
+ */
+public class CacheListResponse implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("List of caches.")
+	private List<CacheInfo> caches = new ArrayList<>();
+
+	public List<CacheInfo> getCaches() {
+		return caches;
+	}
+
+	public CacheListResponse setCaches(List<CacheInfo> caches) {
+		this.caches = caches;
+		return this;
+	}
+
+	/**
+	 * Return the info of the cache with the given name.
+	 * 
+	 * @param name
+	 * @return Found info or null
+	 */
+	public CacheInfo getCache(String name) {
+		return caches.stream().filter(info -> name.equals(info.getName())).findFirst().orElse(null);
+	}
+
+}
@@ -60,6 +60,14 @@ public class JobResponse extends AbstractResponse {
 	@JsonPropertyDescription("Name of the Gentics Mesh instance on which the job was executed.")
 	private String nodeName;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Position of the job within the queue of its job lane. A value of 0 indicates that the job is the next job or is currently being processed. The value is only set for pending jobs.")
+	private Integer queuePosition;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("ISO8601 formatted date on which the job is expected to be completed. The estimation is based on the duration of previously completed jobs of the same type and is only set for pending jobs.")
+	private String estimatedCompletionDate;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("List of warnings which were encoutered while executing the job.")
 	private List<JobWarning> warnings = new ArrayList<>();
@@ -245,4 +253,40 @@ public class JobResponse extends AbstractResponse {
 	public void setWarnings(List<JobWarning> warnings) {
 		this.warnings = warnings;
 	}
+
+	/**
+	 * Return the position of the job within the queue of its job lane.
+	 * 
+	 * @return Position or null if the job is not pending
+	 */
+	public Integer getQueuePosition() {
+		return queuePosition;
+	}
+
+	/**
+	 * Set the position of the job within the queue of its job lane.
+	 * 
+	 * @param queuePosition
+	 */
+	public void setQueuePosition(Integer queuePosition) {
+		this.queuePosition = queuePosition;
+	}
+
+	/**
+	 * Return the date on which the job is expected to be completed.
+	 * 
+	 * @return Date or null if no estimation is possible
+	 */
+	public String getEstimatedCompletionDate() {
+		return estimatedCompletionDate;
+	}
+
+	/**
+	 * Set the date on which the job is expected to be completed.
+	 * 
+	 * @param estimatedCompletionDate
+	 */
+	public void setEstimatedCompletionDate(String estimatedCompletionDate) {
+		this.estimatedCompletionDate = estimatedCompletionDate;
+	}
 }
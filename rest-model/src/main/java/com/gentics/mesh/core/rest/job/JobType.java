@@ -7,6 +7,10 @@ public enum JobType {
 
 	branch,
 
-	versionpurge
+	versionpurge,
+
+	subtree,
+
+	projectimport
 
 }
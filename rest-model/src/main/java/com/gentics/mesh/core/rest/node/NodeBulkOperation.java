@@ -0,0 +1,116 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a single operation of a bulk node request.
+ */
+public class NodeBulkOperation implements RestModel {
+
+	/**
+	 * Action of the operation.
+	 */
+	public enum Action {
+		/**
+		 * Create a new node. The uuid of the node is optional.
+		 */
+		CREATE,
+
+		/**
+		 * Update the content of an existing node.
+		 */
+		UPDATE,
+
+		/**
+		 * Update the node with the given uuid or create it when it does not yet exist.
+		 */
+		UPSERT,
+
+		/**
+		 * Publish the node. Only the given language will be published if a language has been specified.
+		 */
+		PUBLISH
+	}
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Action of the operation. Possible values are CREATE, UPDATE, UPSERT and PUBLISH.")
+	private Action action;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the node. The uuid is required for UPDATE, UPSERT and PUBLISH operations.")
+	private String uuid;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Language of the node content which should be published. All languages will be published if no language was specified.")
+	private String language;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Node create or update request. The request is required for CREATE, UPDATE and UPSERT operations.")
+	private NodeUpsertRequest node;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether the created or updated language should also be published.")
+	private Boolean publish;
+
+	public NodeBulkOperation() {
+	}
+
+	public Action getAction() {
+		return action;
+	}
+
+	public NodeBulkOperation setAction(Action action) {
+		this.action = action;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeBulkOperation setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+
+	public NodeBulkOperation setLanguage(String language) {
+		this.language = language;
+		return this;
+	}
+
+	public NodeUpsertRequest getNode() {
+		return node;
+	}
+
+	public NodeBulkOperation setNode(NodeUpsertRequest node) {
+		this.node = node;
+		return this;
+	}
+
+	public Boolean getPublish() {
+		return publish;
+	}
+
+	/**
+	 * Check whether the created or updated language should also be published.
+	 * 
+	 * @return
+	 */
+	@JsonIgnore
+	public boolean isPublish() {
+		return Boolean.TRUE.equals(publish);
+	}
+
+	public NodeBulkOperation setPublish(Boolean publish) {
+		this.publish = publish;
+		return this;
+	}
+
+}
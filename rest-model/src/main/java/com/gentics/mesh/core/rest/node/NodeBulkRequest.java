@@ -0,0 +1,42 @@
+package com.gentics.mesh.core.rest.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for a bulk node request which contains a list of create, update and publish operations.
+ */
+public class NodeBulkRequest implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("List of operations which will be applied in the given order.")
+	private List<NodeBulkOperation> operations = new ArrayList<>();
+
+	public NodeBulkRequest() {
+	}
+
+	public List<NodeBulkOperation> getOperations() {
+		return operations;
+	}
+
+	public NodeBulkRequest setOperations(List<NodeBulkOperation> operations) {
+		this.operations = operations;
+		return this;
+	}
+
+	/**
+	 * Add the operation to the request.
+	 * 
+	 * @param operation
+	 * @return Fluent API
+	 */
+	public NodeBulkRequest add(NodeBulkOperation operation) {
+		operations.add(operation);
+		return this;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.gentics.mesh.core.rest.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the response of a bulk node request.
+ */
+public class NodeBulkResponse implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of operations which have been applied.")
+	private long succeeded;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of operations which failed.")
+	private long failed;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Results of the operations in the order of the request.")
+	private List<NodeBulkResult> results = new ArrayList<>();
+
+	public NodeBulkResponse() {
+	}
+
+	public long getSucceeded() {
+		return succeeded;
+	}
+
+	public NodeBulkResponse setSucceeded(long succeeded) {
+		this.succeeded = succeeded;
+		return this;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public NodeBulkResponse setFailed(long failed) {
+		this.failed = failed;
+		return this;
+	}
+
+	public List<NodeBulkResult> getResults() {
+		return results;
+	}
+
+	public NodeBulkResponse setResults(List<NodeBulkResult> results) {
+		this.results = results;
+		return this;
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.gentics.mesh.core.rest.node;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.node.NodeBulkOperation.Action;
+
+/**
+ * POJO for the result of a single operation of a bulk node request.
+ */
+public class NodeBulkResult implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Index of the operation within the request.")
+	private int index;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Action of the operation.")
+	private Action action;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("HTTP status code which the operation would have produced as a single request.")
+	private int status;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Uuid of the created or modified node.")
+	private String uuid;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Language of the created or modified node content.")
+	private String language;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Version of the node content after the operation has been applied.")
+	private String version;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Error message of a failed operation.")
+	private String message;
+
+	public NodeBulkResult() {
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public NodeBulkResult setIndex(int index) {
+		this.index = index;
+		return this;
+	}
+
+	public Action getAction() {
+		return action;
+	}
+
+	public NodeBulkResult setAction(Action action) {
+		this.action = action;
+		return this;
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public NodeBulkResult setStatus(int status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public NodeBulkResult setUuid(String uuid) {
+		this.uuid = uuid;
+		return this;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+
+	public NodeBulkResult setLanguage(String language) {
+		this.language = language;
+		return this;
+	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public NodeBulkResult setVersion(String version) {
+		this.version = version;
+		return this;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public NodeBulkResult setMessage(String message) {
+		this.message = message;
+		return this;
+	}
+
+}
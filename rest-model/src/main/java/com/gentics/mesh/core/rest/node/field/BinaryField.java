@@ -1,8 +1,11 @@
 package com.gentics.mesh.core.rest.node.field;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariant;
 
 /**
  * A binary field is a field which can store binary and image related meta data.
@@ -204,4 +207,19 @@ public interface BinaryField extends Field {
 	 */
 	BinaryField setPlainText(String text);
 
+	/**
+	 * Return the manifest of the image variants which can be requested for the image.
+	 *
+	 * @return
+	 */
+	List<ImageVariant> getVariants();
+
+	/**
+	 * Set the manifest of the image variants.
+	 *
+	 * @param variants
+	 * @return Fluent API
+	 */
+	BinaryField setVariants(List<ImageVariant> variants);
+
 }
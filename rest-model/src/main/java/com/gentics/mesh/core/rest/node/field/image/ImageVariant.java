@@ -0,0 +1,111 @@
+package com.gentics.mesh.core.rest.node.field.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Entry of the image variant manifest of a binary field. The variant can be requested by adding the variant parameter to the image request.
+ */
+public class ImageVariant implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Name of the variant which can be used for the variant parameter.")
+	private String name;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Width of the variant.")
+	private Integer width;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Height of the variant.")
+	private Integer height;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Crop mode of the variant.")
+	private String crop;
+
+	public ImageVariant() {
+	}
+
+	/**
+	 * Return the name of the variant.
+	 *
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Set the name of the variant.
+	 *
+	 * @param name
+	 * @return Fluent API
+	 */
+	public ImageVariant setName(String name) {
+		this.name = name;
+		return this;
+	}
+
+	/**
+	 * Return the width of the variant.
+	 *
+	 * @return
+	 */
+	public Integer getWidth() {
+		return width;
+	}
+
+	/**
+	 * Set the width of the variant.
+	 *
+	 * @param width
+	 * @return Fluent API
+	 */
+	public ImageVariant setWidth(Integer width) {
+		this.width = width;
+		return this;
+	}
+
+	/**
+	 * Return the height of the variant.
+	 *
+	 * @return
+	 */
+	public Integer getHeight() {
+		return height;
+	}
+
+	/**
+	 * Set the height of the variant.
+	 *
+	 * @param height
+	 * @return Fluent API
+	 */
+	public ImageVariant setHeight(Integer height) {
+		this.height = height;
+		return this;
+	}
+
+	/**
+	 * Return the crop mode of the variant.
+	 *
+	 * @return
+	 */
+	public String getCrop() {
+		return crop;
+	}
+
+	/**
+	 * Set the crop mode of the variant.
+	 *
+	 * @param crop
+	 * @return Fluent API
+	 */
+	public ImageVariant setCrop(String crop) {
+		this.crop = crop;
+		return this;
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.rest.node.field.impl;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -7,6 +9,7 @@ import com.gentics.mesh.core.rest.common.FieldTypes;
 import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
+import com.gentics.mesh.core.rest.node.field.image.ImageVariant;
 
 public class BinaryFieldImpl implements BinaryField {
 
@@ -60,6 +63,10 @@ public class BinaryFieldImpl implements BinaryField {
 	@JsonPropertyDescription("Plain text content of the upload. This can be the text content of a word or PDF document.")
 	private String plainText;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Manifest of the configured image variants. A variant can be requested by name using the variant parameter.")
+	private List<ImageVariant> variants;
+
 	@Override
 	public String getBinaryUuid() {
 		return binaryUuid;
@@ -181,6 +188,17 @@ public class BinaryFieldImpl implements BinaryField {
 		return this;
 	}
 
+	@Override
+	public List<ImageVariant> getVariants() {
+		return variants;
+	}
+
+	@Override
+	public BinaryField setVariants(List<ImageVariant> variants) {
+		this.variants = variants;
+		return this;
+	}
+
 	@Override
 	@JsonIgnore
 	public boolean hasValues() {
@@ -0,0 +1,93 @@
+package com.gentics.mesh.core.rest.project;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.json.JsonUtil;
+
+/**
+ * A single line of a project export. The export consists of one entry per line (NDJSON) and contains the project, the assigned schemas and microschemas,
+ * the tag families with their tags and the contents of all nodes.
+ */
+public class ProjectTransferEntry implements RestModel {
+
+	/**
+	 * Type of the exported element.
+	 */
+	public enum Type {
+		PROJECT, SCHEMA, MICROSCHEMA, TAG_FAMILY, TAG, NODE
+	}
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Type of the exported element.")
+	private Type type;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether the exported node content is the published version.")
+	private Boolean published;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("REST model of the exported element.")
+	private Object data;
+
+	public ProjectTransferEntry() {
+	}
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param type
+	 * @param data
+	 */
+	public ProjectTransferEntry(Type type, Object data) {
+		this.type = type;
+		this.data = data;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public ProjectTransferEntry setType(Type type) {
+		this.type = type;
+		return this;
+	}
+
+	public Boolean getPublished() {
+		return published;
+	}
+
+	@JsonIgnore
+	public boolean isPublished() {
+		return Boolean.TRUE.equals(published);
+	}
+
+	public ProjectTransferEntry setPublished(Boolean published) {
+		this.published = published;
+		return this;
+	}
+
+	public Object getData() {
+		return data;
+	}
+
+	/**
+	 * Return the data of the entry as an instance of the given REST model class.
+	 *
+	 * @param clazz
+	 * @return
+	 */
+	public <T> T getData(Class<T> clazz) {
+		if (clazz.isInstance(data)) {
+			return clazz.cast(data);
+		}
+		return JsonUtil.getMapper().convertValue(data, clazz);
+	}
+
+	public ProjectTransferEntry setData(Object data) {
+		this.data = data;
+		return this;
+	}
+
+}
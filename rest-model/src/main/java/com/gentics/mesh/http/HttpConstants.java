@@ -25,4 +25,8 @@ public final class HttpConstants {
 
 	public static final String APPLICATION_XML = "application/xml";
 
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	public static final String APPLICATION_NDJSON_UTF8 = APPLICATION_NDJSON + "; charset=utf-8";
+
 }
@@ -0,0 +1,18 @@
+package com.gentics.mesh.parameter;
+
+/**
+ * Mode which is used to compute the children info of a node.
+ */
+public enum ChildrenInfoMode {
+
+	/**
+	 * Count the children which are readable by the requesting user.
+	 */
+	EXACT,
+
+	/**
+	 * Use the stored child counters of the node. Permissions of the children will not be checked.
+	 */
+	APPROXIMATE
+
+}
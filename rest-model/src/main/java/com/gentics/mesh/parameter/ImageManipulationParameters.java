@@ -7,6 +7,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.node.field.image.Point;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.etc.config.ImageVariantPreset;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
 
@@ -28,6 +29,10 @@ public interface ImageManipulationParameters extends ParameterProvider {
 
 	public static final String FOCAL_POINT_DEBUG_PARAM_KEY = "fpdebug";
 
+	public static final String QUALITY_QUERY_PARAM_KEY = "quality";
+
+	public static final String VARIANT_QUERY_PARAM_KEY = "variant";
+
 	/**
 	 * Return the image width.
 	 * 
@@ -287,6 +292,63 @@ public interface ImageManipulationParameters extends ParameterProvider {
 		return Boolean.valueOf(flag);
 	}
 
+	/**
+	 * Return the JPEG quality of the image.
+	 * 
+	 * @return Quality or null if the configured default should be used
+	 */
+	default Float getQuality() {
+		String quality = getParameter(QUALITY_QUERY_PARAM_KEY);
+		return quality == null ? null : Float.valueOf(quality);
+	}
+
+	/**
+	 * Set the JPEG quality of the image.
+	 * 
+	 * @param quality
+	 * @return Fluent API
+	 */
+	default ImageManipulationParameters setQuality(Float quality) {
+		setParameter(QUALITY_QUERY_PARAM_KEY, quality == null ? null : String.valueOf(quality));
+		return this;
+	}
+
+	/**
+	 * Return the name of the requested image variant.
+	 * 
+	 * @return
+	 */
+	default String getVariant() {
+		return getParameter(VARIANT_QUERY_PARAM_KEY);
+	}
+
+	/**
+	 * Set the name of the requested image variant.
+	 * 
+	 * @param name
+	 * @return Fluent API
+	 */
+	default ImageManipulationParameters setVariant(String name) {
+		setParameter(VARIANT_QUERY_PARAM_KEY, name);
+		return this;
+	}
+
+	/**
+	 * Replace the size, crop mode and quality parameters with the values of the given variant preset.
+	 * 
+	 * @param preset
+	 * @return Fluent API
+	 */
+	default ImageManipulationParameters applyVariant(ImageVariantPreset preset) {
+		setParameter(WIDTH_QUERY_PARAM_KEY, preset.getWidth() == null ? null : String.valueOf(preset.getWidth()));
+		setParameter(HEIGHT_QUERY_PARAM_KEY, preset.getHeight() == null ? null : String.valueOf(preset.getHeight()));
+		setParameter(CROP_MODE_QUERY_PARAM_KEY, preset.getCrop());
+		setParameter(RECT_QUERY_PARAM_KEY, null);
+		setFocalPointZoom(null);
+		setQuality(preset.getQuality());
+		return this;
+	}
+
 	/**
 	 * Validates whether the focal point was fully specified.
 	 * 
@@ -349,6 +411,9 @@ public interface ImageManipulationParameters extends ParameterProvider {
 		if (getFocalPointZoom() != null) {
 			builder.append("fpz" + getFocalPointZoom());
 		}
+		if (getQuality() != null) {
+			builder.append("q" + getQuality());
+		}
 		return builder.toString();
 	}
 
@@ -358,7 +423,7 @@ public interface ImageManipulationParameters extends ParameterProvider {
 	 * @return
 	 */
 	default boolean hasResizeParams() {
-		return getHeight() != null || getWidth() != null || getCropMode() != null;
+		return getHeight() != null || getWidth() != null || getCropMode() != null || getVariant() != null;
 	}
 
 }
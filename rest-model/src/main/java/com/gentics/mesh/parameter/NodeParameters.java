@@ -27,6 +27,11 @@ public interface NodeParameters extends ParameterProvider {
 	 */
 	public static final String RESOLVE_LINKS_QUERY_PARAM_KEY = "resolveLinks";
 
+	/**
+	 * Query parameter key: {@value #CHILDREN_INFO_QUERY_PARAM_KEY}
+	 */
+	public static final String CHILDREN_INFO_QUERY_PARAM_KEY = "childrenInfo";
+
 	/**
 	 * Set the <code>{@value #LANGUAGES_QUERY_PARAM_KEY}</code> request parameter values.
 	 * 
@@ -76,6 +81,30 @@ public interface NodeParameters extends ParameterProvider {
 		return LinkType.OFF;
 	}
 
+	/**
+	 * Set the <code>{@value #CHILDREN_INFO_QUERY_PARAM_KEY}</code> request parameter.
+	 * 
+	 * @param mode
+	 * @return Fluent API
+	 */
+	default NodeParameters setChildrenInfoMode(ChildrenInfoMode mode) {
+		setParameter(CHILDREN_INFO_QUERY_PARAM_KEY, mode.name().toLowerCase());
+		return this;
+	}
+
+	/**
+	 * Return the <code>{@value #CHILDREN_INFO_QUERY_PARAM_KEY}</code> query parameter value.
+	 * 
+	 * @return
+	 */
+	default ChildrenInfoMode getChildrenInfoMode() {
+		String value = getParameter(CHILDREN_INFO_QUERY_PARAM_KEY);
+		if (value != null) {
+			return ChildrenInfoMode.valueOf(value.toUpperCase());
+		}
+		return ChildrenInfoMode.EXACT;
+	}
+
 	/**
 	 * Set the <code>{@value #EXPANDALL_QUERY_PARAM_KEY}</code> request parameter flag.
 	 * 
@@ -0,0 +1,195 @@
+package com.gentics.mesh.storage.s3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Size bounded local disk cache for binaries which were loaded from S3. The cache is keyed by the binary uuid. Binaries are immutable and thus cached
+ * files never need to be updated. The least recently used files will be removed once the size limit has been reached. Files which are currently being
+ * read are pinned and will not be deleted until they have been released.
+ */
+public class S3BinaryCache {
+
+	private static final Logger log = LoggerFactory.getLogger(S3BinaryCache.class);
+
+	private static final String FILE_SUFFIX = ".bin";
+
+	private final File directory;
+
+	private final long maxSize;
+
+	/**
+	 * Sizes of the cached files in access order.
+	 */
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Amount of reads per cached file which are currently running.
+	 */
+	private final Map<String, Integer> pins = new HashMap<>();
+
+	private long currentSize = 0;
+
+	public S3BinaryCache(String directory, long maxSize) {
+		this.directory = new File(directory);
+		this.maxSize = maxSize;
+		init();
+	}
+
+	/**
+	 * Register the already cached files and remove leftover temporary downloads.
+	 */
+	private void init() {
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new RuntimeException("Could not create cache directory {" + directory.getAbsolutePath() + "}");
+		}
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			String name = file.getName();
+			if (name.endsWith(FILE_SUFFIX)) {
+				register(name.substring(0, name.length() - FILE_SUFFIX.length()), file.length());
+			} else {
+				file.delete();
+			}
+		}
+		evict();
+	}
+
+	/**
+	 * Return the path to the cached file of the binary.
+	 *
+	 * @param uuid
+	 * @return Path or null if the binary is not cached
+	 */
+	public synchronized String get(String uuid) {
+		if (entries.get(uuid) == null) {
+			return null;
+		}
+		return getFile(uuid).getAbsolutePath();
+	}
+
+	/**
+	 * Return the path to the cached file of the binary and pin the file. A pinned file will neither be evicted nor deleted until it has been released via
+	 * {@link #release(String)}.
+	 *
+	 * @param uuid
+	 * @return Path or null if the binary is not cached
+	 */
+	public synchronized String pin(String uuid) {
+		String path = get(uuid);
+		if (path != null) {
+			pins.merge(uuid, 1, Integer::sum);
+		}
+		return path;
+	}
+
+	/**
+	 * Release a file which was pinned via {@link #pin(String)}. The file will be deleted if it was removed from the cache while it was pinned.
+	 *
+	 * @param uuid
+	 */
+	public synchronized void release(String uuid) {
+		Integer count = pins.computeIfPresent(uuid, (key, value) -> value > 1 ? value - 1 : null);
+		if (count == null && !entries.containsKey(uuid)) {
+			getFile(uuid).delete();
+		}
+	}
+
+	/**
+	 * Return a new path which can be used to download a binary. The downloaded file needs to be added via {@link #add(String, File)} afterwards.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	public File createTempFile(String uuid) {
+		return new File(directory, uuid + "." + System.nanoTime() + ".tmp");
+	}
+
+	/**
+	 * Move the downloaded file into the cache.
+	 *
+	 * @param uuid
+	 * @param downloadedFile
+	 * @return Path to the cached file
+	 * @throws IOException
+	 */
+	public String add(String uuid, File downloadedFile) throws IOException {
+		File target = getFile(uuid);
+		Files.move(downloadedFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		synchronized (this) {
+			register(uuid, target.length());
+			evict();
+		}
+		return target.getAbsolutePath();
+	}
+
+	/**
+	 * Remove the cached file of the binary.
+	 *
+	 * @param uuid
+	 */
+	public synchronized void remove(String uuid) {
+		Long size = entries.remove(uuid);
+		if (size != null) {
+			currentSize -= size;
+			if (!pins.containsKey(uuid)) {
+				getFile(uuid).delete();
+			}
+		}
+	}
+
+	/**
+	 * Return the total size of the cached files.
+	 *
+	 * @return
+	 */
+	public synchronized long size() {
+		return currentSize;
+	}
+
+	private void register(String uuid, long size) {
+		Long previous = entries.put(uuid, size);
+		if (previous != null) {
+			currentSize -= previous;
+		}
+		currentSize += size;
+	}
+
+	private void evict() {
+		Iterator<Entry<String, Long>> it = entries.entrySet().iterator();
+		while (currentSize > maxSize && it.hasNext()) {
+			Entry<String, Long> entry = it.next();
+			// Always keep the most recently used file even if it exceeds the size limit
+			if (!it.hasNext()) {
+				break;
+			}
+			if (pins.containsKey(entry.getKey())) {
+				continue;
+			}
+			it.remove();
+			currentSize -= entry.getValue();
+			if (log.isDebugEnabled()) {
+				log.debug("Evicting binary {" + entry.getKey() + "} from the cache");
+			}
+			getFile(entry.getKey()).delete();
+		}
+	}
+
+	private File getFile(String uuid) {
+		return new File(directory, uuid + FILE_SUFFIX);
+	}
+
+}
@@ -1,11 +1,25 @@
 package com.gentics.mesh.storage.s3;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,6 +30,8 @@ import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -25,23 +41,52 @@ import io.vertx.reactivex.core.file.FileSystem;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
-import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
-import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+/**
+ * Binary storage which stores the binaries in a S3 bucket. Uploads are streamed to S3 using multipart uploads. Downloaded binaries can optionally be kept in a
+ * size bounded local disk cache so that hot binaries can be served directly from disk.
+ */
 @Singleton
 public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(S3BinaryStorage.class);
 
+	private static final String TEMP_PREFIX = "temp/";
+
+	private static final long EXISTS_TIMEOUT_SECONDS = 10;
+
+	/**
+	 * Maximum size of an object which can be copied via a single copy request.
+	 */
+	private static final long MAX_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+
+	/**
+	 * Size of the parts which are used to copy larger objects. 10.000 parts allow copying the maximum object size of 5 TB.
+	 */
+	private static final long COPY_PART_SIZE = 512L * 1024 * 1024;
+
 	private S3AsyncClient client;
 
 	private S3StorageOptions options;
@@ -50,6 +95,18 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private FileSystem fs;
 
+	private S3BinaryCache cache;
+
+	/**
+	 * Currently running downloads into the cache. Used to avoid loading the same binary multiple times.
+	 */
+	private final Map<String, Single<String>> downloads = new ConcurrentHashMap<>();
+
+	/**
+	 * Uuids of the binaries which are currently streamed to a client and written into the cache at the same time.
+	 */
+	private final Set<String> cachingReads = ConcurrentHashMap.newKeySet();
+
 	@Inject
 	public S3BinaryStorage(S3StorageOptions options, Vertx rxVertx) {
 		this.options = options;
@@ -60,118 +117,204 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private void init() {
 		AwsCredentials credentials = AwsBasicCredentials.create(options.getAccessId(), options.getAccessKey());
-		// ClientConfiguration clientConfiguration = new ClientConfiguration();
-		// clientConfiguration.setSignerOverride("AWSS3V4SignerType");
-
-		// ClientAsyncHttpConfiguration asyncHttpConfiguration = ClientAsyncHttpConfiguration.builder().build();
-		// S3AdvancedConfiguration advancedConfiguration = S3AdvancedConfiguration.builder().build();
-
-		// DefaultCredentialsProvider.create();
-		System.setProperty("aws.accessKeyId", options.getAccessId());
-		System.setProperty("aws.secretAccessKey", options.getAccessKey());
-
 		client = S3AsyncClient.builder()
-			// .advancedConfiguration(advancedConfiguration)
-			// .asyncHttpConfiguration(asyncHttpConfiguration)
 			.region(Region.of(options.getRegion()))
 			.endpointOverride(URI.create(options.getUrl()))
+			.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(options.isPathStyleAccess()).build())
 			.credentialsProvider(StaticCredentialsProvider.create(credentials))
 			.build();
 
 		String bucketName = options.getBucketName();
-		// try {
-		// HeadBucketResponse response = client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).get();
-		// } catch (InterruptedException | ExecutionException e) {
-		// TODO Auto-generated catch block
-		// e.printStackTrace();
-		// } catch (NoSuchKeyException e) {
 		try {
-			CreateBucketResponse response2 = client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).get();
+			client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).get();
 		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			log.info("Did not find bucket {" + bucketName + "}. Creating it...");
+			try {
+				client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).get();
+			} catch (InterruptedException | ExecutionException e1) {
+				log.error("Error while creating bucket {" + bucketName + "}", e1);
+			}
 		}
-		// }
-
-		// s3Client = AmazonS3ClientBuilder
-		// .standard()
-		// .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(options.getUrl(), options.getRegion()))
-		// .withPathStyleAccessEnabled(true)
-		// .withClientConfiguration(clientConfiguration)
-		// .withCredentials(new AWSStaticCredentialsProvider(credentials))
-		// .build();
-		//
-		// String bucketName = options.getBucketName();
-		// if (!s3Client.doesBucketExist(bucketName)) {
-		// log.info("Did not find bucket {" + bucketName + "}. Creating it...");
-		// s3Client.createBucket(new CreateBucketRequest(bucketName));
-		// }
 
+		if (options.getCacheDirectory() != null) {
+			cache = new S3BinaryCache(options.getCacheDirectory(), options.getCacheSize());
+		}
 	}
 
 	@Override
 	public boolean exists(BinaryGraphField field) {
-		String id = field.getBinary().getSHA512Sum();
-		// NoSuchKeyException
+		String uuid = field.getBinary().getUuid();
+		if (cache != null && cache.get(uuid) != null) {
+			return true;
+		}
 		try {
-			HeadObjectResponse headResponse = client.headObject(HeadObjectRequest.builder()
+			client.headObject(HeadObjectRequest.builder()
 				.bucket(options.getBucketName())
-				.key(id)
-				.build()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+				.key(uuid)
+				.build()).get(EXISTS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			return true;
+		} catch (ExecutionException e) {
+			if (!(e.getCause() instanceof NoSuchKeyException)) {
+				log.debug("Could not check existence of binary {" + uuid + "}", e.getCause());
+			}
+			return false;
+		} catch (InterruptedException | TimeoutException e) {
+			log.error("Error while checking existence of binary {" + uuid + "}", e);
+			return false;
 		}
-		return false;
-
 	}
 
 	@Override
-	public Flowable<Buffer> read(String hashsum) {
-		return Flowable.generate(sub -> {
-			if (log.isDebugEnabled()) {
-				log.debug("Loading data for hash {" + hashsum + "}");
+	public Flowable<Buffer> read(String uuid) {
+		if (cache == null) {
+			return readFromS3(uuid, null);
+		}
+		return Flowable.defer(() -> {
+			String cachedPath = cache.pin(uuid);
+			if (cachedPath != null) {
+				return readFile(cachedPath).doFinally(() -> cache.release(uuid));
 			}
-			// GetObjectRequest rangeObjectRequest = new GetObjectRequest(options.getBucketName(), hashsum);
-			GetObjectRequest request = GetObjectRequest.builder().bucket(options.getBucketName()).build();
-			client.getObject(request, new AsyncResponseTransformer<GetObjectResponse, String>() {
-
-				@Override
-				public CompletableFuture<String> prepare() {
-					// TODO Auto-generated method stub
-					return null;
-				}
-
-				@Override
-				public void onResponse(GetObjectResponse response) {
-					// TODO Auto-generated method stub
+			// Only a single read fills the cache. Concurrent reads of the same binary are served from S3 directly.
+			if (downloads.containsKey(uuid) || !cachingReads.add(uuid)) {
+				return readFromS3(uuid, null);
+			}
+			return readAndCache(uuid).doFinally(() -> cachingReads.remove(uuid));
+		});
+	}
 
-				}
+	/**
+	 * Stream the binary from S3 and write the received data into a temporary file of the cache at the same time. A buffer is only passed along once it
+	 * has been written so that the S3 download never gets ahead of the disk. The file will only be added to the cache once the whole binary has been
+	 * written. The partial file will be discarded if the read fails or gets cancelled.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	private Flowable<Buffer> readAndCache(String uuid) {
+		File tempFile = cache.createTempFile(uuid);
+		return fs.rxOpen(tempFile.getAbsolutePath(), new OpenOptions().setWrite(true).setCreate(true)).flatMapPublisher(file -> {
+			AtomicBoolean writeFailed = new AtomicBoolean();
+			AtomicLong position = new AtomicLong();
+			Runnable discard = () -> file.close(rh -> tempFile.delete());
+			return readFromS3(uuid, null)
+				.concatMap(buffer -> {
+					if (writeFailed.get()) {
+						return Flowable.just(buffer);
+					}
+					// A failure to cache the binary must not fail the read
+					return file.rxWrite(new io.vertx.reactivex.core.buffer.Buffer(buffer), position.getAndAdd(buffer.length()))
+						.onErrorComplete(e -> {
+							log.error("Error while writing binary {" + uuid + "} to the cache", e);
+							writeFailed.set(true);
+							return true;
+						})
+						.andThen(Flowable.just(buffer));
+				})
+				.concatWith(file.rxClose().andThen(Completable.defer(() -> {
+					if (writeFailed.get()) {
+						tempFile.delete();
+						return Completable.complete();
+					}
+					return addToCache(uuid, tempFile).ignoreElement();
+				})).onErrorComplete(e -> {
+					// The client already received the data. A failure to cache the binary must not fail the read.
+					log.error("Could not add binary {" + uuid + "} to the cache", e);
+					tempFile.delete();
+					return true;
+				}))
+				.doOnError(e -> discard.run())
+				.doOnCancel(discard::run);
+		});
+	}
 
-				@Override
-				public void onStream(SdkPublisher<ByteBuffer> publisher) {
-					// TODO Auto-generated method stub
+	private Flowable<Buffer> readFile(String path) {
+		return fs.rxOpen(path, new OpenOptions().setRead(true)).flatMapPublisher(RxUtil::toBufferFlow);
+	}
 
-				}
+	/**
+	 * Read the given range of the binary. Cached binaries will be read from disk. Otherwise only the range will be loaded from S3.
+	 *
+	 * @param uuid
+	 *            Uuid of the binary
+	 * @param start
+	 *            Position of the first byte
+	 * @param end
+	 *            Position of the last byte (inclusive)
+	 * @return
+	 */
+	@Override
+	public Flowable<Buffer> read(String uuid, long start, long end) {
+		return Flowable.defer(() -> {
+			String cachedPath = cache == null ? null : cache.pin(uuid);
+			if (cachedPath == null) {
+				return readFromS3(uuid, "bytes=" + start + "-" + end);
+			}
+			return fs.rxOpen(cachedPath, new OpenOptions().setRead(true)).flatMapPublisher(file -> {
+				file.setReadPos(start);
+				file.setReadLength(end - start + 1);
+				return RxUtil.toBufferFlow(file);
+			}).doFinally(() -> cache.release(uuid));
+		});
+	}
 
-				@Override
-				public void exceptionOccurred(Throwable error) {
-					// TODO Auto-generated method stub
+	private Flowable<Buffer> readFromS3(String uuid, String range) {
+		return Single.defer(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Loading data for binary {" + uuid + "} with range {" + range + "}");
+			}
+			GetObjectRequest request = GetObjectRequest.builder()
+				.bucket(options.getBucketName())
+				.key(uuid)
+				.range(range)
+				.build();
+			return toSingle(client.getObject(request, new FlowableResponseTransformer()));
+		}).flatMapPublisher(flow -> flow);
+	}
 
-				}
+	/**
+	 * Download the binary into the local cache. Concurrent requests for the same binary will share the download.
+	 *
+	 * @param uuid
+	 * @return Path to the cached file
+	 */
+	private Single<String> download(String uuid) {
+		return Single.defer(() -> {
+			String cachedPath = cache.get(uuid);
+			if (cachedPath != null) {
+				return Single.just(cachedPath);
+			}
+			return downloads.computeIfAbsent(uuid, key -> {
+				File tempFile = cache.createTempFile(uuid);
+				GetObjectRequest request = GetObjectRequest.builder()
+					.bucket(options.getBucketName())
+					.key(uuid)
+					.build();
+				return toSingle(client.getObject(request, AsyncResponseTransformer.toFile(tempFile.toPath())))
+					.flatMap(response -> addToCache(uuid, tempFile))
+					.doOnError(e -> tempFile.delete())
+					.doFinally(() -> downloads.remove(uuid))
+					.cache();
 			});
-
-			// try (InputStream stream = objectPortion.getObjectContent()) {
-			//
-			// if (log.isDebugEnabled()) {
-			// log.debug("Printing bytes retrieved:");
-			// displayTextInputStream(stream);
-			// }
-			// }
-			// sub.onComplete();
 		});
 	}
 
+	/**
+	 * Move the downloaded file into the cache.
+	 *
+	 * @param uuid
+	 * @param file
+	 * @return Path to the cached file
+	 */
+	private Single<String> addToCache(String uuid, File file) {
+		return rxVertx.<String>rxExecuteBlocking(bc -> {
+			try {
+				bc.complete(cache.add(uuid, file));
+			} catch (IOException e) {
+				bc.fail(e);
+			}
+		}, false).toSingle();
+	}
+
 	@Override
 	public Completable storeInTemp(String sourceFilePath, String temporaryId) {
 		return fs.rxOpen(sourceFilePath, new OpenOptions()).flatMapCompletable(asyncFile -> {
@@ -182,73 +325,350 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	/**
+	 * Store the stream in S3 using a multipart upload. The stream will be split into parts of the configured size. Only the configured amount of parts will
+	 * be uploaded concurrently and thus kept in memory.
+	 */
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
-		return Completable.create(sub -> {
-			PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(options.getBucketName())
-				.key(temporaryId)
-				.build();
+		String key = TEMP_PREFIX + temporaryId;
+		String bucket = options.getBucketName();
+		return Single.defer(() -> toSingle(client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.build())))
+			.flatMapCompletable(upload -> {
+				String uploadId = upload.uploadId();
+				AtomicInteger partNumbers = new AtomicInteger();
+				return toParts(stream, options.getPartSize())
+					.flatMapSingle(part -> {
+						int partNumber = partNumbers.incrementAndGet();
+						UploadPartRequest request = UploadPartRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.partNumber(partNumber)
+							.contentLength((long) part.length())
+							.build();
+						return toSingle(client.uploadPart(request, AsyncRequestBody.fromBytes(part.getBytes())))
+							.map(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+					}, false, options.getUploadConcurrency())
+					.toSortedList(Comparator.comparing(CompletedPart::partNumber))
+					.flatMapCompletable(parts -> completeUpload(key, uploadId, parts))
+					.doOnError(e -> {
+						log.error("Error while uploading {" + key + "}. Aborting upload.", e);
+						client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.build());
+					});
+			});
+	}
+
+	private Completable completeUpload(String key, String uploadId, List<CompletedPart> parts) {
+		String bucket = options.getBucketName();
+		// Multipart uploads need at least one part. Empty uploads are stored directly.
+		if (parts.isEmpty()) {
+			client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+			return Completable.defer(() -> toSingle(client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(),
+				AsyncRequestBody.fromBytes(new byte[0]))).ignoreElement());
+		}
+		return Completable.defer(() -> toSingle(client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.uploadId(uploadId)
+			.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+			.build())).ignoreElement());
+	}
 
-			/*
-			 * client.putObject(request, new AsyncRequestBody() {
-			 * 
-			 * @Override public void subscribe(Subscriber<? super ByteBuffer> s) { stream.map(Buffer::getByteBuf).map(ByteBuf::nioBuffer).subscribe(s); }
-			 * 
-			 * @Override public Optional<Long> contentLength() { // return Optional.from(10L); return null; } });
-			 */
+	/**
+	 * Split the stream into parts of at least the given size. Only the last part may be smaller.
+	 *
+	 * @param stream
+	 * @param partSize
+	 * @return
+	 */
+	static Flowable<Buffer> toParts(Flowable<Buffer> stream, int partSize) {
+		return Flowable.defer(() -> {
+			Buffer[] current = new Buffer[] { Buffer.buffer() };
+			return stream.concatMap(buffer -> {
+				current[0].appendBuffer(buffer);
+				if (current[0].length() >= partSize) {
+					Buffer part = current[0];
+					current[0] = Buffer.buffer();
+					return Flowable.just(part);
+				}
+				return Flowable.<Buffer>empty();
+			}).concatWith(Flowable.defer(() -> current[0].length() > 0 ? Flowable.just(current[0]) : Flowable.empty()));
 		});
+	}
+
+	@Override
+	public Completable moveInPlace(String uuid, String temporaryId) {
+		String bucket = options.getBucketName();
+		String tempKey = TEMP_PREFIX + temporaryId;
+		return Single.defer(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Move temporary upload for uuid '{}' into place using temporaryId '{}'", uuid, temporaryId);
+			}
+			return toSingle(client.headObject(HeadObjectRequest.builder().bucket(bucket).key(tempKey).build()));
+		}).flatMapCompletable(head -> {
+			long size = head.contentLength();
+			// A single copy request only supports objects up to 5 GB
+			if (size > MAX_COPY_SIZE) {
+				return copyMultipart(tempKey, uuid, size);
+			}
+			return toSingle(client.copyObject(CopyObjectRequest.builder()
+				.copySource(bucket + "/" + tempKey)
+				.bucket(bucket)
+				.key(uuid)
+				.build())).ignoreElement();
+		}).andThen(purgeTemporaryUpload(temporaryId));
+	}
+
+	/**
+	 * Copy the object using a multipart upload whose parts are copied from the source object.
+	 *
+	 * @param sourceKey
+	 * @param key
+	 * @param size
+	 *            Size of the source object
+	 * @return
+	 */
+	private Completable copyMultipart(String sourceKey, String key, long size) {
+		String bucket = options.getBucketName();
+		return Single.defer(() -> toSingle(client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.build())))
+			.flatMapCompletable(upload -> {
+				String uploadId = upload.uploadId();
+				int partCount = (int) ((size + COPY_PART_SIZE - 1) / COPY_PART_SIZE);
+				return Flowable.range(1, partCount)
+					.flatMapSingle(partNumber -> {
+						long start = (partNumber - 1) * COPY_PART_SIZE;
+						long end = Math.min(start + COPY_PART_SIZE, size) - 1;
+						UploadPartCopyRequest request = UploadPartCopyRequest.builder()
+							.copySource(bucket + "/" + sourceKey)
+							.copySourceRange("bytes=" + start + "-" + end)
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.partNumber(partNumber)
+							.build();
+						return toSingle(client.uploadPartCopy(request))
+							.map(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.copyPartResult().eTag()).build());
+					}, false, options.getUploadConcurrency())
+					.toSortedList(Comparator.comparing(CompletedPart::partNumber))
+					.flatMapCompletable(parts -> completeUpload(key, uploadId, parts))
+					.doOnError(e -> {
+						log.error("Error while copying {" + sourceKey + "} to {" + key + "}. Aborting upload.", e);
+						client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+							.bucket(bucket)
+							.key(key)
+							.uploadId(uploadId)
+							.build());
+					});
+			});
+	}
 
-		// try {
-		// if (log.isDebugEnabled()) {
-		// log.debug("Uploading {" + hashsum + "} to S3.");
-		// }
-		// try (InputStream ins = RxUtil.toInputStream(stream, new io.vertx.reactivex.core.Vertx(vertx))) {
-		// ObjectMetadata metaData = new ObjectMetadata();
-		// metaData.setContentLength(90);
-		// s3Client.putObject(new PutObjectRequest(options.getBucketName(), hashsum, ins, metaData));
-		// sub.onComplete();
-		// }
-		// } catch (AmazonServiceException ase) {
-		// log.debug(
-		// "Caught an AmazonServiceException, which means your request made it to Amazon S3, but was rejected with an error response for some reason.");
-		// log.debug("Error Message: " + ase.getMessage());
-		// log.debug("HTTP Status Code: " + ase.getStatusCode());
-		// log.debug("AWS Error Code: " + ase.getErrorCode());
-		// log.debug("Error Type: " + ase.getErrorType());
-		// log.debug("Request ID: " + ase.getRequestId());
-		// sub.onError(ase);
-		// } catch (AmazonClientException ace) {
-		// log.debug("Caught an AmazonClientException, which " + "means the client encountered " + "an internal error while trying to "
-		// + "communicate with S3, " + "such as not being able to access the network.");
-		// log.debug("Error Message: " + ace.getMessage());
-		// sub.onError(ace);
-		// }
+	@Override
+	public Completable purgeTemporaryUpload(String temporaryId) {
+		return deleteObject(TEMP_PREFIX + temporaryId);
 	}
 
 	@Override
 	public Completable delete(String uuid) {
-		return Completable.complete();
+		return deleteObject(uuid).doOnComplete(() -> {
+			if (cache != null) {
+				cache.remove(uuid);
+			}
+		});
+	}
+
+	private Completable deleteObject(String key) {
+		return Completable.defer(() -> toSingle(client.deleteObject(DeleteObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build())).ignoreElement());
 	}
 
 	@Override
 	public Buffer readAllSync(String uuid) {
-		// TODO implement
-		return null;
+		return RxUtil.readEntireData(read(uuid)).blockingGet();
 	}
 
 	@Override
-	public Completable moveInPlace(String uuid, String temporaryId) {
-		return Completable.complete();
+	public InputStream openBlockingStream(String uuid) throws IOException {
+		if (cache != null) {
+			String path = cache.pin(uuid);
+			if (path == null) {
+				download(uuid).blockingGet();
+				path = cache.pin(uuid);
+			}
+			// The downloaded file may already have been evicted again
+			if (path != null) {
+				try {
+					return new PinnedFileInputStream(path, uuid);
+				} catch (IOException e) {
+					cache.release(uuid);
+					throw e;
+				}
+			}
+		}
+		// Stream the data instead of loading the whole binary into memory
+		return new FlowableInputStream(readFromS3(uuid, null), uuid);
 	}
 
+	/**
+	 * Return the path to the locally cached file of the binary. Binaries which have not yet been cached will be served via {@link #read(String)} which will
+	 * also add them to the cache.
+	 */
 	@Override
-	public Completable purgeTemporaryUpload(String temporaryId) {
-		return Completable.complete();
+	public String getLocalPath(String uuid) {
+		return cache == null ? null : cache.get(uuid);
 	}
 
-	@Override
-	public InputStream openBlockingStream(String uuid) throws IOException {
-		return null;
+	private static <T> Single<T> toSingle(CompletableFuture<T> future) {
+		return Single.create(sub -> future.whenComplete((result, error) -> {
+			if (error != null) {
+				sub.onError(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+			} else {
+				sub.onSuccess(result);
+			}
+		}));
+	}
+
+	/**
+	 * Response transformer which exposes the content of the response as a {@link Flowable}.
+	 */
+	private static class FlowableResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, Flowable<Buffer>> {
+
+		private CompletableFuture<Flowable<Buffer>> future;
+
+		@Override
+		public CompletableFuture<Flowable<Buffer>> prepare() {
+			future = new CompletableFuture<>();
+			return future;
+		}
+
+		@Override
+		public void onResponse(GetObjectResponse response) {
+			// Nothing to do
+		}
+
+		@Override
+		public void onStream(SdkPublisher<ByteBuffer> publisher) {
+			future.complete(Flowable.fromPublisher(publisher).map(byteBuffer -> {
+				byte[] bytes = new byte[byteBuffer.remaining()];
+				byteBuffer.get(bytes);
+				return Buffer.buffer(bytes);
+			}));
+		}
+
+		@Override
+		public void exceptionOccurred(Throwable error) {
+			future.completeExceptionally(error);
+		}
+	}
+
+	/**
+	 * Input stream for a cached file which keeps the file pinned until the stream has been closed.
+	 */
+	private class PinnedFileInputStream extends FileInputStream {
+
+		private final String uuid;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PinnedFileInputStream(String path, String uuid) throws IOException {
+			super(path);
+			this.uuid = uuid;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				if (released.compareAndSet(false, true)) {
+					cache.release(uuid);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Blocking input stream which reads the data from the given stream. Only a few buffers will be requested in advance so that the binary is never
+	 * loaded into memory completely.
+	 */
+	private static class FlowableInputStream extends InputStream {
+
+		private static final int PREFETCH = 16;
+
+		private final Iterator<Buffer> iterator;
+
+		private final String uuid;
+
+		private Buffer current;
+
+		private int position;
+
+		FlowableInputStream(Flowable<Buffer> stream, String uuid) {
+			this.iterator = stream.blockingIterable(PREFETCH).iterator();
+			this.uuid = uuid;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (!nextBuffer()) {
+				return -1;
+			}
+			return current.getByte(position++) & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (!nextBuffer()) {
+				return -1;
+			}
+			int count = Math.min(len, current.length() - position);
+			current.getBytes(position, position + count, b, off);
+			position += count;
+			return count;
+		}
+
+		/**
+		 * Make sure that the current buffer has remaining data.
+		 *
+		 * @return false if the end of the stream has been reached
+		 * @throws IOException
+		 */
+		private boolean nextBuffer() throws IOException {
+			try {
+				while (current == null || position >= current.length()) {
+					if (!iterator.hasNext()) {
+						return false;
+					}
+					current = iterator.next();
+					position = 0;
+				}
+				return true;
+			} catch (RuntimeException e) {
+				throw new IOException("Could not load binary {" + uuid + "}", e);
+			}
+		}
+
+		@Override
+		public void close() {
+			// Cancel the download if the stream was not read completely
+			if (iterator instanceof Disposable) {
+				((Disposable) iterator).dispose();
+			}
+		}
 	}
 }
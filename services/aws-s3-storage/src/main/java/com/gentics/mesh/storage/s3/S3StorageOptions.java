@@ -6,6 +6,12 @@ public class S3StorageOptions {
 
 	public static final String DEFAULT_BUCKET_NAME = "mesh";
 
+	public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+	public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
+	public static final long DEFAULT_CACHE_SIZE = 1024L * 1024 * 1024;
+
 	private String url;
 
 	private String accessId;
@@ -16,6 +22,16 @@ public class S3StorageOptions {
 
 	private String region;
 
+	private boolean pathStyleAccess = false;
+
+	private int partSize = DEFAULT_PART_SIZE;
+
+	private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+
+	private String cacheDirectory;
+
+	private long cacheSize = DEFAULT_CACHE_SIZE;
+
 	public String getUrl() {
 		return url;
 	}
@@ -61,11 +77,92 @@ public class S3StorageOptions {
 		return this;
 	}
 
+	public boolean isPathStyleAccess() {
+		return pathStyleAccess;
+	}
+
+	/**
+	 * Set the flag which enables the path style access. This is usually needed for S3 compatible servers (e.g. Minio).
+	 * 
+	 * @param pathStyleAccess
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPathStyleAccess(boolean pathStyleAccess) {
+		this.pathStyleAccess = pathStyleAccess;
+		return this;
+	}
+
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * Set the size of the parts in bytes which are used for multipart uploads. S3 requires at least 5 MB per part.
+	 * 
+	 * @param partSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPartSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	public int getUploadConcurrency() {
+		return uploadConcurrency;
+	}
+
+	/**
+	 * Set the amount of parts which will be uploaded concurrently.
+	 * 
+	 * @param uploadConcurrency
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setUploadConcurrency(int uploadConcurrency) {
+		this.uploadConcurrency = uploadConcurrency;
+		return this;
+	}
+
+	public String getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Set the directory of the local read-through cache. The cache is disabled if no directory has been set.
+	 * 
+	 * @param cacheDirectory
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheDirectory(String cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+		return this;
+	}
+
+	public long getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Set the maximum size of the local read-through cache in bytes.
+	 * 
+	 * @param cacheSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheSize(long cacheSize) {
+		this.cacheSize = cacheSize;
+		return this;
+	}
+
 	public void validate() {
 		Objects.requireNonNull(url, "No S3 URL has been specified");
 		Objects.requireNonNull(accessId, "No accessId has been specified");
 		Objects.requireNonNull(accessKey, "No accessKey has been specified");
 		Objects.requireNonNull(region, "No region has been specified");
+		if (partSize < 5 * 1024 * 1024) {
+			throw new IllegalArgumentException("The part size must be at least 5 MB");
+		}
+		if (uploadConcurrency < 1) {
+			throw new IllegalArgumentException("The upload concurrency must be at least 1");
+		}
 	}
 
 }
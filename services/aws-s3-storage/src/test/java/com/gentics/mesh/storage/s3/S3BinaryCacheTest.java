@@ -0,0 +1,79 @@
+package com.gentics.mesh.storage.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class S3BinaryCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testEviction() throws IOException {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 25);
+		add(cache, "a", 10);
+		add(cache, "b", 10);
+		// Access a so that b is the least recently used entry
+		assertNotNull(cache.get("a"));
+		add(cache, "c", 10);
+
+		assertNull("The least recently used entry should have been evicted", cache.get("b"));
+		assertNotNull(cache.get("a"));
+		assertNotNull(cache.get("c"));
+		assertEquals(20, cache.size());
+
+		// The cached files are registered again after a restart
+		S3BinaryCache restarted = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 25);
+		assertEquals(20, restarted.size());
+		assertNotNull(restarted.get("c"));
+	}
+
+	@Test
+	public void testPinnedEntries() throws IOException {
+		S3BinaryCache cache = new S3BinaryCache(folder.getRoot().getAbsolutePath(), 15);
+		add(cache, "a", 10);
+		String path = cache.pin("a");
+		assertNotNull(path);
+
+		// Pinned entries are neither evicted nor deleted
+		add(cache, "b", 10);
+		assertNotNull(cache.get("a"));
+		cache.remove("a");
+		assertNull(cache.get("a"));
+		assertTrue(new File(path).exists());
+
+		cache.release("a");
+		assertFalse("The removed file should have been deleted once it was released", new File(path).exists());
+	}
+
+	@Test
+	public void testToParts() {
+		Flowable<Buffer> stream = Flowable.range(0, 7).map(i -> Buffer.buffer(new byte[3]));
+		List<Buffer> parts = S3BinaryStorage.toParts(stream, 5).toList().blockingGet();
+		assertEquals(4, parts.size());
+		assertEquals(6, parts.get(0).length());
+		assertEquals(3, parts.get(3).length());
+	}
+
+	private void add(S3BinaryCache cache, String uuid, int size) throws IOException {
+		File file = cache.createTempFile(uuid);
+		Files.write(file.toPath(), new byte[size]);
+		cache.add(uuid, file);
+	}
+
+}
@@ -1,23 +1,27 @@
 package com.gentics.mesh.storage.s3;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.ClassRule;
-import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.reactivex.core.Vertx;
 
-@Ignore
 public class S3BinaryStorageTest {
 
 	public static final String VERSION = "RELEASE.2018-01-18T20-33-21Z";
@@ -35,6 +39,9 @@ public class S3BinaryStorageTest {
 		.withExposedPorts(9000)
 		.waitingFor(Wait.forHttp("/").forStatusCode(403));
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private S3BinaryStorage storage;
 
 	@Before
@@ -45,6 +52,9 @@ public class S3BinaryStorageTest {
 		options.setRegion("US_EAST_1");
 		options.setBucketName(BUCKET_NAME);
 		options.setUrl("http://localhost:" + minio.getMappedPort(9000));
+		options.setPathStyleAccess(true);
+		options.setPartSize(5 * 1024 * 1024);
+		options.setCacheDirectory(folder.getRoot().getAbsolutePath());
 		storage = new S3BinaryStorage(options, vertx);
 	}
 
@@ -53,11 +63,30 @@ public class S3BinaryStorageTest {
 		BinaryGraphField mockField = Mockito.mock(BinaryGraphField.class);
 		Binary binary = Mockito.mock(Binary.class);
 		Mockito.when(mockField.getBinary()).thenReturn(binary);
-		Mockito.when(binary.getSHA512Sum()).thenReturn("test");
-//		assertFalse(storage.exists(mockField));
+		Mockito.when(binary.getUuid()).thenReturn("test");
+		assertFalse(storage.exists(mockField));
 		storage.store(Flowable.just(Buffer.buffer("test")), "test").blockingAwait();
 		assertTrue(storage.exists(mockField));
-		storage.read("test").ignoreElements().blockingAwait();
+		assertEquals("test", RxUtil.readEntireData(storage.read("test")).blockingGet().toString());
+		assertNotNull("The binary should have been added to the cache", storage.getLocalPath("test"));
+	}
+
+	@Test
+	public void testMultipartUpload() {
+		// 12 MB will result in three parts
+		byte[] chunk = new byte[1024 * 1024];
+		for (int i = 0; i < chunk.length; i++) {
+			chunk[i] = (byte) i;
+		}
+		Flowable<Buffer> stream = Flowable.range(0, 12).map(i -> Buffer.buffer(chunk));
+		storage.store(stream, "multipart").blockingAwait();
+
+		Buffer range = RxUtil.readEntireData(storage.read("multipart", 10, 19)).blockingGet();
+		assertEquals(10, range.length());
+		assertEquals((byte) 10, range.getByte(0));
+
+		Buffer data = RxUtil.readEntireData(storage.read("multipart")).blockingGet();
+		assertEquals(12 * 1024 * 1024, data.length());
 	}
 
 }
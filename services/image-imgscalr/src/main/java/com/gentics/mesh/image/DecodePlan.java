@@ -0,0 +1,132 @@
+package com.gentics.mesh.image;
+
+import java.awt.Rectangle;
+
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+
+import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
+import com.gentics.mesh.core.rest.node.field.image.Point;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.image.CropMode;
+import com.gentics.mesh.parameter.image.ImageRect;
+
+/**
+ * Describes how the source image is decoded for an image manipulation request. Only the crop area of the image is read when a rect crop was requested.
+ * Pixels will be skipped while decoding when the requested size is much smaller than the decoded area.
+ */
+public class DecodePlan {
+
+	private final ImageRect region;
+
+	private final int regionWidth;
+
+	private final int regionHeight;
+
+	private final int subsampling;
+
+	private DecodePlan(ImageRect region, int regionWidth, int regionHeight, int subsampling) {
+		this.region = region;
+		this.regionWidth = regionWidth;
+		this.regionHeight = regionHeight;
+		this.subsampling = subsampling;
+	}
+
+	/**
+	 * Create the plan for the given source image size and parameters.
+	 *
+	 * @param sourceWidth
+	 * @param sourceHeight
+	 * @param parameters
+	 * @param allowSubsampling
+	 *            Whether pixels may be skipped while decoding
+	 * @return
+	 */
+	public static DecodePlan create(int sourceWidth, int sourceHeight, ImageManipulationParameters parameters, boolean allowSubsampling) {
+		ImageRect region = null;
+		int regionWidth = sourceWidth;
+		int regionHeight = sourceHeight;
+		if (parameters.getCropMode() == CropMode.RECT && parameters.getRect() != null) {
+			region = parameters.getRect();
+			region.validateCropBounds(sourceWidth, sourceHeight);
+			regionWidth = region.getWidth();
+			regionHeight = region.getHeight();
+		}
+		int subsampling = allowSubsampling ? calculateSubsampling(regionWidth, regionHeight, parameters) : 1;
+		return new DecodePlan(region, regionWidth, regionHeight, subsampling);
+	}
+
+	private static int calculateSubsampling(int width, int height, ImageManipulationParameters parameters) {
+		if (parameters.getCropMode() == CropMode.FOCALPOINT) {
+			Float zoom = parameters.getFocalPointZoom();
+			Point size = parameters.getSize();
+			// A zoom reads a section of the image with the full resolution. Without a focal point the image is not modified at all.
+			if (parameters.getFocalPoint() == null || parameters.getFocalPointDebug() || (zoom != null && zoom > 1) || size == null) {
+				return 1;
+			}
+			return AbstractImageManipulator.calculateSubsampling(width, height, size.getX(), size.getY());
+		}
+		return AbstractImageManipulator.calculateSubsampling(width, height, parameters.getWidth(), parameters.getHeight());
+	}
+
+	/**
+	 * Create the read parameters which apply the plan.
+	 *
+	 * @param reader
+	 * @return
+	 */
+	public ImageReadParam toReadParam(ImageReader reader) {
+		ImageReadParam param = reader.getDefaultReadParam();
+		if (region != null) {
+			param.setSourceRegion(new Rectangle(region.getStartX(), region.getStartY(), region.getWidth(), region.getHeight()));
+		}
+		param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		return param;
+	}
+
+	/**
+	 * Return the crop area which is read from the source image.
+	 *
+	 * @return Crop area or null if the whole image is read
+	 */
+	public ImageRect getRegion() {
+		return region;
+	}
+
+	/**
+	 * Return the width of the area which is read from the source image.
+	 *
+	 * @return
+	 */
+	public int getRegionWidth() {
+		return regionWidth;
+	}
+
+	/**
+	 * Return the height of the area which is read from the source image.
+	 *
+	 * @return
+	 */
+	public int getRegionHeight() {
+		return regionHeight;
+	}
+
+	/**
+	 * Return the subsampling factor. Only every n-th pixel of each row and column is decoded.
+	 *
+	 * @return
+	 */
+	public int getSubsampling() {
+		return subsampling;
+	}
+
+	/**
+	 * Return the amount of pixels of the decoded image.
+	 *
+	 * @return
+	 */
+	public long getDecodedPixels() {
+		return AbstractImageManipulator.decodedPixels(regionWidth, regionHeight, subsampling);
+	}
+
+}
@@ -100,8 +100,23 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return Resized image or original image if no resize operation was requested
 	 */
 	protected BufferedImage resizeIfRequested(BufferedImage originalImage, ImageManipulationParameters parameters) {
-		int originalHeight = originalImage.getHeight();
-		int originalWidth = originalImage.getWidth();
+		return resizeIfRequested(originalImage, originalImage.getWidth(), originalImage.getHeight(), parameters);
+	}
+
+	/**
+	 * Resize the image if the request contains resize parameters. The target size is calculated using the given dimensions of the source image since the
+	 * image may have been decoded with a reduced resolution.
+	 *
+	 * @param originalImage
+	 * @param originalWidth
+	 *            Width of the source image
+	 * @param originalHeight
+	 *            Height of the source image
+	 * @param parameters
+	 * @return Resized image or original image if no resize operation was requested
+	 */
+	protected BufferedImage resizeIfRequested(BufferedImage originalImage, int originalWidth, int originalHeight,
+		ImageManipulationParameters parameters) {
 		double aspectRatio = (double) originalWidth / (double) originalHeight;
 
 		// Resize if required and calculate missing parameters if needed
@@ -216,16 +231,20 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * Resize the given image with the specified manipulation parameters.
 	 *
 	 * @param image The image to process
+	 * @param plan The plan which was used to decode the image
 	 * @param parameters The parameters defining cropping and resizing requests
 	 * @return The modified image
 	 */
-	private BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters) {
+	private BufferedImage cropAndResize(BufferedImage image, DecodePlan plan, ImageManipulationParameters parameters) {
 		CropMode cropMode = parameters.getCropMode();
 		boolean omitResize = false;
 		if (cropMode != null) {
 			switch (cropMode) {
 				case RECT:
-					image = crop(image, parameters.getRect());
+					// The crop area has already been applied while decoding the image
+					if (plan.getRegion() == null) {
+						image = crop(image, parameters.getRect());
+					}
 					break;
 				case FOCALPOINT:
 					image = focalPointModifier.apply(image, parameters);
@@ -236,7 +255,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		}
 
 		if (!omitResize) {
-			image = resizeIfRequested(image, parameters);
+			image = resizeIfRequested(image, plan.getRegionWidth(), plan.getRegionHeight(), parameters);
 		}
 
 		return image;
@@ -265,21 +284,36 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 						) {
 							BufferedImage image;
 							ImageReader reader = getImageReader(ins);
-
+							DecodePlan plan;
 							try {
-								image = reader.read(0);
+								plan = DecodePlan.create(reader.getWidth(0), reader.getHeight(0), parameters, options.isSubsampling());
 							} catch (IOException e) {
 								log.error("Could not read input image", e);
 
 								throw error(BAD_REQUEST, "image_error_reading_failed");
 							}
 
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+							// Wait until the decoded image fits into the pixel budget
+							long acquiredPixels = pixelBudget.acquire(plan.getDecodedPixels());
+							try {
+								try {
+									image = reader.read(0, plan.toReadParam(reader));
+								} catch (IOException e) {
+									log.error("Could not read input image", e);
+
+									throw error(BAD_REQUEST, "image_error_reading_failed");
+								}
+
+								if (log.isDebugEnabled()) {
+									log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName() + " using subsampling "
+										+ plan.getSubsampling());
+								}
+
+								image = cropAndResize(image, plan, parameters);
+							} finally {
+								pixelBudget.release(acquiredPixels);
 							}
 
-							image = cropAndResize(image, parameters);
-
 							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
 							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
 							String cacheFilePath = cacheFileInfo.path + "." + extension;
@@ -287,7 +321,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 							// Write image
 							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
+								ImageWriteParam params = getImageWriteparams(extension, parameters);
 
 								// same as write(image), but with image parameters
 								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
@@ -305,11 +339,12 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 			});
 	}
 
-	private ImageWriteParam getImageWriteparams(String extension) {
+	private ImageWriteParam getImageWriteparams(String extension, ImageManipulationParameters parameters) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
 			params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-			params.setCompressionQuality(options.getJpegQuality());
+			Float quality = parameters.getQuality();
+			params.setCompressionQuality(quality != null ? quality : options.getJpegQuality());
 			return params;
 		} else {
 			return null;
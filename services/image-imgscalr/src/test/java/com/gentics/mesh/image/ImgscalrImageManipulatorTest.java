@@ -57,6 +57,8 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+		// The reference images and colors were created by decoding the full resolution. See ImgscalrSubsamplingTest for the subsampled decoding.
+		options.setSubsampling(false);
 		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
 	}
 
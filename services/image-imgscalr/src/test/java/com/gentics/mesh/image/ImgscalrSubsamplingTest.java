@@ -0,0 +1,156 @@
+package com.gentics.mesh.image;
+
+import static com.gentics.mesh.image.ImageTestUtil.createMockedBinary;
+import static com.gentics.mesh.parameter.image.CropMode.FOCALPOINT;
+import static com.gentics.mesh.parameter.image.CropMode.RECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.InputStream;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.image.spi.ImageInfo;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+import io.vertx.reactivex.core.Vertx;
+
+public class ImgscalrSubsamplingTest extends AbstractImageTest {
+
+	private ImgscalrImageManipulator subsamplingManipulator;
+
+	private ImgscalrImageManipulator fullManipulator;
+
+	@Before
+	public void setup() {
+		super.setup();
+		Vertx vertx = Vertx.vertx();
+
+		ImageManipulatorOptions subsamplingOptions = new ImageManipulatorOptions();
+		subsamplingOptions.setImageCacheDirectory(new File(cacheDir, "subsampled").getAbsolutePath());
+		subsamplingManipulator = new ImgscalrImageManipulator(vertx, subsamplingOptions);
+
+		ImageManipulatorOptions fullOptions = new ImageManipulatorOptions();
+		fullOptions.setImageCacheDirectory(new File(cacheDir, "full").getAbsolutePath());
+		fullOptions.setSubsampling(false);
+		fullManipulator = new ImgscalrImageManipulator(vertx, fullOptions);
+	}
+
+	@Test
+	public void testDecodePlan() {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(200).setHeight(150);
+		assertEquals(10, DecodePlan.create(4000, 3000, params, true).getSubsampling());
+		assertEquals(1, DecodePlan.create(4000, 3000, params, false).getSubsampling());
+		assertEquals(10, DecodePlan.create(4000, 3000, new ImageManipulationParametersImpl().setWidth(200), true).getSubsampling());
+		assertEquals(2, DecodePlan.create(4000, 3000, new ImageManipulationParametersImpl().setHeight(600), true).getSubsampling());
+		assertEquals("The decoded image must stay at least twice as large as the target", 1,
+			DecodePlan.create(4000, 3000, new ImageManipulationParametersImpl().setWidth(2048), true).getSubsampling());
+		assertEquals("No resize was requested", 1, DecodePlan.create(4000, 3000, new ImageManipulationParametersImpl(), true).getSubsampling());
+
+		DecodePlan plan = DecodePlan.create(4000, 3000, new ImageManipulationParametersImpl().setWidth(100).setRect(100, 200, 1000, 1000).setCropMode(
+			RECT), true);
+		assertNotNull(plan.getRegion());
+		assertEquals(1000, plan.getRegionWidth());
+		assertEquals(5, plan.getSubsampling());
+		assertEquals(200L * 200L, plan.getDecodedPixels());
+
+		ImageManipulationParameters zoom = new ImageManipulationParametersImpl().setWidth(100).setHeight(100).setCropMode(FOCALPOINT)
+			.setFocalPoint(0.5f, 0.5f).setFocalPointZoom(2f);
+		assertEquals("A zoom needs the full resolution", 1, DecodePlan.create(4000, 3000, zoom, true).getSubsampling());
+
+		ImageManipulationParameters focal = new ImageManipulationParametersImpl().setWidth(100).setHeight(100).setCropMode(FOCALPOINT)
+			.setFocalPoint(0.5f, 0.5f);
+		DecodePlan focalPlan = DecodePlan.create(4000, 3000, focal, true);
+		assertNull(focalPlan.getRegion());
+		assertEquals(15, focalPlan.getSubsampling());
+	}
+
+	@Test
+	public void testSubsampledResize() throws Exception {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setWidth(150).setHeight(180);
+		BufferedImage subsampled = resize(subsamplingManipulator, "roland.jpg", params);
+		BufferedImage full = resize(fullManipulator, "roland.jpg", params);
+		assertEquals(150, subsampled.getWidth());
+		assertEquals(180, subsampled.getHeight());
+		double difference = meanDifference(full, subsampled);
+		assertTrue("The subsampled image differs too much from the full resolution result {" + difference + "}", difference < 8);
+	}
+
+	@Test
+	public void testSubsampledResizeKeepsAspectRatio() throws Exception {
+		// roland.jpg: 4256x2905
+		BufferedImage subsampled = resize(subsamplingManipulator, "roland.jpg", new ImageManipulationParametersImpl().setWidth(200));
+		BufferedImage full = resize(fullManipulator, "roland.jpg", new ImageManipulationParametersImpl().setWidth(200));
+		assertEquals(full.getWidth(), subsampled.getWidth());
+		assertEquals(full.getHeight(), subsampled.getHeight());
+	}
+
+	@Test
+	public void testRegionRead() throws Exception {
+		ImageManipulationParameters params = new ImageManipulationParametersImpl().setRect(100, 200, 300, 400).setCropMode(RECT);
+		BufferedImage region = resize(subsamplingManipulator, "blume.png", params);
+		BufferedImage cropped = resize(fullManipulator, "blume.png", params);
+		assertEquals(400, region.getWidth());
+		assertEquals(300, region.getHeight());
+		assertEquals("The region read must match the cropped image", 0, meanDifference(cropped, region), 0);
+	}
+
+	@Test
+	public void testSubsampledImageInfo() throws Exception {
+		File file = new File(cacheDir, "roland.jpg");
+		try (InputStream ins = getClass().getResourceAsStream("/pictures/roland.jpg")) {
+			FileUtils.copyInputStreamToFile(ins, file);
+		}
+		ImageInfo info = subsamplingManipulator.readImageInfo(file.getAbsolutePath()).blockingGet();
+		assertEquals(4256, info.getWidth().intValue());
+		assertEquals(2905, info.getHeight().intValue());
+
+		ImageInfo fullInfo = fullManipulator.readImageInfo(file.getAbsolutePath()).blockingGet();
+		int[] color = parseColor(info.getDominantColor());
+		int[] fullColor = parseColor(fullInfo.getDominantColor());
+		for (int i = 0; i < 3; i++) {
+			assertTrue("The dominant color {" + info.getDominantColor() + "} differs too much from {" + fullInfo.getDominantColor() + "}",
+				Math.abs(color[i] - fullColor[i]) <= 4);
+		}
+	}
+
+	private BufferedImage resize(ImgscalrImageManipulator manipulator, String imageName, ImageManipulationParameters params) throws Exception {
+		String path = manipulator.handleResize(createMockedBinary("/pictures/" + imageName), params).blockingGet();
+		return ImageIO.read(new File(path));
+	}
+
+	private int[] parseColor(String hex) {
+		int rgb = Integer.parseInt(hex.substring(1), 16);
+		return new int[] { (rgb >> 16) & 0xff, (rgb >> 8) & 0xff, rgb & 0xff };
+	}
+
+	/**
+	 * Return the mean difference of the color channels of both images.
+	 */
+	private double meanDifference(BufferedImage a, BufferedImage b) {
+		assertEquals(a.getWidth(), b.getWidth());
+		assertEquals(a.getHeight(), b.getHeight());
+		long sum = 0;
+		for (int x = 0; x < a.getWidth(); x++) {
+			for (int y = 0; y < a.getHeight(); y++) {
+				int pa = a.getRGB(x, y);
+				int pb = b.getRGB(x, y);
+				for (int shift = 0; shift <= 16; shift += 8) {
+					sum += Math.abs(((pa >> shift) & 0xff) - ((pb >> shift) & 0xff));
+				}
+			}
+		}
+		return (double) sum / (a.getWidth() * a.getHeight() * 3);
+	}
+
+}
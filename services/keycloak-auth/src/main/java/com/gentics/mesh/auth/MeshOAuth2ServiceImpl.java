@@ -1,23 +1,35 @@
 package com.gentics.mesh.auth;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.CREATE_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
-import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.context.LocalActionContextFactory;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Role;
@@ -40,9 +52,11 @@ import com.gentics.mesh.plugin.auth.MappingResult;
 import com.gentics.mesh.plugin.auth.RoleFilter;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -67,9 +81,33 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 	private static final Logger log = LoggerFactory.getLogger(MeshOAuth2ServiceImpl.class);
 
 	/**
-	 * Cache the token id which was last used by an user.
+	 * Name of the user property which stores the hash of the claims which were used for the last sync.
 	 */
-	public static final Cache<String, String> TOKEN_ID_LOG = Caffeine.newBuilder().maximumSize(20_000).expireAfterWrite(24, TimeUnit.HOURS).build();
+	public static final String SYNC_HASH_PROPERTY_KEY = "oauthSyncHash";
+
+	/**
+	 * Claims which change with every issued token and which are not relevant for the user mapping.
+	 */
+	private static final List<String> VOLATILE_CLAIMS = Arrays.asList("jti", "exp", "iat", "nbf", "auth_time", "session_state");
+
+	private static final long AUTH_USER_CACHE_SIZE = 20_000;
+
+	/**
+	 * Cache which maps the claims hash of a token to the uuid of the already synchronized user.
+	 */
+	protected final EventAwareCache<String, String> authUserCache;
+
+	/**
+	 * Claims hashes of the cached entries for each user uuid. The index is used to invalidate only the entries of the user which was updated or deleted.
+	 */
+	private final Cache<String, Set<String>> tokenHashesByUser = Caffeine.newBuilder()
+		.maximumSize(AUTH_USER_CACHE_SIZE)
+		.expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	private final Set<String> pendingSyncs = ConcurrentHashMap.newKeySet();
+
+	private final Vertx vertx;
 
 	protected AuthServicePluginRegistry authPluginRegistry;
 	protected MeshOAuth2AuthHandlerImpl oauth2Handler;
@@ -81,10 +119,17 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 
 	private final Provider<EventQueueBatch> batchProvider;
 
+	private final LocalActionContextFactory contextFactory;
+
 	@Inject
 	public MeshOAuth2ServiceImpl(Database db, BootstrapInitializer boot, MeshOptions meshOptions, Vertx vertx,
-		Provider<EventQueueBatch> batchProvider, AuthServicePluginRegistry authPluginRegistry) {
+		Provider<EventQueueBatch> batchProvider, AuthServicePluginRegistry authPluginRegistry, CacheRegistry cacheRegistry,
+		LocalActionContextFactory contextFactory) {
 		this.db = db;
+		this.vertx = vertx;
+		this.contextFactory = contextFactory;
+		this.authUserCache = createAuthUserCache(vertx);
+		cacheRegistry.register(authUserCache);
 		this.boot = boot;
 		this.batchProvider = batchProvider;
 		this.authPluginRegistry = authPluginRegistry;
@@ -100,6 +145,29 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 
 	}
 
+	private EventAwareCache<String, String> createAuthUserCache(Vertx vertx) {
+		return EventAwareCache.<String, String>builder()
+			.name("oauth2User")
+			.events(USER_UPDATED, USER_DELETED)
+			.action((event, cache) -> {
+				String uuid = event.body() == null ? null : event.body().getString("uuid");
+				if (uuid == null) {
+					tokenHashesByUser.invalidateAll();
+					cache.invalidate();
+					return;
+				}
+				// Only the entries of the affected user need to be removed
+				Set<String> hashes = tokenHashesByUser.asMap().remove(uuid);
+				if (hashes != null) {
+					hashes.forEach(cache::invalidate);
+				}
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(AUTH_USER_CACHE_SIZE)
+			.vertx(vertx)
+			.build();
+	}
+
 	@Override
 	public void secure(Route route) {
 		route.handler(oauth2Handler);
@@ -129,7 +197,8 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 	}
 
 	/**
-	 * Utilize the user information to return the matching mesh user.
+	 * Utilize the user information to return the matching mesh user. Users which were already synchronized with the claims of the token will be loaded via
+	 * the auth user cache without invoking the mapping. Changed claims will be synchronized asynchronously.
 	 * 
 	 * @param rc
 	 * @param token
@@ -138,9 +207,20 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 	protected MeshAuthUser syncUser(RoutingContext rc, JsonObject token) {
 		String username = token.getString("preferred_username");
 		Objects.requireNonNull(username, "The preferred_username property could not be found in the principle user info.");
-		String currentTokenId = token.getString("jti");
+		String tokenHash = hashClaims(token);
+
+		// Fast path - The user was already synchronized with the claims of the token
+		String cachedUuid = authUserCache.get(tokenHash);
+		if (cachedUuid != null) {
+			MeshAuthUser user = db.tx(() -> boot.userRoot().findMeshAuthUserByUuid(cachedUuid));
+			if (user != null) {
+				return user;
+			}
+			authUserCache.invalidate(tokenHash);
+		}
 
 		EventQueueBatch batch = batchProvider.get();
+		Set<String> syncUuid = new HashSet<>();
 		MeshAuthUser authUser = db.tx(() -> {
 			UserRoot root = boot.userRoot();
 			MeshAuthUser user = root.findMeshAuthUserByUsername(username);
@@ -151,26 +231,95 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 				admin.addCRUDPermissionOnRole(root, CREATE_PERM, createdUser);
 
 				user = root.findMeshAuthUserByUsername(username);
-				String uuid = user.getUuid();
 				// Not setting uuid since the user has not yet been comitted.
-				runPlugins(rc, batch, admin, user, null, token);
-				TOKEN_ID_LOG.put(uuid, currentTokenId);
+				runPlugins(rc.request(), batch, admin, user, null, token);
+				user.property(SYNC_HASH_PROPERTY_KEY, tokenHash);
+				cacheUser(tokenHash, user.getUuid());
 			} else {
-				// Compare the stored and current token id to see whether the current token is different.
-				// In that case a sync must be invoked.
+				// Compare the stored and current claims hash to see whether the claims have changed.
+				// The hash is stored in the user so that other instances can skip redundant syncs.
 				String uuid = user.getUuid();
-				String lastSeenTokenId = TOKEN_ID_LOG.getIfPresent(user.getUuid());
-				if (lastSeenTokenId == null || !lastSeenTokenId.equals(currentTokenId)) {
-					com.gentics.mesh.core.data.User admin = root.findByUsername("admin");
-					runPlugins(rc, batch, admin, user, uuid, token);
-					TOKEN_ID_LOG.put(uuid, currentTokenId);
+				if (tokenHash.equals(user.property(SYNC_HASH_PROPERTY_KEY))) {
+					cacheUser(tokenHash, uuid);
+				} else {
+					syncUuid.add(uuid);
 				}
 			}
 			return user;
 		});
 		batch.dispatch();
+
+		for (String uuid : syncUuid) {
+			syncUserAsync(uuid, tokenHash, token);
+		}
 		return authUser;
+	}
+
+	/**
+	 * Run the mapping for the user in the background. Only one sync per user and claims will be executed at the same time. The request will already have
+	 * been handled when the sync runs. The sync must thus not access the routing context and the plugins will not receive the request.
+	 * 
+	 * @param userUuid
+	 * @param tokenHash
+	 * @param token
+	 */
+	private void syncUserAsync(String userUuid, String tokenHash, JsonObject token) {
+		String key = userUuid + "-" + tokenHash;
+		if (!pendingSyncs.add(key)) {
+			return;
+		}
+		vertx.<Void>executeBlocking(bc -> {
+			EventQueueBatch batch = batchProvider.get();
+			boolean synced = db.tx(() -> {
+				MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
+				if (user == null) {
+					return false;
+				}
+				// Another instance may have already synchronized the user
+				if (!tokenHash.equals(user.property(SYNC_HASH_PROPERTY_KEY))) {
+					com.gentics.mesh.core.data.User admin = boot.userRoot().findByUsername("admin");
+					runPlugins(null, batch, admin, user, userUuid, token);
+					user.property(SYNC_HASH_PROPERTY_KEY, tokenHash);
+				}
+				return true;
+			});
+			batch.dispatch();
+			if (synced) {
+				cacheUser(tokenHash, userUuid);
+			}
+			bc.complete();
+		}, false, rh -> {
+			pendingSyncs.remove(key);
+			if (rh.failed()) {
+				log.error("Error while synchronizing user {" + userUuid + "}", rh.cause());
+			}
+		});
+	}
 
+	/**
+	 * Add the user to the auth user cache.
+	 * 
+	 * @param tokenHash
+	 * @param userUuid
+	 */
+	private void cacheUser(String tokenHash, String userUuid) {
+		tokenHashesByUser.asMap().computeIfAbsent(userUuid, key -> ConcurrentHashMap.newKeySet()).add(tokenHash);
+		authUserCache.put(tokenHash, userUuid);
+	}
+
+	/**
+	 * Compute the hash of the claims of the token which are relevant for the user mapping. Claims which change with every token (e.g. the token id) will be
+	 * ignored.
+	 * 
+	 * @param token
+	 * @return
+	 */
+	protected static String hashClaims(JsonObject token) {
+		Map<String, Object> claims = new TreeMap<>(token.getMap());
+		for (String claim : VOLATILE_CLAIMS) {
+			claims.remove(claim);
+		}
+		return Hashing.sha256().hashString(new JsonObject(claims).encode(), StandardCharsets.UTF_8).toString();
 	}
 
 	private void defaultUserMapper(EventQueueBatch batch, MeshAuthUser user, JsonObject token) {
@@ -213,7 +362,19 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 
 	}
 
-	private void runPlugins(RoutingContext rc, EventQueueBatch batch, com.gentics.mesh.core.data.User admin, MeshAuthUser user, String userUuid,
+	/**
+	 * Run the mapping plugins for the user. The mapped user will be updated using a detached action context of the admin user so that the admin user is
+	 * never set on the request.
+	 * 
+	 * @param request
+	 *            Request which contained the token or null if the mapping is executed in the background
+	 * @param batch
+	 * @param admin
+	 * @param user
+	 * @param userUuid
+	 * @param token
+	 */
+	private void runPlugins(HttpServerRequest request, EventQueueBatch batch, com.gentics.mesh.core.data.User admin, MeshAuthUser user, String userUuid,
 		JsonObject token) {
 		List<AuthServicePlugin> plugins = authPluginRegistry.getPlugins();
 		// Only load the needed data for plugins if there are any plugins
@@ -223,7 +384,7 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 
 			for (AuthServicePlugin plugin : plugins) {
 				try {
-					MappingResult result = plugin.mapToken(rc.request(), userUuid, token);
+					MappingResult result = plugin.mapToken(request, userUuid, token);
 					// Just invoke the default mapper if the plugin provides no mapping
 					if (result == null) {
 						log.debug("Plugin did not provide a mapping result. Using only default mapping for user");
@@ -234,9 +395,7 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 					// 1. Map the user
 					UserUpdateRequest mappedUser = result.getUser();
 					if (mappedUser != null) {
-						InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
-						ac.setBody(mappedUser);
-						ac.setUser(admin.toAuthUser());
+						InternalActionContext ac = contextFactory.create(admin.toAuthUser(), mappedUser);
 						user.update(ac, batch);
 					} else {
 						defaultUserMapper(batch, user, token);
@@ -178,6 +178,19 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		return obs;
 	}
 
+	@Override
+	public Flowable<Buffer> read(String binaryUuid, long start, long end) {
+		String path = getFilePath(binaryUuid);
+		return fileSystem
+			.rxOpen(path, new OpenOptions())
+			.toFlowable()
+			.flatMap(file -> {
+				file.setReadPos(start);
+				file.setReadLength(end - start + 1);
+				return RxUtil.toBufferFlow(file);
+			});
+	}
+
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
 		return Files.newInputStream(Paths.get(getFilePath(uuid)));
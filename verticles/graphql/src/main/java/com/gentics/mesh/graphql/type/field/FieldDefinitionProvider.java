@@ -202,7 +202,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					LinkType type = getLinkType(env);
 					String content = htmlField.getHTML();
 					return linkReplacer.replace(gc, gc.getBranch()
-						.getUuid(), null, content, type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+						.getUuid(), null, content, htmlField.getLinkTokens(), type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}
 				return null;
 			}).build();
@@ -218,7 +218,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					LinkType type = getLinkType(env);
 					String content = field.getString();
 					return linkReplacer.replace(gc, gc.getBranch()
-						.getUuid(), null, content, type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+						.getUuid(), null, content, field.getLinkTokens(), type, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}
 				return null;
 			}).build();
@@ -269,7 +269,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				if (booleanList == null) {
 					return null;
 				}
-				return booleanList.getList().stream().map(item -> item.getBoolean()).collect(Collectors.toList());
+				return booleanList.getValues();
 			case "html":
 				HtmlGraphFieldList htmlList = container.getHTMLList(schema.getName());
 				if (htmlList == null) {
@@ -278,7 +278,8 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				return htmlList.getList().stream().map(item -> {
 					String content = item.getHTML();
 					LinkType linkType = getLinkType(env);
-					return linkReplacer.replace(gc, null, null, content, linkType, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+					return linkReplacer.replace(gc, null, null, content, item.getLinkTokens(), linkType, gc.getProject().getName(),
+						Arrays.asList(container.getLanguageTag()));
 				}).collect(Collectors.toList());
 			case "string":
 				StringGraphFieldList stringList = container.getStringList(schema.getName());
@@ -288,20 +289,21 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				return stringList.getList().stream().map(item -> {
 					String content = item.getString();
 					LinkType linkType = getLinkType(env);
-					return linkReplacer.replace(gc, null, null, content, linkType, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
+					return linkReplacer.replace(gc, null, null, content, item.getLinkTokens(), linkType, gc.getProject().getName(),
+						Arrays.asList(container.getLanguageTag()));
 				}).collect(Collectors.toList());
 			case "number":
 				NumberGraphFieldList numberList = container.getNumberList(schema.getName());
 				if (numberList == null) {
 					return null;
 				}
-				return numberList.getList().stream().map(item -> item.getNumber()).collect(Collectors.toList());
+				return numberList.getValues();
 			case "date":
 				DateGraphFieldList dateList = container.getDateList(schema.getName());
 				if (dateList == null) {
 					return null;
 				}
-				return dateList.getList().stream().map(item -> DateUtils.toISO8601(item.getDate(), 0)).collect(Collectors.toList());
+				return dateList.getValues().stream().map(date -> DateUtils.toISO8601(date, 0)).collect(Collectors.toList());
 			case "node":
 				NodeGraphFieldList nodeList = container.getNodeList(schema.getName());
 				if (nodeList == null) {